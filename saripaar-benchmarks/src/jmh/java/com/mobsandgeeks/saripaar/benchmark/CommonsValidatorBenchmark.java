@@ -0,0 +1,107 @@
+/*
+ * Copyright (C) 2014 Mobs & Geeks
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file
+ * except in compliance with the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the
+ * License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied. See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.mobsandgeeks.saripaar.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import commons.validator.routines.CreditCardValidator;
+import commons.validator.routines.DomainValidator;
+import commons.validator.routines.EmailValidator;
+import commons.validator.routines.ISBNValidator;
+import commons.validator.routines.InetAddressValidator;
+import commons.validator.routines.ResultCache;
+import commons.validator.routines.UrlValidator;
+
+/**
+ * Measures the validators in <code>commons.validator.routines</code> on corpora of valid and
+ * invalid input, see the <code>*.txt</code> resources. Each operation validates one input.
+ *
+ * @since 2.1.0
+ */
+@State(Scope.Thread)
+public class CommonsValidatorBenchmark {
+    private EmailValidator mEmailValidator;
+    private UrlValidator mUrlValidator;
+    private DomainValidator mDomainValidator;
+    private CreditCardValidator mCreditCardValidator;
+    private ISBNValidator mIsbnValidator;
+    private InetAddressValidator mInetAddressValidator;
+    private ResultCache mEmailResultCache;
+
+    private Corpus mEmails;
+    private Corpus mUrls;
+    private Corpus mDomains;
+    private Corpus mCreditCards;
+    private Corpus mIsbns;
+    private Corpus mInetAddresses;
+
+    @Setup
+    public void setUp() {
+        mEmailValidator = EmailValidator.getInstance();
+        mUrlValidator = new UrlValidator();
+        mDomainValidator = DomainValidator.getInstance();
+        mCreditCardValidator = new CreditCardValidator();
+        mIsbnValidator = ISBNValidator.getInstance();
+        mInetAddressValidator = InetAddressValidator.getInstance();
+
+        mEmails = Corpus.load("emails.txt");
+        mUrls = Corpus.load("urls.txt");
+        mDomains = Corpus.load("domains.txt");
+        mCreditCards = Corpus.load("credit-cards.txt");
+        mIsbns = Corpus.load("isbns.txt");
+        mInetAddresses = Corpus.load("inet-addresses.txt");
+
+        // Large enough to hold the whole corpus, so this measures the hit path
+        mEmailResultCache = new ResultCache(mEmails.size());
+    }
+
+    @Benchmark
+    public boolean emailValidator() {
+        return mEmailValidator.isValid(mEmails.next());
+    }
+
+    @Benchmark
+    public boolean emailValidatorCached() {
+        return mEmailValidator.isValid(mEmails.next(), mEmailResultCache);
+    }
+
+    @Benchmark
+    public boolean urlValidator() {
+        return mUrlValidator.isValid(mUrls.next());
+    }
+
+    @Benchmark
+    public boolean domainValidator() {
+        return mDomainValidator.isValid(mDomains.next());
+    }
+
+    @Benchmark
+    public boolean creditCardValidator() {
+        return mCreditCardValidator.isValid(mCreditCards.next());
+    }
+
+    @Benchmark
+    public boolean isbnValidator() {
+        return mIsbnValidator.isValid(mIsbns.next());
+    }
+
+    @Benchmark
+    public boolean inetAddressValidator() {
+        return mInetAddressValidator.isValid(mInetAddresses.next());
+    }
+}
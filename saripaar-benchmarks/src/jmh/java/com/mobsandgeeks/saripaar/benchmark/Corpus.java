@@ -0,0 +1,75 @@
+/*
+ * Copyright (C) 2014 Mobs & Geeks
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file
+ * except in compliance with the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the
+ * License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied. See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.mobsandgeeks.saripaar.benchmark;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Inputs read from a text resource next to this class, one per line. Blank lines and lines
+ * starting with <code>#</code> are skipped. Benchmarks call {@link #next()} once per
+ * operation, so every input is visited in turn and none gets to warm up a branch predictor
+ * on its own.
+ *
+ * @since 2.1.0
+ */
+final class Corpus {
+    private final String[] mInputs;
+    private int mNext;
+
+    private Corpus(final String[] inputs) {
+        mInputs = inputs;
+    }
+
+    static Corpus load(final String resourceName) {
+        InputStream in = Corpus.class.getResourceAsStream(resourceName);
+        if (in == null) {
+            throw new IllegalStateException("Missing resource " + resourceName);
+        }
+
+        List<String> inputs = new ArrayList<String>();
+        try {
+            BufferedReader reader = new BufferedReader(new InputStreamReader(in, "UTF-8"));
+            try {
+                String line;
+                while ((line = reader.readLine()) != null) {
+                    if (line.trim().length() > 0 && !line.startsWith("#")) {
+                        inputs.add(line);
+                    }
+                }
+            } finally {
+                reader.close();
+            }
+        } catch (IOException e) {
+            throw new IllegalStateException("Cannot read resource " + resourceName, e);
+        }
+
+        return new Corpus(inputs.toArray(new String[inputs.size()]));
+    }
+
+    String next() {
+        String input = mInputs[mNext];
+        mNext = mNext + 1 == mInputs.length ? 0 : mNext + 1;
+        return input;
+    }
+
+    int size() {
+        return mInputs.length;
+    }
+}
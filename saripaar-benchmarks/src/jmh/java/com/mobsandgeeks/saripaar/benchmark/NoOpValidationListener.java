@@ -0,0 +1,40 @@
+/*
+ * Copyright (C) 2014 Mobs & Geeks
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file
+ * except in compliance with the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the
+ * License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied. See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.mobsandgeeks.saripaar.benchmark;
+
+import com.mobsandgeeks.saripaar.ValidationError;
+import com.mobsandgeeks.saripaar.Validator;
+
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Keeps the outcome of the last validation, so benchmarks can return it.
+ *
+ * @since 2.1.0
+ */
+final class NoOpValidationListener implements Validator.ValidationListener {
+    List<ValidationError> mErrors = Collections.emptyList();
+
+    @Override
+    public void onValidationSucceeded() {
+        mErrors = Collections.emptyList();
+    }
+
+    @Override
+    public void onValidationFailed(final List<ValidationError> errors) {
+        mErrors = errors;
+    }
+}
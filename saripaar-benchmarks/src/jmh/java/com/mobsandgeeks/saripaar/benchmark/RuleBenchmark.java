@@ -0,0 +1,102 @@
+/*
+ * Copyright (C) 2014 Mobs & Geeks
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file
+ * except in compliance with the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the
+ * License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied. See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.mobsandgeeks.saripaar.benchmark;
+
+import android.view.View;
+
+import com.mobsandgeeks.saripaar.ModelValidator;
+import com.mobsandgeeks.saripaar.Rule;
+import com.mobsandgeeks.saripaar.Validator;
+import com.mobsandgeeks.saripaar.adapter.DataAdapter;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.lang.reflect.Field;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Measures {@link Rule#isValid(Object)} of each stock rule on the {@link Inputs} of its
+ * {@link RuleFixtures} view. The data is read from the views up front, so only the rule is
+ * measured. Each operation validates one input.
+ *
+ * @since 2.1.0
+ */
+@State(Scope.Thread)
+public class RuleBenchmark {
+
+    @Param({
+        "AssertFalse", "AssertTrue", "Checked", "ConfirmEmail", "ConfirmPassword", "CreditCard",
+        "DecimalMax", "DecimalMin", "Digits", "Domain", "Email", "Future", "IpAddress", "Isbn",
+        "Length", "Max", "Min", "NotEmpty", "Password", "Past", "Pattern", "Select", "Url"
+    })
+    public String rule;
+
+    private Rule mRule;
+    private Object[] mInputs;
+    private int mNext;
+
+    @Setup
+    public void setUp() throws Exception {
+        // Let the Validator create the rules, so they are wired up the way they are in an app
+        RuleFixtures fixtures = new RuleFixtures();
+        Validator validator = new Validator(fixtures);
+        validator.setValidationListener(new NoOpValidationListener());
+        validator.validate();
+
+        String fieldName = Character.toLowerCase(rule.charAt(0)) + rule.substring(1);
+        Field field = RuleFixtures.class.getDeclaredField(fieldName);
+        Object ruleAdapterPair = getRulesMap(validator).get(field).get(0);
+        mRule = (Rule) getPairElement(ruleAdapterPair, "first");
+        DataAdapter dataAdapter = (DataAdapter) getPairElement(ruleAdapterPair, "second");
+
+        // Fill a separate set of views, the confirm rules read the ones in the controller
+        View view = (View) field.get(new RuleFixtures());
+        String[] values = field.getAnnotation(Inputs.class).value();
+        mInputs = new Object[values.length];
+        for (int i = 0; i < values.length; i++) {
+            RuleFixtures.setValue(view, values[i]);
+            mInputs[i] = dataAdapter.getData(view);
+        }
+    }
+
+    @Benchmark
+    @SuppressWarnings("unchecked")
+    public boolean isValid() {
+        Object input = mInputs[mNext];
+        mNext = mNext + 1 == mInputs.length ? 0 : mNext + 1;
+        return mRule.isValid(input);
+    }
+
+    // The rules map is private, the benchmark borrows it instead of duplicating Validator code
+    @SuppressWarnings("unchecked")
+    private static Map<Field, List<Object>> getRulesMap(final Validator validator)
+            throws Exception {
+        Field rulesMap = ModelValidator.class.getDeclaredField("mRulesMap");
+        rulesMap.setAccessible(true);
+        return (Map<Field, List<Object>>) rulesMap.get(validator);
+    }
+
+    // The rule and adapter pairs are package-private as well
+    private static Object getPairElement(final Object pair, final String name) throws Exception {
+        Field element = pair.getClass().getDeclaredField(name);
+        element.setAccessible(true);
+        return element.get(pair);
+    }
+}
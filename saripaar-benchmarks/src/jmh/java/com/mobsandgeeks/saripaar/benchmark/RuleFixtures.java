@@ -0,0 +1,158 @@
+/*
+ * Copyright (C) 2014 Mobs & Geeks
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file
+ * except in compliance with the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the
+ * License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied. See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.mobsandgeeks.saripaar.benchmark;
+
+import android.app.Activity;
+import android.view.View;
+import android.widget.CheckBox;
+import android.widget.CompoundButton;
+import android.widget.EditText;
+import android.widget.Spinner;
+import android.widget.TextView;
+
+import com.mobsandgeeks.saripaar.DateFormats;
+import com.mobsandgeeks.saripaar.annotation.AssertFalse;
+import com.mobsandgeeks.saripaar.annotation.AssertTrue;
+import com.mobsandgeeks.saripaar.annotation.Checked;
+import com.mobsandgeeks.saripaar.annotation.ConfirmEmail;
+import com.mobsandgeeks.saripaar.annotation.ConfirmPassword;
+import com.mobsandgeeks.saripaar.annotation.CreditCard;
+import com.mobsandgeeks.saripaar.annotation.DecimalMax;
+import com.mobsandgeeks.saripaar.annotation.DecimalMin;
+import com.mobsandgeeks.saripaar.annotation.Digits;
+import com.mobsandgeeks.saripaar.annotation.Domain;
+import com.mobsandgeeks.saripaar.annotation.Email;
+import com.mobsandgeeks.saripaar.annotation.Future;
+import com.mobsandgeeks.saripaar.annotation.IpAddress;
+import com.mobsandgeeks.saripaar.annotation.Isbn;
+import com.mobsandgeeks.saripaar.annotation.Length;
+import com.mobsandgeeks.saripaar.annotation.Max;
+import com.mobsandgeeks.saripaar.annotation.Min;
+import com.mobsandgeeks.saripaar.annotation.NotEmpty;
+import com.mobsandgeeks.saripaar.annotation.Password;
+import com.mobsandgeeks.saripaar.annotation.Past;
+import com.mobsandgeeks.saripaar.annotation.Pattern;
+import com.mobsandgeeks.saripaar.annotation.Select;
+import com.mobsandgeeks.saripaar.annotation.Url;
+
+import java.lang.reflect.Field;
+
+/**
+ * A controller with one view for each stock rule, named after the rule annotation. The
+ * {@link Inputs} of each view mix valid and invalid values, and each view starts out with the
+ * first one, which is valid.
+ *
+ * @since 2.1.0
+ */
+public class RuleFixtures extends Activity {
+    private static final String EMAIL = "ragunath@mobsandgeeks.com";
+    private static final String PASSWORD = "s3cret-Passw0rd";
+
+    @AssertFalse @Inputs({ "false", "true" })
+    CheckBox assertFalse = new CheckBox(this);
+
+    @AssertTrue @Inputs({ "true", "false" })
+    CheckBox assertTrue = new CheckBox(this);
+
+    @Checked @Inputs({ "true", "false" })
+    CheckBox checked = new CheckBox(this);
+
+    @Email @Inputs({ EMAIL, "ragunath@mobsandgeeks", "droid@android.com", "plainaddress" })
+    EditText email = new EditText(this);
+
+    @ConfirmEmail @Inputs({ EMAIL, "droid@android.com" })
+    EditText confirmEmail = new EditText(this);
+
+    @Password @Inputs({ PASSWORD, "short", "correct horse battery staple" })
+    EditText password = new EditText(this);
+
+    @ConfirmPassword @Inputs({ PASSWORD, "s3cret-Passw0rD" })
+    EditText confirmPassword = new EditText(this);
+
+    @CreditCard @Inputs({ "4111111111111111", "5555555555554444", "378282246310005",
+            "4111111111111112", "1234567890123456" })
+    EditText creditCard = new EditText(this);
+
+    @DecimalMax(100.0) @Inputs({ "37.5", "100.5", "-12.25", "1e3" })
+    EditText decimalMax = new EditText(this);
+
+    @DecimalMin(0.0) @Inputs({ "37.5", "-0.5", "1e3", "0" })
+    EditText decimalMin = new EditText(this);
+
+    @Digits(integer = 4, fraction = 2) @Inputs({ "1234.56", "12345.6", "12.345", "42" })
+    EditText digits = new EditText(this);
+
+    @Domain @Inputs({ "mobsandgeeks.com", "example.co.uk", "example..com", "example.invalid-tld" })
+    EditText domain = new EditText(this);
+
+    @Future(dateFormat = DateFormats.YMD) @Inputs({ "2999-12-31", "1999-12-31", "31-12-2999" })
+    EditText future = new EditText(this);
+
+    @IpAddress @Inputs({ "192.168.1.254", "2001:db8::1", "192.168.1.256", "2001:db8:::1" })
+    EditText ipAddress = new EditText(this);
+
+    @Isbn @Inputs({ "978-0-306-40615-7", "0-306-40615-2", "978-0-306-40615-8", "12345" })
+    EditText isbn = new EditText(this);
+
+    @Length(min = 4, max = 32) @Inputs({ "android-saripaar", "abc", "" })
+    EditText length = new EditText(this);
+
+    @Max(100) @Inputs({ "42", "101", "100" })
+    EditText max = new EditText(this);
+
+    @Min(18) @Inputs({ "42", "7", "18" })
+    EditText min = new EditText(this);
+
+    @NotEmpty @Inputs({ "Saripaar", "", "  " })
+    EditText notEmpty = new EditText(this);
+
+    @Past(dateFormat = DateFormats.YMD) @Inputs({ "1999-12-31", "2999-12-31", "31-12-1999" })
+    EditText past = new EditText(this);
+
+    @Pattern(regex = "[a-z0-9_]{3,16}") @Inputs({ "saripaar_2", "Saripaar!", "ab" })
+    EditText pattern = new EditText(this);
+
+    @Select @Inputs({ "2", "0" })
+    Spinner select = new Spinner(this);
+
+    @Url @Inputs({ "https://github.com/ragunathjawahar/android-saripaar",
+            "https://github..com/ragunathjawahar", "mailto:someone@example.com" })
+    EditText url = new EditText(this);
+
+    public RuleFixtures() {
+        for (Field field : RuleFixtures.class.getDeclaredFields()) {
+            Inputs inputs = field.getAnnotation(Inputs.class);
+            if (inputs != null) {
+                try {
+                    setValue((View) field.get(this), inputs.value()[0]);
+                } catch (IllegalAccessException e) {
+                    throw new IllegalStateException(e);
+                }
+            }
+        }
+    }
+
+    static void setValue(final View view, final String value) {
+        if (view instanceof CompoundButton) {
+            ((CompoundButton) view).setChecked(Boolean.parseBoolean(value));
+        } else if (view instanceof TextView) {
+            ((TextView) view).setText(value);
+        } else if (view instanceof Spinner) {
+            ((Spinner) view).setSelection(Integer.parseInt(value));
+        } else {
+            throw new IllegalArgumentException("Unsupported view " + view.getClass().getName());
+        }
+    }
+}
@@ -0,0 +1,80 @@
+/*
+ * Copyright (C) 2014 Mobs & Geeks
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file
+ * except in compliance with the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the
+ * License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied. See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.mobsandgeeks.saripaar.benchmark;
+
+import com.mobsandgeeks.saripaar.ValidationError;
+import com.mobsandgeeks.saripaar.Validator;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.List;
+
+/**
+ * Measures {@link Validator#validate()} on controllers with 10, 100 and 1,000 annotated views,
+ * generated by <code>controllers.gradle</code>. Either every view holds a valid value, or every
+ * view holds an invalid one.
+ *
+ * @since 2.1.0
+ */
+@State(Scope.Thread)
+public class ValidatorBenchmark {
+
+    @Param({ "10", "100", "1000" })
+    public int fieldCount;
+
+    @Param({ "true", "false" })
+    public boolean valid;
+
+    private Object mController;
+    private Validator mValidator;
+    private NoOpValidationListener mValidationListener;
+
+    @Setup
+    public void setUp() throws Exception {
+        mController = Class.forName(getClass().getPackage().getName() + ".Controller" + fieldCount)
+                .getConstructor(boolean.class)
+                .newInstance(valid);
+        mValidationListener = new NoOpValidationListener();
+        mValidator = newValidator();
+    }
+
+    /**
+     * Validates with a {@link Validator} whose rules were created by an earlier call.
+     */
+    @Benchmark
+    public List<ValidationError> validate() {
+        mValidator.validate();
+        return mValidationListener.mErrors;
+    }
+
+    /**
+     * Creates a {@link Validator} and validates once, as a screen does when it is opened.
+     */
+    @Benchmark
+    public List<ValidationError> createAndValidate() {
+        newValidator().validate();
+        return mValidationListener.mErrors;
+    }
+
+    private Validator newValidator() {
+        Validator validator = new Validator(mController);
+        validator.setValidationListener(mValidationListener);
+        return validator;
+    }
+}
@@ -0,0 +1,33 @@
+/*
+ * Copyright (C) 2014 Mobs & Geeks
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file
+ * except in compliance with the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the
+ * License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied. See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package android.content;
+
+/**
+ * Stand-in for the Android class of the same name, so that the library runs on a desktop JVM.
+ * There are no resources outside Android, so resource lookups fail.
+ *
+ * @since 2.1.0
+ */
+public abstract class Context {
+
+    public String getString(final int resId) {
+        String message = String.format("No resources outside Android, id 0x%08x", resId);
+        throw new UnsupportedOperationException(message);
+    }
+
+    public Context getApplicationContext() {
+        return this;
+    }
+}
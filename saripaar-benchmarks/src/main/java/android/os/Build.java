@@ -0,0 +1,34 @@
+/*
+ * Copyright (C) 2014 Mobs & Geeks
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file
+ * except in compliance with the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the
+ * License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied. See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package android.os;
+
+/**
+ * Stand-in for the Android class of the same name, so that the library runs on a desktop JVM.
+ * Reports the SDK level the library targets.
+ *
+ * @since 2.1.0
+ */
+public class Build {
+
+    public static class VERSION {
+        public static final int SDK_INT = VERSION_CODES.N_MR1;
+    }
+
+    public static class VERSION_CODES {
+        public static final int HONEYCOMB = 11;
+        public static final int JELLY_BEAN_MR2 = 18;
+        public static final int N_MR1 = 25;
+    }
+}
@@ -0,0 +1,45 @@
+/*
+ * Copyright (C) 2014 Mobs & Geeks
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file
+ * except in compliance with the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the
+ * License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied. See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package android.util;
+
+/**
+ * Stand-in for the Android class of the same name, so that the library runs on a desktop JVM.
+ * Messages go to the standard error stream.
+ *
+ * @since 2.1.0
+ */
+public final class Log {
+
+    private Log() {
+    }
+
+    public static int d(final String tag, final String message) {
+        return println("D", tag, message);
+    }
+
+    public static int w(final String tag, final String message) {
+        return println("W", tag, message);
+    }
+
+    public static int e(final String tag, final String message) {
+        return println("E", tag, message);
+    }
+
+    private static int println(final String priority, final String tag, final String message) {
+        String line = priority + "/" + tag + ": " + message;
+        System.err.println(line);
+        return line.length();
+    }
+}
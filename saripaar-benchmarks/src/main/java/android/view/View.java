@@ -0,0 +1,62 @@
+/*
+ * Copyright (C) 2014 Mobs & Geeks
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file
+ * except in compliance with the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the
+ * License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied. See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package android.view;
+
+import android.content.Context;
+
+/**
+ * Stand-in for the Android class of the same name, so that the library runs on a desktop JVM.
+ * Views hold their state in plain fields and are never attached to a window.
+ *
+ * @since 2.1.0
+ */
+public class View {
+    public static final int NO_ID = -1;
+    public static final int VISIBLE = 0x00000000;
+    public static final int INVISIBLE = 0x00000004;
+    public static final int GONE = 0x00000008;
+
+    private final Context mContext;
+    private int mId = NO_ID;
+    private int mVisibility = VISIBLE;
+
+    public View(final Context context) {
+        mContext = context;
+    }
+
+    public Context getContext() {
+        return mContext;
+    }
+
+    public int getId() {
+        return mId;
+    }
+
+    public void setId(final int id) {
+        mId = id;
+    }
+
+    public int getVisibility() {
+        return mVisibility;
+    }
+
+    public void setVisibility(final int visibility) {
+        mVisibility = visibility;
+    }
+
+    public boolean isShown() {
+        return mVisibility == VISIBLE;
+    }
+}
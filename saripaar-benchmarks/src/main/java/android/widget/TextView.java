@@ -0,0 +1,48 @@
+/*
+ * Copyright (C) 2014 Mobs & Geeks
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file
+ * except in compliance with the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the
+ * License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied. See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package android.widget;
+
+import android.content.Context;
+import android.view.View;
+
+/**
+ * Stand-in for the Android class of the same name, so that the library runs on a desktop JVM.
+ *
+ * @since 2.1.0
+ */
+public class TextView extends View {
+    private CharSequence mText = "";
+    private CharSequence mError;
+
+    public TextView(final Context context) {
+        super(context);
+    }
+
+    public CharSequence getText() {
+        return mText;
+    }
+
+    public void setText(final CharSequence text) {
+        mText = text != null ? text : "";
+    }
+
+    public CharSequence getError() {
+        return mError;
+    }
+
+    public void setError(final CharSequence error) {
+        mError = error;
+    }
+}
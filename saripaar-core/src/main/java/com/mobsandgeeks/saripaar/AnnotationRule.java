@@ -14,8 +14,6 @@
 
 package com.mobsandgeeks.saripaar;
 
-import android.content.Context;
-
 import java.lang.annotation.Annotation;
 
 /**
@@ -56,12 +54,12 @@ public abstract class AnnotationRule<RULE_ANNOTATION extends Annotation, DATA_TY
      * {@inheritDoc}
      */
     @Override
-    public String getMessage(final Context context) {
+    public String getMessage(final MessageResolver messageResolver) {
         final int messageResId = Reflector.getAttributeValue(mRuleAnnotation, "messageResId",
                 Integer.class);
 
         return messageResId != -1
-                ? context.getString(messageResId)
+                ? messageResolver.getString(messageResId)
                 : Reflector.getAttributeValue(mRuleAnnotation, "message", String.class);
     }
 }
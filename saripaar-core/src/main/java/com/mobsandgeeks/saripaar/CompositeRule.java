@@ -0,0 +1,145 @@
+/*
+ * Copyright (C) 2014 Mobs & Geeks
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file
+ * except in compliance with the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the
+ * License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied. See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.mobsandgeeks.saripaar;
+
+import com.mobsandgeeks.saripaar.adapter.DataAdapter;
+import com.mobsandgeeks.saripaar.annotation.Or;
+import com.mobsandgeeks.saripaar.exception.ConversionException;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * Combines the {@link Rule}s of a field that is annotated with {@link Or}. Depending on the
+ * kind, the rule is valid if any or all of its members are valid. Members are evaluated from
+ * the cheapest to the most expensive, and evaluation stops as soon as the outcome is known.
+ *
+ * @since 2.1.0
+ */
+public final class CompositeRule extends Rule<Object> {
+
+    private final Or mOr;
+    private final boolean mAnyMember;
+    private final List<Pair<Rule, DataAdapter>> mMembers;
+    private final int mCost;
+
+    /**
+     * Constructor.
+     *
+     * @param or  The {@link Or} annotation that provides the failure message.
+     * @param anyMember  true if the rule is valid when any member is valid, false if all
+     *      members have to be valid.
+     * @param members  The members and their data adapters, in the order of their sequences.
+     */
+    CompositeRule(final Or or, final boolean anyMember,
+            final List<Pair<Rule, DataAdapter>> members) {
+        super(members.size() > 0 ? members.get(0).first.getSequence() : -1);
+        mOr = or;
+        mAnyMember = anyMember;
+
+        // Stable, so members that cost the same stay in sequence
+        final List<Pair<Rule, DataAdapter>> sortedMembers =
+                new ArrayList<Pair<Rule, DataAdapter>>(members);
+        Collections.sort(sortedMembers, new Comparator<Pair<Rule, DataAdapter>>() {
+            @Override
+            public int compare(final Pair<Rule, DataAdapter> lhsPair,
+                    final Pair<Rule, DataAdapter> rhsPair) {
+                final int lhsCost = RuleCosts.getCost(lhsPair.first);
+                final int rhsCost = RuleCosts.getCost(rhsPair.first);
+
+                return lhsCost == rhsCost
+                        ? 0 : lhsCost > rhsCost ? 1 : -1;
+            }
+        });
+        mMembers = Collections.unmodifiableList(sortedMembers);
+
+        int cost = 0;
+        for (int i = 0, n = sortedMembers.size(); i < n; i++) {
+            cost += RuleCosts.getCost(sortedMembers.get(i).first);
+        }
+        mCost = cost;
+    }
+
+    /**
+     * Evaluates the members on the value of the field, in the order of {@link #getMembers()}.
+     * Members with a data adapter, like the rules of a view, get the data that their adapter
+     * extracts from the value. Data that can't be converted fails the member.
+     *
+     * @param value  The value of the field, a view for instance.
+     *
+     * @return true if any or all members are valid, depending on {@link #isAnyMember()}.
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public boolean isValid(final Object value) {
+        for (int i = 0, n = mMembers.size(); i < n; i++) {
+            Pair<Rule, DataAdapter> member = mMembers.get(i);
+            boolean valid;
+            if (member.second != null && value != null) {
+                try {
+                    valid = member.first.isValid(member.second.getData(value));
+                } catch (ConversionException e) {
+                    valid = false;
+                }
+            } else {
+                valid = member.first.isValid(value);
+            }
+
+            if (valid == mAnyMember) {
+                return mAnyMember;
+            }
+        }
+        return !mAnyMember;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public String getMessage(final MessageResolver messageResolver) {
+        final int messageResId = mOr.messageResId();
+        return messageResId != -1
+                ? messageResolver.getString(messageResId)
+                : mOr.message();
+    }
+
+    /**
+     * Tells if the rule is valid when any member is valid.
+     *
+     * @return true if any member has to be valid, false if all members have to be valid.
+     */
+    public boolean isAnyMember() {
+        return mAnyMember;
+    }
+
+    /**
+     * Gets the members, in the order that they are evaluated in.
+     *
+     * @return An unmodifiable {@link List} of member {@link Rule}s and their data adapters.
+     */
+    List<Pair<Rule, DataAdapter>> getMembers() {
+        return mMembers;
+    }
+
+    /**
+     * Gets the relative cost of the members, see {@link RuleCosts}.
+     *
+     * @return The relative cost.
+     */
+    int getCost() {
+        return mCost;
+    }
+}
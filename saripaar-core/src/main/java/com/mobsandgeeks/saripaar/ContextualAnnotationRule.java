@@ -15,6 +15,8 @@
 package com.mobsandgeeks.saripaar;
 
 import java.lang.annotation.Annotation;
+import java.util.Collections;
+import java.util.List;
 
 /**
  * An {@link com.mobsandgeeks.saripaar.AnnotationRule} that has access to a
@@ -42,4 +44,17 @@ public abstract class ContextualAnnotationRule<RULE_ANNOTATION extends Annotatio
         }
         mValidationContext = validationContext;
     }
+
+    /**
+     * Rule annotations of the fields whose values this rule reads using the
+     * {@link ValidationContext}. The validator runs this rule again when one of those fields is
+     * validated with its dependents, using {@code Validator.validateWithDependents(View)} on
+     * Android.
+     *
+     * @return The source rule annotations, none by default.
+     * @since 2.1.0
+     */
+    public List<Class<? extends Annotation>> getSourceAnnotations() {
+        return Collections.emptyList();
+    }
 }
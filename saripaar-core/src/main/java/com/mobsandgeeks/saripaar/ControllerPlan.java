@@ -0,0 +1,148 @@
+/*
+ * Copyright (C) 2014 Mobs & Geeks
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file
+ * except in compliance with the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the
+ * License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied. See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.mobsandgeeks.saripaar;
+
+import com.mobsandgeeks.saripaar.annotation.Order;
+
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Field;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * The annotated fields of a controller class, sorted by their {@link Order}, along with their
+ * annotations. Plans are shared by all {@link ModelValidator}s of a controller class, so a class is
+ * scanned using reflection only once, either by {@link ModelValidator#prewarm(Class[])} or by the
+ * first {@link ModelValidator} that creates its rules.
+ *
+ * @since 2.1.0
+ */
+final class ControllerPlan {
+    private static final ConcurrentHashMap<Class<?>, ControllerPlan> PLANS =
+            new ConcurrentHashMap<Class<?>, ControllerPlan>();
+
+    private final List<Field> mFields;
+    private final List<Annotation[]> mFieldAnnotations;
+    private final boolean mOrderedFields;
+
+    private ControllerPlan(final Class<?> controllerClass) {
+        List<Field> annotatedFields = new ArrayList<Field>();
+        Class cls = controllerClass;
+        while (cls != null && !"java.lang.Object".equals(cls.getCanonicalName())) {
+            Field[] fields = cls.getDeclaredFields();
+            for (Field field : fields) {
+                if (isSaripaarAnnotatedField(field)) {
+                    annotatedFields.add(field);
+                }
+            }
+            cls = cls.getSuperclass();
+        }
+
+        // Sort
+        SaripaarFieldsComparator comparator = new SaripaarFieldsComparator();
+        Collections.sort(annotatedFields, comparator);
+        mOrderedFields = annotatedFields.size() == 1
+                ? annotatedFields.get(0).getAnnotation(Order.class) != null
+                : annotatedFields.size() != 0 && comparator.areOrderedFields();
+
+        mFieldAnnotations = new ArrayList<Annotation[]>(annotatedFields.size());
+        for (int i = 0, n = annotatedFields.size(); i < n; i++) {
+            mFieldAnnotations.add(annotatedFields.get(i).getAnnotations());
+        }
+        mFields = Collections.unmodifiableList(annotatedFields);
+    }
+
+    /**
+     * Gets the plan for a controller class, the class is scanned if it doesn't have one yet.
+     *
+     * @param controllerClass  The controller class.
+     *
+     * @return The {@link ControllerPlan}.
+     */
+    static ControllerPlan get(final Class<?> controllerClass) {
+        ControllerPlan plan = PLANS.get(controllerClass);
+        if (plan == null) {
+            Tracer tracer = Tracing.beginSection("Saripaar.getAnnotatedFields", controllerClass);
+            try {
+                plan = new ControllerPlan(controllerClass);
+            } finally {
+                Tracing.endSection(tracer);
+            }
+
+            ControllerPlan existingPlan = PLANS.putIfAbsent(controllerClass, plan);
+            if (existingPlan != null) {
+                plan = existingPlan;
+            }
+        }
+        return plan;
+    }
+
+    /**
+     * Discards all plans, called when a rule annotation is registered because fields that
+     * use it would be missing from existing plans.
+     */
+    static void clear() {
+        PLANS.clear();
+    }
+
+    /**
+     * Gets the annotated fields, sorted by their {@link Order}.
+     *
+     * @return An unmodifiable {@link List} of annotated fields.
+     */
+    List<Field> getFields() {
+        return mFields;
+    }
+
+    /**
+     * Gets the annotations of a field. The array is shared and must not be modified.
+     *
+     * @param index  Index of the field in {@link #getFields()}.
+     *
+     * @return The field's annotations.
+     */
+    Annotation[] getAnnotations(final int index) {
+        return mFieldAnnotations.get(index);
+    }
+
+    /**
+     * Tells if all the fields are ordered using the {@link Order} annotation.
+     *
+     * @return true if the fields are ordered, false otherwise.
+     */
+    boolean areOrderedFields() {
+        return mOrderedFields;
+    }
+
+    private static boolean isSaripaarAnnotatedField(final Field field) {
+        boolean hasOrderAnnotation = field.getAnnotation(Order.class) != null;
+        boolean hasSaripaarAnnotation = false;
+
+        if (!hasOrderAnnotation) {
+            Annotation[] annotations = field.getAnnotations();
+            for (int i = 0, n = annotations.length; i < n; i++) {
+                Annotation annotation = annotations[i];
+                hasSaripaarAnnotation =
+                        ModelValidator.isSaripaarAnnotation(annotation.annotationType());
+                if (hasSaripaarAnnotation) {
+                    break;
+                }
+            }
+        }
+
+        return hasOrderAnnotation || hasSaripaarAnnotation;
+    }
+}
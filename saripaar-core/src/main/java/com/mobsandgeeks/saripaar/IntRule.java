@@ -0,0 +1,36 @@
+/*
+ * Copyright (C) 2014 Mobs & Geeks
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file
+ * except in compliance with the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the
+ * License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied. See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.mobsandgeeks.saripaar;
+
+/**
+ * Implemented by {@link AnnotationRule}s that validate {@code Integer} values, so that the
+ * {@link ModelValidator} can pass them an {@code int} without boxing. It does so when the data
+ * comes from a {@link com.mobsandgeeks.saripaar.adapter.IntDataAdapter} or from a
+ * field of type {@code int}, and calls {@link Rule#isValid(Object)} otherwise, so both
+ * methods must agree.
+ *
+ * @since 2.1.0
+ */
+public interface IntRule {
+
+    /**
+     * Checks if the rule is valid.
+     *
+     * @param value  The value to validate.
+     *
+     * @return true if valid, false otherwise.
+     */
+    boolean isValidInt(int value);
+}
@@ -0,0 +1,46 @@
+/*
+ * Copyright (C) 2014 Mobs & Geeks
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file
+ * except in compliance with the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the
+ * License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied. See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.mobsandgeeks.saripaar;
+
+/**
+ * Resolves the message resources that rule annotations refer to, like {@code messageResId}.
+ * On Android, {@code ContextMessageResolver} reads them from a {@code Context}.
+ *
+ * @since 2.1.0
+ */
+public interface MessageResolver {
+
+    /**
+     * A {@link MessageResolver} without resources, used until one is set. Annotations that
+     * refer to a resource fail with an {@link IllegalStateException}.
+     */
+    MessageResolver NONE = new MessageResolver() {
+        @Override
+        public String getString(final int resId) {
+            String message = String.format("Cannot resolve the resource 0x%08x, set a "
+                    + "MessageResolver on the validator first.", resId);
+            throw new IllegalStateException(message);
+        }
+    };
+
+    /**
+     * Returns the string for a resource id.
+     *
+     * @param resId  The resource id.
+     *
+     * @return The string.
+     */
+    String getString(int resId);
+}
@@ -0,0 +1,1537 @@
+/*
+ * Copyright (C) 2014 Mobs & Geeks
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file
+ * except in compliance with the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the
+ * License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied. See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.mobsandgeeks.saripaar;
+
+import com.mobsandgeeks.saripaar.adapter.BooleanDataAdapter;
+import com.mobsandgeeks.saripaar.adapter.DataAdapter;
+import com.mobsandgeeks.saripaar.adapter.DoubleDataAdapter;
+import com.mobsandgeeks.saripaar.adapter.IntDataAdapter;
+import com.mobsandgeeks.saripaar.adapter.LongDataAdapter;
+import com.mobsandgeeks.saripaar.annotation.And;
+import com.mobsandgeeks.saripaar.annotation.Domain;
+import com.mobsandgeeks.saripaar.annotation.Email;
+import com.mobsandgeeks.saripaar.annotation.Future;
+import com.mobsandgeeks.saripaar.annotation.Optional;
+import com.mobsandgeeks.saripaar.annotation.Or;
+import com.mobsandgeeks.saripaar.annotation.Order;
+import com.mobsandgeeks.saripaar.annotation.Past;
+import com.mobsandgeeks.saripaar.annotation.Pattern;
+import com.mobsandgeeks.saripaar.annotation.Url;
+import com.mobsandgeeks.saripaar.annotation.ValidateUsing;
+import com.mobsandgeeks.saripaar.exception.ConversionException;
+import com.mobsandgeeks.saripaar.exception.SaripaarViolationException;
+
+import commons.validator.routines.DomainValidator;
+import commons.validator.routines.RegexValidator;
+
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Field;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The {@link ModelValidator} validates the annotated fields of a controller object, without
+ * depending on Android. Fields are validated by their values, so a plain model can be validated
+ * on any JVM. On Android, {@code Validator} extends it to validate the views of an
+ * {@code Activity} or a {@code Fragment}, through their
+ * {@link com.mobsandgeeks.saripaar.adapter.DataAdapter}s.
+ * <p>
+ * The {@link ModelValidator} is capable of performing validations in two
+ * modes,
+ * <ol>
+ * <li>{@link Mode#BURST}, where all the fields are validated and all errors are reported
+ * via the callback at once. Fields need not be ordered using the
+ * {@link Order} annotation in {@code BURST} mode.
+ * </li>
+ * <li>{@link Mode#IMMEDIATE}, in which the validation stops and the error is reported as soon
+ * as a {@link Rule} fails. To use this mode, the fields SHOULD
+ * BE ordered using the {@link Order} annotation.
+ * </li>
+ * </ol>
+ * <p>
+ * Messages that annotations refer to by resource id are looked up through a
+ * {@link MessageResolver}. Asynchronous validation runs on an {@link Executor}, see
+ * {@link #setAsyncExecutor(Executor)}, and its outcome is reported through the callback
+ * {@link Executor}, see {@link #setCallbackExecutor(Executor)}.
+ * <p>
+ * The {@link ModelValidator} requires a
+ * {@link ModelValidator.ValidationListener} that reports the outcome of the
+ * validation.
+ * <ul>
+ * <li> {@link ModelValidator.ValidationListener#onValidationSucceeded()}
+ * is called if all {@link Rule}s pass.
+ * </li>
+ * <li>
+ * The {@link ModelValidator.ValidationListener#onValidationFailed(List)}
+ * callback reports errors caused by failures. In {@link Mode#IMMEDIATE} this callback will
+ * contain just one instance of the {@link ValidationError}
+ * object.
+ * </li>
+ * </ul>
+ *
+ * @since 2.1.0
+ */
+@SuppressWarnings({"unchecked", "ForLoopReplaceableByForEach"})
+public class ModelValidator {
+
+    // Stock annotations are mapped by the registry on first use
+    private static final Registry SARIPAAR_REGISTRY = new Registry();
+    private static final float DEFAULT_ORDERING_SAMPLING_RATE = 0.125f;
+
+    // Runs callbacks on the thread that validated
+    private static final Executor DIRECT_EXECUTOR = new Executor() {
+        @Override
+        public void execute(final Runnable runnable) {
+            runnable.run();
+        }
+    };
+
+    // Attributes
+    private Object mController;
+    private Mode mValidationMode;
+    private ValidationContext mValidationContext;
+    private Map<Field, ArrayList<Pair<Rule, DataAdapter>>> mRulesMap;
+    private ArrayList<Pair<Field, ArrayList<Pair<Rule, DataAdapter>>>> mFieldRulesList;
+    private Map<Field, ArrayList<Pair<Annotation, DataAdapter>>> mOptionalFieldsMap;
+    private Map<Field, List<Field>> mDependentsMap;
+    private Map<Field, Map<Field, ArrayList<Pair<Rule, DataAdapter>>>> mDependentRulesMaps;
+    private boolean mOrderedFields;
+    private boolean mStopAtFirstFailedRule;
+    private SequenceComparator mSequenceComparator;
+    private ValidatedAction mValidatedAction;
+    private ValidationListener mValidationListener;
+    private Executor mAsyncExecutor;
+    private Executor mCallbackExecutor;
+    private volatile AsyncValidationTask mAsyncValidationTask;
+    private Clock mClock;
+    private ValidationMetricsListener mValidationMetricsListener;
+    private int mMetricsSamplingInterval;
+    private int mUnsampledPasses;
+    private RuleOrderingPolicy mRuleOrderingPolicy;
+    private Map<Field, List<Pair<Rule, DataAdapter>>> mDeclaredRulesMap;
+    private int mOrderingSamplingInterval;
+    private int mUnsampledOrderingPasses;
+
+    /**
+     * Constructor. Messages that annotations refer to by resource id can't be resolved until a
+     * {@link MessageResolver} is set, see {@link #setMessageResolver(MessageResolver)}.
+     *
+     * @param controller The object containing the annotated fields to be validated.
+     */
+    public ModelValidator(final Object controller) {
+        this(MessageResolver.NONE, controller);
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param messageResolver A {@link MessageResolver} for the messages that annotations refer
+     *                        to by resource id.
+     * @param controller      The object containing the annotated fields to be validated.
+     */
+    public ModelValidator(final MessageResolver messageResolver, final Object controller) {
+        assertNotNull(messageResolver, "messageResolver");
+        assertNotNull(controller, "controller");
+        mController = controller;
+        mValidationMode = Mode.BURST;
+        mSequenceComparator = new SequenceComparator();
+        mCallbackExecutor = DIRECT_EXECUTOR;
+        mClock = Clock.SYSTEM;
+        mValidationContext = new ValidationContext(messageResolver, mController);
+    }
+
+    /**
+     * Registers a custom rule annotation. Annotated fields are validated by their values, for
+     * views the {@code Validator} also needs a data adapter for the annotation.
+     *
+     * @param ruleAnnotation A rule {@link Annotation}.
+     */
+    public static void registerAnnotation(final Class<? extends Annotation> ruleAnnotation) {
+        SARIPAAR_REGISTRY.register(ruleAnnotation);
+        ControllerPlan.clear();
+    }
+
+    /**
+     * Prepares the given controller classes on a background thread, so that the first
+     * validation of a form doesn't stall the thread that validates. The classes are scanned for
+     * annotated fields, rule constructors are looked up, and rules that don't need a
+     * {@link ValidationContext} are instantiated once. This initializes the validators used by
+     * the stock rules, compiles the regular expressions of {@link Pattern} annotations and
+     * loads the top-level domain table used by {@link Email}, {@link Url} and {@link Domain}.
+     * Validators that are created for these classes later reuse the scan.
+     * <p>
+     * Register custom annotations before calling this method, registering an annotation
+     * discards the prepared scans.
+     *
+     * @param controllerClasses Classes of the controllers that will be validated.
+     * @return A {@link java.util.concurrent.Future} that completes when all the classes have
+     * been prepared, {@link java.util.concurrent.Future#get()} rethrows errors in rule
+     * annotations.
+     */
+    public static java.util.concurrent.Future<?> prewarm(final Class<?>... controllerClasses) {
+        assertNotNull(controllerClasses, "controllerClasses");
+        final Class<?>[] classes = controllerClasses.clone();
+
+        return submitPrewarm(new Runnable() {
+            @Override
+            public void run() {
+                for (Class<?> controllerClass : classes) {
+                    prewarm(controllerClass);
+                }
+            }
+        });
+    }
+
+    /**
+     * Set the {@link MessageResolver} for the messages that annotations refer to by resource
+     * id.
+     *
+     * @param messageResolver A {@link MessageResolver}, null throws an
+     *                        {@link IllegalArgumentException}.
+     */
+    public void setMessageResolver(final MessageResolver messageResolver) {
+        assertNotNull(messageResolver, "messageResolver");
+        mValidationContext.setMessageResolver(messageResolver);
+    }
+
+    /**
+     * Set a {@link ModelValidator.ValidationListener} to the
+     * {@link ModelValidator}.
+     *
+     * @param validationListener A {@link ModelValidator.ValidationListener}
+     *                           instance. null throws an {@link IllegalArgumentException}.
+     */
+    public void setValidationListener(final ValidationListener validationListener) {
+        assertNotNull(validationListener, "validationListener");
+        this.mValidationListener = validationListener;
+    }
+
+    /**
+     * Set a {@link ValidatedAction} to the
+     * {@link ModelValidator}.
+     *
+     * @param validatedAction A {@link ValidatedAction}
+     *                            instance.
+     */
+    public void setViewValidatedAction(final ValidatedAction validatedAction) {
+        this.mValidatedAction = validatedAction;
+    }
+
+    /**
+     * Set the {@link Executor} that runs asynchronous validation, see
+     * {@link #validate(boolean)}. By default, a shared background thread is used.
+     *
+     * @param asyncExecutor An {@link Executor}, null throws an
+     *                      {@link IllegalArgumentException}.
+     */
+    public void setAsyncExecutor(final Executor asyncExecutor) {
+        assertNotNull(asyncExecutor, "asyncExecutor");
+        this.mAsyncExecutor = asyncExecutor;
+    }
+
+    /**
+     * Set the {@link Executor} that calls the {@link ValidationListener} when an asynchronous
+     * validation completes, and the {@link ValidatedAction} of every pass. By default, they
+     * are called on the thread that validated, on Android the {@code Validator} calls them on
+     * the main thread.
+     *
+     * @param callbackExecutor An {@link Executor}, null throws an
+     *                         {@link IllegalArgumentException}.
+     */
+    public void setCallbackExecutor(final Executor callbackExecutor) {
+        assertNotNull(callbackExecutor, "callbackExecutor");
+        this.mCallbackExecutor = callbackExecutor;
+    }
+
+    /**
+     * Set the validation {@link ModelValidator.Mode} for the current
+     * {@link ModelValidator} instance.
+     *
+     * @param validationMode {@link Mode#BURST} or {@link Mode#IMMEDIATE}, null throws an
+     *                       {@link IllegalArgumentException}.
+     */
+    public void setValidationMode(final Mode validationMode) {
+        assertNotNull(validationMode, "validationMode");
+        this.mValidationMode = validationMode;
+    }
+
+    /**
+     * Gets the current {@link ModelValidator.Mode}.
+     *
+     * @return The current validation mode of the {@link ModelValidator}.
+     */
+    public Mode getValidationMode() {
+        return mValidationMode;
+    }
+
+    /**
+     * Set the {@link ModelValidator.Clock} used by time-sensitive {@link Rule}s like
+     * {@link Future} and {@link Past}. The clock is read once at the beginning of each
+     * validation pass, so all rules in a pass agree on the current time.
+     *
+     * @param clock A {@link ModelValidator.Clock}, null throws an
+     *              {@link IllegalArgumentException}.
+     */
+    public void setClock(final Clock clock) {
+        assertNotNull(clock, "clock");
+        this.mClock = clock;
+    }
+
+    /**
+     * Set a {@link ModelValidator.ValidationMetricsListener} that receives the
+     * {@link ValidationMetrics} of every validation pass.
+     *
+     * @param validationMetricsListener A {@link ModelValidator.ValidationMetricsListener}, null
+     *                                  stops collecting metrics.
+     */
+    public void setValidationMetricsListener(
+            final ValidationMetricsListener validationMetricsListener) {
+        setValidationMetricsListener(validationMetricsListener, 1f);
+    }
+
+    /**
+     * Set a {@link ModelValidator.ValidationMetricsListener} that receives the
+     * {@link ValidationMetrics} of a sample of the validation passes. Passes that aren't
+     * sampled are neither timed nor counted, so a low rate keeps the overhead negligible.
+     *
+     * @param validationMetricsListener A {@link ModelValidator.ValidationMetricsListener}, null
+     *                                  stops collecting metrics.
+     * @param samplingRate The fraction of passes to report, greater than 0 and at most 1.
+     *                     Passes are sampled at regular intervals, 0.01 reports every
+     *                     100th pass.
+     */
+    public void setValidationMetricsListener(
+            final ValidationMetricsListener validationMetricsListener, final float samplingRate) {
+        this.mValidationMetricsListener = validationMetricsListener;
+        this.mMetricsSamplingInterval = getSamplingInterval(samplingRate);
+        this.mUnsampledPasses = 0;
+    }
+
+    /**
+     * Set a {@link ModelValidator.RuleOrderingPolicy} that decides the order in which the
+     * {@link Rule}s of a field are evaluated, learning from every 8th validation pass.
+     *
+     * @param ruleOrderingPolicy A {@link ModelValidator.RuleOrderingPolicy}, like
+     *                           {@link AdaptiveRuleOrdering}. null restores the declared order.
+     * @see #setRuleOrderingPolicy(RuleOrderingPolicy, float)
+     */
+    public void setRuleOrderingPolicy(final RuleOrderingPolicy ruleOrderingPolicy) {
+        setRuleOrderingPolicy(ruleOrderingPolicy, DEFAULT_ORDERING_SAMPLING_RATE);
+    }
+
+    /**
+     * Set a {@link ModelValidator.RuleOrderingPolicy} that decides the order in which the
+     * {@link Rule}s of a field are evaluated. Only rules without an explicit {@code sequence}
+     * are reordered, they are still evaluated before the sequenced ones, which keep their
+     * declared order. Sampled passes are measured and handed to the policy, after which the
+     * rules are reordered.
+     * <p>
+     * The policy only applies while {@link #stopAtFirstFailedRule(boolean)} is on. Otherwise
+     * every rule of a field is evaluated anyway, and the rules keep their declared order so
+     * that the failed rules and their messages come in a stable order.
+     *
+     * @param ruleOrderingPolicy A {@link ModelValidator.RuleOrderingPolicy}, like
+     *                           {@link AdaptiveRuleOrdering}. null restores the declared order.
+     * @param samplingRate The fraction of passes to learn from, greater than 0 and at most 1.
+     */
+    public void setRuleOrderingPolicy(final RuleOrderingPolicy ruleOrderingPolicy,
+            final float samplingRate) {
+        this.mOrderingSamplingInterval = getSamplingInterval(samplingRate);
+        this.mUnsampledOrderingPasses = 0;
+        this.mRuleOrderingPolicy = ruleOrderingPolicy;
+        applyRuleOrdering();
+    }
+
+    /**
+     * Configures the validator to stop validating a field at its first failed {@link Rule}.
+     * Each {@link ValidationError} then holds a single rule, and the remaining rules of the
+     * field are not evaluated. A {@link ModelValidator.RuleOrderingPolicy} is only applied in
+     * this mode, turning it off restores the declared order of the rules.
+     *
+     * @param stop {@code true} stops at the first failed rule of each field.
+     * @since 2.1.0
+     */
+    public void stopAtFirstFailedRule(final boolean stop) {
+        this.mStopAtFirstFailedRule = stop;
+        applyRuleOrdering();
+    }
+
+    /**
+     * Validates all fields with {@link Rule}s.
+     * When validating in {@link ModelValidator.Mode#IMMEDIATE}, all
+     * fields must be ordered using the
+     * {@link Order} annotation.
+     */
+    public void validate() {
+        validate(false);
+    }
+
+    /**
+     * Validates all fields with {@link Rule}s.
+     * When validating in {@link ModelValidator.Mode#IMMEDIATE}, all
+     * fields must be ordered using the
+     * {@link Order} annotation. Asynchronous calls will cancel
+     * any pending or ongoing asynchronous validation and start a new one.
+     *
+     * @param async true if asynchronous, false otherwise.
+     */
+    public void validate(final boolean async) {
+        createRulesSafelyAndLazily(false);
+
+        Field lastView = getLastField();
+        if (Mode.BURST.equals(mValidationMode)) {
+            validateUnorderedFieldsWithCallbackTill(lastView, async);
+        } else if (Mode.IMMEDIATE.equals(mValidationMode)) {
+            String reasonSuffix = String.format("in %s mode.", Mode.IMMEDIATE.toString());
+            validateOrderedFieldsWithCallbackTill(lastView, reasonSuffix, async);
+        } else {
+            throw new RuntimeException("This should never happen!");
+        }
+    }
+
+    /**
+     * Checks whether all fields pass their {@link Rule}s, without reporting errors.
+     * Returns at the first failed rule, and neither calls the
+     * {@link ModelValidator.ValidationListener} nor the {@link ValidatedAction}, so it is cheap
+     * enough to run on every keystroke, for instance to enable a submit button. No
+     * {@link ModelValidator.ValidationListener} is needed. It doesn't wait for a running
+     * asynchronous validation to complete.
+     *
+     * @return true if all the rules pass, false otherwise.
+     * @since 2.1.0
+     */
+    public boolean isValid() {
+        createRulesSafelyAndLazily(false);
+
+        mValidationContext.setCurrentTimeMillis(mClock.currentTimeMillis());
+
+        // Indexed, so that no iterators are allocated
+        final Tracer tracer = Tracing.beginSection("Saripaar.isValid", mController.getClass());
+        try {
+            for (int i = 0, nFields = mFieldRulesList.size(); i < nFields; i++) {
+                Pair<Field, ArrayList<Pair<Rule, DataAdapter>>> fieldRules =
+                        mFieldRulesList.get(i);
+                Field field = fieldRules.first;
+                boolean isOptional = mOptionalFieldsMap != null
+                        && mOptionalFieldsMap.containsKey(field);
+                if (isOptional && containsOptionalValue(field)) {
+                    continue;
+                }
+
+                // The rules of a field may be reordered by a pass on another thread
+                ArrayList<Pair<Rule, DataAdapter>> ruleAdapterPairs = fieldRules.second;
+                synchronized (ruleAdapterPairs) {
+                    for (int j = 0, nRules = ruleAdapterPairs.size(); j < nRules; j++) {
+                        Pair<Rule, DataAdapter> ruleAdapterPair = ruleAdapterPairs.get(j);
+                        if (validateFieldWithRule(field, ruleAdapterPair.first,
+                                ruleAdapterPair.second, null, false) != null) {
+                            return false;
+                        }
+                    }
+                }
+            }
+            return true;
+        } finally {
+            Tracing.endSection(tracer);
+        }
+    }
+
+    /**
+     * Used to find if an asynchronous validation task is running. Useful only when you run the
+     * {@link ModelValidator} in asynchronous mode.
+     *
+     * @return true if the asynchronous task is running, false otherwise.
+     */
+    public boolean isValidating() {
+        return mAsyncValidationTask != null;
+    }
+
+    /**
+     * Cancels a running asynchronous validation task.
+     *
+     * @return true if a running asynchronous task was cancelled, false otherwise.
+     */
+    public boolean cancelAsync() {
+        boolean cancelled = false;
+        AsyncValidationTask asyncValidationTask = mAsyncValidationTask;
+        if (asyncValidationTask != null) {
+            cancelled = asyncValidationTask.cancel(true);
+            mAsyncValidationTask = null;
+        }
+
+        return cancelled;
+    }
+
+    static boolean isSaripaarAnnotation(final Class<? extends Annotation> annotation) {
+        return SARIPAAR_REGISTRY.isRegistered(annotation);
+    }
+
+    // Validates a field along with the fields whose contextual rules read its value
+    void validateFieldWithDependents(final Field field, final boolean async) {
+        Map<Field, ArrayList<Pair<Rule, DataAdapter>>> dependentRulesMap =
+                getDependentRulesMap(field);
+        Field lastField = null;
+        for (Field dependentField : dependentRulesMap.keySet()) {
+            lastField = dependentField;
+        }
+        validateFieldsWithCallbackTill(lastField, dependentRulesMap, false, null, async);
+    }
+
+    // The field with rules that holds the given value, null if there is none
+    Field getFieldByValue(final Object value) {
+        createRulesSafelyAndLazily(false);
+
+        for (Field field : mRulesMap.keySet()) {
+            if (Reflector.getFieldValue(mController, field) == value) {
+                return field;
+            }
+        }
+        return null;
+    }
+
+    void removeRules(final Object object) {
+        if (mRulesMap == null) {
+            createRulesSafelyAndLazily(false);
+        }
+        mRulesMap.remove(object);
+    }
+
+    // The adapter that extracts the data of a field for a rule, null validates the field value
+    DataAdapter getDataAdapter(final Annotation ruleAnnotation, final Field field) {
+        return null;
+    }
+
+    // Runs the prewarming of controller classes on a shared background thread
+    static java.util.concurrent.Future<?> submitPrewarm(final Runnable runnable) {
+        return PrewarmExecutorHolder.EXECUTOR.submit(runnable);
+    }
+
+    static void prewarm(final Class<?> controllerClass) {
+        final ControllerPlan plan = ControllerPlan.get(controllerClass);
+
+        final Tracer tracer = Tracing.beginSection("Saripaar.prewarm", controllerClass);
+        try {
+            for (int i = 0, n = plan.getFields().size(); i < n; i++) {
+                Annotation[] annotations = plan.getAnnotations(i);
+                for (int j = 0, nAnnotations = annotations.length; j < nAnnotations; j++) {
+                    prewarm(annotations[j]);
+                }
+            }
+        } finally {
+            Tracing.endSection(tracer);
+        }
+    }
+
+    /* ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+     *  Private Methods
+     * ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+     */
+    private static void assertNotNull(final Object object, final String argumentName) {
+        if (object == null) {
+            String message = String.format("'%s' cannot be null.", argumentName);
+            throw new IllegalArgumentException(message);
+        }
+    }
+
+    private static void prewarm(final Annotation annotation) {
+        final Class<? extends Annotation> annotationType = annotation.annotationType();
+        if (!isSaripaarAnnotation(annotationType)) {
+            return;
+        }
+
+        final Class<? extends AnnotationRule> ruleType = getRuleType(annotation);
+        if (ContextualAnnotationRule.class.isAssignableFrom(ruleType)) {
+            Reflector.getRuleConstructor(ruleType, annotationType);
+        } else {
+            Reflector.instantiateRule(ruleType, annotation, null);
+        }
+
+        // Compiles the pattern into the shared PatternCache, PatternRule does so lazily
+        if (annotation instanceof Pattern) {
+            Pattern pattern = (Pattern) annotation;
+            if (pattern.regexResId() == -1) {
+                new RegexValidator(pattern.regex(), pattern.caseSensitive());
+            }
+        }
+
+        // Loads the top-level domain table, which is otherwise read on the first validation
+        if (annotation instanceof Email || annotation instanceof Url
+                || annotation instanceof Domain) {
+            DomainValidator.getInstance().isValidTld("com");
+        }
+    }
+
+    private void createRulesSafelyAndLazily(final boolean addingQuickRules) {
+        // Create rules lazily, because we don't have to worry about the order of
+        // instantiating the Validator.
+        if (mRulesMap == null) {
+            final Class<?> controllerClass = mController.getClass();
+            final ControllerPlan plan = ControllerPlan.get(controllerClass);
+            mOrderedFields = plan.areOrderedFields();
+
+            final Tracer tracer = Tracing.beginSection("Saripaar.createRules", controllerClass);
+            try {
+                mRulesMap = createRules(plan);
+                mDependentsMap = createDependentsMap(mRulesMap);
+                mFieldRulesList = createFieldRulesList(mRulesMap);
+                applyRuleOrdering();
+            } finally {
+                Tracing.endSection(tracer);
+            }
+            mValidationContext.setRulesMap(mRulesMap);
+        }
+
+        if (!addingQuickRules && mRulesMap.size() == 0) {
+            String message = "No rules found. You must have at least one rule to validate. "
+                    + "If you are using custom annotations, make sure that you have registered "
+                    + "them using the 'Validator.register()' method.";
+            throw new IllegalStateException(message);
+        }
+    }
+
+    // The lists are shared with the rules map, so they follow the order of the rules
+    private static ArrayList<Pair<Field, ArrayList<Pair<Rule, DataAdapter>>>>
+            createFieldRulesList(
+                    final Map<Field, ArrayList<Pair<Rule, DataAdapter>>> rulesMap) {
+        ArrayList<Pair<Field, ArrayList<Pair<Rule, DataAdapter>>>> fieldRulesList =
+                new ArrayList<Pair<Field, ArrayList<Pair<Rule, DataAdapter>>>>(rulesMap.size());
+        for (Map.Entry<Field, ArrayList<Pair<Rule, DataAdapter>>> entry
+                : rulesMap.entrySet()) {
+            fieldRulesList.add(new Pair<Field, ArrayList<Pair<Rule, DataAdapter>>>(
+                    entry.getKey(), entry.getValue()));
+        }
+        return fieldRulesList;
+    }
+
+    private Map<Field, ArrayList<Pair<Rule, DataAdapter>>> createRules(
+            final ControllerPlan plan) {
+        final List<Field> annotatedFields = plan.getFields();
+
+        final Map<Field, ArrayList<Pair<Rule, DataAdapter>>> viewRulesMap =
+                new LinkedHashMap<Field, ArrayList<Pair<Rule, DataAdapter>>>();
+
+        for (int i = 0, n = annotatedFields.size(); i < n; i++) {
+            Field field = annotatedFields.get(i);
+            ArrayList<Pair<Rule, DataAdapter>> ruleAdapterPairs =
+                    new ArrayList<Pair<Rule, DataAdapter>>();
+            final Annotation[] fieldAnnotations = plan.getAnnotations(i);
+
+            // @Optional
+            final boolean hasOptionalAnnotation = hasOptionalAnnotation(fieldAnnotations);
+            if (hasOptionalAnnotation && mOptionalFieldsMap == null) {
+                mOptionalFieldsMap = new HashMap<Field,
+                        ArrayList<Pair<Annotation, DataAdapter>>>();
+            }
+
+            for (int j = 0, nAnnotations = fieldAnnotations.length; j < nAnnotations; j++) {
+                Annotation annotation = fieldAnnotations[j];
+                if (isSaripaarAnnotation(annotation.annotationType())) {
+                    Pair<Rule, DataAdapter> ruleAdapterPair =
+                            getRuleAdapterPair(annotation, field);
+                    ruleAdapterPairs.add(ruleAdapterPair);
+
+                    // @Optional
+                    if (hasOptionalAnnotation) {
+                        ArrayList<Pair<Annotation, DataAdapter>> pairs =
+                                mOptionalFieldsMap.get(field);
+                        if (pairs == null) {
+                            pairs = new ArrayList<Pair<Annotation, DataAdapter>>();
+                        }
+                        pairs.add(new Pair(annotation, ruleAdapterPair.second));
+                        mOptionalFieldsMap.put(field, pairs);
+                    }
+                }
+            }
+
+            Collections.sort(ruleAdapterPairs, mSequenceComparator);
+
+            // @Or
+            final Or or = getOrAnnotation(fieldAnnotations);
+            if (or != null && ruleAdapterPairs.size() > 0) {
+                ruleAdapterPairs = createCompositeRules(field, or, ruleAdapterPairs);
+            }
+            viewRulesMap.put(field, ruleAdapterPairs);
+        }
+
+        return viewRulesMap;
+    }
+
+    private Or getOrAnnotation(final Annotation[] annotations) {
+        for (int i = 0, n = annotations.length; i < n; i++) {
+            if (Or.class.equals(annotations[i].annotationType())) {
+                return (Or) annotations[i];
+            }
+        }
+        return null;
+    }
+
+    // Replaces the rules in the @Or groups with a composite rule, rules outside the groups stay
+    private ArrayList<Pair<Rule, DataAdapter>> createCompositeRules(final Field field,
+            final Or or, final ArrayList<Pair<Rule, DataAdapter>> ruleAdapterPairs) {
+        final ArrayList<Pair<Rule, DataAdapter>> compositeRuleAdapterPairs =
+                new ArrayList<Pair<Rule, DataAdapter>>();
+        final And[] groups = or.value();
+
+        List<Pair<Rule, DataAdapter>> alternatives;
+        if (groups.length == 0) {
+            alternatives = ruleAdapterPairs;
+        } else {
+            alternatives = new ArrayList<Pair<Rule, DataAdapter>>();
+            boolean[] grouped = new boolean[ruleAdapterPairs.size()];
+
+            for (And group : groups) {
+                ArrayList<Pair<Rule, DataAdapter>> members =
+                        new ArrayList<Pair<Rule, DataAdapter>>();
+                for (Class<? extends Annotation> annotationType : group.value()) {
+                    int index = indexOfRule(ruleAdapterPairs, annotationType);
+                    if (index == -1) {
+                        String message = String.format(
+                                "'%s' is listed in '%s', but '%s' is not annotated with it.",
+                                annotationType.getName(), Or.class.getName(), field.getName());
+                        throw new SaripaarViolationException(message);
+                    }
+                    members.add(ruleAdapterPairs.get(index));
+                    grouped[index] = true;
+                }
+
+                Collections.sort(members, mSequenceComparator);
+                alternatives.add(members.size() == 1
+                        ? members.get(0)
+                        : new Pair<Rule, DataAdapter>(
+                                new CompositeRule(or, false, members), null));
+            }
+
+            for (int i = 0, n = ruleAdapterPairs.size(); i < n; i++) {
+                if (!grouped[i]) {
+                    compositeRuleAdapterPairs.add(ruleAdapterPairs.get(i));
+                }
+            }
+        }
+
+        compositeRuleAdapterPairs.add(new Pair<Rule, DataAdapter>(
+                new CompositeRule(or, true, alternatives), null));
+        Collections.sort(compositeRuleAdapterPairs, mSequenceComparator);
+
+        return compositeRuleAdapterPairs;
+    }
+
+    private int indexOfRule(final List<Pair<Rule, DataAdapter>> ruleAdapterPairs,
+            final Class<? extends Annotation> annotationType) {
+        for (int i = 0, n = ruleAdapterPairs.size(); i < n; i++) {
+            Rule rule = ruleAdapterPairs.get(i).first;
+            if (rule instanceof AnnotationRule && annotationType.equals(
+                    ((AnnotationRule) rule).mRuleAnnotation.annotationType())) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    // Fields mapped to the fields whose contextual rules read their values
+    private Map<Field, List<Field>> createDependentsMap(
+            final Map<Field, ArrayList<Pair<Rule, DataAdapter>>> rulesMap) {
+        final Map<Field, List<Field>> dependentsMap = new HashMap<Field, List<Field>>();
+
+        for (Map.Entry<Field, ArrayList<Pair<Rule, DataAdapter>>> entry
+                : rulesMap.entrySet()) {
+            final Field dependentField = entry.getKey();
+            final ArrayList<Pair<Rule, DataAdapter>> ruleAdapterPairs = entry.getValue();
+
+            final List<Class<? extends Annotation>> sourceAnnotations =
+                    new ArrayList<Class<? extends Annotation>>();
+            addSourceAnnotations(ruleAdapterPairs, sourceAnnotations);
+
+            for (int i = 0, n = sourceAnnotations.size(); i < n; i++) {
+                Class<? extends Annotation> sourceAnnotation = sourceAnnotations.get(i);
+                for (Field sourceField : rulesMap.keySet()) {
+                    if (sourceField.equals(dependentField)
+                            || sourceField.getAnnotation(sourceAnnotation) == null) {
+                        continue;
+                    }
+
+                    List<Field> dependents = dependentsMap.get(sourceField);
+                    if (dependents == null) {
+                        dependents = new ArrayList<Field>();
+                        dependentsMap.put(sourceField, dependents);
+                    }
+                    if (!dependents.contains(dependentField)) {
+                        dependents.add(dependentField);
+                    }
+                }
+            }
+        }
+
+        return dependentsMap;
+    }
+
+    private void addSourceAnnotations(final List<Pair<Rule, DataAdapter>> ruleAdapterPairs,
+            final List<Class<? extends Annotation>> sourceAnnotations) {
+        for (int i = 0, n = ruleAdapterPairs.size(); i < n; i++) {
+            Rule rule = ruleAdapterPairs.get(i).first;
+            if (rule instanceof CompositeRule) {
+                addSourceAnnotations(((CompositeRule) rule).getMembers(), sourceAnnotations);
+            } else if (rule instanceof ContextualAnnotationRule) {
+                sourceAnnotations.addAll(((ContextualAnnotationRule) rule).getSourceAnnotations());
+            }
+        }
+    }
+
+    // The field followed by its direct and indirect dependents, in topological order
+    private Map<Field, ArrayList<Pair<Rule, DataAdapter>>> getDependentRulesMap(
+            final Field field) {
+        if (mDependentRulesMaps == null) {
+            mDependentRulesMaps =
+                    new HashMap<Field, Map<Field, ArrayList<Pair<Rule, DataAdapter>>>>();
+        }
+
+        Map<Field, ArrayList<Pair<Rule, DataAdapter>>> dependentRulesMap =
+                mDependentRulesMaps.get(field);
+        if (dependentRulesMap == null) {
+            List<Field> postOrder = new ArrayList<Field>();
+            addDependentsInPostOrder(field, new HashSet<Field>(), postOrder);
+
+            dependentRulesMap = new LinkedHashMap<Field, ArrayList<Pair<Rule, DataAdapter>>>();
+            for (int i = postOrder.size() - 1; i >= 0; i--) {
+                Field dependentField = postOrder.get(i);
+                dependentRulesMap.put(dependentField, mRulesMap.get(dependentField));
+            }
+            mDependentRulesMaps.put(field, dependentRulesMap);
+        }
+
+        return dependentRulesMap;
+    }
+
+    // Cycles are broken at the first field that is visited again
+    private void addDependentsInPostOrder(final Field field, final Set<Field> visitedFields,
+            final List<Field> postOrder) {
+        if (!visitedFields.add(field)) {
+            return;
+        }
+
+        // Reversed, so that independent dependents keep their order in the form
+        List<Field> dependents = mDependentsMap.get(field);
+        if (dependents != null) {
+            for (int i = dependents.size() - 1; i >= 0; i--) {
+                addDependentsInPostOrder(dependents.get(i), visitedFields, postOrder);
+            }
+        }
+        postOrder.add(field);
+    }
+
+
+    private boolean hasOptionalAnnotation(final Annotation[] annotations) {
+        if (annotations != null && annotations.length > 0) {
+            for (int i = 0, n = annotations.length; i < n; i++) {
+                if (Optional.class.equals(annotations[i].annotationType())) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+    private Pair<Rule, DataAdapter> getRuleAdapterPair(final Annotation saripaarAnnotation,
+                                                       final Field field) {
+        final DataAdapter dataAdapter = getDataAdapter(saripaarAnnotation, field);
+
+        final Class<? extends AnnotationRule> ruleType = getRuleType(saripaarAnnotation);
+        final AnnotationRule rule = Reflector.instantiateRule(ruleType,
+                saripaarAnnotation, mValidationContext);
+
+        return new Pair<Rule, DataAdapter>(rule, dataAdapter);
+    }
+
+    private static Class<? extends AnnotationRule> getRuleType(final Annotation ruleAnnotation) {
+        ValidateUsing validateUsing = ruleAnnotation.annotationType()
+                .getAnnotation(ValidateUsing.class);
+        return validateUsing != null ? validateUsing.value() : null;
+    }
+
+    private void validateUnorderedFieldsWithCallbackTill(final Field field, final boolean async) {
+        validateFieldsWithCallbackTill(field, mRulesMap, false, null, async);
+    }
+
+    private void validateOrderedFieldsWithCallbackTill(final Field field, final String reasonSuffix,
+                                                       final boolean async) {
+        validateFieldsWithCallbackTill(field, mRulesMap, true, reasonSuffix, async);
+    }
+
+    private void validateFieldsWithCallbackTill(final Field field,
+            final Map<Field, ArrayList<Pair<Rule, DataAdapter>>> rulesMap,
+            final boolean orderedFields, final String reasonSuffix, final boolean async) {
+        createRulesSafelyAndLazily(false);
+        if (async) {
+            if (mAsyncValidationTask != null) {
+                mAsyncValidationTask.cancel(true);
+            }
+            AsyncValidationTask asyncValidationTask = new AsyncValidationTask(field, rulesMap,
+                    orderedFields, reasonSuffix);
+            mAsyncValidationTask = asyncValidationTask;
+            getAsyncExecutor().execute(asyncValidationTask);
+        } else {
+            triggerValidationListenerCallback(
+                    validateTill(field, rulesMap, orderedFields, reasonSuffix));
+        }
+    }
+
+    private synchronized ValidationReport validateTill(final Field field,
+            final Map<Field, ArrayList<Pair<Rule, DataAdapter>>> rulesMap,
+            final boolean requiresOrderedRules, final String reasonSuffix) {
+        // Do we need ordered rules?
+        if (requiresOrderedRules) {
+            assertOrderedFields(mOrderedFields, reasonSuffix);
+        }
+
+        // Have we registered a validation listener?
+        assertNotNull(mValidationListener, "validationListener");
+
+        // Everything good. Bingo! validate ;)
+        final Tracer tracer = Tracing.beginSection("Saripaar.validate", mController.getClass());
+        try {
+            return getValidationReport(field, rulesMap, mValidationMode);
+        } finally {
+            Tracing.endSection(tracer);
+        }
+    }
+
+    private void triggerValidationListenerCallback(final ValidationReport validationReport) {
+        final List<ValidationError> validationErrors = validationReport.errors;
+
+        if (validationErrors.size() == 0 && !validationReport.hasMoreErrors) {
+            mValidationListener.onValidationSucceeded();
+        } else {
+            mValidationListener.onValidationFailed(validationErrors);
+        }
+    }
+
+    private void assertOrderedFields(final boolean orderedRules, final String reasonSuffix) {
+        if (!orderedRules) {
+            String message = "Rules are unordered, all view fields should be ordered "
+                    + "using the '@Order' annotation " + reasonSuffix;
+            throw new IllegalStateException(message);
+        }
+    }
+
+    private ValidationReport getValidationReport(final Field targetField,
+            final Map<Field, ArrayList<Pair<Rule, DataAdapter>>> viewRulesMap,
+            final Mode validationMode) {
+
+        final Set<Field> fields = viewRulesMap.keySet();
+
+        // Rules in this pass share the same 'now'
+        mValidationContext.setCurrentTimeMillis(mClock.currentTimeMillis());
+
+        // Only sampled passes are measured
+        final ValidationMetricsListener metricsListener = mValidationMetricsListener;
+        final RuleOrderingPolicy ruleOrderingPolicy = mRuleOrderingPolicy;
+        final boolean reportMetrics = metricsListener != null && isSampledPass();
+        final boolean learnOrdering = ruleOrderingPolicy != null && mStopAtFirstFailedRule
+                && isSampledOrderingPass();
+        final ValidationMetrics metrics = reportMetrics || learnOrdering
+                ? new ValidationMetrics(mController) : null;
+
+        final ValidationPass pass = new ValidationPass();
+        pass.addErrorToReport = targetField != null;
+
+        for (Field field : fields) {
+            ValidationMetrics.FieldMetrics fieldMetrics = metrics != null
+                    ? metrics.startField(field) : null;
+
+            boolean continuePass;
+            Tracer tracer = Tracing.beginSection("Saripaar.validateField", field);
+            try {
+                continuePass = validateField(field, targetField, viewRulesMap.get(field),
+                        fieldMetrics, validationMode, pass);
+            } finally {
+                Tracing.endSection(tracer);
+            }
+            if (!continuePass) {
+                break;
+            }
+        }
+
+        if (metrics != null) {
+            metrics.finish();
+            if (reportMetrics) {
+                metricsListener.onValidationMetrics(metrics);
+            }
+            if (learnOrdering) {
+                ruleOrderingPolicy.onValidationMetrics(metrics);
+                orderRules(ruleOrderingPolicy);
+            }
+        }
+
+        return new ValidationReport(pass.errors, pass.hasMoreErrors);
+    }
+
+    /*
+     * Validates the rules of a field, adding the failures to the pass. Returns false if the
+     * pass should stop here, in Mode.IMMEDIATE.
+     */
+    private boolean validateField(final Field field, final Field targetField,
+            final List<Pair<Rule, DataAdapter>> ruleAdapterPairs,
+            final ValidationMetrics.FieldMetrics fieldMetrics, final Mode validationMode,
+            final ValidationPass pass) {
+        // @Optional
+        boolean isOptional = mOptionalFieldsMap != null && mOptionalFieldsMap.containsKey(field);
+        if (isOptional && containsOptionalValue(field)) {
+            return true;
+        }
+
+        // Validate all the rules for the given view.
+        List<Rule> failedRules = null;
+        for (int i = 0, nRules = ruleAdapterPairs.size(); i < nRules; i++) {
+            Pair<Rule, DataAdapter> ruleAdapterPair = ruleAdapterPairs.get(i);
+            ValidationMetrics.RuleMetrics ruleMetrics = fieldMetrics != null
+                    ? fieldMetrics.startRule(ruleAdapterPair.first) : null;
+            Rule failedRule = validateFieldWithRule(
+                    field, ruleAdapterPair.first, ruleAdapterPair.second, ruleMetrics, true);
+            if (ruleMetrics != null) {
+                ruleMetrics.onEvaluated(failedRule != null);
+            }
+            boolean stopField = failedRule != null && mStopAtFirstFailedRule;
+            boolean isLastRuleForView = i + 1 == nRules || stopField;
+
+            if (failedRule != null) {
+                if (pass.addErrorToReport) {
+                    if (failedRules == null) {
+                        failedRules = new ArrayList<Rule>();
+                        pass.errors.add(new ValidationError(field, failedRules));
+                    }
+                    failedRules.add(failedRule);
+                } else {
+                    pass.hasMoreErrors = true;
+                }
+
+                if (Mode.IMMEDIATE.equals(validationMode) && isLastRuleForView) {
+                    return false;
+                }
+            }
+
+            // Don't add reports for subsequent fields
+            if (field.equals(targetField) && isLastRuleForView) {
+                pass.addErrorToReport = false;
+            }
+
+            if (stopField) {
+                break;
+            }
+        }
+
+        // Callback if a view passes all rules
+        boolean viewPassedAllRules = (failedRules == null || failedRules.size() == 0)
+                && !pass.hasMoreErrors;
+        if (viewPassedAllRules && mValidatedAction != null) {
+            triggerViewValidatedCallback(mValidatedAction,
+                    Reflector.getFieldValue(mController, field));
+        }
+        return true;
+    }
+
+    private boolean isSampledPass() {
+        if (++mUnsampledPasses < mMetricsSamplingInterval) {
+            return false;
+        }
+        mUnsampledPasses = 0;
+        return true;
+    }
+
+    private boolean isSampledOrderingPass() {
+        if (++mUnsampledOrderingPasses < mOrderingSamplingInterval) {
+            return false;
+        }
+        mUnsampledOrderingPasses = 0;
+        return true;
+    }
+
+    private static int getSamplingInterval(final float samplingRate) {
+        if (!(samplingRate > 0 && samplingRate <= 1)) {
+            String message = String.format("'samplingRate' should be in (0, 1], but was %s.",
+                    samplingRate);
+            throw new IllegalArgumentException(message);
+        }
+        return Math.max(1, Math.round(1 / samplingRate));
+    }
+
+    // The order only matters when a field stops at its first failed rule
+    private void applyRuleOrdering() {
+        if (mRulesMap == null) {
+            return;
+        }
+        if (mRuleOrderingPolicy != null && mStopAtFirstFailedRule) {
+            orderRules(mRuleOrderingPolicy);
+        } else {
+            restoreDeclaredOrder();
+        }
+    }
+
+    /*
+     * Sorts the leading rules of each field that have no explicit sequence by rank. The lists
+     * are sorted in place, so the maps of dependent fields see the new order as well. Insertion
+     * sort, because it is stable and a field has only a few rules. The declared order of a list
+     * is kept the first time it is sorted, see restoreDeclaredOrder(). Each list is locked while
+     * it is sorted, because isValid() walks the lists without holding the validator.
+     */
+    private synchronized void orderRules(final RuleOrderingPolicy ruleOrderingPolicy) {
+        for (Map.Entry<Field, ArrayList<Pair<Rule, DataAdapter>>> entry
+                : mRulesMap.entrySet()) {
+            ArrayList<Pair<Rule, DataAdapter>> ruleAdapterPairs = entry.getValue();
+            int nUnsequenced = 0;
+            while (nUnsequenced < ruleAdapterPairs.size()
+                    && ruleAdapterPairs.get(nUnsequenced).first.getSequence() == -1) {
+                nUnsequenced++;
+            }
+            if (nUnsequenced < 2) {
+                continue;
+            }
+
+            if (mDeclaredRulesMap == null) {
+                mDeclaredRulesMap = new HashMap<Field, List<Pair<Rule, DataAdapter>>>();
+            }
+            if (!mDeclaredRulesMap.containsKey(entry.getKey())) {
+                mDeclaredRulesMap.put(entry.getKey(),
+                        new ArrayList<Pair<Rule, DataAdapter>>(ruleAdapterPairs));
+            }
+
+            double[] ranks = new double[nUnsequenced];
+            for (int i = 0; i < nUnsequenced; i++) {
+                ranks[i] = ruleOrderingPolicy.getRank(ruleAdapterPairs.get(i).first);
+            }
+
+            synchronized (ruleAdapterPairs) {
+                for (int i = 1; i < nUnsequenced; i++) {
+                    Pair<Rule, DataAdapter> ruleAdapterPair = ruleAdapterPairs.get(i);
+                    double rank = ranks[i];
+                    int j = i - 1;
+                    while (j >= 0 && ranks[j] > rank) {
+                        ruleAdapterPairs.set(j + 1, ruleAdapterPairs.get(j));
+                        ranks[j + 1] = ranks[j];
+                        j--;
+                    }
+                    ruleAdapterPairs.set(j + 1, ruleAdapterPair);
+                    ranks[j + 1] = rank;
+                }
+            }
+        }
+    }
+
+    // Puts back the rules that orderRules() has sorted, in place like orderRules()
+    private synchronized void restoreDeclaredOrder() {
+        if (mDeclaredRulesMap == null) {
+            return;
+        }
+        for (Map.Entry<Field, List<Pair<Rule, DataAdapter>>> entry
+                : mDeclaredRulesMap.entrySet()) {
+            ArrayList<Pair<Rule, DataAdapter>> ruleAdapterPairs =
+                    mRulesMap.get(entry.getKey());
+            if (ruleAdapterPairs == null) {
+                continue;
+            }
+            List<Pair<Rule, DataAdapter>> declaredRuleAdapterPairs = entry.getValue();
+            synchronized (ruleAdapterPairs) {
+                for (int i = 0, n = declaredRuleAdapterPairs.size(); i < n; i++) {
+                    ruleAdapterPairs.set(i, declaredRuleAdapterPairs.get(i));
+                }
+            }
+        }
+        mDeclaredRulesMap = null;
+    }
+
+    private boolean containsOptionalValue(final Field field) {
+        ArrayList<Pair<Annotation, DataAdapter>> annotationAdapterPairs
+                = mOptionalFieldsMap.get(field);
+        Object value = Reflector.getFieldValue(mController, field);
+
+        // Without an adapter, a missing or empty value is optional
+        for (int i = 0, n = annotationAdapterPairs.size(); i < n; i++) {
+            Pair<Annotation, DataAdapter> pair = annotationAdapterPairs.get(i);
+            DataAdapter adapter = pair.second;
+            Annotation ruleAnnotation = pair.first;
+            if (adapter == null) {
+                if (value == null || value instanceof CharSequence
+                        && ((CharSequence) value).length() == 0) {
+                    return true;
+                }
+            } else if (value != null && adapter.containsOptionalValue(value, ruleAnnotation)) {
+                return true;
+            }
+        }
+
+        return false;
+    }
+
+    // isValid() runs on every keystroke, so it doesn't print failed conversions
+    private Rule validateFieldWithRule(final Field field, final Rule rule,
+                                       final DataAdapter dataAdapter,
+                                       final ValidationMetrics.RuleMetrics ruleMetrics,
+                                       final boolean printConversionErrors) {
+
+        boolean valid;
+        if (rule instanceof CompositeRule) {
+            valid = isValidComposite(field, (CompositeRule) rule, printConversionErrors);
+        } else if (dataAdapter != null) {
+            Object source = Reflector.getFieldValue(mController, field);
+            try {
+                valid = isValidData(rule, dataAdapter, source, ruleMetrics);
+            } catch (ConversionException e) {
+                valid = false;
+                onDataExtracted(ruleMetrics);
+                if (printConversionErrors) {
+                    e.printStackTrace();
+                }
+            }
+        } else {
+            valid = isValidFieldValue(rule, field, ruleMetrics);
+        }
+
+        return valid ? null : rule;
+    }
+
+    // Members are evaluated in order until the outcome is known
+    private boolean isValidComposite(final Field field, final CompositeRule compositeRule,
+            final boolean printConversionErrors) {
+        final boolean anyMember = compositeRule.isAnyMember();
+        final List<Pair<Rule, DataAdapter>> members = compositeRule.getMembers();
+        for (int i = 0, n = members.size(); i < n; i++) {
+            Pair<Rule, DataAdapter> member = members.get(i);
+            boolean valid = validateFieldWithRule(field, member.first, member.second, null,
+                    printConversionErrors) == null;
+            if (valid == anyMember) {
+                return anyMember;
+            }
+        }
+        return !anyMember;
+    }
+
+    // Primitive rules and adapters are paired up so that the data isn't boxed
+    @SuppressWarnings("unchecked")
+    private boolean isValidData(final Rule rule, final DataAdapter dataAdapter,
+            final Object source, final ValidationMetrics.RuleMetrics ruleMetrics)
+            throws ConversionException {
+        if (rule instanceof IntRule && dataAdapter instanceof IntDataAdapter) {
+            int data = ((IntDataAdapter) dataAdapter).getInt(source);
+            onDataExtracted(ruleMetrics);
+            return ((IntRule) rule).isValidInt(data);
+        } else if (rule instanceof BooleanRule && dataAdapter instanceof BooleanDataAdapter) {
+            boolean data = ((BooleanDataAdapter) dataAdapter).getBoolean(source);
+            onDataExtracted(ruleMetrics);
+            return ((BooleanRule) rule).isValidBoolean(data);
+        } else if (rule instanceof DoubleRule && dataAdapter instanceof DoubleDataAdapter) {
+            double data = ((DoubleDataAdapter) dataAdapter).getDouble(source);
+            onDataExtracted(ruleMetrics);
+            return ((DoubleRule) rule).isValidDouble(data);
+        } else if (rule instanceof LongRule && dataAdapter instanceof LongDataAdapter) {
+            long data = ((LongDataAdapter) dataAdapter).getLong(source);
+            onDataExtracted(ruleMetrics);
+            return ((LongRule) rule).isValidLong(data);
+        }
+        Object data = dataAdapter.getData(source);
+        onDataExtracted(ruleMetrics);
+        return rule.isValid(data);
+    }
+
+    @SuppressWarnings("unchecked")
+    private boolean isValidFieldValue(final Rule rule, final Field field,
+            final ValidationMetrics.RuleMetrics ruleMetrics) {
+        final Class<?> fieldType = field.getType();
+        if (fieldType.isPrimitive()) {
+            field.setAccessible(true);
+            try {
+                if (fieldType == Integer.TYPE && rule instanceof IntRule) {
+                    int value = field.getInt(mController);
+                    onDataExtracted(ruleMetrics);
+                    return ((IntRule) rule).isValidInt(value);
+                } else if (fieldType == Boolean.TYPE && rule instanceof BooleanRule) {
+                    boolean value = field.getBoolean(mController);
+                    onDataExtracted(ruleMetrics);
+                    return ((BooleanRule) rule).isValidBoolean(value);
+                } else if (fieldType == Double.TYPE && rule instanceof DoubleRule) {
+                    double value = field.getDouble(mController);
+                    onDataExtracted(ruleMetrics);
+                    return ((DoubleRule) rule).isValidDouble(value);
+                } else if (fieldType == Long.TYPE && rule instanceof LongRule) {
+                    long value = field.getLong(mController);
+                    onDataExtracted(ruleMetrics);
+                    return ((LongRule) rule).isValidLong(value);
+                }
+            } catch (IllegalAccessException e) {
+                throw new RuntimeException(e);
+            }
+        }
+        Object value = Reflector.getFieldValue(mController, field);
+        onDataExtracted(ruleMetrics);
+        return rule.isValid(value);
+    }
+
+    private static void onDataExtracted(final ValidationMetrics.RuleMetrics ruleMetrics) {
+        if (ruleMetrics != null) {
+            ruleMetrics.onDataExtracted();
+        }
+    }
+    private void triggerViewValidatedCallback(final ValidatedAction validatedAction,
+            final Object obj) {
+        mCallbackExecutor.execute(new Runnable() {
+            @Override
+            public void run() {
+                validatedAction.onAllRulesPassed(obj);
+            }
+        });
+    }
+
+    private Executor getAsyncExecutor() {
+        return mAsyncExecutor != null ? mAsyncExecutor : AsyncExecutorHolder.EXECUTOR;
+    }
+
+    private Field getLastField() {
+        final Set<Field> fields = mRulesMap.keySet();
+
+        Field lastField = null;
+        for (Field field : fields) {
+            lastField = field;
+        }
+
+        return lastField;
+    }
+
+    /**
+     * Listener with callback methods that notifies the outcome of validation.
+     *
+     * @author Ragunath Jawahar {@literal <rj@mobsandgeeks.com>}
+     * @since 1.0
+     */
+    public interface ValidationListener {
+
+        /**
+         * Called when all {@link Rule}s pass.
+         */
+        void onValidationSucceeded();
+
+        /**
+         * Called when one or several {@link Rule}s fail.
+         *
+         * @param errors List containing references to the fields and
+         *               {@link Rule}s that failed.
+         */
+        void onValidationFailed(List<ValidationError> errors);
+    }
+
+    /**
+     * Interface that provides a callback when all {@link Rule}s
+     * associated with a field passes.
+     *
+     * @author Ragunath Jawahar {@literal <rj@mobsandgeeks.com>}
+     * @since 2.0
+     */
+    public interface ValidatedAction {
+        void onAllRulesPassed(Object object);
+    }
+
+    /**
+     * Source of the current time for time-sensitive {@link Rule}s. Replace the
+     * {@link #SYSTEM} clock using {@link ModelValidator#setClock(Clock)}, for instance to
+     * validate against a server's time or a fixed time in tests.
+     *
+     * @since 2.1.0
+     */
+    public interface Clock {
+
+        /**
+         * A {@link Clock} backed by {@link System#currentTimeMillis()}.
+         */
+        Clock SYSTEM = new Clock() {
+            @Override
+            public long currentTimeMillis() {
+                return System.currentTimeMillis();
+            }
+        };
+
+        /**
+         * Returns the current time.
+         *
+         * @return The current time in milliseconds since the epoch.
+         */
+        long currentTimeMillis();
+    }
+
+    /**
+     * Receives the {@link ValidationMetrics} of sampled validation passes, see
+     * {@link ModelValidator#setValidationMetricsListener(ValidationMetricsListener, float)}.
+     * {@link ValidationStatistics} adds them up across passes.
+     *
+     * @since 2.1.0
+     */
+    public interface ValidationMetricsListener {
+
+        /**
+         * Called at the end of a sampled validation pass, on the thread that validated, which
+         * is a background thread for asynchronous validation.
+         *
+         * @param metrics The metrics of the pass.
+         */
+        void onValidationMetrics(ValidationMetrics metrics);
+    }
+
+    /**
+     * Decides the order in which the {@link Rule}s of a field are evaluated, see
+     * {@link ModelValidator#setRuleOrderingPolicy(RuleOrderingPolicy, float)}. The policy receives
+     * the {@link ValidationMetrics} of sampled passes to learn from.
+     *
+     * @since 2.1.0
+     */
+    public interface RuleOrderingPolicy extends ValidationMetricsListener {
+
+        /**
+         * Ranks a {@link Rule}, rules with lower ranks are evaluated first. Called on the
+         * thread that validated, right after {@link #onValidationMetrics(ValidationMetrics)}.
+         *
+         * @param rule A rule without an explicit {@code sequence}.
+         * @return The rank of the rule.
+         */
+        double getRank(Rule rule);
+    }
+
+    /**
+     * Validation mode.
+     *
+     * @author Ragunath Jawahar {@literal <rj@mobsandgeeks.com>}
+     * @since 2.0
+     */
+    public enum Mode {
+
+        /**
+         * BURST mode will validate all rules in all fields before calling the
+         * {@link ModelValidator.ValidationListener#onValidationFailed(List)}
+         * callback. Ordering and sequencing is optional.
+         */
+        BURST,
+
+        /**
+         * IMMEDIATE mode will stop the validation after validating all the rules
+         * of the first failing field. Requires ordered rules, sequencing is optional.
+         */
+        IMMEDIATE
+    }
+
+    // The state of a validation pass, see validateField()
+    private static final class ValidationPass {
+        final List<ValidationError> errors = new ArrayList<ValidationError>();
+
+        // Don't add errors for fields that are placed after the specified field in validateTill()
+        boolean addErrorToReport;
+
+        // Does the form have more errors? Used in validateTill()
+        boolean hasMoreErrors;
+    }
+
+    static class ValidationReport {
+        List<ValidationError> errors;
+        boolean hasMoreErrors;
+
+        ValidationReport(final List<ValidationError> errors, final boolean hasMoreErrors) {
+            this.errors = errors;
+            this.hasMoreErrors = hasMoreErrors;
+        }
+    }
+
+    // Created on first use, its thread goes away when idle
+    private static class PrewarmExecutorHolder {
+        static final ExecutorService EXECUTOR = new ThreadPoolExecutor(0, 1,
+                1, TimeUnit.SECONDS, new LinkedBlockingQueue<Runnable>(),
+                new ThreadFactory() {
+                    @Override
+                    public Thread newThread(final Runnable runnable) {
+                        Thread thread = new Thread(runnable, "Saripaar prewarm");
+                        thread.setDaemon(true);
+                        thread.setPriority(Thread.MIN_PRIORITY);
+                        return thread;
+                    }
+                });
+    }
+    // Created on first use, like the prewarm thread
+    private static class AsyncExecutorHolder {
+        static final ExecutorService EXECUTOR = new ThreadPoolExecutor(0, 1,
+                1, TimeUnit.SECONDS, new LinkedBlockingQueue<Runnable>(),
+                new ThreadFactory() {
+                    @Override
+                    public Thread newThread(final Runnable runnable) {
+                        Thread thread = new Thread(runnable, "Saripaar validate");
+                        thread.setDaemon(true);
+                        return thread;
+                    }
+                });
+    }
+
+    // Reports its outcome through the callback executor, unless it was cancelled or replaced
+    private class AsyncValidationTask extends FutureTask<ValidationReport> {
+
+        AsyncValidationTask(final Field field,
+                            final Map<Field, ArrayList<Pair<Rule, DataAdapter>>> rules,
+                            final boolean orderedRules, final String reasonSuffix) {
+            super(new Callable<ValidationReport>() {
+                @Override
+                public ValidationReport call() {
+                    return validateTill(field, rules, orderedRules, reasonSuffix);
+                }
+            });
+        }
+
+        @Override
+        protected void done() {
+            if (isCancelled()) {
+                return;
+            }
+            mCallbackExecutor.execute(new Runnable() {
+                @Override
+                public void run() {
+                    if (mAsyncValidationTask != AsyncValidationTask.this) {
+                        return;
+                    }
+                    mAsyncValidationTask = null;
+                    triggerValidationListenerCallback(getReport());
+                }
+            });
+        }
+
+        private ValidationReport getReport() {
+            try {
+                return get();
+            } catch (InterruptedException e) {
+                throw new RuntimeException(e);
+            } catch (ExecutionException e) {
+                Throwable cause = e.getCause();
+                if (cause instanceof RuntimeException) {
+                    throw (RuntimeException) cause;
+                } else if (cause instanceof Error) {
+                    throw (Error) cause;
+                }
+                throw new RuntimeException(cause);
+            }
+        }
+    }
+}
@@ -0,0 +1,39 @@
+/*
+ * Copyright (C) 2014 Mobs & Geeks
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file
+ * except in compliance with the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the
+ * License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied. See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.mobsandgeeks.saripaar;
+
+/**
+ * Holds two objects, like a rule and the data adapter it reads from.
+ *
+ * @param <F>  Type of the first object.
+ * @param <S>  Type of the second object.
+ *
+ * @since 2.1.0
+ */
+final class Pair<F, S> {
+    final F first;
+    final S second;
+
+    /**
+     * Constructor.
+     *
+     * @param first  The first object.
+     * @param second  The second object.
+     */
+    Pair(final F first, final S second) {
+        this.first = first;
+        this.second = second;
+    }
+}
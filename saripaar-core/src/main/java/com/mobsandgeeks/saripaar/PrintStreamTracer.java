@@ -0,0 +1,111 @@
+/*
+ * Copyright (C) 2014 Mobs & Geeks
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file
+ * except in compliance with the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the
+ * License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied. See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.mobsandgeeks.saripaar;
+
+import java.io.PrintStream;
+import java.util.ArrayList;
+
+/**
+ * A {@link Tracer} for plain JVMs, like unit tests and benchmarks. Times sections using
+ * {@link System#nanoTime()} and prints each one to a {@link PrintStream} as it ends, indented
+ * by how deeply it is nested.
+ *
+ * @since 2.1.0
+ */
+public final class PrintStreamTracer implements Tracer {
+    private final PrintStream mPrintStream;
+    private final ThreadLocal<Sections> mSections = new ThreadLocal<Sections>() {
+        @Override
+        protected Sections initialValue() {
+            return new Sections();
+        }
+    };
+
+    /**
+     * Constructor.
+     *
+     * @param printStream  The {@link PrintStream} that ended sections are printed to, for
+     *                     instance {@link System#out}.
+     */
+    public PrintStreamTracer(final PrintStream printStream) {
+        if (printStream == null) {
+            throw new IllegalArgumentException("'printStream' cannot be null.");
+        }
+        mPrintStream = printStream;
+    }
+
+    @Override
+    public boolean isEnabled() {
+        return true;
+    }
+
+    @Override
+    public void beginSection(final String sectionName) {
+        mSections.get().push(sectionName, System.nanoTime());
+    }
+
+    @Override
+    public void endSection() {
+        long endNanos = System.nanoTime();
+        Sections sections = mSections.get();
+        if (sections.isEmpty()) {
+            return;
+        }
+
+        int depth = sections.size() - 1;
+        long startNanos = sections.peekStartNanos();
+        String sectionName = sections.pop();
+
+        StringBuilder builder = new StringBuilder();
+        for (int i = 0; i < depth; i++) {
+            builder.append("  ");
+        }
+        builder.append(sectionName).append(": ").append((endNanos - startNanos) / 1000)
+                .append(" us");
+        mPrintStream.println(builder.toString());
+    }
+
+    // Open sections of a thread, innermost last
+    private static class Sections {
+        private final ArrayList<String> mNames = new ArrayList<String>();
+        private long[] mStartNanos = new long[8];
+
+        void push(final String name, final long startNanos) {
+            int size = mNames.size();
+            if (size == mStartNanos.length) {
+                long[] startNanosArray = new long[size * 2];
+                System.arraycopy(mStartNanos, 0, startNanosArray, 0, size);
+                mStartNanos = startNanosArray;
+            }
+            mNames.add(name);
+            mStartNanos[size] = startNanos;
+        }
+
+        long peekStartNanos() {
+            return mStartNanos[mNames.size() - 1];
+        }
+
+        String pop() {
+            return mNames.remove(mNames.size() - 1);
+        }
+
+        int size() {
+            return mNames.size();
+        }
+
+        boolean isEmpty() {
+            return mNames.isEmpty();
+        }
+    }
+}
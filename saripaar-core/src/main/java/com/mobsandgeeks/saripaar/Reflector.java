@@ -14,9 +14,6 @@
 
 package com.mobsandgeeks.saripaar;
 
-import android.view.View;
-
-import com.mobsandgeeks.saripaar.adapter.ViewDataAdapter;
 import com.mobsandgeeks.saripaar.annotation.ValidateUsing;
 import com.mobsandgeeks.saripaar.exception.SaripaarViolationException;
 
@@ -26,6 +23,7 @@ import java.lang.reflect.Field;
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
 import java.lang.reflect.Modifier;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * Contains reflection methods that are helpful for introspection and retrieval of frequently used
@@ -36,6 +34,11 @@ import java.lang.reflect.Modifier;
  */
 final class Reflector {
 
+    // Rule constructors by rule annotation type
+    private static final ConcurrentHashMap<Class<? extends Annotation>, Constructor<?>>
+            RULE_CONSTRUCTORS =
+                    new ConcurrentHashMap<Class<? extends Annotation>, Constructor<?>>();
+
     /**
      * Retrieves the attribute method of the given {@link java.lang.annotation.Annotation}.
      *
@@ -113,42 +116,6 @@ final class Reflector {
         return isAnnotated;
     }
 
-    /**
-     * Finds and returns the correct
-     * {@link com.mobsandgeeks.saripaar.adapter.ViewDataAdapter#getData(android.view.View)}
-     * {@link java.lang.reflect.Method}.
-     *
-     * @param dataAdapterType The {@link com.mobsandgeeks.saripaar.adapter.ViewDataAdapter}
-     *                        class whose {@code getData(View)} method is required.
-     * @return The correct {@code getData(View)} method.
-     */
-    static Method findGetDataMethod(final Class<? extends ViewDataAdapter> dataAdapterType) {
-        Method getDataMethod = null;
-        Method[] declaredMethods = dataAdapterType.getDeclaredMethods();
-
-        for (Method method : declaredMethods) {
-            boolean methodNameIsGetData = "getData".equals(method.getName());
-
-            if (methodNameIsGetData) {
-                // If we don't declare a throws clause in the method signature, the compiler
-                // creates an auto-generated volatile method with the java.lang.Object return type.
-                int modifiers = method.getModifiers();
-                boolean nonVolatile = !Modifier.isVolatile(modifiers);
-
-                // Single 'View' parameter
-                Class<?>[] parameterTypes = method.getParameterTypes();
-                boolean hasSingleViewParameter = parameterTypes.length == 1
-                        && View.class.isAssignableFrom(parameterTypes[0]);
-
-                if (nonVolatile && hasSingleViewParameter) {
-                    getDataMethod = method;
-                    break;
-                }
-            }
-        }
-        return getDataMethod;
-    }
-
     /**
      * Instantiates a {@link AnnotationRule} object for the given type.
      *
@@ -165,40 +132,68 @@ final class Reflector {
             throws SaripaarViolationException {
         AnnotationRule rule = null;
 
+        final Tracer tracer = Tracing.beginSection("Saripaar.instantiateRule", ruleType);
         try {
+            Constructor<?> constructor = getRuleConstructor(ruleType,
+                    ruleAnnotation.annotationType());
             if (ContextualAnnotationRule.class.isAssignableFrom(ruleType)) {
-                Constructor<?> constructor = ruleType.getDeclaredConstructor(
-                        ruleAnnotation.annotationType(), ValidationContext.class);
-                constructor.setAccessible(true);
                 rule = (AnnotationRule) constructor.newInstance(ruleAnnotation, validationContext);
-            } else if (AnnotationRule.class.isAssignableFrom(ruleType)) {
-                Constructor<?> constructor = ruleType.getDeclaredConstructor(
-                        ruleAnnotation.annotationType());
-                constructor.setAccessible(true);
+            } else {
                 rule = (AnnotationRule) constructor.newInstance(ruleAnnotation);
             }
-        } catch (NoSuchMethodException e) {
-            String message = getMissingConstructorErrorMessage(ruleType,
-                    ruleAnnotation.annotationType());
-            throw new SaripaarViolationException(message);
         } catch (InvocationTargetException e) {
             e.printStackTrace();
         } catch (InstantiationException e) {
             e.printStackTrace();
         } catch (IllegalAccessException e) {
             e.printStackTrace();
+        } finally {
+            Tracing.endSection(tracer);
         }
 
         return rule;
     }
 
+    /**
+     * Finds the constructor that {@link #instantiateRule(Class, Annotation, ValidationContext)}
+     * uses, constructors are looked up once for each rule annotation and then cached.
+     *
+     * @param ruleType       The {@link AnnotationRule} class.
+     * @param annotationType The rule {@link java.lang.annotation.Annotation} type.
+     * @return The accessible constructor.
+     * @throws SaripaarViolationException if the {@link AnnotationRule} does not have a
+     *                                    constructor that accepts the rule annotation, and a
+     *                                    {@link ValidationContext} for
+     *                                    {@link ContextualAnnotationRule}s.
+     */
+    static Constructor<?> getRuleConstructor(final Class<? extends AnnotationRule> ruleType,
+            final Class<? extends Annotation> annotationType) throws SaripaarViolationException {
+        Constructor<?> constructor = RULE_CONSTRUCTORS.get(annotationType);
+        if (constructor != null && constructor.getDeclaringClass() == ruleType) {
+            return constructor;
+        }
+
+        try {
+            constructor = ContextualAnnotationRule.class.isAssignableFrom(ruleType)
+                    ? ruleType.getDeclaredConstructor(annotationType, ValidationContext.class)
+                    : ruleType.getDeclaredConstructor(annotationType);
+        } catch (NoSuchMethodException e) {
+            String message = getMissingConstructorErrorMessage(ruleType, annotationType);
+            throw new SaripaarViolationException(message);
+        }
+        constructor.setAccessible(true);
+        RULE_CONSTRUCTORS.put(annotationType, constructor);
+
+        return constructor;
+    }
+
     /**
      * Method finds the data type of the {@link AnnotationRule} that is tied up to the given rule
      * annotation.
      *
      * @param ruleAnnotation Rule {@link java.lang.annotation.Annotation}.
      * @return The expected data type for the
-     * {@link com.mobsandgeeks.saripaar.adapter.ViewDataAdapter}s.
+     * {@link com.mobsandgeeks.saripaar.adapter.DataAdapter}s.
      */
     static Class<?> getRuleDataType(final Annotation ruleAnnotation) {
         ValidateUsing validateUsing = getValidateUsingAnnotation(ruleAnnotation.annotationType());
@@ -212,7 +207,7 @@ final class Reflector {
      * @param validateUsing The {@link com.mobsandgeeks.saripaar.annotation.ValidateUsing}
      *                      instance.
      * @return The expected data type for the
-     * {@link com.mobsandgeeks.saripaar.adapter.ViewDataAdapter}s.
+     * {@link com.mobsandgeeks.saripaar.adapter.DataAdapter}s.
      */
     static Class<?> getRuleDataType(final ValidateUsing validateUsing) {
         Class<? extends AnnotationRule> rule = validateUsing.value();
@@ -294,18 +289,6 @@ final class Reflector {
     private Reflector() {
     }
 
-    public static boolean isViewField(Field field) {
-        Class<?> cls = field.getType();
-        while (cls != null && !"java.lang.Object".equals(cls.getCanonicalName())) {
-            if (View.class.getCanonicalName().equals(cls.getCanonicalName())) {
-                return true;
-            }
-            cls = cls.getSuperclass();
-        }
-
-        return false;
-    }
-
     public static <T> T getFieldValue(Object object, Field field) {
         field.setAccessible(true);
         try {
@@ -314,8 +297,4 @@ final class Reflector {
             throw new RuntimeException(e);
         }
     }
-
-    public static View getViewByField(Object object, Field field) {
-        return getFieldValue(object, field);
-    }
 }
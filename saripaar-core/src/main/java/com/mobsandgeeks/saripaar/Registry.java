@@ -0,0 +1,156 @@
+/*
+ * Copyright (C) 2014 Mobs & Geeks
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file
+ * except in compliance with the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the
+ * License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied. See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.mobsandgeeks.saripaar;
+
+import com.mobsandgeeks.saripaar.annotation.AssertFalse;
+import com.mobsandgeeks.saripaar.annotation.AssertTrue;
+import com.mobsandgeeks.saripaar.annotation.Checked;
+import com.mobsandgeeks.saripaar.annotation.ConfirmEmail;
+import com.mobsandgeeks.saripaar.annotation.ConfirmPassword;
+import com.mobsandgeeks.saripaar.annotation.CreditCard;
+import com.mobsandgeeks.saripaar.annotation.DecimalMax;
+import com.mobsandgeeks.saripaar.annotation.DecimalMin;
+import com.mobsandgeeks.saripaar.annotation.Digits;
+import com.mobsandgeeks.saripaar.annotation.Domain;
+import com.mobsandgeeks.saripaar.annotation.Email;
+import com.mobsandgeeks.saripaar.annotation.Future;
+import com.mobsandgeeks.saripaar.annotation.IpAddress;
+import com.mobsandgeeks.saripaar.annotation.Isbn;
+import com.mobsandgeeks.saripaar.annotation.Length;
+import com.mobsandgeeks.saripaar.annotation.Max;
+import com.mobsandgeeks.saripaar.annotation.Min;
+import com.mobsandgeeks.saripaar.annotation.NotEmpty;
+import com.mobsandgeeks.saripaar.annotation.Password;
+import com.mobsandgeeks.saripaar.annotation.Past;
+import com.mobsandgeeks.saripaar.annotation.Pattern;
+import com.mobsandgeeks.saripaar.annotation.Select;
+import com.mobsandgeeks.saripaar.annotation.Url;
+import com.mobsandgeeks.saripaar.annotation.ValidateUsing;
+import com.mobsandgeeks.saripaar.exception.SaripaarViolationException;
+
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Method;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * Maintains a registry of all rule {@link java.lang.annotation.Annotation}s, the stock ones and
+ * the ones that are registered. The data adapters for views are kept by the Android library.
+ * <p>
+ * Stock annotations are known to be valid and are not inspected using reflection.
+ *
+ * @author Ragunath Jawahar {@literal <rj@mobsandgeeks.com>}
+ * @since 2.0
+ */
+final class Registry {
+
+    // Stock annotations, their data types match the stock adapters
+    private static final Set<Class<? extends Annotation>> STOCK_ANNOTATIONS =
+            new HashSet<Class<? extends Annotation>>(Arrays.<Class<? extends Annotation>>asList(
+                    AssertFalse.class, AssertTrue.class, Checked.class, ConfirmEmail.class,
+                    ConfirmPassword.class, CreditCard.class, DecimalMax.class, DecimalMin.class,
+                    Digits.class, Domain.class, Email.class, Future.class, IpAddress.class,
+                    Isbn.class, Length.class, Max.class, Min.class, NotEmpty.class,
+                    Password.class, Past.class, Pattern.class, Select.class, Url.class));
+
+    // Attributes
+    private Set<Class<? extends Annotation>> mRegisteredAnnotations;
+
+    /**
+     * Good Ol' constructor.
+     */
+    Registry() {
+        mRegisteredAnnotations = new HashSet<Class<? extends Annotation>>();
+    }
+
+    /**
+     * Registers custom rule annotations. Their {@link AnnotationRule}s validate the values of
+     * the annotated fields, or the data that the registered adapters of the Android library
+     * read from views.
+     *
+     * @param ruleAnnotations  Varargs of rule {@link java.lang.annotation.Annotation}s.
+     */
+    synchronized void register(final Class<? extends Annotation>... ruleAnnotations) {
+        for (Class<? extends Annotation> ruleAnnotation : ruleAnnotations) {
+            assertIsValidRuleAnnotation(ruleAnnotation);
+            mRegisteredAnnotations.add(ruleAnnotation);
+        }
+    }
+
+    /**
+     * Tells if a rule annotation is a stock annotation or has been registered.
+     *
+     * @param ruleAnnotation  A rule {@link java.lang.annotation.Annotation} type.
+     *
+     * @return true if the annotation is a stock or registered rule annotation, false otherwise.
+     */
+    synchronized boolean isRegistered(final Class<? extends Annotation> ruleAnnotation) {
+        return mRegisteredAnnotations.contains(ruleAnnotation)
+                || STOCK_ANNOTATIONS.contains(ruleAnnotation);
+    }
+
+    /**
+     * Checks that a custom rule annotation is annotated with {@link ValidateUsing} and has the
+     * {@code sequence}, {@code message} and {@code messageResId} attributes.
+     *
+     * @param ruleAnnotation  A rule {@link java.lang.annotation.Annotation} type.
+     *
+     * @throws IllegalArgumentException  If the annotation isn't annotated with
+     *      {@link ValidateUsing}.
+     * @throws SaripaarViolationException  If an attribute is missing or has the wrong type.
+     */
+    static void assertIsValidRuleAnnotation(final Class<? extends Annotation> ruleAnnotation) {
+        // 1. Check for @ValidateUsing annotation
+        boolean validRuleAnnotation = Reflector.isAnnotated(ruleAnnotation, ValidateUsing.class);
+        if (!validRuleAnnotation) {
+            String message = String.format("'%s' is not annotated with '%s'.",
+                    ruleAnnotation.getName(), ValidateUsing.class.getName());
+            throw new IllegalArgumentException(message);
+        }
+
+        // 2. Check for 'sequence' attribute
+        assertAttribute(ruleAnnotation, "sequence", Integer.TYPE);
+
+        // 3. Check for 'message' attribute
+        assertAttribute(ruleAnnotation, "message", String.class);
+
+        // 4. Check for 'messageResId' attribute
+        assertAttribute(ruleAnnotation, "messageResId", Integer.TYPE);
+    }
+
+    /* ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+     *  Private Methods
+     * ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+     */
+    private static void assertAttribute(final Class<? extends Annotation> annotationType,
+            final String attributeName, final Class<?> attributeType) {
+        Method attributeMethod = Reflector.getAttributeMethod(annotationType, attributeName);
+
+        if (attributeMethod == null) {
+            String message = String.format("'%s' requires the '%s' attribute.",
+                    annotationType.getName(), attributeName);
+            throw new SaripaarViolationException(message);
+        }
+
+        final Class<?> returnType = attributeMethod.getReturnType();
+        if (!attributeType.equals(returnType)) {
+            String message = String.format("'%s' in '%s' should be of type '%s', but was '%s'.",
+                    attributeName, annotationType.getName(),
+                    attributeType.getName(), returnType.getName());
+            throw new SaripaarViolationException(message);
+        }
+    }
+}
@@ -14,14 +14,12 @@
 
 package com.mobsandgeeks.saripaar;
 
-import android.content.Context;
-
 /**
  * This is a base interface for {@link com.mobsandgeeks.saripaar.AnnotationRule} and
- * {@link com.mobsandgeeks.saripaar.QuickRule}.
+ * {@code QuickRule}.
  *
  * @param <VALIDATABLE>  A data type for an {@link com.mobsandgeeks.saripaar.AnnotationRule} and
- *      a {@link android.view.View} for a {@link com.mobsandgeeks.saripaar.QuickRule}.
+ *      an {@code android.view.View} for a {@code QuickRule}.
  *
  * @author Ragunath Jawahar {@literal <rj@mobsandgeeks.com>}
  * @since 1.0
@@ -42,7 +40,7 @@ public abstract class Rule<VALIDATABLE> {
      * Checks if the rule is valid.
      *
      * @param validatable  Element on which the validation is applied, could be a data type or a
-     *      {@link android.view.View}.
+     *      {@code android.view.View}.
      *
      * @return true if valid, false otherwise.
      */
@@ -51,12 +49,12 @@ public abstract class Rule<VALIDATABLE> {
     /**
      * Returns a failure message associated with the rule.
      *
-     * @param context  Any {@link android.content.Context} instance, usually an
-     *      {@link android.app.Activity}.
+     * @param messageResolver  A {@link MessageResolver} for message resources, on Android a
+     *      {@code ContextMessageResolver}.
      *
      * @return A failure message.
      */
-    public abstract String getMessage(Context context);
+    public abstract String getMessage(MessageResolver messageResolver);
 
     /**
      * Returns the sequence of the {@link com.mobsandgeeks.saripaar.Rule}.
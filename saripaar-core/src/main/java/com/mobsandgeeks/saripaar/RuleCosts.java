@@ -0,0 +1,88 @@
+/*
+ * Copyright (C) 2014 Mobs & Geeks
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file
+ * except in compliance with the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the
+ * License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied. See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.mobsandgeeks.saripaar;
+
+import com.mobsandgeeks.saripaar.annotation.AssertFalse;
+import com.mobsandgeeks.saripaar.annotation.AssertTrue;
+import com.mobsandgeeks.saripaar.annotation.Checked;
+import com.mobsandgeeks.saripaar.annotation.ConfirmEmail;
+import com.mobsandgeeks.saripaar.annotation.ConfirmPassword;
+import com.mobsandgeeks.saripaar.annotation.Domain;
+import com.mobsandgeeks.saripaar.annotation.Email;
+import com.mobsandgeeks.saripaar.annotation.Length;
+import com.mobsandgeeks.saripaar.annotation.Max;
+import com.mobsandgeeks.saripaar.annotation.Min;
+import com.mobsandgeeks.saripaar.annotation.NotEmpty;
+import com.mobsandgeeks.saripaar.annotation.Select;
+import com.mobsandgeeks.saripaar.annotation.Url;
+
+import java.lang.annotation.Annotation;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Static hints on how expensive {@link Rule}s are relative to each other, used to evaluate
+ * cheap rules first until measurements are available.
+ *
+ * @since 2.1.0
+ */
+final class RuleCosts {
+    static final int CHEAP = 1;
+    static final int MODERATE = 2;
+    static final int EXPENSIVE = 3;
+
+    // Rules that are not listed cost MODERATE
+    private static final Map<Class<? extends Annotation>, Integer> COSTS =
+            new HashMap<Class<? extends Annotation>, Integer>();
+
+    private RuleCosts() {
+    }
+
+    /**
+     * Gets the relative cost of a {@link Rule}, composite rules cost as much as their members.
+     *
+     * @param rule  A {@link Rule}.
+     *
+     * @return The relative cost.
+     */
+    static int getCost(final Rule rule) {
+        if (rule instanceof CompositeRule) {
+            return ((CompositeRule) rule).getCost();
+        } else if (rule instanceof AnnotationRule) {
+            Integer cost = COSTS.get(((AnnotationRule) rule).mRuleAnnotation.annotationType());
+            return cost != null ? cost : MODERATE;
+        }
+        return MODERATE;
+    }
+
+    static {
+        // Flags, numbers and lengths
+        COSTS.put(AssertFalse.class, CHEAP);
+        COSTS.put(AssertTrue.class, CHEAP);
+        COSTS.put(Checked.class, CHEAP);
+        COSTS.put(Length.class, CHEAP);
+        COSTS.put(Max.class, CHEAP);
+        COSTS.put(Min.class, CHEAP);
+        COSTS.put(NotEmpty.class, CHEAP);
+        COSTS.put(Select.class, CHEAP);
+
+        // Parsers with large tables, or rules that read other views
+        COSTS.put(ConfirmEmail.class, EXPENSIVE);
+        COSTS.put(ConfirmPassword.class, EXPENSIVE);
+        COSTS.put(Domain.class, EXPENSIVE);
+        COSTS.put(Email.class, EXPENSIVE);
+        COSTS.put(Url.class, EXPENSIVE);
+    }
+}
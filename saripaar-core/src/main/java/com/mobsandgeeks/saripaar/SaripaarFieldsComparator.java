@@ -20,7 +20,7 @@ import java.lang.reflect.Field;
 import java.util.Comparator;
 
 /**
- * Sorts the {@link android.view.View} {@link java.lang.reflect.Field} objects based on the
+ * Sorts the annotated {@link java.lang.reflect.Field} objects based on the
  * {@link com.mobsandgeeks.saripaar.annotation.Order} annotation.
  *
  * @author Ragunath Jawahar {@literal <rj@mobsandgeeks.com>}
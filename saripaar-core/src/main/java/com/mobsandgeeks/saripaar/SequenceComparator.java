@@ -14,28 +14,26 @@
 
 package com.mobsandgeeks.saripaar;
 
-import android.util.Pair;
-
-import com.mobsandgeeks.saripaar.adapter.ViewDataAdapter;
+import com.mobsandgeeks.saripaar.adapter.DataAdapter;
 
 import java.util.Comparator;
 
 /**
  * Sorts the {@link com.mobsandgeeks.saripaar.Rule} and
- * {@link com.mobsandgeeks.saripaar.adapter.ViewDataAdapter} pairs based on the
+ * {@link com.mobsandgeeks.saripaar.adapter.DataAdapter} pairs based on the
  * 'sequence' attribute.
  *
  * @author Ragunath Jawahar {@literal <rj@mobsandgeeks.com>}
  * @since 2.0
  */
-final class SequenceComparator implements Comparator<Pair<Rule, ViewDataAdapter>> {
+final class SequenceComparator implements Comparator<Pair<Rule, DataAdapter>> {
 
     /**
      * {@inheritDoc}
      */
     @Override
-    public int compare(final Pair<Rule, ViewDataAdapter> lhsPair,
-            final Pair<Rule, ViewDataAdapter> rhsPair) {
+    public int compare(final Pair<Rule, DataAdapter> lhsPair,
+            final Pair<Rule, DataAdapter> rhsPair) {
 
         final int lhsSequence = lhsPair.first.getSequence();
         final int rhsSequence = rhsPair.first.getSequence();
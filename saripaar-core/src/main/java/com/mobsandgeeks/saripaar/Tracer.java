@@ -0,0 +1,67 @@
+/*
+ * Copyright (C) 2014 Mobs & Geeks
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file
+ * except in compliance with the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the
+ * License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied. See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.mobsandgeeks.saripaar;
+
+/**
+ * Marks the beginning and the end of named sections in Saripaar's expensive phases, like
+ * scanning controllers for annotated fields, instantiating rules and validation passes.
+ * Install one using {@link Tracing#setTracer(Tracer)}.
+ * <p>
+ * Sections are nested and always begin and end on the same thread. Section names are only
+ * built when {@link #isEnabled()} returns true, so a disabled tracer costs a method call per
+ * section.
+ *
+ * @since 2.1.0
+ */
+public interface Tracer {
+
+    /**
+     * A {@link Tracer} that does nothing, used when tracing is off.
+     */
+    Tracer NONE = new Tracer() {
+        @Override
+        public boolean isEnabled() {
+            return false;
+        }
+
+        @Override
+        public void beginSection(final String sectionName) {
+            // Do nothing
+        }
+
+        @Override
+        public void endSection() {
+            // Do nothing
+        }
+    };
+
+    /**
+     * Tells if sections should be traced at the moment.
+     *
+     * @return true if sections should be traced, false otherwise.
+     */
+    boolean isEnabled();
+
+    /**
+     * Begins a section.
+     *
+     * @param sectionName  Name of the section.
+     */
+    void beginSection(String sectionName);
+
+    /**
+     * Ends the section that was most recently begun on the calling thread.
+     */
+    void endSection();
+}
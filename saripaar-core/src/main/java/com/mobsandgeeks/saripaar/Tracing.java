@@ -0,0 +1,92 @@
+/*
+ * Copyright (C) 2014 Mobs & Geeks
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file
+ * except in compliance with the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the
+ * License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied. See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.mobsandgeeks.saripaar;
+
+import java.lang.reflect.Field;
+
+/**
+ * Holds the {@link Tracer} used by Saripaar. Tracing is off until a tracer is set.
+ * <p>
+ * Stock annotations aren't registered up front, and the stock data adapters of the Android
+ * library are created and mapped the first time an annotation is looked up. That happens while
+ * the rules of a controller are created or prewarmed, so the work is traced within those
+ * sections. A tracer can be set at any time, sections that begin after it is set are traced.
+ *
+ * @since 2.1.0
+ */
+public final class Tracing {
+    private static volatile Tracer sTracer = Tracer.NONE;
+
+    private Tracing() {
+    }
+
+    /**
+     * Set the {@link Tracer} used by Saripaar.
+     *
+     * @param tracer  A {@link Tracer}, null turns tracing off.
+     */
+    public static void setTracer(final Tracer tracer) {
+        sTracer = tracer != null ? tracer : Tracer.NONE;
+    }
+
+    /**
+     * Gets the {@link Tracer} used by Saripaar.
+     *
+     * @return The {@link Tracer}, {@link Tracer#NONE} if tracing is off.
+     */
+    public static Tracer getTracer() {
+        return sTracer;
+    }
+
+    /**
+     * Begins a section if tracing is on. The section name is built only if it is, from the
+     * name and the simple name of a class, a field's class and name or any other object.
+     *
+     * @param name  Name of the section.
+     * @param detail  The class, field or object that the section deals with, may be null.
+     *
+     * @return The {@link Tracer} that should end the section, null if tracing is off.
+     */
+    static Tracer beginSection(final String name, final Object detail) {
+        final Tracer tracer = sTracer;
+        if (!tracer.isEnabled()) {
+            return null;
+        }
+
+        String detailName;
+        if (detail == null) {
+            detailName = null;
+        } else if (detail instanceof Class) {
+            detailName = ((Class<?>) detail).getSimpleName();
+        } else if (detail instanceof Field) {
+            Field field = (Field) detail;
+            detailName = field.getDeclaringClass().getSimpleName() + "." + field.getName();
+        } else {
+            detailName = detail.toString();
+        }
+        tracer.beginSection(detailName != null ? name + "(" + detailName + ")" : name);
+        return tracer;
+    }
+
+    /**
+     * Ends a section begun by {@link #beginSection(String, Object)}.
+     *
+     * @param tracer  The {@link Tracer} returned by {@link #beginSection(String, Object)}.
+     */
+    static void endSection(final Tracer tracer) {
+        if (tracer != null) {
+            tracer.endSection();
+        }
+    }
+}
@@ -0,0 +1,211 @@
+/*
+ * Copyright (C) 2015 Mobs & Geeks
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file
+ * except in compliance with the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the
+ * License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied. See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.mobsandgeeks.saripaar;
+
+import com.mobsandgeeks.saripaar.adapter.DataAdapter;
+import com.mobsandgeeks.saripaar.annotation.ValidateUsing;
+import com.mobsandgeeks.saripaar.exception.ConversionException;
+
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Field;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Grants access to information about other fields in the controller object, like views, and to
+ * the {@link MessageResolver} of the validator.
+ *
+ * @author Ragunath Jawahar {@literal <rj@mobsandgeeks.com>}
+ * @since 2.0
+ */
+public class ValidationContext {
+
+    private static final long NO_TIME = Long.MIN_VALUE;
+
+    // Attributes
+    private Map<Field, ArrayList<Pair<Rule, DataAdapter>>> mRulesMap;
+    private volatile MessageResolver mMessageResolver;
+    private Object mController;
+    private volatile long mCurrentTimeMillis = NO_TIME;
+
+    ValidationContext(final MessageResolver messageResolver, final Object controller) {
+        this.mMessageResolver = messageResolver;
+        this.mController = controller;
+    }
+
+    /**
+     * Retrieves the values of all fields that are annotated with the specified annotation, the
+     * views on Android.
+     *
+     * @param saripaarAnnotation  The annotation we are interested in.
+     *
+     * @return A {@link java.util.List} of the field values annotated with the given annotation.
+     * @since 2.1.0
+     */
+    public List<Object> getAnnotatedObjects(
+            final Class<? extends Annotation> saripaarAnnotation) {
+        assertNotNull(saripaarAnnotation, "saripaarAnnotation");
+        assertIsRegisteredAnnotation(saripaarAnnotation);
+
+        // Get the AnnotationRule class
+        Class<? extends AnnotationRule> annotationRuleClass = getRuleClass(saripaarAnnotation);
+
+        // Find all fields with the target rule
+        List<Object> annotatedObjects = new ArrayList<Object>();
+        Set<Field> fields = mRulesMap.keySet();
+        for (Field field : fields) {
+            Object fieldValue = Reflector.getFieldValue(mController, field);
+            if (fieldValue != null) {
+                ArrayList<Pair<Rule, DataAdapter>> ruleAdapterPairs = mRulesMap.get(field);
+                boolean uniqueMatchingObject =
+                        findRuleAdapterPair(ruleAdapterPairs, annotationRuleClass) != null
+                                && !annotatedObjects.contains(fieldValue);
+                if (uniqueMatchingObject) {
+                    annotatedObjects.add(fieldValue);
+                }
+            }
+        }
+
+        return annotatedObjects;
+    }
+
+    /**
+     * Retrieves the data from the given field value using the appropriate
+     * {@link com.mobsandgeeks.saripaar.adapter.DataAdapter}, fields without an adapter hold
+     * the data themselves.
+     *
+     * @param object  A field value returned by {@link #getAnnotatedObjects(Class)}.
+     * @param saripaarAnnotation  The annotation used to annotate the field.
+     *
+     * @return The data that's in the field value.
+     */
+    public Object getData(final Object object, Class<? extends Annotation> saripaarAnnotation) {
+        assertNotNull(object, "object");
+        assertNotNull(saripaarAnnotation, "saripaarAnnotation");
+
+        Object data = null;
+        ArrayList<Pair<Rule, DataAdapter>> ruleAdapterPairs = getRuleAdapterPairs(object);
+        if (ruleAdapterPairs == null) {
+            return null;
+        }
+        Class<? extends AnnotationRule> annotationRuleClass = getRuleClass(saripaarAnnotation);
+
+        Pair<Rule, DataAdapter> ruleAdapterPair =
+                findRuleAdapterPair(ruleAdapterPairs, annotationRuleClass);
+        if (ruleAdapterPair != null && ruleAdapterPair.second == null) {
+            data = object;
+        } else if (ruleAdapterPair != null) {
+            try {
+                data = ruleAdapterPair.second.getData(object);
+            } catch (ConversionException e) {
+                e.printStackTrace();
+            }
+        }
+
+        return data;
+    }
+
+    /**
+     * Get the {@link MessageResolver} for message resources referred to by annotations.
+     *
+     * @return A {@link MessageResolver}, {@link MessageResolver#NONE} if none was set.
+     * @since 2.1.0
+     */
+    public MessageResolver getMessageResolver() {
+        return mMessageResolver;
+    }
+
+    /**
+     * Get the current time as seen by the ongoing validation pass. All {@link Rule}s in a
+     * pass get the same value, read from the {@link ModelValidator.Clock} when the pass began.
+     *
+     * @return The current time in milliseconds since the epoch.
+     */
+    public long getCurrentTimeMillis() {
+        long currentTimeMillis = mCurrentTimeMillis;
+        return currentTimeMillis != NO_TIME ? currentTimeMillis : System.currentTimeMillis();
+    }
+
+    void setCurrentTimeMillis(final long currentTimeMillis) {
+        mCurrentTimeMillis = currentTimeMillis;
+    }
+
+    void setMessageResolver(final MessageResolver messageResolver) {
+        mMessageResolver = messageResolver;
+    }
+
+    void setRulesMap(final Map<Field, ArrayList<Pair<Rule, DataAdapter>>> rulesMap) {
+        mRulesMap = rulesMap;
+    }
+
+    /* ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+     *  Private Methods
+     * ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+     */
+    private void assertNotNull(final Object object, final String argumentName) {
+        if (object == null) {
+            String message = String.format("'%s' cannot be null.", argumentName);
+            throw new IllegalArgumentException(message);
+        }
+    }
+
+    private void assertIsRegisteredAnnotation(
+            final Class<? extends Annotation> saripaarAnnotation) {
+        if (!ModelValidator.isSaripaarAnnotation(saripaarAnnotation)) {
+            String message = String.format("%s is not a registered Saripaar annotation.",
+                    saripaarAnnotation.getName());
+            throw new IllegalArgumentException(message);
+        }
+    }
+
+    private ArrayList<Pair<Rule, DataAdapter>> getRuleAdapterPairs(final Object object) {
+        for (Field field : mRulesMap.keySet()) {
+            if (Reflector.getFieldValue(mController, field) == object) {
+                return mRulesMap.get(field);
+            }
+        }
+        return null;
+    }
+
+    // The last matching pair, rules combined by @Or are searched too
+    private Pair<Rule, DataAdapter> findRuleAdapterPair(
+            final List<Pair<Rule, DataAdapter>> ruleAdapterPairs,
+            final Class<? extends AnnotationRule> annotationRuleClass) {
+        Pair<Rule, DataAdapter> matchingPair = null;
+        for (int i = 0, n = ruleAdapterPairs.size(); i < n; i++) {
+            Pair<Rule, DataAdapter> ruleAdapterPair = ruleAdapterPairs.get(i);
+            Rule rule = ruleAdapterPair.first;
+            if (rule instanceof CompositeRule) {
+                Pair<Rule, DataAdapter> memberPair = findRuleAdapterPair(
+                        ((CompositeRule) rule).getMembers(), annotationRuleClass);
+                if (memberPair != null) {
+                    matchingPair = memberPair;
+                }
+            } else if (annotationRuleClass.equals(rule.getClass())) {
+                matchingPair = ruleAdapterPair;
+            }
+        }
+        return matchingPair;
+    }
+
+    private Class<? extends AnnotationRule> getRuleClass(
+            final Class<? extends Annotation> saripaarAnnotation) {
+        ValidateUsing validateUsingAnnotation = saripaarAnnotation
+                .getAnnotation(ValidateUsing.class);
+        return validateUsingAnnotation.value();
+    }
+}
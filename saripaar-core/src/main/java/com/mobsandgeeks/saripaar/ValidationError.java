@@ -14,13 +14,11 @@
 
 package com.mobsandgeeks.saripaar;
 
-import android.content.Context;
-
 import java.util.List;
 
 /**
- * Contains a failed {@link android.view.View} and the corresponding
- * {@link com.mobsandgeeks.saripaar.Rule}.
+ * Contains a failed field, like a view field, and the corresponding
+ * {@link com.mobsandgeeks.saripaar.Rule}s.
  *
  * @author Ragunath Jawahar {@literal <rj@mobsandgeeks.com>}
  * @since 2.0
@@ -32,7 +30,7 @@ public class ValidationError {
     /**
      * Constructor.
      *
-     * @param object  A failed {@link android.view.View}.
+     * @param object  A failed {@link java.lang.reflect.Field}.
      * @param failedRules  A {@link java.util.List} of failed
      *      {@link com.mobsandgeeks.saripaar.Rule}s.
      */
@@ -42,7 +40,7 @@ public class ValidationError {
     }
 
     /**
-     * Gets the failed {@link android.view.View}.
+     * Gets the failed {@link java.lang.reflect.Field}.
      *
      * @return The failed object.
      */
@@ -63,14 +61,15 @@ public class ValidationError {
      * Extracts error messages from multiple failed rules and returns a {@link java.lang.String}
      * object.
      *
-     * @param context  A {@link android.content.Context}.
+     * @param messageResolver  A {@link MessageResolver}, on Android a
+     *      {@code ContextMessageResolver}.
      *
      * @return A collated error message.
      */
-    public String getCollatedErrorMessage(final Context context) {
+    public String getCollatedErrorMessage(final MessageResolver messageResolver) {
         StringBuilder stringBuilder = new StringBuilder();
         for (Rule failedRule : failedRules) {
-            String message = failedRule.getMessage(context).trim();
+            String message = failedRule.getMessage(messageResolver).trim();
             if (message.length() > 0) {
                 stringBuilder.append(message).append('\n');
             }
@@ -0,0 +1,257 @@
+/*
+ * Copyright (C) 2014 Mobs & Geeks
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file
+ * except in compliance with the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the
+ * License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied. See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.mobsandgeeks.saripaar;
+
+import java.lang.reflect.Field;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Timings and counts collected during one validation pass, reported to a
+ * {@link ModelValidator.ValidationMetricsListener}. There is an entry for each field the pass
+ * reached, in the order the fields were validated, and for each {@link Rule} evaluated on it.
+ * Fields after the one that stopped a {@link ModelValidator.Mode#IMMEDIATE} pass are left out, and
+ * optional fields that were empty have no {@link Rule} entries.
+ * <p>
+ * All times are wall times in nanoseconds, measured with {@link System#nanoTime()}.
+ *
+ * @since 2.1.0
+ */
+public final class ValidationMetrics {
+    private final Object mController;
+    private final List<FieldMetrics> mFieldMetrics = new ArrayList<FieldMetrics>();
+    private final long mStartNanos;
+    private long mNanos;
+    private FieldMetrics mCurrentFieldMetrics;
+
+    ValidationMetrics(final Object controller) {
+        mController = controller;
+        mStartNanos = System.nanoTime();
+    }
+
+    /**
+     * Gets the controller that was validated.
+     *
+     * @return The controller.
+     */
+    public Object getController() {
+        return mController;
+    }
+
+    /**
+     * Gets the time taken by the whole pass.
+     *
+     * @return The time in nanoseconds.
+     */
+    public long getNanos() {
+        return mNanos;
+    }
+
+    /**
+     * Gets the metrics of the fields reached by the pass.
+     *
+     * @return An unmodifiable {@link List} of {@link FieldMetrics}, in validation order.
+     */
+    public List<FieldMetrics> getFieldMetrics() {
+        return Collections.unmodifiableList(mFieldMetrics);
+    }
+
+    FieldMetrics startField(final Field field) {
+        finishField();
+        mCurrentFieldMetrics = new FieldMetrics(field);
+        mFieldMetrics.add(mCurrentFieldMetrics);
+        return mCurrentFieldMetrics;
+    }
+
+    void finish() {
+        finishField();
+        mNanos = System.nanoTime() - mStartNanos;
+    }
+
+    private void finishField() {
+        if (mCurrentFieldMetrics != null) {
+            mCurrentFieldMetrics.mNanos = System.nanoTime() - mCurrentFieldMetrics.mStartNanos;
+            mCurrentFieldMetrics = null;
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public String toString() {
+        return "ValidationMetrics{"
+                + "controller=" + mController.getClass().getName()
+                + ", nanos=" + mNanos
+                + ", fieldMetrics=" + mFieldMetrics
+                + '}';
+    }
+
+    /**
+     * Metrics of a field, including the time spent checking whether an optional field is
+     * empty and calling the {@link ModelValidator.ValidatedAction}.
+     *
+     * @since 2.1.0
+     */
+    public static final class FieldMetrics {
+        private final Field mField;
+        private final List<RuleMetrics> mRuleMetrics = new ArrayList<RuleMetrics>(2);
+        private final long mStartNanos;
+        private long mNanos;
+
+        FieldMetrics(final Field field) {
+            mField = field;
+            mStartNanos = System.nanoTime();
+        }
+
+        /**
+         * Gets the field.
+         *
+         * @return The field.
+         */
+        public Field getField() {
+            return mField;
+        }
+
+        /**
+         * Gets the time taken to validate the field.
+         *
+         * @return The time in nanoseconds.
+         */
+        public long getNanos() {
+            return mNanos;
+        }
+
+        /**
+         * Gets the metrics of the {@link Rule}s evaluated on the field.
+         *
+         * @return An unmodifiable {@link List} of {@link RuleMetrics}, in evaluation order.
+         */
+        public List<RuleMetrics> getRuleMetrics() {
+            return Collections.unmodifiableList(mRuleMetrics);
+        }
+
+        RuleMetrics startRule(final Rule rule) {
+            RuleMetrics ruleMetrics = new RuleMetrics(rule);
+            mRuleMetrics.add(ruleMetrics);
+            return ruleMetrics;
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public String toString() {
+            return "FieldMetrics{"
+                    + "field=" + mField.getName()
+                    + ", nanos=" + mNanos
+                    + ", ruleMetrics=" + mRuleMetrics
+                    + '}';
+        }
+    }
+
+    /**
+     * Metrics of a {@link Rule} on a field.
+     *
+     * @since 2.1.0
+     */
+    public static final class RuleMetrics {
+        private final Rule mRule;
+        private final long mStartNanos;
+        private long mNanos;
+        private long mDataNanos;
+        private int mEvaluationCount;
+        private int mFailureCount;
+
+        RuleMetrics(final Rule rule) {
+            mRule = rule;
+            mStartNanos = System.nanoTime();
+        }
+
+        /**
+         * Gets the {@link Rule}.
+         *
+         * @return The rule.
+         */
+        public Rule getRule() {
+            return mRule;
+        }
+
+        /**
+         * Gets the time taken to evaluate the {@link Rule}, including {@link #getDataNanos()}.
+         *
+         * @return The time in nanoseconds.
+         */
+        public long getNanos() {
+            return mNanos;
+        }
+
+        /**
+         * Gets the time taken to read the data from the view or field and convert it, using a
+         * {@link com.mobsandgeeks.saripaar.adapter.ViewDataAdapter} for views.
+         *
+         * @return The time in nanoseconds.
+         */
+        public long getDataNanos() {
+            return mDataNanos;
+        }
+
+        /**
+         * Gets the number of times the {@link Rule} was evaluated.
+         *
+         * @return The evaluation count.
+         */
+        public int getEvaluationCount() {
+            return mEvaluationCount;
+        }
+
+        /**
+         * Gets the number of times the {@link Rule} failed, including data that could not be
+         * converted.
+         *
+         * @return The failure count.
+         */
+        public int getFailureCount() {
+            return mFailureCount;
+        }
+
+        void onDataExtracted() {
+            mDataNanos = System.nanoTime() - mStartNanos;
+        }
+
+        void onEvaluated(final boolean failed) {
+            mNanos = System.nanoTime() - mStartNanos;
+            mEvaluationCount++;
+            if (failed) {
+                mFailureCount++;
+            }
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public String toString() {
+            return "RuleMetrics{"
+                    + "rule=" + mRule.getClass().getSimpleName()
+                    + ", nanos=" + mNanos
+                    + ", dataNanos=" + mDataNanos
+                    + ", evaluationCount=" + mEvaluationCount
+                    + ", failureCount=" + mFailureCount
+                    + '}';
+        }
+    }
+}
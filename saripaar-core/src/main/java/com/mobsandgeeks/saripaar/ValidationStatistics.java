@@ -0,0 +1,279 @@
+/*
+ * Copyright (C) 2014 Mobs & Geeks
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file
+ * except in compliance with the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the
+ * License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied. See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.mobsandgeeks.saripaar;
+
+import java.lang.reflect.Field;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * A {@link ModelValidator.ValidationMetricsListener} that adds up {@link ValidationMetrics} by
+ * {@link Rule} type and by field. One instance can be shared by all {@link ModelValidator}s in an
+ * app. Counters are striped by thread, so validations that run concurrently record without
+ * contending for a lock or a cache line. Totals are read by summing the stripes, and are
+ * not a consistent snapshot while validations are running.
+ *
+ * @since 2.1.0
+ */
+public final class ValidationStatistics implements ModelValidator.ValidationMetricsListener {
+
+    private final ConcurrentMap<Class<?>, Counters> mRuleCounters =
+            new ConcurrentHashMap<Class<?>, Counters>();
+    private final ConcurrentMap<Field, Counters> mFieldCounters =
+            new ConcurrentHashMap<Field, Counters>();
+
+    @Override
+    public void onValidationMetrics(final ValidationMetrics metrics) {
+        List<ValidationMetrics.FieldMetrics> fieldMetricsList = metrics.getFieldMetrics();
+        for (int i = 0, nFields = fieldMetricsList.size(); i < nFields; i++) {
+            ValidationMetrics.FieldMetrics fieldMetrics = fieldMetricsList.get(i);
+            List<ValidationMetrics.RuleMetrics> ruleMetricsList = fieldMetrics.getRuleMetrics();
+
+            long evaluationCount = 0;
+            long failureCount = 0;
+            long dataNanos = 0;
+            for (int j = 0, nRules = ruleMetricsList.size(); j < nRules; j++) {
+                ValidationMetrics.RuleMetrics ruleMetrics = ruleMetricsList.get(j);
+                getCounters(mRuleCounters, ruleMetrics.getRule().getClass()).add(
+                        ruleMetrics.getEvaluationCount(), ruleMetrics.getFailureCount(),
+                        ruleMetrics.getNanos(), ruleMetrics.getDataNanos());
+                evaluationCount += ruleMetrics.getEvaluationCount();
+                failureCount += ruleMetrics.getFailureCount();
+                dataNanos += ruleMetrics.getDataNanos();
+            }
+
+            getCounters(mFieldCounters, fieldMetrics.getField()).add(
+                    evaluationCount, failureCount, fieldMetrics.getNanos(), dataNanos);
+        }
+    }
+
+    /**
+     * Gets the {@link Rule} types seen so far.
+     *
+     * @return An unmodifiable {@link Set} of {@link Rule} classes.
+     */
+    public Set<Class<?>> getRuleTypes() {
+        return Collections.unmodifiableSet(mRuleCounters.keySet());
+    }
+
+    /**
+     * Gets the fields seen so far.
+     *
+     * @return An unmodifiable {@link Set} of fields.
+     */
+    public Set<Field> getFields() {
+        return Collections.unmodifiableSet(mFieldCounters.keySet());
+    }
+
+    /**
+     * Gets the totals of a {@link Rule} type.
+     *
+     * @param ruleType  A {@link Rule} class.
+     *
+     * @return The totals, all zero if the type hasn't been seen.
+     */
+    public Totals getTotals(final Class<?> ruleType) {
+        return Totals.of(mRuleCounters.get(ruleType));
+    }
+
+    /**
+     * Gets the totals of a field, over all {@link Rule}s on it. The time includes the
+     * overhead of validating the field on top of the time taken by its {@link Rule}s.
+     *
+     * @param field  A field of a controller.
+     *
+     * @return The totals, all zero if the field hasn't been seen.
+     */
+    public Totals getTotals(final Field field) {
+        return Totals.of(mFieldCounters.get(field));
+    }
+
+    /**
+     * Discards all totals.
+     */
+    public void clear() {
+        mRuleCounters.clear();
+        mFieldCounters.clear();
+    }
+
+    /**
+     * Lists the {@link Rule} types and the fields, slowest first.
+     *
+     * @return A multi-line report.
+     */
+    @Override
+    public String toString() {
+        StringBuilder report = new StringBuilder("ValidationStatistics\n");
+        appendTotals(report, mRuleCounters);
+        appendTotals(report, mFieldCounters);
+        return report.toString();
+    }
+
+    private static <K> Counters getCounters(final ConcurrentMap<K, Counters> countersMap,
+            final K key) {
+        Counters counters = countersMap.get(key);
+        if (counters == null) {
+            Counters newCounters = new Counters();
+            counters = countersMap.putIfAbsent(key, newCounters);
+            if (counters == null) {
+                counters = newCounters;
+            }
+        }
+        return counters;
+    }
+
+    private static void appendTotals(final StringBuilder report,
+            final Map<?, Counters> countersMap) {
+        List<Row> rows = new ArrayList<Row>(countersMap.size());
+        for (Map.Entry<?, Counters> entry : countersMap.entrySet()) {
+            rows.add(new Row(entry.getKey(), Totals.of(entry.getValue())));
+        }
+        Collections.sort(rows);
+
+        for (int i = 0, n = rows.size(); i < n; i++) {
+            Row row = rows.get(i);
+            report.append("  ").append(row.mName).append(": ").append(row.mTotals).append('\n');
+        }
+    }
+
+    /**
+     * Totals of a {@link Rule} type or a field.
+     *
+     * @since 2.1.0
+     */
+    public static final class Totals {
+        private final long mEvaluationCount;
+        private final long mFailureCount;
+        private final long mNanos;
+        private final long mDataNanos;
+
+        Totals(final long evaluationCount, final long failureCount, final long nanos,
+                final long dataNanos) {
+            mEvaluationCount = evaluationCount;
+            mFailureCount = failureCount;
+            mNanos = nanos;
+            mDataNanos = dataNanos;
+        }
+
+        static Totals of(final Counters counters) {
+            return counters != null
+                    ? new Totals(counters.sum(Counters.EVALUATIONS),
+                            counters.sum(Counters.FAILURES), counters.sum(Counters.NANOS),
+                            counters.sum(Counters.DATA_NANOS))
+                    : new Totals(0, 0, 0, 0);
+        }
+
+        public long getEvaluationCount() {
+            return mEvaluationCount;
+        }
+
+        public long getFailureCount() {
+            return mFailureCount;
+        }
+
+        /**
+         * Gets the total time, including {@link #getDataNanos()}.
+         *
+         * @return The time in nanoseconds.
+         */
+        public long getNanos() {
+            return mNanos;
+        }
+
+        public long getDataNanos() {
+            return mDataNanos;
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public String toString() {
+            long averageNanos = mEvaluationCount != 0 ? mNanos / mEvaluationCount : 0;
+            return mEvaluationCount + " evaluations, " + mFailureCount + " failures, "
+                    + mNanos + " ns (" + mDataNanos + " ns reading data), "
+                    + averageNanos + " ns per evaluation";
+        }
+    }
+
+    // Each thread adds to one stripe, each stripe is a cache line wide
+    static final class Counters {
+        static final int EVALUATIONS = 0;
+        static final int FAILURES = 1;
+        static final int NANOS = 2;
+        static final int DATA_NANOS = 3;
+
+        private static final int STRIPE_WIDTH = 8;
+        private static final int STRIPE_COUNT = getStripeCount();
+
+        private final AtomicLongArray mCells = new AtomicLongArray(STRIPE_COUNT * STRIPE_WIDTH);
+
+        void add(final long evaluationCount, final long failureCount, final long nanos,
+                final long dataNanos) {
+            int base = ((int) Thread.currentThread().getId() & (STRIPE_COUNT - 1)) * STRIPE_WIDTH;
+            mCells.addAndGet(base + EVALUATIONS, evaluationCount);
+            mCells.addAndGet(base + FAILURES, failureCount);
+            mCells.addAndGet(base + NANOS, nanos);
+            mCells.addAndGet(base + DATA_NANOS, dataNanos);
+        }
+
+        long sum(final int counter) {
+            long sum = 0;
+            for (int stripe = 0; stripe < STRIPE_COUNT; stripe++) {
+                sum += mCells.get(stripe * STRIPE_WIDTH + counter);
+            }
+            return sum;
+        }
+
+        // A power of two, at least the number of processors and at most 64
+        private static int getStripeCount() {
+            int processors = Math.min(Runtime.getRuntime().availableProcessors(), 64);
+            int stripeCount = 1;
+            while (stripeCount < processors) {
+                stripeCount <<= 1;
+            }
+            return stripeCount;
+        }
+    }
+
+    private static final class Row implements Comparable<Row> {
+        private final String mName;
+        private final Totals mTotals;
+
+        Row(final Object key, final Totals totals) {
+            if (key instanceof Field) {
+                Field field = (Field) key;
+                mName = field.getDeclaringClass().getSimpleName() + "." + field.getName();
+            } else {
+                mName = ((Class<?>) key).getSimpleName();
+            }
+            mTotals = totals;
+        }
+
+        // Slowest first
+        @Override
+        public int compareTo(final Row other) {
+            long nanos = mTotals.getNanos();
+            long otherNanos = other.mTotals.getNanos();
+            return nanos > otherNanos ? -1 : (nanos == otherNanos ? 0 : 1);
+        }
+    }
+}
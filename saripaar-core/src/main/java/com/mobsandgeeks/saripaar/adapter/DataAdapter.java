@@ -0,0 +1,57 @@
+/*
+ * Copyright (C) 2014 Mobs & Geeks
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file
+ * except in compliance with the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the
+ * License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied. See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.mobsandgeeks.saripaar.adapter;
+
+import com.mobsandgeeks.saripaar.exception.ConversionException;
+
+import java.lang.annotation.Annotation;
+
+/**
+ * {@link DataAdapter}s extract the data that a rule validates from the value of an annotated
+ * field, for instance the text of a view. Fields without an adapter are validated as they are.
+ * On Android, {@link com.mobsandgeeks.saripaar.adapter.ViewDataAdapter}s are the adapters for
+ * views.
+ *
+ * @param <SOURCE>  The type of the field value from which the data is extracted.
+ * @param <DATA>  The data type that the rule validates.
+ *
+ * @since 2.1.0
+ */
+public interface DataAdapter<SOURCE, DATA> {
+
+    /**
+     * Extract and return the appropriate data from the value of a field.
+     *
+     * @param source  The field value that contains the data that we are interested in.
+     *
+     * @return The interested data.
+     *
+     * @throws ConversionException If the adapter is unable to convert the data to the expected
+     *      data type.
+     */
+    DATA getData(SOURCE source) throws ConversionException;
+
+    /**
+     * Used to check if the field value contains an optional value. This method is used
+     * to cater the {@link com.mobsandgeeks.saripaar.annotation.Optional} annotation.
+     *
+     * @param source  The field value that is being validated.
+     * @param ruleAnnotation  The rule annotation used to validate the field.
+     * @param <T>  The rule annotation type.
+     *
+     * @return  {@code true} if the value represents an optional value, {@code false} otherwise.
+     */
+    <T extends Annotation> boolean containsOptionalValue(SOURCE source, T ruleAnnotation);
+}
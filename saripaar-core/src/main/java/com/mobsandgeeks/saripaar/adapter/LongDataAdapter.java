@@ -0,0 +1,43 @@
+/*
+ * Copyright (C) 2014 Mobs & Geeks
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file
+ * except in compliance with the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the
+ * License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied. See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.mobsandgeeks.saripaar.adapter;
+
+import com.mobsandgeeks.saripaar.exception.ConversionException;
+
+/**
+ * A {@link DataAdapter} that can also return its data as a {@code long}. The
+ * {@link com.mobsandgeeks.saripaar.ModelValidator} uses {@link #getLong(Object)} instead of
+ * {@link #getData(Object)} for rules that implement {@link com.mobsandgeeks.saripaar.LongRule},
+ * so the value is never boxed.
+ *
+ * @param <SOURCE>  The type of the field value from which the data is extracted.
+ *
+ * @since 2.1.0
+ */
+public interface LongDataAdapter<SOURCE> extends DataAdapter<SOURCE, Long> {
+
+    /**
+     * Extract and return the data from the value of a field, the same value that
+     * {@link #getData(Object)} returns.
+     *
+     * @param source  The field value that contains the data.
+     *
+     * @return The data.
+     *
+     * @throws ConversionException If the adapter is unable to convert the data to
+     *      a {@code long}.
+     */
+    long getLong(SOURCE source) throws ConversionException;
+}
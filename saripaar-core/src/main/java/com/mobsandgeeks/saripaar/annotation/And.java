@@ -11,23 +11,21 @@
  * either express or implied. See the License for the specific language governing permissions and
  * limitations under the License.
  */
-
 package com.mobsandgeeks.saripaar.annotation;
 
-import android.support.annotation.StringRes;
-
-import java.lang.annotation.ElementType;
+import java.lang.annotation.Annotation;
 import java.lang.annotation.Retention;
 import java.lang.annotation.RetentionPolicy;
 import java.lang.annotation.Target;
 
 /**
- * @author Ragunath Jawahar {@literal <rj@mobsandgeeks.com>}
+ * A group of rule annotations that must all be valid, used as one of the alternatives of an
+ * {@link Or} annotation.
+ *
  * @since 2.1.0
  */
 @Retention(RetentionPolicy.RUNTIME)
-@Target(ElementType.FIELD)
-public @interface Or {
-    @StringRes int messageResId()   default -1;
-    String message()                default "One of the rules must be valid";
+@Target({})
+public @interface And {
+    Class<? extends Annotation>[] value();
 }
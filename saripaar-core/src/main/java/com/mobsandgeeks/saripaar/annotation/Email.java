@@ -32,6 +32,7 @@ import java.lang.annotation.Target;
 @Target(ElementType.FIELD)
 public @interface Email {
     boolean allowLocal()            default false;
+    int cacheSize()                 default 0;
 
     @StringRes int messageResId()   default -1;
     String message()                default "Invalid email";
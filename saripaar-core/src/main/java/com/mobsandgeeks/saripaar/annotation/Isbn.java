@@ -31,6 +31,8 @@ import java.lang.annotation.Target;
 @Retention(RetentionPolicy.RUNTIME)
 @Target(ElementType.FIELD)
 public @interface Isbn {
+    int cacheSize()                 default 0;
+
     @StringRes int messageResId()   default -1;
     String message()                default "Invalid ISBN";
     int sequence()                  default -1;
@@ -0,0 +1,42 @@
+/*
+ * Copyright (C) 2015 Mobs & Geeks
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file
+ * except in compliance with the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the
+ * License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied. See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.mobsandgeeks.saripaar.annotation;
+
+import android.support.annotation.StringRes;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Makes a field valid if any of its rules is valid. Rules are evaluated from the cheapest to the
+ * most expensive, and evaluation stops at the first valid rule.
+ * <p>
+ * Alternatives that need more than one rule are listed as {@link And} groups, for instance
+ * {@code @Or({@And(Email.class), @And({Digits.class, Length.class})})} accepts an email address
+ * or a number of the given length. When groups are listed, rules that aren't in any group must
+ * be valid as well.
+ *
+ * @author Ragunath Jawahar {@literal <rj@mobsandgeeks.com>}
+ * @since 2.1.0
+ */
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.FIELD)
+public @interface Or {
+    And[] value()                   default {};
+    @StringRes int messageResId()   default -1;
+    String message()                default "One of the rules must be valid";
+}
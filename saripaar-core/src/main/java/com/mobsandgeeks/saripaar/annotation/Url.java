@@ -33,6 +33,7 @@ import java.lang.annotation.Target;
 public @interface Url {
     String[] schemes()              default { "http", "https", "ftp" };
     boolean allowFragments()        default true;
+    int cacheSize()                 default 0;
 
     @StringRes int messageResId()   default -1;
     String message()                default "Invalid URL";
@@ -15,8 +15,8 @@
 package com.mobsandgeeks.saripaar.exception;
 
 /**
- * Thrown by {@link com.mobsandgeeks.saripaar.adapter.ViewDataAdapter}s when an adapter is unable
- * to convert the data retrieved from a {@link android.view.View} into the desired type.
+ * Thrown by {@link com.mobsandgeeks.saripaar.adapter.DataAdapter}s when an adapter is unable
+ * to convert the data retrieved from a field, like a view, into the desired type.
  *
  * @author Ragunath Jawahar {@literal <rj@mobsandgeeks.com>}
  * @since 2.0
@@ -15,13 +15,14 @@
 package com.mobsandgeeks.saripaar.rule;
 
 import com.mobsandgeeks.saripaar.AnnotationRule;
+import com.mobsandgeeks.saripaar.BooleanRule;
 import com.mobsandgeeks.saripaar.annotation.AssertFalse;
 
 /**
  * @author Ragunath Jawahar {@literal <rj@mobsandgeeks.com>}
  * @since 2.0
  */
-public class AssertFalseRule extends AnnotationRule<AssertFalse, Boolean> {
+public class AssertFalseRule extends AnnotationRule<AssertFalse, Boolean> implements BooleanRule {
 
     protected AssertFalseRule(final AssertFalse assertFalse) {
         super(assertFalse);
@@ -32,6 +33,11 @@ public class AssertFalseRule extends AnnotationRule<AssertFalse, Boolean> {
         if (value == null) {
             throw new IllegalArgumentException("'data' cannot be null.");
         }
+        return isValidBoolean(value);
+    }
+
+    @Override
+    public boolean isValidBoolean(final boolean value) {
         return !value;
     }
 }
@@ -15,13 +15,14 @@
 package com.mobsandgeeks.saripaar.rule;
 
 import com.mobsandgeeks.saripaar.AnnotationRule;
+import com.mobsandgeeks.saripaar.BooleanRule;
 import com.mobsandgeeks.saripaar.annotation.AssertTrue;
 
 /**
  * @author Ragunath Jawahar {@literal <rj@mobsandgeeks.com>}
  * @since 2.0
  */
-public class AssertTrueRule extends AnnotationRule<AssertTrue, Boolean> {
+public class AssertTrueRule extends AnnotationRule<AssertTrue, Boolean> implements BooleanRule {
 
     protected AssertTrueRule(final AssertTrue assertTrue) {
         super(assertTrue);
@@ -32,6 +33,11 @@ public class AssertTrueRule extends AnnotationRule<AssertTrue, Boolean> {
         if (value == null) {
             throw new IllegalArgumentException("'data' cannot be null.");
         }
+        return isValidBoolean(value);
+    }
+
+    @Override
+    public boolean isValidBoolean(final boolean value) {
         return value;
     }
 }
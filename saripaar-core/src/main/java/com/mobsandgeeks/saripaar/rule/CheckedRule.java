@@ -15,16 +15,20 @@
 package com.mobsandgeeks.saripaar.rule;
 
 import com.mobsandgeeks.saripaar.AnnotationRule;
+import com.mobsandgeeks.saripaar.BooleanRule;
 import com.mobsandgeeks.saripaar.annotation.Checked;
 
 /**
  * @author Ragunath Jawahar {@literal <rj@mobsandgeeks.com>}
  * @since 2.0
  */
-public class CheckedRule extends AnnotationRule<Checked, Boolean> {
+public class CheckedRule extends AnnotationRule<Checked, Boolean> implements BooleanRule {
+
+    private final boolean mChecked;
 
     protected CheckedRule(final Checked checked) {
         super(checked);
+        mChecked = checked.value();
     }
 
     @Override
@@ -32,6 +36,11 @@ public class CheckedRule extends AnnotationRule<Checked, Boolean> {
         if (value == null) {
             throw new IllegalArgumentException("'data' cannot be null.");
         }
-        return mRuleAnnotation.value() == value;
+        return isValidBoolean(value);
+    }
+
+    @Override
+    public boolean isValidBoolean(final boolean value) {
+        return mChecked == value;
     }
 }
@@ -0,0 +1,189 @@
+/*
+ * Copyright (C) 2014 Mobs & Geeks
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file
+ * except in compliance with the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the
+ * License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied. See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.mobsandgeeks.saripaar.rule;
+
+import com.mobsandgeeks.saripaar.AnnotationRule;
+import com.mobsandgeeks.saripaar.annotation.CreditCard;
+
+import commons.validator.routines.CreditCardValidator;
+
+/**
+ * Validates card numbers in a single pass that skips whitespace, identifies the card type from
+ * the issuer identification number (IIN) prefix, checks the length and computes the Luhn
+ * checksum. Accepts the same numbers as a {@link CreditCardValidator} configured with the
+ * annotation's card types.
+ *
+ * @author Ragunath Jawahar {@literal <rj@mobsandgeeks.com>}
+ * @since 2.0
+ */
+public class CreditCardRule extends AnnotationRule<CreditCard, String> {
+
+    // IIN prefixes and lengths of the supported card types, none of the prefixes overlap
+    private static final IinRange[] IIN_RANGES = {
+        new IinRange(CreditCard.Type.VISA,          4,      4,      13, 16),
+        new IinRange(CreditCard.Type.AMEX,          34,     34,     15, 15),
+        new IinRange(CreditCard.Type.AMEX,          37,     37,     15, 15),
+        new IinRange(CreditCard.Type.MASTERCARD,    51,     55,     16, 16),
+        new IinRange(CreditCard.Type.DISCOVER,      6011,   6011,   16, 16),
+        new IinRange(CreditCard.Type.DISCOVER,      644,    649,    16, 16),
+        new IinRange(CreditCard.Type.DISCOVER,      65,     65,     16, 16),
+        new IinRange(CreditCard.Type.DINERS,        300,    305,    14, 14),
+        new IinRange(CreditCard.Type.DINERS,        3095,   3095,   14, 14),
+        new IinRange(CreditCard.Type.DINERS,        36,     36,     14, 14),
+        new IinRange(CreditCard.Type.DINERS,        38,     39,     14, 14)
+    };
+
+    private static final int IIN_DIGITS = 4;
+    private static final int[] POWERS_OF_TEN = { 1, 10, 100, 1000 };
+    private static final int MAX_DIGITS = 19;
+
+    // Luhn value of a digit in a doubled position, i.e. (2 * digit) with 9 subtracted if > 9
+    private static final int[] LUHN_DOUBLED = { 0, 2, 4, 6, 8, 1, 3, 5, 7, 9 };
+
+    private final boolean[] mAllowedTypes;
+
+    protected CreditCardRule(final CreditCard creditCard) {
+        super(creditCard);
+        CreditCard.Type[] types = creditCard.cardTypes();
+        mAllowedTypes = new boolean[CreditCard.Type.values().length];
+
+        boolean noneAllowed = false;
+        for (CreditCard.Type type : types) {
+            noneAllowed |= type == CreditCard.Type.NONE;
+        }
+        if (!noneAllowed) {
+            for (CreditCard.Type type : types) {
+                mAllowedTypes[type.ordinal()] = true;
+            }
+        }
+    }
+
+    @Override
+    public boolean isValid(final String creditCardNumber) {
+        if (creditCardNumber == null) {
+            return false;
+        }
+
+        int nDigits = 0;
+        int iin = 0;
+        int plainEven = 0, plainOdd = 0, doubledEven = 0, doubledOdd = 0;
+
+        for (int i = 0, n = creditCardNumber.length(); i < n; i++) {
+            char c = creditCardNumber.charAt(i);
+            if (isWhitespace(c)) {
+                continue;
+            }
+            if (c < '0' || c > '9' || nDigits == MAX_DIGITS) {
+                return false;
+            }
+
+            // The position of a digit from the right is unknown until the end, so keep sums for
+            // both parities and pick the right pair once the number of digits is known.
+            int digit = c - '0';
+            if ((nDigits & 1) == 0) {
+                plainEven += digit;
+                doubledEven += LUHN_DOUBLED[digit];
+            } else {
+                plainOdd += digit;
+                doubledOdd += LUHN_DOUBLED[digit];
+            }
+            if (nDigits < IIN_DIGITS) {
+                iin = iin * 10 + digit;
+            }
+            nDigits++;
+        }
+
+        IinRange range = findRange(iin, Math.min(nDigits, IIN_DIGITS));
+        if (range == null || !mAllowedTypes[range.type.ordinal()]
+                || (nDigits != range.minLength && nDigits != range.maxLength)) {
+            return false;
+        }
+
+        // The rightmost digit is never doubled
+        boolean lastDigitIsEven = ((nDigits - 1) & 1) == 0;
+        int total = lastDigitIsEven ? plainEven + doubledOdd : plainOdd + doubledEven;
+        return total % 10 == 0;
+    }
+
+    /**
+     * Identifies the card type from the leading digits of a card number, ignoring whitespace.
+     * The number does not have to be complete, so a card entry field can show the type while
+     * the user is typing.
+     *
+     * @param creditCardNumber  A complete or partially entered card number.
+     *
+     * @return The {@link CreditCard.Type}, or {@link CreditCard.Type#NONE} if the leading digits
+     *      don't identify one of the supported types yet.
+     */
+    public static CreditCard.Type getCardType(final CharSequence creditCardNumber) {
+        if (creditCardNumber == null) {
+            return CreditCard.Type.NONE;
+        }
+
+        int nDigits = 0;
+        int iin = 0;
+        for (int i = 0, n = creditCardNumber.length(); i < n && nDigits < IIN_DIGITS; i++) {
+            char c = creditCardNumber.charAt(i);
+            if (isWhitespace(c)) {
+                continue;
+            }
+            if (c < '0' || c > '9') {
+                break;
+            }
+            iin = iin * 10 + (c - '0');
+            nDigits++;
+        }
+
+        IinRange range = findRange(iin, nDigits);
+        return range != null ? range.type : CreditCard.Type.NONE;
+    }
+
+    private static IinRange findRange(final int iin, final int iinDigits) {
+        for (int i = 0, n = IIN_RANGES.length; i < n; i++) {
+            IinRange range = IIN_RANGES[i];
+            if (range.prefixDigits <= iinDigits) {
+                int prefix = iin / POWERS_OF_TEN[iinDigits - range.prefixDigits];
+                if (prefix >= range.low && prefix <= range.high) {
+                    return range;
+                }
+            }
+        }
+        return null;
+    }
+
+    // Same as '\s' in the regex that was used to strip card numbers earlier
+    private static boolean isWhitespace(final char c) {
+        return c == ' ' || c == '\t' || c == '\n' || c == '\u000B' || c == '\f' || c == '\r';
+    }
+
+    private static final class IinRange {
+        final CreditCard.Type type;
+        final int low;
+        final int high;
+        final int prefixDigits;
+        final int minLength;
+        final int maxLength;
+
+        IinRange(final CreditCard.Type type, final int low, final int high,
+                final int minLength, final int maxLength) {
+            this.type = type;
+            this.low = low;
+            this.high = high;
+            this.prefixDigits = String.valueOf(low).length();
+            this.minLength = minLength;
+            this.maxLength = maxLength;
+        }
+    }
+}
@@ -0,0 +1,281 @@
+/*
+ * Copyright (C) 2014 Mobs & Geeks
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file
+ * except in compliance with the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the
+ * License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied. See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.mobsandgeeks.saripaar.rule;
+
+import com.mobsandgeeks.saripaar.DateFormats;
+
+import java.text.ParseException;
+import java.text.SimpleDateFormat;
+import java.util.Date;
+import java.util.GregorianCalendar;
+import java.util.Locale;
+import java.util.TimeZone;
+
+/**
+ * Parses dates for {@link FutureRule} and {@link PastRule}. Instances are immutable and can
+ * be shared across threads.
+ *
+ * Dates that match one of the {@link DateFormats} layouts exactly are parsed by hand without
+ * allocating. Everything else, including lenient input such as out of range fields or missing
+ * leading zeros, goes through a per-thread {@link SimpleDateFormat} so the results stay the
+ * same as before. Like a new {@link SimpleDateFormat}, each parse uses the default time zone
+ * and locale at the time of the call.
+ *
+ * @since 2.1.0
+ */
+final class DateParser {
+
+    /**
+     * Returned by {@link #parse(String)} when a date cannot be parsed.
+     */
+    static final long INVALID = Long.MIN_VALUE;
+
+    private static final int NO_TIME = 0;
+    private static final int TIME_12_HOURS = 1;
+    private static final int TIME_24_HOURS = 2;
+
+    private static final long MILLIS_PER_MINUTE = 60 * 1000L;
+    private static final long MILLIS_PER_HOUR = 60 * MILLIS_PER_MINUTE;
+    private static final long MILLIS_PER_DAY = 24 * MILLIS_PER_HOUR;
+
+    // Offset transitions are treated as ambiguous within this window, no zone shifts by more
+    private static final long TRANSITION_WINDOW_MILLIS = 6 * MILLIS_PER_HOUR;
+
+    // Years before this one may fall before the Gregorian cutover
+    private static final int MIN_FIXED_LAYOUT_YEAR = 1583;
+
+    private final String mPattern;
+    private final ThreadLocal<Formats> mFormats = new ThreadLocal<Formats>();
+
+    // Fixed layout, offsets are -1 if the pattern isn't one of the DateFormats constants
+    private final int mDayOffset;
+    private final int mMonthOffset;
+    private final int mYearOffset;
+    private final int mTimeFormat;
+
+    DateParser(final String pattern) {
+        // Fails fast on an invalid pattern, as before
+        new SimpleDateFormat(pattern);
+        mPattern = pattern;
+
+        String datePattern = pattern.length() >= 10 ? pattern.substring(0, 10) : pattern;
+        String timePattern = pattern.length() >= 10 ? pattern.substring(10) : "";
+
+        if (DateFormats.DMY.equals(datePattern)) {
+            mDayOffset = 0;
+            mMonthOffset = 3;
+            mYearOffset = 6;
+        } else if (DateFormats.YMD.equals(datePattern)) {
+            mDayOffset = 8;
+            mMonthOffset = 5;
+            mYearOffset = 0;
+        } else if (DateFormats.MDY.equals(datePattern)) {
+            mDayOffset = 3;
+            mMonthOffset = 0;
+            mYearOffset = 6;
+        } else {
+            mDayOffset = -1;
+            mMonthOffset = -1;
+            mYearOffset = -1;
+        }
+
+        if ("".equals(timePattern)) {
+            mTimeFormat = NO_TIME;
+        } else if (" hh:mm aa".equals(timePattern)) {
+            mTimeFormat = TIME_12_HOURS;
+        } else if (" kk:mm".equals(timePattern)) {
+            mTimeFormat = TIME_24_HOURS;
+        } else {
+            mTimeFormat = -1;
+        }
+    }
+
+    /**
+     * Parses a date.
+     *
+     * @param dateString  The date to parse.
+     *
+     * @return The date in milliseconds since the epoch, or {@link #INVALID}.
+     */
+    long parse(final String dateString) {
+        Formats formats = getFormats();
+        if (formats.mGregorian && mDayOffset != -1 && mTimeFormat != -1) {
+            long time = parseFixedLayout(dateString, formats);
+            if (time != INVALID) {
+                return time;
+            }
+        }
+
+        try {
+            Date date = formats.mDateFormat.parse(dateString);
+            return date.getTime();
+        } catch (ParseException ignored) {
+            return INVALID;
+        }
+    }
+
+    // Rebuilt when the default time zone or locale changes
+    private Formats getFormats() {
+        TimeZone timeZone = TimeZone.getDefault();
+        Locale locale = Locale.getDefault();
+        Formats formats = mFormats.get();
+        if (formats == null || !formats.mLocale.equals(locale)
+                || !formats.mTimeZone.getID().equals(timeZone.getID())
+                || !formats.mTimeZone.hasSameRules(timeZone)) {
+            formats = new Formats(mPattern, locale, timeZone);
+            mFormats.set(formats);
+        }
+        return formats;
+    }
+
+    private long parseFixedLayout(final String dateString, final Formats formats) {
+        int length = dateString.length();
+        if (length < 10) {
+            return INVALID;
+        }
+
+        // Separators, "dd-MM-yyyy" and "MM-dd-yyyy" or "yyyy-MM-dd"
+        int firstSeparator = mYearOffset == 0 ? 4 : 2;
+        if (dateString.charAt(firstSeparator) != '-'
+                || dateString.charAt(firstSeparator + 3) != '-') {
+            return INVALID;
+        }
+
+        int day = parseDigits(dateString, mDayOffset, 2);
+        int month = parseDigits(dateString, mMonthOffset, 2);
+        int year = parseDigits(dateString, mYearOffset, 4);
+        if (year < MIN_FIXED_LAYOUT_YEAR || month < 1 || month > 12
+                || day < 1 || day > getDaysInMonth(year, month)) {
+            return INVALID;
+        }
+
+        int hour = 0;
+        int minute = 0;
+        if (mTimeFormat == NO_TIME) {
+            if (length != 10) {
+                return INVALID;
+            }
+        } else {
+            if (length < 16 || dateString.charAt(10) != ' ' || dateString.charAt(13) != ':') {
+                return INVALID;
+            }
+            hour = parseDigits(dateString, 11, 2);
+            minute = parseDigits(dateString, 14, 2);
+            if (minute < 0 || minute > 59) {
+                return INVALID;
+            }
+
+            if (mTimeFormat == TIME_24_HOURS) {
+                // 'k' runs from 1 to 24
+                if (length != 16 || hour < 1 || hour > 24) {
+                    return INVALID;
+                }
+                hour = hour % 24;
+            } else {
+                // 'h' runs from 1 to 12
+                if (length < 17 || dateString.charAt(16) != ' ' || hour < 1 || hour > 12) {
+                    return INVALID;
+                }
+                hour = hour % 12;
+                if (matchesToEnd(dateString, 17, formats.mPm)) {
+                    hour += 12;
+                } else if (!matchesToEnd(dateString, 17, formats.mAm)) {
+                    return INVALID;
+                }
+            }
+        }
+
+        long localMillis = getDaysSinceEpoch(year, month, day) * MILLIS_PER_DAY
+                + hour * MILLIS_PER_HOUR + minute * MILLIS_PER_MINUTE;
+
+        // Leave times close to a DST or zone change to SimpleDateFormat
+        TimeZone timeZone = formats.mTimeZone;
+        int offset = timeZone.getOffset(localMillis - timeZone.getRawOffset());
+        long utcMillis = localMillis - offset;
+        if (timeZone.getOffset(utcMillis - TRANSITION_WINDOW_MILLIS) != offset
+                || timeZone.getOffset(utcMillis + TRANSITION_WINDOW_MILLIS) != offset) {
+            return INVALID;
+        }
+
+        return utcMillis;
+    }
+
+    private static int parseDigits(final String string, final int offset, final int count) {
+        int value = 0;
+        for (int i = offset, end = offset + count; i < end; i++) {
+            char c = string.charAt(i);
+            if (c < '0' || c > '9') {
+                return -1;
+            }
+            value = value * 10 + (c - '0');
+        }
+        return value;
+    }
+
+    private static boolean matchesToEnd(final String string, final int offset,
+            final String expected) {
+        return string.length() - offset == expected.length()
+                && string.regionMatches(true, offset, expected, 0, expected.length());
+    }
+
+    private static int getDaysInMonth(final int year, final int month) {
+        switch (month) {
+            case 2:
+                boolean leapYear = (year % 4 == 0 && year % 100 != 0) || year % 400 == 0;
+                return leapYear ? 29 : 28;
+            case 4:
+            case 6:
+            case 9:
+            case 11:
+                return 30;
+            default:
+                return 31;
+        }
+    }
+
+    // Days from 1970-01-01 in the proleptic Gregorian calendar
+    private static long getDaysSinceEpoch(final int year, final int month, final int day) {
+        int y = month <= 2 ? year - 1 : year;
+        int era = y / 400;
+        int yearOfEra = y - era * 400;
+        int dayOfYear = (153 * (month > 2 ? month - 3 : month + 9) + 2) / 5 + day - 1;
+        int dayOfEra = yearOfEra * 365 + yearOfEra / 4 - yearOfEra / 100 + dayOfYear;
+        return era * 146097L + dayOfEra - 719468;
+    }
+
+    // What a new SimpleDateFormat would use for a time zone and locale
+    private static final class Formats {
+        private final Locale mLocale;
+        private final TimeZone mTimeZone;
+        private final SimpleDateFormat mDateFormat;
+        private final String mAm;
+        private final String mPm;
+
+        // Calendars like BuddhistCalendar extend GregorianCalendar but number years differently
+        private final boolean mGregorian;
+
+        Formats(final String pattern, final Locale locale, final TimeZone timeZone) {
+            mLocale = locale;
+            mTimeZone = timeZone;
+            mDateFormat = new SimpleDateFormat(pattern, locale);
+            mDateFormat.setTimeZone(timeZone);
+            mGregorian = mDateFormat.getCalendar().getClass() == GregorianCalendar.class;
+
+            String[] amPmStrings = mDateFormat.getDateFormatSymbols().getAmPmStrings();
+            mAm = amPmStrings[0];
+            mPm = amPmStrings[1];
+        }
+    }
+}
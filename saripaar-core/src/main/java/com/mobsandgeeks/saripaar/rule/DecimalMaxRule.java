@@ -15,6 +15,7 @@
 package com.mobsandgeeks.saripaar.rule;
 
 import com.mobsandgeeks.saripaar.AnnotationRule;
+import com.mobsandgeeks.saripaar.DoubleRule;
 import com.mobsandgeeks.saripaar.annotation.DecimalMax;
 
 import commons.validator.routines.DoubleValidator;
@@ -23,10 +24,13 @@ import commons.validator.routines.DoubleValidator;
  * @author Ragunath Jawahar {@literal <rj@mobsandgeeks.com>}
  * @since 2.0
  */
-public class DecimalMaxRule extends AnnotationRule<DecimalMax, Double> {
+public class DecimalMaxRule extends AnnotationRule<DecimalMax, Double> implements DoubleRule {
+
+    private final double mMaxValue;
 
     protected DecimalMaxRule(final DecimalMax decimalMax) {
         super(decimalMax);
+        mMaxValue = decimalMax.value();
     }
 
     @Override
@@ -34,7 +38,11 @@ public class DecimalMaxRule extends AnnotationRule<DecimalMax, Double> {
         if (value == null) {
             throw new IllegalArgumentException("'Double' cannot be null.");
         }
-        double maxValue = mRuleAnnotation.value();
-        return DoubleValidator.getInstance().maxValue(value, maxValue);
+        return isValidDouble(value);
+    }
+
+    @Override
+    public boolean isValidDouble(final double value) {
+        return DoubleValidator.getInstance().maxValue(value, mMaxValue);
     }
 }
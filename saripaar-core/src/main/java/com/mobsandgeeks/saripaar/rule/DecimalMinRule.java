@@ -15,6 +15,7 @@
 package com.mobsandgeeks.saripaar.rule;
 
 import com.mobsandgeeks.saripaar.AnnotationRule;
+import com.mobsandgeeks.saripaar.DoubleRule;
 import com.mobsandgeeks.saripaar.annotation.DecimalMin;
 
 import commons.validator.routines.DoubleValidator;
@@ -23,10 +24,13 @@ import commons.validator.routines.DoubleValidator;
  * @author Ragunath Jawahar {@literal <rj@mobsandgeeks.com>}
  * @since 2.0
  */
-public class DecimalMinRule extends AnnotationRule<DecimalMin, Double> {
+public class DecimalMinRule extends AnnotationRule<DecimalMin, Double> implements DoubleRule {
+
+    private final double mMinValue;
 
     protected DecimalMinRule(final DecimalMin decimalMin) {
         super(decimalMin);
+        mMinValue = decimalMin.value();
     }
 
     @Override
@@ -34,7 +38,11 @@ public class DecimalMinRule extends AnnotationRule<DecimalMin, Double> {
         if (value == null) {
             throw new IllegalArgumentException("'Double' cannot be null.");
         }
-        double minValue = mRuleAnnotation.value();
-        return DoubleValidator.getInstance().minValue(value, minValue);
+        return isValidDouble(value);
+    }
+
+    @Override
+    public boolean isValidDouble(final double value) {
+        return DoubleValidator.getInstance().minValue(value, mMinValue);
     }
 }
@@ -17,22 +17,26 @@ package com.mobsandgeeks.saripaar.rule;
 import com.mobsandgeeks.saripaar.AnnotationRule;
 import com.mobsandgeeks.saripaar.annotation.Digits;
 
+import java.util.regex.Pattern;
+
+import commons.validator.routines.PatternCache;
+
 /**
  * @author Ragunath Jawahar {@literal <rj@mobsandgeeks.com>}
  * @since 2.0
  */
 public class DigitsRule extends AnnotationRule<Digits, String> {
+    private final Pattern mDigitsPattern;
 
     protected DigitsRule(final Digits digits) {
         super(digits);
+        String digitsRegex = String.format("(\\d{0,%d})(\\.\\d{1,%d})?",
+                digits.integer(), digits.fraction());
+        mDigitsPattern = PatternCache.getInstance().compile(digitsRegex);
     }
 
     @Override
     public boolean isValid(final String digits) {
-        int integer = mRuleAnnotation.integer();
-        int fraction = mRuleAnnotation.fraction();
-
-        String digitsRegex = String.format("(\\d{0,%d})(\\.\\d{1,%d})?", integer, fraction);
-        return digits.matches(digitsRegex);
+        return mDigitsPattern.matcher(digits).matches();
     }
 }
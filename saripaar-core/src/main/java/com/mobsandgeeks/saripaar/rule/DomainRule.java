@@ -18,6 +18,7 @@ import com.mobsandgeeks.saripaar.AnnotationRule;
 import com.mobsandgeeks.saripaar.annotation.Domain;
 
 import commons.validator.routines.DomainValidator;
+import commons.validator.routines.ResultCache;
 
 /**
  * @author Ragunath Jawahar {@literal <rj@mobsandgeeks.com>}
@@ -25,14 +26,17 @@ import commons.validator.routines.DomainValidator;
  */
 public class DomainRule extends AnnotationRule<Domain, String> {
 
+    private final DomainValidator mDomainValidator;
+    private final ResultCache mResultCache;
+
     protected DomainRule(final Domain domain) {
         super(domain);
+        mDomainValidator = DomainValidator.getInstance(domain.allowLocal());
+        mResultCache = domain.cacheSize() > 0 ? new ResultCache(domain.cacheSize()) : null;
     }
 
     @Override
     public boolean isValid(final String domain) {
-        boolean allowLocal = mRuleAnnotation.allowLocal();
-        DomainValidator domainValidator = DomainValidator.getInstance(allowLocal);
-        return domainValidator.isValid(domain);
+        return mDomainValidator.isValid(domain, mResultCache);
     }
 }
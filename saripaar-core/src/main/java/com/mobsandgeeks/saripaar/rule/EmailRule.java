@@ -18,6 +18,7 @@ import com.mobsandgeeks.saripaar.AnnotationRule;
 import com.mobsandgeeks.saripaar.annotation.Email;
 
 import commons.validator.routines.EmailValidator;
+import commons.validator.routines.ResultCache;
 
 /**
  * @author Ragunath Jawahar {@literal <rj@mobsandgeeks.com>}
@@ -25,13 +26,17 @@ import commons.validator.routines.EmailValidator;
  */
 public class EmailRule extends AnnotationRule<Email, String> {
 
+    private final EmailValidator mEmailValidator;
+    private final ResultCache mResultCache;
+
     protected EmailRule(final Email email) {
         super(email);
+        mEmailValidator = EmailValidator.getInstance(email.allowLocal());
+        mResultCache = email.cacheSize() > 0 ? new ResultCache(email.cacheSize()) : null;
     }
 
     @Override
     public boolean isValid(final String email) {
-        boolean allowLocal = mRuleAnnotation.allowLocal();
-        return EmailValidator.getInstance(allowLocal).isValid(email);
+        return mEmailValidator.isValid(email, mResultCache);
     }
 }
@@ -14,44 +14,35 @@
 
 package com.mobsandgeeks.saripaar.rule;
 
-import android.content.Context;
-
 import com.mobsandgeeks.saripaar.ContextualAnnotationRule;
+import com.mobsandgeeks.saripaar.MessageResolver;
 import com.mobsandgeeks.saripaar.ValidationContext;
 import com.mobsandgeeks.saripaar.annotation.Future;
 
-import java.text.DateFormat;
-import java.text.ParseException;
-import java.text.SimpleDateFormat;
-import java.util.Date;
-
 /**
  * @author Ragunath Jawahar {@literal <rj@mobsandgeeks.com>}
  * @since 2.0
  */
 public class FutureRule extends ContextualAnnotationRule<Future, String> {
 
+    private final DateParser mDateParser;
+
     protected FutureRule(final Future future, final ValidationContext validationContext) {
         super(future, validationContext);
+        mDateParser = new DateParser(getDateFormatString());
     }
 
     @Override
     public boolean isValid(final String dateString) {
-        DateFormat dateFormat = getDateFormat();
-        Date parsedDate = null;
-        try {
-            parsedDate = dateFormat.parse(dateString);
-        } catch (ParseException ignored) {}
-
-        Date now = new Date();
-        return parsedDate != null && parsedDate.after(now);
+        long parsedTime = mDateParser.parse(dateString);
+        return parsedTime != DateParser.INVALID
+                && parsedTime > mValidationContext.getCurrentTimeMillis();
     }
 
-    private DateFormat getDateFormat() {
-        Context context = mValidationContext.getContext();
+    private String getDateFormatString() {
+        MessageResolver messageResolver = mValidationContext.getMessageResolver();
         int dateFormatResId = mRuleAnnotation.dateFormatResId();
-        String dateFormatString =  dateFormatResId != -1
-                ? context.getString(dateFormatResId) : mRuleAnnotation.dateFormat();
-        return new SimpleDateFormat(dateFormatString);
+        return dateFormatResId != -1
+                ? messageResolver.getString(dateFormatResId) : mRuleAnnotation.dateFormat();
     }
 }
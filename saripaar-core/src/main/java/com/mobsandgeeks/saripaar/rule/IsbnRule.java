@@ -18,6 +18,7 @@ import com.mobsandgeeks.saripaar.AnnotationRule;
 import com.mobsandgeeks.saripaar.annotation.Isbn;
 
 import commons.validator.routines.ISBNValidator;
+import commons.validator.routines.ResultCache;
 
 /**
  * @author Ragunath Jawahar {@literal <rj@mobsandgeeks.com>}
@@ -25,12 +26,15 @@ import commons.validator.routines.ISBNValidator;
  */
 public class IsbnRule extends AnnotationRule<Isbn, String> {
 
+    private final ResultCache mResultCache;
+
     protected IsbnRule(final Isbn isbn) {
         super(isbn);
+        mResultCache = isbn.cacheSize() > 0 ? new ResultCache(isbn.cacheSize()) : null;
     }
 
     @Override
     public boolean isValid(final String isbn) {
-        return ISBNValidator.getInstance().isValid(isbn);
+        return ISBNValidator.getInstance().isValid(isbn, mResultCache);
     }
 }
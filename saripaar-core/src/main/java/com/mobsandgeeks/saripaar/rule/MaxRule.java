@@ -15,6 +15,7 @@
 package com.mobsandgeeks.saripaar.rule;
 
 import com.mobsandgeeks.saripaar.AnnotationRule;
+import com.mobsandgeeks.saripaar.IntRule;
 import com.mobsandgeeks.saripaar.annotation.Max;
 
 import commons.validator.routines.IntegerValidator;
@@ -23,10 +24,13 @@ import commons.validator.routines.IntegerValidator;
  * @author Ragunath Jawahar {@literal <rj@mobsandgeeks.com>}
  * @since 2.0
  */
-public class MaxRule extends AnnotationRule<Max, Integer> {
+public class MaxRule extends AnnotationRule<Max, Integer> implements IntRule {
+
+    private final int mMaxValue;
 
     protected MaxRule(final Max max) {
         super(max);
+        mMaxValue = max.value();
     }
 
     @Override
@@ -34,7 +38,11 @@ public class MaxRule extends AnnotationRule<Max, Integer> {
         if (value == null) {
             throw new IllegalArgumentException("'Integer' cannot be null.");
         }
-        int maxValue = mRuleAnnotation.value();
-        return IntegerValidator.getInstance().maxValue(value, maxValue);
+        return isValidInt(value);
+    }
+
+    @Override
+    public boolean isValidInt(final int value) {
+        return IntegerValidator.getInstance().maxValue(value, mMaxValue);
     }
 }
@@ -15,6 +15,7 @@
 package com.mobsandgeeks.saripaar.rule;
 
 import com.mobsandgeeks.saripaar.AnnotationRule;
+import com.mobsandgeeks.saripaar.IntRule;
 import com.mobsandgeeks.saripaar.annotation.Min;
 
 import commons.validator.routines.IntegerValidator;
@@ -23,10 +24,13 @@ import commons.validator.routines.IntegerValidator;
  * @author Ragunath Jawahar {@literal <rj@mobsandgeeks.com>}
  * @since 2.0
  */
-public class MinRule extends AnnotationRule<Min, Integer> {
+public class MinRule extends AnnotationRule<Min, Integer> implements IntRule {
+
+    private final int mMinValue;
 
     protected MinRule(final Min min) {
         super(min);
+        mMinValue = min.value();
     }
 
     @Override
@@ -34,7 +38,11 @@ public class MinRule extends AnnotationRule<Min, Integer> {
         if (value == null) {
             throw new IllegalArgumentException("'Integer' cannot be null.");
         }
-        int minValue = mRuleAnnotation.value();
-        return IntegerValidator.getInstance().minValue(value, minValue);
+        return isValidInt(value);
+    }
+
+    @Override
+    public boolean isValidInt(final int value) {
+        return IntegerValidator.getInstance().minValue(value, mMinValue);
     }
 }
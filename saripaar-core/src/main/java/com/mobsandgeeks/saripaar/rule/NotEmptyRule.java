@@ -14,9 +14,8 @@
 
 package com.mobsandgeeks.saripaar.rule;
 
-import android.content.Context;
-
 import com.mobsandgeeks.saripaar.ContextualAnnotationRule;
+import com.mobsandgeeks.saripaar.MessageResolver;
 import com.mobsandgeeks.saripaar.ValidationContext;
 import com.mobsandgeeks.saripaar.annotation.NotEmpty;
 
@@ -36,9 +35,9 @@ public class NotEmptyRule extends ContextualAnnotationRule<NotEmpty, String> {
         if (data != null) {
             String text = mRuleAnnotation.trim() ? data.trim() : data;
 
-            Context context = mValidationContext.getContext();
+            MessageResolver messageResolver = mValidationContext.getMessageResolver();
             String emptyText = mRuleAnnotation.emptyTextResId() != -1
-                    ? context.getString(mRuleAnnotation.emptyTextResId())
+                    ? messageResolver.getString(mRuleAnnotation.emptyTextResId())
                     : mRuleAnnotation.emptyText();
 
             isEmpty = emptyText.equals(text) || "".equals(text);
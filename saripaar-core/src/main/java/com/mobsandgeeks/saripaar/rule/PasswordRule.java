@@ -0,0 +1,167 @@
+/*
+ * Copyright (C) 2014 Mobs & Geeks
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file
+ * except in compliance with the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the
+ * License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied. See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.mobsandgeeks.saripaar.rule;
+
+import com.mobsandgeeks.saripaar.AnnotationRule;
+import com.mobsandgeeks.saripaar.annotation.Password;
+
+/**
+ * @author Ragunath Jawahar {@literal <rj@mobsandgeeks.com>}
+ * @since 2.0
+ */
+public class PasswordRule extends AnnotationRule<Password, String> {
+
+    /**
+     * The highest value returned by {@link #getStrength(String)}.
+     */
+    public static final int MAX_STRENGTH = 6;
+
+    // Character classes recorded by scan(String)
+    private static final int LOWER              = 1;
+    private static final int UPPER              = 1 << 1;
+    private static final int DIGIT              = 1 << 2;
+    private static final int SYMBOL             = 1 << 3;  // [^\w]
+    private static final int UNDERSCORE         = 1 << 4;  // Word character, but not alphanumeric
+    private static final int LINE_TERMINATOR    = 1 << 5;  // Not matched by '.'
+    private static final int LETTER             = 1 << 6;  // Derived, LOWER or UPPER
+
+    private static final int CHARACTER_CLASSES  = LOWER | UPPER | DIGIT | SYMBOL;
+    private static final int WORD               = LOWER | UPPER | DIGIT | UNDERSCORE | LETTER;
+    private static final int ANY                = ~LINE_TERMINATOR;
+
+    // Unicode line terminators, also not matched by '.'
+    private static final char NEXT_LINE             = (char) 0x0085;
+    private static final char LINE_SEPARATOR        = (char) 0x2028;
+    private static final char PARAGRAPH_SEPARATOR   = (char) 0x2029;
+
+    private final int mRequiredClasses;
+    private final int mAllowedClasses;
+
+    protected PasswordRule(final Password password) {
+        super(password);
+
+        /*
+         * Mirrors the lookahead patterns that were used earlier,
+         * http://stackoverflow.com/questions/1559751/
+         * regex-to-make-sure-that-the-string-contains-at-least-one-lower-case-char-upper
+         */
+        switch (password.scheme()) {
+            case ALPHA:
+                mRequiredClasses = 0;
+                mAllowedClasses = WORD;
+                break;
+            case ALPHA_MIXED_CASE:
+                mRequiredClasses = LOWER | UPPER;
+                mAllowedClasses = ANY;
+                break;
+            case NUMERIC:
+                mRequiredClasses = 0;
+                mAllowedClasses = DIGIT;
+                break;
+            case ALPHA_NUMERIC:
+                mRequiredClasses = LETTER | DIGIT;
+                mAllowedClasses = ANY;
+                break;
+            case ALPHA_NUMERIC_MIXED_CASE:
+                mRequiredClasses = LOWER | UPPER | DIGIT;
+                mAllowedClasses = ANY;
+                break;
+            case ALPHA_NUMERIC_SYMBOLS:
+                mRequiredClasses = LETTER | DIGIT | SYMBOL;
+                mAllowedClasses = ANY;
+                break;
+            case ALPHA_NUMERIC_MIXED_CASE_SYMBOLS:
+                mRequiredClasses = LOWER | UPPER | DIGIT | SYMBOL;
+                mAllowedClasses = ANY;
+                break;
+            case ANY:
+            default:
+                mRequiredClasses = 0;
+                mAllowedClasses = ANY;
+                break;
+        }
+    }
+
+    @Override
+    public boolean isValid(final String password) {
+        int length = password.length();
+        if (length == 0 || length < mRuleAnnotation.min()) {
+            return false;
+        }
+
+        int classes = scan(password);
+        return (classes & mRequiredClasses) == mRequiredClasses
+                && (classes & ~mAllowedClasses) == 0;
+    }
+
+    /**
+     * Rates a password on a scale of 0 to {@link #MAX_STRENGTH}. A point is awarded for each
+     * of lower case letters, upper case letters, digits and symbols found in the password and
+     * for lengths of at least 8 and 12 characters. Meant for strength meters that are updated
+     * as the user types, it uses the same single pass over the password as
+     * {@link #isValid(String)}.
+     *
+     * @param password  The password to be rated.
+     *
+     * @return The strength of the password, 0 if the password is {@code null} or empty.
+     */
+    public static int getStrength(final String password) {
+        if (password == null) {
+            return 0;
+        }
+
+        int length = password.length();
+        int strength = Integer.bitCount(scan(password) & CHARACTER_CLASSES);
+        if (length >= 8) {
+            strength++;
+        }
+        if (length >= 12) {
+            strength++;
+        }
+
+        return strength;
+    }
+
+    private static int scan(final String password) {
+        int classes = 0;
+        for (int i = 0, n = password.length(); i < n; i++) {
+            char c = password.charAt(i);
+            if (c >= 'a' && c <= 'z') {
+                classes |= LOWER;
+            } else if (c >= 'A' && c <= 'Z') {
+                classes |= UPPER;
+            } else if (c >= '0' && c <= '9') {
+                classes |= DIGIT;
+            } else if (c == '_') {
+                classes |= UNDERSCORE;
+            } else {
+                classes |= SYMBOL;
+                if (isLineTerminator(c)) {
+                    classes |= LINE_TERMINATOR;
+                }
+            }
+        }
+
+        if ((classes & (LOWER | UPPER)) != 0) {
+            classes |= LETTER;
+        }
+        return classes;
+    }
+
+    private static boolean isLineTerminator(final char c) {
+        return c == '\n' || c == '\r' || c == NEXT_LINE
+                || c == LINE_SEPARATOR || c == PARAGRAPH_SEPARATOR;
+    }
+}
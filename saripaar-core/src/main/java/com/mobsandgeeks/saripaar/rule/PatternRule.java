@@ -25,6 +25,7 @@ import commons.validator.routines.RegexValidator;
  * @since 2.0
  */
 public class PatternRule extends ContextualAnnotationRule<Pattern, String> {
+    private RegexValidator mRegexValidator;
 
     protected PatternRule(final Pattern pattern, final ValidationContext validationContext) {
         super(pattern, validationContext);
@@ -32,10 +33,19 @@ public class PatternRule extends ContextualAnnotationRule<Pattern, String> {
 
     @Override
     public boolean isValid(final String text) {
-        int regexResId = mRuleAnnotation.regexResId();
-        String regex = regexResId != -1
-                ? mValidationContext.getContext().getString(regexResId) : mRuleAnnotation.regex();
-        boolean caseSensitive = mRuleAnnotation.caseSensitive();
-        return new RegexValidator(regex, caseSensitive).isValid(text);
+        return getRegexValidator().isValid(text);
+    }
+
+    // Resolved on first use, the compiled pattern itself comes from the shared PatternCache
+    private RegexValidator getRegexValidator() {
+        if (mRegexValidator == null) {
+            int regexResId = mRuleAnnotation.regexResId();
+            String regex = regexResId != -1
+                    ? mValidationContext.getMessageResolver().getString(regexResId)
+                    : mRuleAnnotation.regex();
+            boolean caseSensitive = mRuleAnnotation.caseSensitive();
+            mRegexValidator = new RegexValidator(regex, caseSensitive);
+        }
+        return mRegexValidator;
     }
 }
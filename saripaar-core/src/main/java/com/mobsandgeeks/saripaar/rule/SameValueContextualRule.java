@@ -14,16 +14,15 @@
 
 package com.mobsandgeeks.saripaar.rule;
 
-import android.view.View;
-
 import com.mobsandgeeks.saripaar.ContextualAnnotationRule;
 import com.mobsandgeeks.saripaar.ValidationContext;
 
 import java.lang.annotation.Annotation;
+import java.util.Collections;
 import java.util.List;
 
 /**
- * A generic class for comparing values across two {@link android.view.View}s.
+ * A generic class for comparing values across two fields, like two views.
  *
  * @see com.mobsandgeeks.saripaar.annotation.ConfirmEmail
  * @see com.mobsandgeeks.saripaar.annotation.ConfirmPassword
@@ -45,24 +44,29 @@ class SameValueContextualRule<CONFIRM extends Annotation, SOURCE extends Annotat
 
     @Override
     public boolean isValid(final DATA_TYPE confirmValue) {
-        List<View> sourceViews = mValidationContext.getAnnotatedViews(mSourceClass);
-        int nSourceViews = sourceViews.size();
+        List<Object> sources = mValidationContext.getAnnotatedObjects(mSourceClass);
+        int nSources = sources.size();
 
-        if (nSourceViews == 0) {
+        if (nSources == 0) {
             String message = String.format(
-                    "You should have a view annotated with '%s' to use '%s'.",
+                    "You should have a field annotated with '%s' to use '%s'.",
                     mSourceClass.getName(), mConfirmClass.getName());
             throw new IllegalStateException(message);
-        } else if (nSourceViews > 1) {
+        } else if (nSources > 1) {
             String message = String.format(
                     "More than 1 field annotated with '%s'.", mSourceClass.getName());
             throw new IllegalStateException(message);
         }
 
         // There's only one, then we're good to go :)
-        View view = sourceViews.get(0);
-        Object sourceValue = mValidationContext.getData(view, mSourceClass);
+        Object source = sources.get(0);
+        Object sourceValue = mValidationContext.getData(source, mSourceClass);
 
         return confirmValue.equals(sourceValue);
     }
+
+    @Override
+    public List<Class<? extends Annotation>> getSourceAnnotations() {
+        return Collections.<Class<? extends Annotation>>singletonList(mSourceClass);
+    }
 }
@@ -15,16 +15,20 @@
 package com.mobsandgeeks.saripaar.rule;
 
 import com.mobsandgeeks.saripaar.AnnotationRule;
+import com.mobsandgeeks.saripaar.IntRule;
 import com.mobsandgeeks.saripaar.annotation.Select;
 
 /**
  * @author Ragunath Jawahar {@literal <rj@mobsandgeeks.com>}
  * @since 2.0
  */
-public class SelectRule extends AnnotationRule<Select, Integer> {
+public class SelectRule extends AnnotationRule<Select, Integer> implements IntRule {
+
+    private final int mDefaultSelection;
 
     protected SelectRule(final Select select) {
         super(select);
+        mDefaultSelection = select.defaultSelection();
     }
 
     @Override
@@ -32,6 +36,11 @@ public class SelectRule extends AnnotationRule<Select, Integer> {
         if (index == null) {
             throw new IllegalArgumentException("'index' cannot be null.");
         }
-        return mRuleAnnotation.defaultSelection() != index;
+        return isValidInt(index);
+    }
+
+    @Override
+    public boolean isValidInt(final int index) {
+        return mDefaultSelection != index;
     }
 }
@@ -17,6 +17,7 @@ package com.mobsandgeeks.saripaar.rule;
 import com.mobsandgeeks.saripaar.AnnotationRule;
 import com.mobsandgeeks.saripaar.annotation.Url;
 
+import commons.validator.routines.ResultCache;
 import commons.validator.routines.UrlValidator;
 
 /**
@@ -25,19 +26,23 @@ import commons.validator.routines.UrlValidator;
  */
 public class UrlRule extends AnnotationRule<Url, String> {
 
+    private final UrlValidator mUrlValidator;
+    private final ResultCache mResultCache;
+
     protected UrlRule(final Url url) {
         super(url);
-    }
 
-    @Override
-    public boolean isValid(final String url) {
-        String[] schemes = mRuleAnnotation.schemes();
-        long options = mRuleAnnotation.allowFragments()
+        String[] schemes = url.schemes();
+        long options = url.allowFragments()
                 ? 0 : UrlValidator.NO_FRAGMENTS;
 
-        UrlValidator urlValidator = schemes != null && schemes.length > 0
-                ? new UrlValidator(schemes, options) : UrlValidator.getInstance();
+        mUrlValidator = schemes != null && schemes.length > 0
+                ? new UrlValidator(schemes, options) : new UrlValidator(options);
+        mResultCache = url.cacheSize() > 0 ? new ResultCache(url.cacheSize()) : null;
+    }
 
-        return urlValidator.isValid(url);
+    @Override
+    public boolean isValid(final String url) {
+        return mUrlValidator.isValid(url, mResultCache);
     }
 }
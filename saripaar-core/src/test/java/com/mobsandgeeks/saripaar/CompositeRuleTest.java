@@ -0,0 +1,146 @@
+/*
+ * Copyright (C) 2014 Mobs & Geeks
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file
+ * except in compliance with the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the
+ * License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied. See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.mobsandgeeks.saripaar;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import com.mobsandgeeks.saripaar.adapter.DataAdapter;
+import com.mobsandgeeks.saripaar.annotation.And;
+import com.mobsandgeeks.saripaar.annotation.Digits;
+import com.mobsandgeeks.saripaar.annotation.Email;
+import com.mobsandgeeks.saripaar.annotation.Length;
+import com.mobsandgeeks.saripaar.annotation.Or;
+import com.mobsandgeeks.saripaar.exception.ConversionException;
+
+import org.junit.Test;
+
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Field;
+import java.util.List;
+
+/**
+ * Re-checks the {@link CompositeRule}s that {@link ValidationError}s report, on plain values
+ * and on values that are read through a {@link DataAdapter}.
+ */
+public class CompositeRuleTest {
+
+    static class Contact {
+        @Or
+        @Email
+        @Digits(integer = 10)
+        String contact = "abc";
+
+        @Or({@And(Email.class), @And({Length.class, Digits.class})})
+        @Email
+        @Length(min = 5)
+        @Digits(integer = 10)
+        String grouped = "1234";
+    }
+
+    // Stands in for a view, its text is read by BoxAdapter
+    static class Box {
+        final String text;
+
+        Box(final String text) {
+            this.text = text;
+        }
+    }
+
+    static class BoxAdapter implements DataAdapter<Box, String> {
+
+        @Override
+        public String getData(final Box box) throws ConversionException {
+            if (box.text == null) {
+                throw new ConversionException("The box is empty.");
+            }
+            return box.text;
+        }
+
+        @Override
+        public <T extends Annotation> boolean containsOptionalValue(final Box box,
+                final T ruleAnnotation) {
+            return false;
+        }
+    }
+
+    static class BoxedContact {
+        @Or
+        @Email
+        @Digits(integer = 10)
+        Box contact = new Box("abc");
+    }
+
+    @Test
+    public void anyMemberIsValid() {
+        CompositeRule rule = getFailedCompositeRule(new ModelValidator(new Contact()), "contact");
+
+        assertTrue(rule.isAnyMember());
+        assertFalse(rule.isValid("abc"));
+        assertTrue(rule.isValid("ada@example.com"));
+        assertTrue(rule.isValid("12345"));
+    }
+
+    @Test
+    public void allMembersOfAGroupAreValid() {
+        CompositeRule rule = getFailedCompositeRule(new ModelValidator(new Contact()), "grouped");
+
+        assertFalse(rule.isValid("1234"));
+        assertFalse(rule.isValid("abcdef"));
+        assertTrue(rule.isValid("12345"));
+        assertTrue(rule.isValid("ada@example.com"));
+    }
+
+    @Test
+    public void membersReadTheValueThroughTheirAdapters() {
+        ModelValidator validator = new ModelValidator(new BoxedContact()) {
+            @Override
+            DataAdapter getDataAdapter(final Annotation ruleAnnotation, final Field field) {
+                return Box.class.equals(field.getType()) ? new BoxAdapter() : null;
+            }
+        };
+        CompositeRule rule = getFailedCompositeRule(validator, "contact");
+
+        assertFalse(rule.isValid(new Box("abc")));
+        assertTrue(rule.isValid(new Box("ada@example.com")));
+        assertTrue(rule.isValid(new Box("12345")));
+        assertFalse(rule.isValid(new Box(null)));
+    }
+
+    private static CompositeRule getFailedCompositeRule(final ModelValidator validator,
+            final String fieldName) {
+        final ValidationError[] failed = new ValidationError[1];
+        validator.setValidationListener(new ModelValidator.ValidationListener() {
+            @Override
+            public void onValidationSucceeded() {
+            }
+
+            @Override
+            public void onValidationFailed(final List<ValidationError> errors) {
+                for (ValidationError error : errors) {
+                    if (fieldName.equals(((Field) error.getObject()).getName())) {
+                        failed[0] = error;
+                    }
+                }
+            }
+        });
+        validator.validate();
+
+        List<Rule> failedRules = failed[0].getFailedRules();
+        assertEquals(1, failedRules.size());
+        return (CompositeRule) failedRules.get(0);
+    }
+}
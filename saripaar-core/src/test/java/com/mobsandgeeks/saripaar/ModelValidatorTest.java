@@ -0,0 +1,206 @@
+/*
+ * Copyright (C) 2014 Mobs & Geeks
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file
+ * except in compliance with the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the
+ * License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied. See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.mobsandgeeks.saripaar;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import com.mobsandgeeks.saripaar.annotation.Email;
+import com.mobsandgeeks.saripaar.annotation.Min;
+import com.mobsandgeeks.saripaar.annotation.NotEmpty;
+import com.mobsandgeeks.saripaar.annotation.Optional;
+
+import org.junit.Test;
+
+import java.lang.reflect.Field;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executor;
+
+/**
+ * Validates a plain model with the {@link ModelValidator}, the way a JVM backend would.
+ */
+public class ModelValidatorTest {
+
+    private static final int NAME_RES_ID = 0x7f0a0001;
+
+    private static final Executor DIRECT_EXECUTOR = new Executor() {
+        @Override
+        public void execute(final Runnable runnable) {
+            runnable.run();
+        }
+    };
+
+    static class SignUp {
+        @NotEmpty(messageResId = NAME_RES_ID)
+        String name;
+
+        @Email
+        String email;
+
+        @Optional
+        @Email
+        String backupEmail;
+
+        @Min(18)
+        int age;
+
+        SignUp(final String name, final String email, final int age) {
+            this.name = name;
+            this.email = email;
+            this.age = age;
+        }
+    }
+
+    static class RecordingListener implements ModelValidator.ValidationListener {
+        int successes;
+        List<ValidationError> errors;
+
+        @Override
+        public void onValidationSucceeded() {
+            successes++;
+        }
+
+        @Override
+        public void onValidationFailed(final List<ValidationError> errors) {
+            this.errors = errors;
+        }
+    }
+
+    @Test
+    public void validModelSucceeds() {
+        ModelValidator validator = new ModelValidator(new SignUp("Ada", "ada@example.com", 36));
+        RecordingListener listener = new RecordingListener();
+        validator.setValidationListener(listener);
+
+        assertTrue(validator.isValid());
+        validator.validate();
+
+        assertEquals(1, listener.successes);
+        assertNull(listener.errors);
+    }
+
+    @Test
+    public void invalidFieldsAreReportedInDeclaredOrder() {
+        ModelValidator validator = new ModelValidator(new SignUp("Ada", "ada@", 17));
+        RecordingListener listener = new RecordingListener();
+        validator.setValidationListener(listener);
+
+        assertFalse(validator.isValid());
+        validator.validate();
+
+        assertEquals(0, listener.successes);
+        assertEquals(2, listener.errors.size());
+        assertEquals("email", getFieldName(listener.errors.get(0)));
+        assertEquals("age", getFieldName(listener.errors.get(1)));
+        assertEquals("Should be greater than min value",
+                listener.errors.get(1).getCollatedErrorMessage(MessageResolver.NONE));
+    }
+
+    @Test
+    public void optionalFieldsMayBeEmpty() {
+        SignUp signUp = new SignUp("Ada", "ada@example.com", 36);
+        ModelValidator validator = new ModelValidator(signUp);
+
+        signUp.backupEmail = "";
+        assertTrue(validator.isValid());
+
+        signUp.backupEmail = "ada@";
+        assertFalse(validator.isValid());
+    }
+
+    @Test
+    public void messagesAreResolvedByTheMessageResolver() {
+        final List<Integer> resIds = new ArrayList<Integer>();
+        MessageResolver messageResolver = new MessageResolver() {
+            @Override
+            public String getString(final int resId) {
+                resIds.add(resId);
+                return "Name is required";
+            }
+        };
+        ModelValidator validator = new ModelValidator(messageResolver,
+                new SignUp("", "ada@example.com", 36));
+        RecordingListener listener = new RecordingListener();
+        validator.setValidationListener(listener);
+
+        validator.validate();
+
+        assertEquals(1, listener.errors.size());
+        assertEquals("Name is required",
+                listener.errors.get(0).getCollatedErrorMessage(messageResolver));
+        assertEquals(1, resIds.size());
+        assertEquals(NAME_RES_ID, resIds.get(0).intValue());
+    }
+
+    @Test
+    public void asyncValidationRunsOnTheExecutors() {
+        final List<String> calls = new ArrayList<String>();
+        ModelValidator validator = new ModelValidator(new SignUp("Ada", "ada@", 36));
+        RecordingListener listener = new RecordingListener();
+        validator.setValidationListener(listener);
+        validator.setAsyncExecutor(new Executor() {
+            @Override
+            public void execute(final Runnable runnable) {
+                calls.add("async");
+                runnable.run();
+            }
+        });
+        validator.setCallbackExecutor(new Executor() {
+            @Override
+            public void execute(final Runnable runnable) {
+                calls.add("callback");
+                runnable.run();
+            }
+        });
+
+        validator.validate(true);
+
+        assertEquals("async", calls.get(0));
+        assertEquals("callback", calls.get(calls.size() - 1));
+        assertEquals(1, listener.errors.size());
+        assertEquals("email", getFieldName(listener.errors.get(0)));
+        assertFalse(validator.isValidating());
+    }
+
+    @Test
+    public void cancelledAsyncValidationIsNotReported() {
+        final List<Runnable> pending = new ArrayList<Runnable>();
+        ModelValidator validator = new ModelValidator(new SignUp("Ada", "ada@", 36));
+        RecordingListener listener = new RecordingListener();
+        validator.setValidationListener(listener);
+        validator.setCallbackExecutor(DIRECT_EXECUTOR);
+        validator.setAsyncExecutor(new Executor() {
+            @Override
+            public void execute(final Runnable runnable) {
+                pending.add(runnable);
+            }
+        });
+
+        validator.validate(true);
+        assertTrue(validator.isValidating());
+        assertTrue(validator.cancelAsync());
+        pending.get(0).run();
+
+        assertFalse(validator.isValidating());
+        assertNull(listener.errors);
+    }
+
+    private static String getFieldName(final ValidationError error) {
+        return ((Field) error.getObject()).getName();
+    }
+}
@@ -0,0 +1,164 @@
+/*
+ * Copyright (C) 2014 Mobs & Geeks
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file
+ * except in compliance with the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the
+ * License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied. See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.mobsandgeeks.saripaar;
+
+import static org.junit.Assert.assertEquals;
+
+import com.mobsandgeeks.saripaar.annotation.Email;
+import com.mobsandgeeks.saripaar.annotation.Length;
+import com.mobsandgeeks.saripaar.annotation.NotEmpty;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Tests the reordering of the {@link Rule}s of a field by a
+ * {@link ModelValidator.RuleOrderingPolicy}, and {@link AdaptiveRuleOrdering}.
+ */
+public class RuleOrderingTest {
+
+    static class Account {
+        // Declared with the expensive rule first
+        @Email
+        @NotEmpty
+        String email = "";
+
+        // Sequenced rules are evaluated in their declared order
+        @Email(sequence = 1)
+        @NotEmpty(sequence = 2)
+        String backupEmail = "";
+    }
+
+    static class Coupon {
+        // Equally cheap, but only @Length fails
+        @NotEmpty
+        @Length(max = 3)
+        String code = "SUMMER";
+    }
+
+    static class RecordingListener implements ModelValidator.ValidationListener {
+        List<ValidationError> errors;
+
+        @Override
+        public void onValidationSucceeded() {
+            errors = new ArrayList<ValidationError>();
+        }
+
+        @Override
+        public void onValidationFailed(final List<ValidationError> errors) {
+            this.errors = errors;
+        }
+    }
+
+    static class RecordingMetricsListener implements ModelValidator.ValidationMetricsListener {
+        ValidationMetrics metrics;
+
+        @Override
+        public void onValidationMetrics(final ValidationMetrics metrics) {
+            this.metrics = metrics;
+        }
+    }
+
+    @Test
+    public void rulesKeepTheirDeclaredOrderWithoutAPolicy() {
+        ModelValidator validator = new ModelValidator(new Account());
+        RecordingListener listener = new RecordingListener();
+        validator.setValidationListener(listener);
+        validator.stopAtFirstFailedRule(true);
+
+        validator.validate();
+
+        assertEquals("EmailRule", getFailedRules(listener.errors.get(0)));
+        assertEquals("EmailRule", getFailedRules(listener.errors.get(1)));
+    }
+
+    @Test
+    public void cheapUnsequencedRulesMoveFirst() {
+        ModelValidator validator = new ModelValidator(new Account());
+        RecordingListener listener = new RecordingListener();
+        validator.setValidationListener(listener);
+        validator.stopAtFirstFailedRule(true);
+        validator.setRuleOrderingPolicy(new AdaptiveRuleOrdering());
+
+        validator.validate();
+
+        assertEquals("NotEmptyRule", getFailedRules(listener.errors.get(0)));
+        assertEquals("EmailRule", getFailedRules(listener.errors.get(1)));
+    }
+
+    @Test
+    public void likelyFailingRulesMoveFirst() {
+        ModelValidator validator = new ModelValidator(new Coupon());
+        RecordingListener listener = new RecordingListener();
+        RecordingMetricsListener metricsListener = new RecordingMetricsListener();
+        validator.setValidationListener(listener);
+        validator.setValidationMetricsListener(metricsListener, 1);
+        validator.stopAtFirstFailedRule(true);
+        validator.setRuleOrderingPolicy(new AdaptiveRuleOrdering(), 1);
+
+        validator.validate();
+        assertEquals("NotEmptyRule LengthRule", getEvaluatedRules(metricsListener.metrics));
+
+        // Enough passes for the failure rates to outweigh the noise in the measured times
+        for (int i = 0; i < 1000; i++) {
+            validator.validate();
+        }
+        assertEquals("LengthRule", getEvaluatedRules(metricsListener.metrics));
+        assertEquals("LengthRule", getFailedRules(listener.errors.get(0)));
+    }
+
+    @Test
+    public void declaredOrderIsRestored() {
+        ModelValidator validator = new ModelValidator(new Account());
+        RecordingListener listener = new RecordingListener();
+        validator.setValidationListener(listener);
+        validator.stopAtFirstFailedRule(true);
+        validator.setRuleOrderingPolicy(new AdaptiveRuleOrdering());
+        validator.validate();
+        assertEquals("NotEmptyRule", getFailedRules(listener.errors.get(0)));
+
+        validator.stopAtFirstFailedRule(false);
+        validator.validate();
+        assertEquals("EmailRule NotEmptyRule", getFailedRules(listener.errors.get(0)));
+        assertEquals("EmailRule NotEmptyRule", getFailedRules(listener.errors.get(1)));
+
+        validator.stopAtFirstFailedRule(true);
+        validator.validate();
+        assertEquals("NotEmptyRule", getFailedRules(listener.errors.get(0)));
+
+        validator.setRuleOrderingPolicy(null);
+        validator.validate();
+        assertEquals("EmailRule", getFailedRules(listener.errors.get(0)));
+    }
+
+    private static String getFailedRules(final ValidationError error) {
+        StringBuilder ruleNames = new StringBuilder();
+        for (Rule rule : error.getFailedRules()) {
+            ruleNames.append(rule.getClass().getSimpleName()).append(" ");
+        }
+        return ruleNames.toString().trim();
+    }
+
+    private static String getEvaluatedRules(final ValidationMetrics metrics) {
+        StringBuilder ruleNames = new StringBuilder();
+        for (ValidationMetrics.RuleMetrics ruleMetrics
+                : metrics.getFieldMetrics().get(0).getRuleMetrics()) {
+            ruleNames.append(ruleMetrics.getRule().getClass().getSimpleName()).append(" ");
+        }
+        return ruleNames.toString().trim();
+    }
+}
@@ -0,0 +1,139 @@
+/*
+ * Copyright (C) 2014 Mobs & Geeks
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file
+ * except in compliance with the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the
+ * License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied. See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.mobsandgeeks.saripaar;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import com.mobsandgeeks.saripaar.annotation.Email;
+import com.mobsandgeeks.saripaar.annotation.NotEmpty;
+import com.mobsandgeeks.saripaar.rule.EmailRule;
+import com.mobsandgeeks.saripaar.rule.NotEmptyRule;
+
+import org.junit.Test;
+
+import java.lang.reflect.Field;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Tests the striped counters of {@link ValidationStatistics}, and the sampling of the passes
+ * that are reported to it.
+ */
+public class ValidationStatisticsTest {
+
+    static class Login {
+        @NotEmpty
+        @Email
+        String email = "ada@";
+    }
+
+    static final ModelValidator.ValidationListener NO_OP_LISTENER =
+            new ModelValidator.ValidationListener() {
+                @Override
+                public void onValidationSucceeded() {
+                }
+
+                @Override
+                public void onValidationFailed(final List<ValidationError> errors) {
+                }
+            };
+
+    @Test
+    public void concurrentAddsAreSummed() throws InterruptedException {
+        final ValidationStatistics.Counters counters = new ValidationStatistics.Counters();
+        final int nThreads = 8;
+        final int nAdds = 10000;
+
+        List<Thread> threads = new ArrayList<Thread>();
+        for (int i = 0; i < nThreads; i++) {
+            Thread thread = new Thread(new Runnable() {
+                @Override
+                public void run() {
+                    for (int j = 0; j < nAdds; j++) {
+                        counters.add(2, 1, 30, 10);
+                    }
+                }
+            });
+            threads.add(thread);
+            thread.start();
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+
+        long nTotal = (long) nThreads * nAdds;
+        assertEquals(2 * nTotal, counters.sum(ValidationStatistics.Counters.EVALUATIONS));
+        assertEquals(nTotal, counters.sum(ValidationStatistics.Counters.FAILURES));
+        assertEquals(30 * nTotal, counters.sum(ValidationStatistics.Counters.NANOS));
+        assertEquals(10 * nTotal, counters.sum(ValidationStatistics.Counters.DATA_NANOS));
+    }
+
+    @Test
+    public void passesAreAddedUpByRuleAndByField() throws NoSuchFieldException {
+        ValidationStatistics statistics = new ValidationStatistics();
+        ModelValidator validator = new ModelValidator(new Login());
+        validator.setValidationListener(NO_OP_LISTENER);
+        validator.setValidationMetricsListener(statistics, 1);
+
+        for (int i = 0; i < 3; i++) {
+            validator.validate();
+        }
+
+        ValidationStatistics.Totals notEmptyTotals = statistics.getTotals(NotEmptyRule.class);
+        ValidationStatistics.Totals emailTotals = statistics.getTotals(EmailRule.class);
+        assertEquals(3, notEmptyTotals.getEvaluationCount());
+        assertEquals(0, notEmptyTotals.getFailureCount());
+        assertEquals(3, emailTotals.getEvaluationCount());
+        assertEquals(3, emailTotals.getFailureCount());
+
+        Field field = Login.class.getDeclaredField("email");
+        ValidationStatistics.Totals fieldTotals = statistics.getTotals(field);
+        assertEquals(6, fieldTotals.getEvaluationCount());
+        assertEquals(3, fieldTotals.getFailureCount());
+        assertTrue(fieldTotals.getNanos() >= fieldTotals.getDataNanos());
+
+        statistics.clear();
+        assertEquals(0, statistics.getTotals(field).getEvaluationCount());
+        assertTrue(statistics.getRuleTypes().isEmpty());
+    }
+
+    @Test
+    public void onlySampledPassesAreReported() {
+        ValidationStatistics statistics = new ValidationStatistics();
+        ModelValidator validator = new ModelValidator(new Login());
+        validator.setValidationListener(NO_OP_LISTENER);
+        validator.setValidationMetricsListener(statistics, 0.25f);
+
+        for (int i = 0; i < 8; i++) {
+            validator.validate();
+        }
+
+        // Every 4th pass is sampled
+        assertEquals(2, statistics.getTotals(EmailRule.class).getEvaluationCount());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void samplingRateAboveOneIsRejected() {
+        new ModelValidator(new Login()).setValidationMetricsListener(
+                new ValidationStatistics(), 1.5f);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void samplingRateOfZeroIsRejected() {
+        new ModelValidator(new Login()).setValidationMetricsListener(
+                new ValidationStatistics(), 0);
+    }
+}
@@ -0,0 +1,97 @@
+/*
+ * Copyright (C) 2015 Mobs & Geeks
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file
+ * except in compliance with the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the
+ * License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied. See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.mobsandgeeks.saripaar.tests;
+
+import android.test.ActivityInstrumentationTestCase2;
+import android.widget.TextView;
+
+/**
+ * Regression test for the source views of the confirm rules, which are looked up among
+ * private fields by {@link com.mobsandgeeks.saripaar.ValidationContext}. Also tests
+ * {@link com.mobsandgeeks.saripaar.Validator#validateWithDependents(android.view.View)}, which
+ * reports only the errors of the password and the confirm password, not of the emails.
+ */
+public class ConfirmEmailAndPasswordTest
+        extends ActivityInstrumentationTestCase2<ConfirmEmailAndPasswordActivity> {
+
+    private static final String PASSWORD = "there_lies_MY-S3creT";
+    private static final String FAILED_PASSWORD = "PasswordRule";
+
+    private TextView mResultTextView;
+
+    @Override
+    protected void setUp() throws Exception {
+        super.setUp();
+
+        mResultTextView = (TextView) getActivity().findViewById(R.id.resultTextView);
+    }
+
+    public void testMatchingEmailAndPassword_success() {
+        EspressoHelper.type(R.id.emailEditText, Constants.EMAIL);
+        EspressoHelper.type(R.id.confirmEmailEditText, Constants.EMAIL);
+        EspressoHelper.type(R.id.passwordEditText, PASSWORD);
+        EspressoHelper.type(R.id.confirmPasswordEditText, PASSWORD);
+        EspressoHelper.clickView(R.id.saripaarButton);
+        EspressoHelper.checkForText(Constants.STATE_SUCCESS, mResultTextView);
+    }
+
+    public void testEmailMismatch_failure() {
+        EspressoHelper.type(R.id.emailEditText, Constants.EMAIL);
+        EspressoHelper.type(R.id.confirmEmailEditText, "droid@android.org");
+        EspressoHelper.type(R.id.passwordEditText, PASSWORD);
+        EspressoHelper.type(R.id.confirmPasswordEditText, PASSWORD);
+        EspressoHelper.clickView(R.id.saripaarButton);
+        EspressoHelper.checkForText(Constants.FIELD_CONFIRM_EMAIL, mResultTextView);
+    }
+
+    public void testPasswordMismatch_failure() {
+        EspressoHelper.type(R.id.emailEditText, Constants.EMAIL);
+        EspressoHelper.type(R.id.confirmEmailEditText, Constants.EMAIL);
+        EspressoHelper.type(R.id.passwordEditText, PASSWORD);
+        EspressoHelper.type(R.id.confirmPasswordEditText, "there_lies_MY-S3creT!");
+        EspressoHelper.clickView(R.id.saripaarButton);
+        EspressoHelper.checkForText(Constants.FIELD_CONFIRM_PASSWORD, mResultTextView);
+    }
+
+    public void testPasswordDependentsMismatch_failure() {
+        EspressoHelper.type(R.id.emailEditText, Constants.NAME);
+        EspressoHelper.type(R.id.confirmEmailEditText, Constants.EMAIL);
+        EspressoHelper.type(R.id.passwordEditText, PASSWORD);
+        EspressoHelper.type(R.id.confirmPasswordEditText, "there_lies_MY-S3creT!");
+        EspressoHelper.clickView(R.id.dependentsButton);
+        EspressoHelper.checkForText(Constants.FIELD_CONFIRM_PASSWORD, mResultTextView);
+    }
+
+    public void testPasswordDependentsShortPassword_failure() {
+        EspressoHelper.type(R.id.emailEditText, Constants.NAME);
+        EspressoHelper.type(R.id.passwordEditText, "droid");
+        EspressoHelper.type(R.id.confirmPasswordEditText, PASSWORD);
+        EspressoHelper.clickView(R.id.dependentsButton);
+        String text = String.format("%s %s", FAILED_PASSWORD, Constants.FIELD_CONFIRM_PASSWORD);
+        EspressoHelper.checkForText(text, mResultTextView);
+    }
+
+    public void testPasswordDependentsMatching_success() {
+        EspressoHelper.type(R.id.emailEditText, Constants.NAME);
+        EspressoHelper.type(R.id.passwordEditText, PASSWORD);
+        EspressoHelper.type(R.id.confirmPasswordEditText, PASSWORD);
+        EspressoHelper.clickView(R.id.dependentsButton);
+        EspressoHelper.checkForText(Constants.STATE_SUCCESS, mResultTextView);
+    }
+
+    public ConfirmEmailAndPasswordTest() {
+        super(ConfirmEmailAndPasswordActivity.class);
+    }
+}
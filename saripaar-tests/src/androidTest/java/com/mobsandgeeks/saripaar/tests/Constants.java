@@ -24,6 +24,7 @@ public interface Constants {
     String FIELD_AIRTEL_NUMBER = "AIRTEL_NUMBER";
     String FIELD_MAX = "MAX";
     String FIELD_CONFIRM_PASSWORD = "CONFIRM_PASSWORD";
+    String FIELD_CONFIRM_EMAIL = "CONFIRM_EMAIL";
 
     // Values
     String NAME = "Android";
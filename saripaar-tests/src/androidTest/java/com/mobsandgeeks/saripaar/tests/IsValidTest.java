@@ -0,0 +1,121 @@
+/*
+ * Copyright (C) 2014 Mobs & Geeks
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file
+ * except in compliance with the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the
+ * License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied. See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.mobsandgeeks.saripaar.tests;
+
+import android.test.ActivityInstrumentationTestCase2;
+import android.widget.TextView;
+
+/**
+ * Tests {@link com.mobsandgeeks.saripaar.Validator#isValid()} and
+ * {@link com.mobsandgeeks.saripaar.Validator#stopAtFirstFailedRule(boolean)}.
+ */
+public class IsValidTest extends ActivityInstrumentationTestCase2<IsValidActivity> {
+
+    private static final String FIELD_NAME = "NAME";
+    private static final String REQUIRED = "REQUIRED";
+    private static final String FIELD_EMAIL = "EMAIL";
+
+    private TextView mResultTextView;
+
+    public IsValidTest() {
+        super(IsValidActivity.class);
+    }
+
+    @Override
+    protected void setUp() throws Exception {
+        super.setUp();
+
+        mResultTextView = (TextView) getActivity().findViewById(R.id.resultTextView);
+    }
+
+    /* ============================================================================
+     *  isValid()
+     * ============================================================================
+     */
+    public void testIsValidInvalidAll_failure() {
+        EspressoHelper.clickView(R.id.isValidButton);
+        EspressoHelper.checkForText(Constants.STATE_FAILURE, mResultTextView);
+    }
+
+    public void testIsValidValidName_failure() {
+        EspressoHelper.type(R.id.nameEditText, Constants.NAME);
+        EspressoHelper.clickView(R.id.isValidButton);
+        EspressoHelper.checkForText(Constants.STATE_FAILURE, mResultTextView);
+    }
+
+    public void testIsValidInvalidEmail_failure() {
+        EspressoHelper.type(R.id.nameEditText, Constants.NAME);
+        EspressoHelper.type(R.id.emailEditText, Constants.NAME);
+        EspressoHelper.clickView(R.id.isValidButton);
+        EspressoHelper.checkForText(Constants.STATE_FAILURE, mResultTextView);
+    }
+
+    public void testIsValidValidAll_success() {
+        EspressoHelper.type(R.id.nameEditText, Constants.NAME);
+        EspressoHelper.type(R.id.emailEditText, Constants.EMAIL);
+        EspressoHelper.clickView(R.id.isValidButton);
+        EspressoHelper.checkForText(Constants.STATE_SUCCESS, mResultTextView);
+    }
+
+    public void testIsValidAfterValidate_success() {
+        EspressoHelper.clickView(R.id.saripaarButton);
+        EspressoHelper.type(R.id.nameEditText, Constants.NAME);
+        EspressoHelper.type(R.id.emailEditText, Constants.EMAIL);
+        EspressoHelper.clickView(R.id.isValidButton);
+        EspressoHelper.checkForText(Constants.STATE_SUCCESS, mResultTextView);
+    }
+
+    /* ============================================================================
+     *  stopAtFirstFailedRule(boolean)
+     * ============================================================================
+     */
+    public void testAllFailedRules_failure() {
+        EspressoHelper.clickView(R.id.saripaarButton);
+        String text = String.format("%s %s %s", FIELD_NAME, REQUIRED, FIELD_EMAIL);
+        EspressoHelper.checkForText(text, mResultTextView);
+    }
+
+    public void testStopAtFirstFailedRule_failure() {
+        EspressoHelper.clickView(R.id.stopCheckBox);
+        EspressoHelper.clickView(R.id.saripaarButton);
+        String text = String.format("%s %s", FIELD_NAME, REQUIRED);
+        EspressoHelper.checkForText(text, mResultTextView);
+    }
+
+    public void testStopAtFirstFailedRuleInvalidEmail_failure() {
+        EspressoHelper.clickView(R.id.stopCheckBox);
+        EspressoHelper.type(R.id.nameEditText, Constants.NAME);
+        EspressoHelper.type(R.id.emailEditText, Constants.NAME);
+        EspressoHelper.clickView(R.id.saripaarButton);
+        EspressoHelper.checkForText(FIELD_EMAIL, mResultTextView);
+    }
+
+    public void testStopAtFirstFailedRuleTurnedOff_failure() {
+        EspressoHelper.clickView(R.id.stopCheckBox);
+        EspressoHelper.clickView(R.id.stopCheckBox);
+        EspressoHelper.type(R.id.nameEditText, Constants.NAME);
+        EspressoHelper.clickView(R.id.saripaarButton);
+        EspressoHelper.checkForText(String.format("%s %s", REQUIRED, FIELD_EMAIL), mResultTextView);
+    }
+
+    public void testStopAtFirstFailedRuleValidAll_success() {
+        EspressoHelper.clickView(R.id.stopCheckBox);
+        EspressoHelper.type(R.id.nameEditText, Constants.NAME);
+        EspressoHelper.type(R.id.emailEditText, Constants.EMAIL);
+        EspressoHelper.clickView(R.id.saripaarButton);
+        EspressoHelper.checkForText(Constants.STATE_SUCCESS, mResultTextView);
+    }
+}
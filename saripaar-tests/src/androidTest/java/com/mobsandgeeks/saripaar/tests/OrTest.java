@@ -0,0 +1,82 @@
+/*
+ * Copyright (C) 2015 Mobs & Geeks
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file
+ * except in compliance with the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the
+ * License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied. See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.mobsandgeeks.saripaar.tests;
+
+import android.test.ActivityInstrumentationTestCase2;
+import android.widget.TextView;
+
+/**
+ * Tests {@link com.mobsandgeeks.saripaar.annotation.Or}, with and without
+ * {@link com.mobsandgeeks.saripaar.annotation.And} groups.
+ */
+public class OrTest extends ActivityInstrumentationTestCase2<OrActivity> {
+
+    private static final String FIELD_CONTACT = "CONTACT";
+    private static final String FIELD_GROUPED = "GROUPED";
+    private static final String REQUIRED = "REQUIRED";
+
+    private TextView mResultTextView;
+
+    @Override
+    protected void setUp() throws Exception {
+        super.setUp();
+
+        mResultTextView = (TextView) getActivity().findViewById(R.id.resultTextView);
+    }
+
+    public void testEmailAlternatives_success() {
+        EspressoHelper.type(R.id.contactEditText, Constants.EMAIL);
+        EspressoHelper.type(R.id.groupedEditText, Constants.EMAIL);
+        EspressoHelper.clickView(R.id.saripaarButton);
+        EspressoHelper.checkForText(Constants.STATE_SUCCESS, mResultTextView);
+    }
+
+    public void testPhoneAlternatives_success() {
+        EspressoHelper.type(R.id.contactEditText, Constants.PHONE);
+        EspressoHelper.type(R.id.groupedEditText, Constants.PHONE);
+        EspressoHelper.clickView(R.id.saripaarButton);
+        EspressoHelper.checkForText(Constants.STATE_SUCCESS, mResultTextView);
+    }
+
+    public void testNoAlternative_failure() {
+        EspressoHelper.type(R.id.contactEditText, Constants.NAME);
+        EspressoHelper.type(R.id.groupedEditText, Constants.EMAIL);
+        EspressoHelper.clickView(R.id.saripaarButton);
+        EspressoHelper.checkForText(FIELD_CONTACT, mResultTextView);
+    }
+
+    public void testIncompleteGroup_failure() {
+        EspressoHelper.type(R.id.contactEditText, Constants.EMAIL);
+        EspressoHelper.type(R.id.groupedEditText, "12345");
+        EspressoHelper.clickView(R.id.saripaarButton);
+        EspressoHelper.checkForText(FIELD_GROUPED, mResultTextView);
+    }
+
+    public void testRuleOutsideGroups_failure() {
+        EspressoHelper.type(R.id.contactEditText, Constants.EMAIL);
+        EspressoHelper.clickView(R.id.saripaarButton);
+        EspressoHelper.checkForText(REQUIRED + " " + FIELD_GROUPED, mResultTextView);
+    }
+
+    public void testUnlistedAnnotation_crash() {
+        EspressoHelper.clickView(R.id.unlistedButton);
+        EspressoHelper.checkForText(Constants.STATE_CRASH, mResultTextView);
+    }
+
+    public OrTest() {
+        super(OrActivity.class);
+    }
+}
@@ -0,0 +1,115 @@
+/*
+ * Copyright (C) 2014 Mobs & Geeks
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file
+ * except in compliance with the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the
+ * License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied. See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.mobsandgeeks.saripaar.tests;
+
+import android.test.ActivityInstrumentationTestCase2;
+import android.widget.TextView;
+
+/**
+ * Tests the rules that validate primitive data: {@link com.mobsandgeeks.saripaar.annotation.Min}
+ * and {@link com.mobsandgeeks.saripaar.annotation.Max} on a {@link TextView} and on an int field,
+ * {@link com.mobsandgeeks.saripaar.annotation.DecimalMax} on a {@link TextView} and
+ * {@link com.mobsandgeeks.saripaar.annotation.Checked} on a {@link android.widget.CheckBox}.
+ */
+public class PrimitiveDataTest extends ActivityInstrumentationTestCase2<PrimitiveDataActivity> {
+
+    private static final String MIN = "MIN";
+    private static final String MAX = "MAX";
+    private static final String DECIMAL_MAX = "DECIMAL_MAX";
+    private static final String ITEMS = "ITEMS";
+    private static final String CHECKED = "CHECKED";
+
+    private static final String QUANTITY = "5";
+    private static final String PRICE = "99.99";
+
+    private TextView mResultTextView;
+
+    public PrimitiveDataTest() {
+        super(PrimitiveDataActivity.class);
+    }
+
+    @Override
+    protected void setUp() throws Exception {
+        super.setUp();
+
+        mResultTextView = (TextView) getActivity().findViewById(R.id.resultTextView);
+    }
+
+    public void testValidAll_success() {
+        fill(QUANTITY, PRICE, true, true);
+        EspressoHelper.clickView(R.id.saripaarButton);
+        EspressoHelper.checkForText(Constants.STATE_SUCCESS, mResultTextView);
+    }
+
+    public void testInvalidAll_failure() {
+        EspressoHelper.clickView(R.id.saripaarButton);
+        String text = String.format("%s %s %s %s %s", MIN, MAX, DECIMAL_MAX, ITEMS, CHECKED);
+        EspressoHelper.checkForText(text, mResultTextView);
+    }
+
+    public void testQuantityBelowMin_failure() {
+        fill("0", PRICE, true, true);
+        EspressoHelper.clickView(R.id.saripaarButton);
+        EspressoHelper.checkForText(MIN, mResultTextView);
+    }
+
+    public void testQuantityAboveMax_failure() {
+        fill("11", PRICE, true, true);
+        EspressoHelper.clickView(R.id.saripaarButton);
+        EspressoHelper.checkForText(MAX, mResultTextView);
+    }
+
+    public void testQuantityMissing_failure() {
+        fill(null, PRICE, true, true);
+        EspressoHelper.clickView(R.id.saripaarButton);
+        EspressoHelper.checkForText(String.format("%s %s", MIN, MAX), mResultTextView);
+    }
+
+    public void testPriceAboveMax_failure() {
+        fill(QUANTITY, "100", true, true);
+        EspressoHelper.clickView(R.id.saripaarButton);
+        EspressoHelper.checkForText(DECIMAL_MAX, mResultTextView);
+    }
+
+    public void testNoItems_failure() {
+        fill(QUANTITY, PRICE, false, true);
+        EspressoHelper.clickView(R.id.saripaarButton);
+        EspressoHelper.checkForText(ITEMS, mResultTextView);
+    }
+
+    public void testUnchecked_failure() {
+        fill(QUANTITY, PRICE, true, false);
+        EspressoHelper.clickView(R.id.saripaarButton);
+        EspressoHelper.checkForText(CHECKED, mResultTextView);
+    }
+
+    /* ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+     *  Private Methods
+     * ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+     */
+    private void fill(String quantity, String price, boolean addItem, boolean check) {
+        if (quantity != null) {
+            EspressoHelper.type(R.id.quantityEditText, quantity);
+        }
+        EspressoHelper.type(R.id.priceEditText, price);
+        if (addItem) {
+            EspressoHelper.clickView(R.id.addItemButton);
+        }
+        if (check) {
+            EspressoHelper.clickView(R.id.termsCheckBox);
+        }
+    }
+}
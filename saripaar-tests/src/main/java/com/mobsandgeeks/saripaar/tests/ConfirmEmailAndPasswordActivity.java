@@ -0,0 +1,124 @@
+/*
+ * Copyright (C) 2014 Mobs & Geeks
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file
+ * except in compliance with the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the
+ * License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied. See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.mobsandgeeks.saripaar.tests;
+
+import android.app.Activity;
+import android.os.Bundle;
+import android.view.View;
+import android.widget.Button;
+import android.widget.EditText;
+import android.widget.TextView;
+
+import com.mobsandgeeks.saripaar.Rule;
+import com.mobsandgeeks.saripaar.ValidationError;
+import com.mobsandgeeks.saripaar.Validator;
+import com.mobsandgeeks.saripaar.annotation.ConfirmEmail;
+import com.mobsandgeeks.saripaar.annotation.ConfirmPassword;
+import com.mobsandgeeks.saripaar.annotation.Email;
+import com.mobsandgeeks.saripaar.annotation.Password;
+import com.mobsandgeeks.saripaar.rule.ConfirmEmailRule;
+import com.mobsandgeeks.saripaar.rule.ConfirmPasswordRule;
+
+import java.util.List;
+
+/**
+ * This {@link android.app.Activity} is used for testing {@link ConfirmEmail} and
+ * {@link ConfirmPassword} on private fields, which {@link com.mobsandgeeks.saripaar.Validator}
+ * reads through its {@link com.mobsandgeeks.saripaar.ValidationContext}, and for testing
+ * {@link Validator#validateWithDependents(View)} on the password.
+ *
+ * @since 2.1.0
+ */
+public class ConfirmEmailAndPasswordActivity extends Activity
+        implements Validator.ValidationListener {
+
+    // Fields
+    @Email
+    private EditText mEmailEditText;
+
+    @ConfirmEmail
+    private EditText mConfirmEmailEditText;
+
+    @Password
+    private EditText mPasswordEditText;
+
+    @ConfirmPassword
+    private EditText mConfirmPasswordEditText;
+
+    private TextView mResultTextView;
+
+    // Attributes
+    private Validator mValidator;
+
+    @Override
+    protected void onCreate(Bundle savedInstanceState) {
+        super.onCreate(savedInstanceState);
+        setContentView(R.layout.activity_confirm_email_and_password);
+
+        // UI References
+        mEmailEditText = (EditText) findViewById(R.id.emailEditText);
+        mConfirmEmailEditText = (EditText) findViewById(R.id.confirmEmailEditText);
+        mPasswordEditText = (EditText) findViewById(R.id.passwordEditText);
+        mConfirmPasswordEditText = (EditText) findViewById(R.id.confirmPasswordEditText);
+        mResultTextView = (TextView) findViewById(R.id.resultTextView);
+        Button saripaarButton = (Button) findViewById(R.id.saripaarButton);
+        Button dependentsButton = (Button) findViewById(R.id.dependentsButton);
+
+        // Validator
+        mValidator = new Validator(this);
+        mValidator.setValidationListener(this);
+
+        // Event listeners
+        saripaarButton.setOnClickListener(new View.OnClickListener() {
+            @Override
+            public void onClick(View v) {
+                try {
+                    mValidator.validate();
+                } catch (IllegalStateException e) {
+                    mResultTextView.setText(R.string.crash);
+                }
+            }
+        });
+
+        dependentsButton.setOnClickListener(new View.OnClickListener() {
+            @Override
+            public void onClick(View v) {
+                mValidator.validateWithDependents(mPasswordEditText);
+            }
+        });
+    }
+
+    @Override
+    public void onValidationSucceeded() {
+        mResultTextView.setText(R.string.success);
+    }
+
+    @Override
+    public void onValidationFailed(List<ValidationError> errors) {
+        StringBuilder fieldNames = new StringBuilder();
+        for (ValidationError error : errors) {
+            for (Rule failedRule : error.getFailedRules()) {
+                if (failedRule instanceof ConfirmEmailRule) {
+                    fieldNames.append("CONFIRM_EMAIL ");
+                } else if (failedRule instanceof ConfirmPasswordRule) {
+                    fieldNames.append("CONFIRM_PASSWORD ");
+                } else {
+                    fieldNames.append(failedRule.getClass().getSimpleName()).append(" ");
+                }
+            }
+        }
+        mResultTextView.setText(fieldNames.toString().trim());
+    }
+}
@@ -0,0 +1,115 @@
+/*
+ * Copyright (C) 2014 Mobs & Geeks
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file
+ * except in compliance with the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the
+ * License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied. See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.mobsandgeeks.saripaar.tests;
+
+import android.app.Activity;
+import android.os.Bundle;
+import android.view.View;
+import android.widget.Button;
+import android.widget.CheckBox;
+import android.widget.CompoundButton;
+import android.widget.EditText;
+import android.widget.TextView;
+
+import com.mobsandgeeks.saripaar.ContextMessageResolver;
+import com.mobsandgeeks.saripaar.Rule;
+import com.mobsandgeeks.saripaar.ValidationError;
+import com.mobsandgeeks.saripaar.Validator;
+import com.mobsandgeeks.saripaar.annotation.Email;
+import com.mobsandgeeks.saripaar.annotation.NotEmpty;
+
+import java.util.List;
+
+/**
+ * This {@link android.app.Activity} is used for testing
+ * {@link com.mobsandgeeks.saripaar.Validator#isValid()} and
+ * {@link com.mobsandgeeks.saripaar.Validator#stopAtFirstFailedRule(boolean)}. Failed rules are
+ * reported by their messages.
+ *
+ * @since 2.1.0
+ */
+public class IsValidActivity extends Activity
+        implements Validator.ValidationListener, CompoundButton.OnCheckedChangeListener {
+
+    // Fields
+    @NotEmpty(message = "NAME")
+    private EditText mNameEditText;
+
+    @NotEmpty(message = "REQUIRED")
+    @Email(message = "EMAIL")
+    private EditText mEmailEditText;
+
+    private TextView mResultTextView;
+
+    // Attributes
+    private Validator mValidator;
+
+    @Override
+    protected void onCreate(Bundle savedInstanceState) {
+        super.onCreate(savedInstanceState);
+        setContentView(R.layout.activity_is_valid);
+
+        // UI References
+        mNameEditText = (EditText) findViewById(R.id.nameEditText);
+        mEmailEditText = (EditText) findViewById(R.id.emailEditText);
+        mResultTextView = (TextView) findViewById(R.id.resultTextView);
+        CheckBox stopCheckBox = (CheckBox) findViewById(R.id.stopCheckBox);
+        Button isValidButton = (Button) findViewById(R.id.isValidButton);
+        Button saripaarButton = (Button) findViewById(R.id.saripaarButton);
+
+        // Validator
+        mValidator = new Validator(this);
+        mValidator.setValidationListener(this);
+
+        // Event listeners
+        stopCheckBox.setOnCheckedChangeListener(this);
+        isValidButton.setOnClickListener(new View.OnClickListener() {
+            @Override
+            public void onClick(View v) {
+                mResultTextView.setText(mValidator.isValid() ? R.string.success : R.string.failure);
+            }
+        });
+
+        saripaarButton.setOnClickListener(new View.OnClickListener() {
+            @Override
+            public void onClick(View v) {
+                mValidator.validate();
+            }
+        });
+    }
+
+    @Override
+    public void onValidationSucceeded() {
+        mResultTextView.setText(R.string.success);
+    }
+
+    @Override
+    public void onValidationFailed(List<ValidationError> errors) {
+        ContextMessageResolver messageResolver = new ContextMessageResolver(this);
+        StringBuilder messages = new StringBuilder();
+        for (ValidationError error : errors) {
+            for (Rule failedRule : error.getFailedRules()) {
+                messages.append(failedRule.getMessage(messageResolver)).append(" ");
+            }
+        }
+        mResultTextView.setText(messages.toString().trim());
+    }
+
+    @Override
+    public void onCheckedChanged(CompoundButton buttonView, boolean isChecked) {
+        mValidator.stopAtFirstFailedRule(isChecked);
+    }
+}
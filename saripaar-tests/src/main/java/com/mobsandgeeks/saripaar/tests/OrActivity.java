@@ -0,0 +1,132 @@
+/*
+ * Copyright (C) 2014 Mobs & Geeks
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file
+ * except in compliance with the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the
+ * License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied. See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.mobsandgeeks.saripaar.tests;
+
+import android.app.Activity;
+import android.os.Bundle;
+import android.view.View;
+import android.widget.Button;
+import android.widget.EditText;
+import android.widget.TextView;
+
+import com.mobsandgeeks.saripaar.Rule;
+import com.mobsandgeeks.saripaar.ContextMessageResolver;
+import com.mobsandgeeks.saripaar.ValidationError;
+import com.mobsandgeeks.saripaar.Validator;
+import com.mobsandgeeks.saripaar.annotation.And;
+import com.mobsandgeeks.saripaar.annotation.Digits;
+import com.mobsandgeeks.saripaar.annotation.Email;
+import com.mobsandgeeks.saripaar.annotation.Length;
+import com.mobsandgeeks.saripaar.annotation.NotEmpty;
+import com.mobsandgeeks.saripaar.annotation.Or;
+import com.mobsandgeeks.saripaar.exception.SaripaarViolationException;
+
+import java.util.List;
+
+/**
+ * This {@link android.app.Activity} is used for testing {@link Or}, with and without
+ * {@link And} groups. Failed rules are reported by their messages.
+ *
+ * @since 2.1.0
+ */
+public class OrActivity extends Activity implements Validator.ValidationListener {
+
+    // Fields
+    @Email
+    @Digits(integer = 10)
+    @Or(message = "CONTACT")
+    private EditText mContactEditText;
+
+    @NotEmpty(message = "REQUIRED")
+    @Email
+    @Digits(integer = 10)
+    @Length(min = 10)
+    @Or(value = { @And(Email.class), @And({ Digits.class, Length.class }) }, message = "GROUPED")
+    private EditText mGroupedEditText;
+
+    private TextView mResultTextView;
+
+    // Attributes
+    private Validator mValidator;
+
+    @Override
+    protected void onCreate(Bundle savedInstanceState) {
+        super.onCreate(savedInstanceState);
+        setContentView(R.layout.activity_or);
+
+        // UI References
+        mContactEditText = (EditText) findViewById(R.id.contactEditText);
+        mGroupedEditText = (EditText) findViewById(R.id.groupedEditText);
+        mResultTextView = (TextView) findViewById(R.id.resultTextView);
+        Button saripaarButton = (Button) findViewById(R.id.saripaarButton);
+        Button unlistedButton = (Button) findViewById(R.id.unlistedButton);
+
+        // Validator
+        mValidator = new Validator(this);
+        mValidator.setValidationListener(this);
+
+        // Event listeners
+        saripaarButton.setOnClickListener(new View.OnClickListener() {
+            @Override
+            public void onClick(View v) {
+                mValidator.validate();
+            }
+        });
+
+        unlistedButton.setOnClickListener(new View.OnClickListener() {
+            @Override
+            public void onClick(View v) {
+                Validator validator = new Validator(OrActivity.this,
+                        new UnlistedAnnotationController(mContactEditText));
+                validator.setValidationListener(OrActivity.this);
+                try {
+                    validator.validate();
+                } catch (SaripaarViolationException e) {
+                    mResultTextView.setText(R.string.crash);
+                }
+            }
+        });
+    }
+
+    @Override
+    public void onValidationSucceeded() {
+        mResultTextView.setText(R.string.success);
+    }
+
+    @Override
+    public void onValidationFailed(List<ValidationError> errors) {
+        ContextMessageResolver messageResolver = new ContextMessageResolver(this);
+        StringBuilder messages = new StringBuilder();
+        for (ValidationError error : errors) {
+            for (Rule failedRule : error.getFailedRules()) {
+                messages.append(failedRule.getMessage(messageResolver)).append(" ");
+            }
+        }
+        mResultTextView.setText(messages.toString().trim());
+    }
+
+    // @Email is listed, but the field isn't annotated with it
+    static class UnlistedAnnotationController {
+
+        @Digits(integer = 10)
+        @Or(@And(Email.class))
+        private final EditText mPhoneEditText;
+
+        UnlistedAnnotationController(final EditText phoneEditText) {
+            mPhoneEditText = phoneEditText;
+        }
+    }
+}
@@ -0,0 +1,113 @@
+/*
+ * Copyright (C) 2014 Mobs & Geeks
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file
+ * except in compliance with the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the
+ * License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied. See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.mobsandgeeks.saripaar.tests;
+
+import android.app.Activity;
+import android.os.Bundle;
+import android.view.View;
+import android.widget.Button;
+import android.widget.CheckBox;
+import android.widget.TextView;
+
+import com.mobsandgeeks.saripaar.ContextMessageResolver;
+import com.mobsandgeeks.saripaar.Rule;
+import com.mobsandgeeks.saripaar.ValidationError;
+import com.mobsandgeeks.saripaar.Validator;
+import com.mobsandgeeks.saripaar.annotation.Checked;
+import com.mobsandgeeks.saripaar.annotation.DecimalMax;
+import com.mobsandgeeks.saripaar.annotation.Max;
+import com.mobsandgeeks.saripaar.annotation.Min;
+
+import java.util.List;
+
+/**
+ * This {@link android.app.Activity} is used for testing the rules that validate primitive data,
+ * on the int and double data of {@link TextView}s, the boolean state of a {@link CheckBox} and a
+ * primitive int field. Failed rules are reported by their messages.
+ *
+ * @since 2.1.0
+ */
+public class PrimitiveDataActivity extends Activity implements Validator.ValidationListener {
+
+    // Fields
+    @Min(value = 1, message = "MIN")
+    @Max(value = 10, message = "MAX")
+    private TextView mQuantityTextView;
+
+    @DecimalMax(value = 99.99, message = "DECIMAL_MAX")
+    private TextView mPriceTextView;
+
+    @Min(value = 1, message = "ITEMS")
+    private int mItemCount;
+
+    @Checked(message = "CHECKED")
+    private CheckBox mTermsCheckBox;
+
+    private TextView mResultTextView;
+
+    // Attributes
+    private Validator mValidator;
+
+    @Override
+    protected void onCreate(Bundle savedInstanceState) {
+        super.onCreate(savedInstanceState);
+        setContentView(R.layout.activity_primitive_data);
+
+        // UI References
+        mQuantityTextView = (TextView) findViewById(R.id.quantityEditText);
+        mPriceTextView = (TextView) findViewById(R.id.priceEditText);
+        mTermsCheckBox = (CheckBox) findViewById(R.id.termsCheckBox);
+        mResultTextView = (TextView) findViewById(R.id.resultTextView);
+        Button addItemButton = (Button) findViewById(R.id.addItemButton);
+        Button saripaarButton = (Button) findViewById(R.id.saripaarButton);
+
+        // Validator
+        mValidator = new Validator(this);
+        mValidator.setValidationListener(this);
+
+        // Event listeners
+        addItemButton.setOnClickListener(new View.OnClickListener() {
+            @Override
+            public void onClick(View v) {
+                mItemCount++;
+            }
+        });
+
+        saripaarButton.setOnClickListener(new View.OnClickListener() {
+            @Override
+            public void onClick(View v) {
+                mValidator.validate();
+            }
+        });
+    }
+
+    @Override
+    public void onValidationSucceeded() {
+        mResultTextView.setText(R.string.success);
+    }
+
+    @Override
+    public void onValidationFailed(List<ValidationError> errors) {
+        ContextMessageResolver messageResolver = new ContextMessageResolver(this);
+        StringBuilder messages = new StringBuilder();
+        for (ValidationError error : errors) {
+            for (Rule failedRule : error.getFailedRules()) {
+                messages.append(failedRule.getMessage(messageResolver)).append(" ");
+            }
+        }
+        mResultTextView.setText(messages.toString().trim());
+    }
+}
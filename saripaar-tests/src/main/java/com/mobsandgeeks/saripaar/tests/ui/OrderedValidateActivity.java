@@ -23,6 +23,7 @@ import android.widget.RadioGroup;
 import android.widget.TextView;
 import android.widget.Toast;
 
+import com.mobsandgeeks.saripaar.ContextMessageResolver;
 import com.mobsandgeeks.saripaar.ValidationError;
 import com.mobsandgeeks.saripaar.Validator;
 import com.mobsandgeeks.saripaar.annotation.AssertTrue;
@@ -105,7 +106,8 @@ public class OrderedValidateActivity extends Activity
 
     @Override
     public void onValidationFailed(List<ValidationError> errors) {
-        Toast.makeText(this, errors.get(0).getCollatedErrorMessage(this), Toast.LENGTH_SHORT).show();
+        Toast.makeText(this, errors.get(0).getCollatedErrorMessage(
+                new ContextMessageResolver(this)), Toast.LENGTH_SHORT).show();
     }
 
     @Override
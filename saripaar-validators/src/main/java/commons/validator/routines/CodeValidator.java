@@ -17,8 +17,11 @@
 package commons.validator.routines;
 
 import java.io.Serializable;
+import java.nio.CharBuffer;
+import java.util.Arrays;
 
 import commons.validator.routines.checkdigit.CheckDigit;
+import commons.validator.routines.checkdigit.ModulusCheckDigit;
 
 /**
  * Generic <b>Code Validation</b> providing format, minimum/maximum
@@ -44,6 +47,11 @@ import commons.validator.routines.checkdigit.CheckDigit;
  * more easily human readable. These can be removed prior to length and check digit
  * validation by  specifying them as a <i>non-capturing</i> group in the regular
  * expression (i.e. use the <code>(?:   )</code> notation).
+ * <p>
+ * The checks are staged so that the cheapest run first: the length of the trimmed
+ * input is checked before the regular expression where it's known to bound the length
+ * of the parsed code, and the parsed code is copied into a per-thread buffer rather
+ * than a new String. Only <code>validate(code)</code> creates a String, for the result.
  *
  * @version $Revision$
  * @since Validator 1.4
@@ -57,6 +65,11 @@ public final class CodeValidator implements Serializable {
     private final int maxLength;
     private final CheckDigit checkdigit;
 
+    /**
+     * The parsed code, per thread.
+     */
+    private transient ThreadLocal<CodeBuffer> codeBuffers;
+
     /**
      * Construct a code validator with a specified regular
      * expression and {@link CheckDigit}.
@@ -202,7 +215,13 @@ public final class CodeValidator implements Serializable {
      * <code>false</code>
      */
     public boolean isValid(String input) {
-        return (validate(input) != null);
+        if (input == null) {
+            return false;
+        }
+        CodeBuffer code = getCodeBuffer();
+        boolean valid = parse(input, code);
+        code.clear();
+        return valid;
     }
 
     /**
@@ -219,32 +238,125 @@ public final class CodeValidator implements Serializable {
             return null;
         }
 
-        String code = input.trim();
-        if (code.length() == 0) {
-            return null;
+        CodeBuffer code = getCodeBuffer();
+        String result = parse(input, code) ? new String(code.chars, 0, code.length) : null;
+        code.clear();
+        return result;
+
+    }
+
+    /**
+     * Validate the code, parsing it into a buffer. The buffer should be cleared
+     * afterwards so that it doesn't retain the code.
+     *
+     * @param input The code to validate
+     * @param code Receives the parsed code
+     * @return <code>true</code> if valid, otherwise <code>false</code>
+     */
+    private boolean parse(String input, CodeBuffer code) {
+
+        // trim without copying
+        int start = 0;
+        int end = input.length();
+        while (start < end && input.charAt(start) <= ' ') {
+            start++;
+        }
+        while (end > start && input.charAt(end - 1) <= ' ') {
+            end--;
+        }
+        if (start == end) {
+            return false;
+        }
+
+        // check the raw length, which bounds the parsed length unless groups nest
+        int rawLength = end - start;
+        if (regexValidator == null) {
+            if (!isValidLength(rawLength)) {
+                return false;
+            }
+        } else if (minLength >= 0 && rawLength < minLength
+                && regexValidator.hasDisjointGroups()) {
+            return false;
         }
 
-        // validate/reformat using regular expression
+        // validate/reformat using regular expression, or copy the trimmed input
         if (regexValidator != null) {
-            code = regexValidator.validate(code);
-            if (code == null) {
-                return null;
+            int length = regexValidator.copyGroups(input, start, end, code.chars);
+            if (length > code.chars.length) {
+                code.length = code.chars.length;
+                code.ensureCapacity(length);
+                length = regexValidator.copyGroups(input, start, end, code.chars);
             }
+            if (length < 0) {
+                return false;
+            }
+            code.length = length;
+        } else {
+            code.ensureCapacity(rawLength);
+            input.getChars(start, end, code.chars, 0);
+            code.length = rawLength;
         }
 
         // check the length
-        if ((minLength >= 0 && code.length() < minLength) ||
-            (maxLength >= 0 && code.length() > maxLength)) {
-            return null;
+        if (regexValidator != null && !isValidLength(code.length)) {
+            return false;
         }
 
         // validate the check digit
-        if (checkdigit != null && !checkdigit.isValid(code)) {
-            return null;
+        if (checkdigit != null) {
+            boolean valid;
+            if (checkdigit instanceof ModulusCheckDigit) {
+                valid = ((ModulusCheckDigit) checkdigit).isValid(code.view, 0, code.length);
+            } else {
+                valid = checkdigit.isValid(new String(code.chars, 0, code.length));
+            }
+            if (!valid) {
+                return false;
+            }
+        }
+
+        return true;
+
+    }
+
+    private boolean isValidLength(int length) {
+        return (minLength < 0 || length >= minLength) && (maxLength < 0 || length <= maxLength);
+    }
+
+    private CodeBuffer getCodeBuffer() {
+        // Not created in the constructor since ThreadLocals aren't serializable
+        ThreadLocal<CodeBuffer> threadLocal = codeBuffers;
+        if (threadLocal == null) {
+            threadLocal = new ThreadLocal<CodeBuffer>() {
+                protected CodeBuffer initialValue() {
+                    return new CodeBuffer();
+                }
+            };
+            codeBuffers = threadLocal;
         }
+        return threadLocal.get();
+    }
+
+    /**
+     * A parsed code, along with a {@link CharSequence} view of its characters.
+     */
+    private static final class CodeBuffer {
+        char[] chars = new char[32];
+        CharBuffer view = CharBuffer.wrap(chars);
+        int length;
 
-        return code;
+        void ensureCapacity(int capacity) {
+            if (chars.length < capacity) {
+                clear();
+                chars = new char[Math.max(capacity, 2 * chars.length)];
+                view = CharBuffer.wrap(chars);
+            }
+        }
 
+        void clear() {
+            Arrays.fill(chars, 0, length, (char) 0);
+            length = 0;
+        }
     }
 
 }
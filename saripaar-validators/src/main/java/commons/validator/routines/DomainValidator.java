@@ -0,0 +1,531 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package commons.validator.routines;
+
+import java.io.Serializable;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.util.Locale;
+
+/**
+ * <p><b>Domain name</b> validation routines.</p>
+ *
+ * <p>
+ * This validator provides methods for validating Internet domain names
+ * and top-level domains.
+ * </p>
+ *
+ * <p>Domain names are evaluated according
+ * to the standards <a href="http://www.ietf.org/rfc/rfc1034.txt">RFC1034</a>,
+ * section 3, and <a href="http://www.ietf.org/rfc/rfc1123.txt">RFC1123</a>,
+ * section 2.1. No accommodation is provided for the specialized needs of
+ * other applications; if the domain name has been URL-encoded, for example,
+ * validation will fail even though the equivalent plaintext version of the
+ * same name would have passed.
+ * </p>
+ *
+ * <p>
+ * Validation is also provided for top-level domains (TLDs) as defined and
+ * maintained by the Internet Assigned Numbers Authority (IANA):
+ * </p>
+ *
+ *   <ul>
+ *     <li>{@link #isValidInfrastructureTld} - validates infrastructure TLDs
+ *         (<code>.arpa</code>, etc.)</li>
+ *     <li>{@link #isValidGenericTld} - validates generic TLDs
+ *         (<code>.com, .org</code>, etc.)</li>
+ *     <li>{@link #isValidCountryCodeTld} - validates country code TLDs
+ *         (<code>.us, .uk, .cn</code>, etc.)</li>
+ *     <li>{@link #getTldType} - reports which of the above, if any, a TLD belongs to</li>
+ *   </ul>
+ *
+ * <p>
+ * (<b>NOTE</b>: This class does not provide IP address lookup for domain names or
+ * methods to ensure that a given domain name matches a specific IP; see
+ * {@link java.net.InetAddress} for that functionality.)
+ * </p>
+ *
+ * @version $Revision$
+ * @since Validator 1.4
+ */
+public class DomainValidator implements Serializable, ResultCache.Validation {
+
+    private static final long serialVersionUID = -4407125112880174009L;
+
+    // Hostname syntax (derived from RFC2396 and RFC 1123), checked by scanDomainName()
+
+    // RFC2396: domainlabel   = alphanum | alphanum *( alphanum | "-" ) alphanum
+    // Max 63 characters
+    private static final int MAX_LABEL_LENGTH = 63;
+
+    // RFC2396 toplabel = alpha | alpha *( alphanum | "-" ) alphanum
+    // Max 63 characters
+
+    // RFC2396 hostname = *( domainlabel "." ) toplabel [ "." ]
+    // Note that the scanner requires both a domain label and a top level label, whereas
+    // the RFC does not. This is because the scan is used to detect if a TLD is present.
+    // A single domain label is accepted as a local hostname instead.
+    // RFC1123 sec 2.1 allows hostnames to start with a digit
+    private static final int MAX_DOMAIN_LENGTH = 253;
+
+    /**
+     * Returned by {@link #scanDomainName(CharSequence, int, int)} for invalid syntax.
+     */
+    static final int INVALID_DOMAIN = -1;
+
+    private final boolean allowLocal;
+
+    /**
+     * Singleton instance of this validator, which
+     *  doesn't consider local addresses as valid.
+     */
+    private static final DomainValidator DOMAIN_VALIDATOR = new DomainValidator(false);
+
+    /**
+     * Singleton instance of this validator, which does
+     *  consider local addresses valid.
+     */
+    private static final DomainValidator DOMAIN_VALIDATOR_WITH_LOCAL = new DomainValidator(true);
+
+    /**
+     * Returns the singleton instance of this validator. It
+     *  will not consider local addresses as valid.
+     * @return the singleton instance of this validator
+     */
+    public static DomainValidator getInstance() {
+        return DOMAIN_VALIDATOR;
+    }
+
+    /**
+     * Returns the singleton instance of this validator,
+     *  with local validation as required.
+     * @param allowLocal Should local addresses be considered valid?
+     * @return the singleton instance of this validator
+     */
+    public static DomainValidator getInstance(boolean allowLocal) {
+       if(allowLocal) {
+          return DOMAIN_VALIDATOR_WITH_LOCAL;
+       }
+       return DOMAIN_VALIDATOR;
+    }
+
+    /** Private constructor. */
+    private DomainValidator(boolean allowLocal) {
+       this.allowLocal = allowLocal;
+    }
+
+    /**
+     * Returns true if the specified <code>String</code> parses
+     * as a valid domain name with a recognized top-level domain.
+     * The parsing is case-insensitive.
+     * @param domain the parameter to check for domain name syntax
+     * @return true if the parameter is a valid domain name
+     */
+    public boolean isValid(String domain) {
+        if (domain == null) {
+            return false;
+        }
+        domain = unicodeToASCII(domain);
+        // hosts must be equally reachable via punycode and Unicode;
+        // Unicode is never shorter than punycode, so check punycode
+        // if domain did not convert, then it will be caught by ASCII
+        // checks in the scanner
+        return isValidASCII(domain, 0, domain.length());
+    }
+
+    /**
+     * Checks if a domain name is valid, consulting a cache of earlier results first.
+     * Only inputs that aren't in the cache are validated, and their results are cached.
+     *
+     * @param domain the input to validate
+     * @param cache the results of earlier validations by this validator, or <code>null</code>
+     * to validate without caching
+     * @return true if the input is valid
+     * @throws IllegalArgumentException if the cache was used with another validator
+     * @since 2.1.0
+     */
+    public boolean isValid(String domain, ResultCache cache) {
+        return ResultCache.isValid(cache, domain, this);
+    }
+
+    /**
+     * Returns true if a region of the input parses as a valid domain name with
+     * a recognized top-level domain. ASCII input is checked in place without
+     * allocating.
+     * @param input the characters containing the domain name, not null
+     * @param start the offset at which the domain name starts
+     * @param end the offset at which the domain name ends
+     * @return true if the region is a valid domain name
+     */
+    boolean isValid(CharSequence input, int start, int end) {
+        for (int i = start; i < end; i++) {
+            if (input.charAt(i) > 0x7F) {
+                String domain = unicodeToASCII(input.subSequence(start, end).toString());
+                return isValidASCII(domain, 0, domain.length());
+            }
+        }
+        return isValidASCII(input, start, end);
+    }
+
+    /**
+     * Returns true if a region of the input is either a valid domain name, as checked by
+     * {@link #isValid(CharSequence, int, int)}, or a top-level domain, as checked by
+     * {@link #isValidTld(String)}. The Unicode conversion is done at most once and ASCII
+     * input is checked in place without allocating.
+     * @param input the characters containing the domain name, not null
+     * @param start the offset at which the domain name starts
+     * @param end the offset at which the domain name ends
+     * @return true if the region is a valid domain name or TLD
+     */
+    // Needed by EmailValidator
+    boolean isValidDomainOrTld(CharSequence input, int start, int end) {
+        CharSequence domain = input;
+        for (int i = start; i < end; i++) {
+            if (input.charAt(i) > 0x7F) {
+                String domainASCII = unicodeToASCII(input.subSequence(start, end).toString());
+                if (!isOnlyASCII(domainASCII)) {
+                    // Conversion failed, only the TLD check may still pass
+                    return isValidTld(domainASCII);
+                }
+                domain = domainASCII;
+                start = 0;
+                end = domainASCII.length();
+                break;
+            }
+        }
+
+        if (isValidASCII(domain, start, end)) {
+            return true;
+        }
+        int tldStart = start < end && domain.charAt(start) == '.' ? start + 1 : start;
+        int tldTypes = TldsHolder.TLDS.lookup(domain, tldStart, end);
+        if (!allowLocal) {
+            tldTypes &= ~LOCAL_TLD_MASK;
+        }
+        return tldTypes != 0;
+    }
+
+    private boolean isValidASCII(CharSequence domain, int start, int end) {
+        int tldStart = scanDomainName(domain, start, end);
+        if (tldStart == INVALID_DOMAIN) {
+            return false;
+        }
+        if (tldStart == start) {
+            // A single label is only valid as a local hostname
+            return allowLocal;
+        }
+        int tldEnd = domain.charAt(end - 1) == '.' ? end - 1 : end;
+        int tldTypes = TldsHolder.TLDS.lookup(domain, tldStart, tldEnd);
+        if (!allowLocal) {
+            tldTypes &= ~LOCAL_TLD_MASK;
+        }
+        return tldTypes != 0;
+    }
+
+    /**
+     * Checks the syntax of a domain name in a single forward pass without allocating.
+     * <p>
+     * Labels are made up of ASCII letters, digits and hyphens, may not start or end with a
+     * hyphen and are at most 63 characters long. The whole name is at most 253 characters
+     * long. A name has either a single label, or several labels separated by dots where the
+     * last label starts with a letter and may be followed by a trailing dot.
+     * </p>
+     * @param input the characters containing the domain name, not null
+     * @param start the offset at which the domain name starts
+     * @param end the offset at which the domain name ends
+     * @return the offset of the last label, which equals <code>start</code> for a single
+     * label, or {@link #INVALID_DOMAIN}
+     */
+    static int scanDomainName(CharSequence input, int start, int end) {
+        if (start == end || end - start > MAX_DOMAIN_LENGTH) {
+            return INVALID_DOMAIN;
+        }
+
+        int labelStart = start;
+        int labelCount = 0;
+        int position = start;
+        while (true) {
+            labelStart = position;
+            while (position < end && isLabelCharacter(input.charAt(position))) {
+                position++;
+            }
+            int labelLength = position - labelStart;
+            if (labelLength == 0 || labelLength > MAX_LABEL_LENGTH
+                    || !isAlphanumeric(input.charAt(labelStart))
+                    || !isAlphanumeric(input.charAt(position - 1))) {
+                return INVALID_DOMAIN;
+            }
+            labelCount++;
+
+            if (position == end) {
+                break;
+            }
+            if (input.charAt(position) != '.') {
+                return INVALID_DOMAIN;
+            }
+            position++;
+            if (position == end) {
+                // Trailing dot, only after a top label
+                if (labelCount == 1) {
+                    return INVALID_DOMAIN;
+                }
+                break;
+            }
+        }
+
+        if (labelCount == 1) {
+            return start;
+        }
+        return isAlpha(input.charAt(labelStart)) ? labelStart : INVALID_DOMAIN;
+    }
+
+    // package protected for unit test access
+    // must agree with isValid() above
+    final boolean isValidDomainSyntax(String domain) {
+        if (domain == null) {
+            return false;
+        }
+        domain = unicodeToASCII(domain);
+        // hosts must be equally reachable via punycode and Unicode;
+        // Unicode is never shorter than punycode, so check punycode
+        // if domain did not convert, then it will be caught by ASCII
+        // checks in the scanner
+        return scanDomainName(domain, 0, domain.length()) != INVALID_DOMAIN;
+    }
+
+    /**
+     * Returns true if the specified <code>String</code> matches any
+     * IANA-defined top-level domain. Leading dots are ignored if present.
+     * The search is case-insensitive.
+     * @param tld the parameter to check for TLD status, not null
+     * @return true if the parameter is a TLD
+     */
+    public boolean isValidTld(String tld) {
+        int tldTypes = lookupTldTypes(tld);
+        if (!allowLocal) {
+            tldTypes &= ~LOCAL_TLD_MASK;
+        }
+        return tldTypes != 0;
+    }
+
+    /**
+     * Returns the category of the IANA-defined or local top-level domain
+     * that matches the specified <code>String</code>. Leading dots are
+     * ignored if present. The search is case-insensitive.
+     * @param tld the parameter to check for TLD status, not null
+     * @return the category of the TLD, or <code>null</code> if it isn't a TLD. TLDs in more
+     * than one category, like <code>arpa</code>, report the first in {@link TldType} order
+     * @since 2.1.0
+     */
+    public TldType getTldType(String tld) {
+        return toTldType(lookupTldTypes(tld));
+    }
+
+    /**
+     * Looks up an ASCII top-level domain, without a leading dot, in a region of the input.
+     * The search is case-insensitive and doesn't allocate.
+     * @param input the characters containing the TLD, not null
+     * @param start the offset at which the TLD starts
+     * @param end the offset at which the TLD ends
+     * @return the category of the TLD, or <code>null</code> if it isn't a TLD
+     */
+    static TldType lookupTld(CharSequence input, int start, int end) {
+        return toTldType(TldsHolder.TLDS.lookup(input, start, end));
+    }
+
+    // Bit i is set if the TLD belongs to TLD_TYPES[i]
+    private static int lookupTldTypes(String tld) {
+        tld = unicodeToASCII(tld);
+        if (!isOnlyASCII(tld)) {
+            // Some non-ASCII characters have ASCII lower-case forms
+            tld = tld.toLowerCase(Locale.ENGLISH);
+        }
+        int start = tld.startsWith(".") ? 1 : 0;
+        return TldsHolder.TLDS.lookup(tld, start, tld.length());
+    }
+
+    // A TLD may appear in more than one table, report the first
+    private static TldType toTldType(int tldTypes) {
+        return tldTypes != 0 ? TLD_TYPES[Integer.numberOfTrailingZeros(tldTypes)] : null;
+    }
+
+    /**
+     * Returns true if the specified <code>String</code> matches any
+     * IANA-defined infrastructure top-level domain. Leading dots are
+     * ignored if present. The search is case-insensitive.
+     * @param iTld the parameter to check for infrastructure TLD status, not null
+     * @return true if the parameter is an infrastructure TLD
+     */
+    public boolean isValidInfrastructureTld(String iTld) {
+        return (lookupTldTypes(iTld) & (1 << TldType.INFRASTRUCTURE.ordinal())) != 0;
+    }
+
+    /**
+     * Returns true if the specified <code>String</code> matches any
+     * IANA-defined generic top-level domain. Leading dots are ignored
+     * if present. The search is case-insensitive.
+     * @param gTld the parameter to check for generic TLD status, not null
+     * @return true if the parameter is a generic TLD
+     */
+    public boolean isValidGenericTld(String gTld) {
+        return (lookupTldTypes(gTld) & (1 << TldType.GENERIC.ordinal())) != 0;
+    }
+
+    /**
+     * Returns true if the specified <code>String</code> matches any
+     * IANA-defined country code top-level domain. Leading dots are
+     * ignored if present. The search is case-insensitive.
+     * @param ccTld the parameter to check for country code TLD status, not null
+     * @return true if the parameter is a country code TLD
+     */
+    public boolean isValidCountryCodeTld(String ccTld) {
+        return (lookupTldTypes(ccTld) & (1 << TldType.COUNTRY_CODE.ordinal())) != 0;
+    }
+
+    /**
+     * Returns true if the specified <code>String</code> matches any
+     * widely used "local" domains (localhost or localdomain). Leading dots are
+     * ignored if present. The search is case-insensitive.
+     * @param lTld the parameter to check for local TLD status, not null
+     * @return true if the parameter is an local TLD
+     */
+    public boolean isValidLocalTld(String lTld) {
+        return (lookupTldTypes(lTld) & (1 << TldType.LOCAL.ordinal())) != 0;
+    }
+
+    /**
+     * The categories of top-level domains recognised by {@link DomainValidator}.
+     * @since 2.1.0
+     */
+    public enum TldType {
+        /** Infrastructure TLDs, like <code>.arpa</code> */
+        INFRASTRUCTURE,
+        /** Generic TLDs, like <code>.com</code> or <code>.org</code> */
+        GENERIC,
+        /** Country code TLDs, like <code>.us</code> or <code>.uk</code> */
+        COUNTRY_CODE,
+        /** Widely used local domains, <code>localhost</code> and <code>localdomain</code> */
+        LOCAL
+    }
+
+    // ---------------------------------------------
+    // ----- TLDs defined by IANA
+    // ----- Authoritative and comprehensive list at:
+    // ----- http://data.iana.org/TLD/tlds-alpha-by-domain.txt
+
+    // The list is bundled as src/main/tlds/tlds-alpha-by-domain.txt and packed into a trie
+    // at build time, see tlds.gradle and TldTrie. Two letter TLDs are country codes and
+    // the rest are generic, unless src/main/tlds/tld-categories.txt says otherwise.
+
+    // Mask bit order must match the TldType constants
+    private static final TldType[] TLD_TYPES = TldType.values();
+    private static final int LOCAL_TLD_MASK = 1 << TldType.LOCAL.ordinal();
+
+    // Loaded on first use, validators that never check a TLD don't pay for it. Any TLD check
+    // loads it, Validator.prewarm() does so for forms with @Email, @Url or @Domain
+    private static class TldsHolder {
+        private static final TldTrie TLDS = TldTrie.load();
+    }
+
+    /**
+     * Converts potentially Unicode input to punycode.
+     * If conversion fails, returns the original input.
+     * 
+     * @param input the string to convert, not null
+     * @return converted input, or original input if conversion fails
+     */
+    // Needed by UrlValidator
+    static String unicodeToASCII(String input) {
+        try {
+            return /* java.net.IDN. */ toASCII(input);
+        } catch (IllegalArgumentException e) { // input is not valid
+            return input;
+        }
+    }
+
+    // ================= Code needed for Java 1.4 and 1.5 compatibility ===============
+
+    private static class IDNHolder {
+        private static Method getMethod() {
+            try {
+                Class clazz = Class.forName("java.net.IDN", false, DomainValidator.class.getClassLoader());
+                return clazz.getDeclaredMethod("toASCII", new Class[]{String.class});
+            } catch (Exception e) {
+              return null;
+            }
+        }
+        private static final Method JAVA_NET_IDN_TO_ASCII = getMethod();
+    }
+
+    /*
+     * Helper method to invoke java.net.IDN.toAscii(String).
+     * Allows code to be compiled with Java 1.4 and 1.5 
+     * @throws IllegalArgumentException if the input string doesn't conform to RFC 3490 specification
+     */
+    private static final String toASCII(String line) throws IllegalArgumentException {
+//        java.net.IDN.toASCII(line); // Java 1.6+
+        // implementation for Java 1.4 and 1.5
+        // effectively this is done by IDN.toASCII but we want to skip the entire call
+        if (isOnlyASCII(line)) {
+            return line;
+        }
+        Method m = IDNHolder.JAVA_NET_IDN_TO_ASCII;
+        if (m == null) { // avoid NPE
+            return line;
+        }
+        try {
+            return (String) m.invoke(null, new String[]{line.toLowerCase(Locale.ENGLISH)});
+        } catch (IllegalAccessException e) {
+            throw new RuntimeException(e); // Should not happen
+        } catch (InvocationTargetException e) {
+            Throwable t = e.getCause();
+            if (t instanceof IllegalArgumentException) { // this is expected from toASCII method
+                throw (IllegalArgumentException) t;
+            }
+            throw new RuntimeException(e); // Should not happen
+        }
+    }
+
+    private static boolean isAlpha(char c) {
+        return (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z');
+    }
+
+    private static boolean isAlphanumeric(char c) {
+        return isAlpha(c) || (c >= '0' && c <= '9');
+    }
+
+    private static boolean isLabelCharacter(char c) {
+        return isAlphanumeric(c) || c == '-';
+    }
+
+    /*
+     * Check if input contains only ASCII
+     * Treats null as all ASCII
+     */
+    private static boolean isOnlyASCII(String input) {
+        if (input == null) {
+            return true;
+        }
+        for(int i=0; i < input.length(); i++) {
+            if (input.charAt(i) > 0x7F) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+}
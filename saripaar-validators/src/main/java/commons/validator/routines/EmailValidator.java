@@ -0,0 +1,313 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package commons.validator.routines;
+
+import java.io.Serializable;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * <p>Perform email validations.</p>
+ * <p>
+ * Based on a script by <a href="mailto:stamhankar@hotmail.com">Sandeep V. Tamhankar</a>
+ * http://javascript.internet.com
+ * </p>
+ * <p>
+ * This implementation is not guaranteed to catch all possible errors in an email address.
+ * </p>.
+ *
+ * @version $Revision$
+ * @since Validator 1.4
+ */
+public class EmailValidator implements Serializable, ResultCache.Validation {
+
+    private static final long serialVersionUID = 1705927040799295880L;
+
+    private static final String SPECIAL_CHARS = "\\p{Cntrl}\\(\\)<>@,;:'\\\\\\\"\\.\\[\\]";
+    private static final String VALID_CHARS = "[^\\s" + SPECIAL_CHARS + "]";
+    private static final String QUOTED_USER = "(\"[^\"]*\")";
+    private static final String WORD = "((" + VALID_CHARS + "|')+|" + QUOTED_USER + ")";
+
+    private static final String EMAIL_REGEX = "^\\s*?(.+)@(.+?)\\s*$";
+    private static final String IP_DOMAIN_REGEX = "^\\[(.*)\\]$";
+    private static final String USER_REGEX = "^\\s*" + WORD + "(\\." + WORD + ")*$";
+
+    private static final Pattern EMAIL_PATTERN = Pattern.compile(EMAIL_REGEX);
+    private static final Pattern IP_DOMAIN_PATTERN = Pattern.compile(IP_DOMAIN_REGEX);
+    private static final Pattern USER_PATTERN = Pattern.compile(USER_REGEX);
+
+    // Characters in SPECIAL_CHARS other than controls, ' is allowed in a WORD though
+    private static final String SPECIAL_SYMBOLS = "()<>@,;:\\\".[]";
+
+    /**
+     * The maximum length of an e-mail address, including surrounding whitespace. Longer
+     * input is rejected before any other check. RFC 3696 allows 64 characters before the
+     * '@' and 255 after it.
+     * @since 2.1.0
+     */
+    public static final int MAX_LENGTH = 320;
+
+    private final boolean allowLocal;
+
+    /**
+     * Singleton instance of this class, which
+     *  doesn't consider local addresses as valid.
+     */
+    private static final EmailValidator EMAIL_VALIDATOR = new EmailValidator(false);
+
+    /**
+     * Singleton instance of this class, which does
+     *  consider local addresses valid.
+     */
+    private static final EmailValidator EMAIL_VALIDATOR_WITH_LOCAL = new EmailValidator(true);
+
+    /**
+     * Returns the Singleton instance of this validator.
+     *
+     * @return singleton instance of this validator.
+     */
+    public static EmailValidator getInstance() {
+        return EMAIL_VALIDATOR;
+    }
+
+    /**
+     * Returns the Singleton instance of this validator,
+     *  with local validation as required.
+     *
+     * @param allowLocal Should local addresses be considered valid?
+     * @return singleton instance of this validator
+     */
+    public static EmailValidator getInstance(boolean allowLocal) {
+        if(allowLocal) {
+           return EMAIL_VALIDATOR_WITH_LOCAL;
+        }
+        return EMAIL_VALIDATOR;
+    }
+
+    /**
+     * Protected constructor for subclasses to use.
+     *
+     * @param allowLocal Should local addresses be considered valid?
+     */
+    protected EmailValidator(boolean allowLocal) {
+        super();
+        this.allowLocal = allowLocal;
+    }
+
+    /**
+     * <p>Checks if a field has a valid e-mail address.</p>
+     *
+     * @param email The value validation is being performed on.  A <code>null</code>
+     *              value is considered invalid.
+     * @return true if the email address is valid.
+     */
+    public boolean isValid(String email) {
+        if (email == null || email.length() > MAX_LENGTH) {
+            return false;
+        }
+
+        // Subclasses may override the protected checks, which work on String components
+        if (getClass() != EmailValidator.class) {
+            return isValidUsingRegex(email);
+        }
+
+        if (email.endsWith(".")) { // check this first - it's cheap!
+            return false;
+        }
+
+        // Same split as EMAIL_PATTERN: trimmed, no line terminators, greedy before the '@'
+        final int length = email.length();
+        int userStart = 0;
+        while (userStart < length && isWhitespace(email.charAt(userStart))) {
+            userStart++;
+        }
+        int domainEnd = length;
+        while (domainEnd > userStart && isWhitespace(email.charAt(domainEnd - 1))) {
+            domainEnd--;
+        }
+        int firstLineTerminator = length;
+        int lastLineTerminator = -1;
+        for (int i = userStart; i < domainEnd; i++) {
+            if (isLineTerminator(email.charAt(i))) {
+                if (firstLineTerminator == length) {
+                    firstLineTerminator = i;
+                }
+                lastLineTerminator = i;
+            }
+        }
+
+        for (int at = email.lastIndexOf('@'); at != -1; at = email.lastIndexOf('@', at - 1)) {
+            boolean userMatches = userStart < at
+                    ? firstLineTerminator >= at
+                    : at > 0 && !isLineTerminator(email.charAt(at - 1));
+            boolean domainMatches = at + 1 < domainEnd
+                    ? lastLineTerminator < at + 1
+                    : at + 1 < length && !isLineTerminator(email.charAt(at + 1));
+            if (userMatches && domainMatches) {
+                // A domain made of whitespace is never valid
+                return userStart < at && at + 1 < domainEnd
+                        && isValidUser(email, userStart, at)
+                        && isValidDomain(email, at + 1, domainEnd);
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Checks if an e-mail address is valid, consulting a cache of earlier results first.
+     * Only inputs that aren't in the cache are validated, and their results are cached.
+     *
+     * @param email the input to validate
+     * @param cache the results of earlier validations by this validator, or <code>null</code>
+     * to validate without caching
+     * @return true if the input is valid
+     * @throws IllegalArgumentException if the cache was used with another validator
+     * @since 2.1.0
+     */
+    public boolean isValid(String email, ResultCache cache) {
+        return ResultCache.isValid(cache, email, this);
+    }
+
+    /**
+     * <p>Checks if a field has a valid e-mail address using regular expressions and the
+     * protected component checks.</p>
+     *
+     * This is the reference implementation for {@link #isValid(String)}, which scans the
+     * address in a single pass instead. It is also used for subclasses, since they may
+     * override the component checks.
+     *
+     * @param email The value validation is being performed on, not null.
+     * @return true if the email address is valid.
+     */
+    boolean isValidUsingRegex(String email) {
+        if (email.endsWith(".")) { // check this first - it's cheap!
+            return false;
+        }
+
+        // Check the whole email address structure
+        Matcher emailMatcher = EMAIL_PATTERN.matcher(email);
+        if (!emailMatcher.matches()) {
+            return false;
+        }
+
+        if (!isValidUser(emailMatcher.group(1))) {
+            return false;
+        }
+
+        if (!isValidDomain(emailMatcher.group(2))) {
+            return false;
+        }
+
+        return true;
+    }
+
+    /**
+     * Returns true if the domain component of an email address is valid.
+     *
+     * @param domain being validated, may be in IDN format
+     * @return true if the email address's domain is valid.
+     */
+    protected boolean isValidDomain(String domain) {
+        // see if domain is an IP address in brackets
+        Matcher ipDomainMatcher = IP_DOMAIN_PATTERN.matcher(domain);
+
+        if (ipDomainMatcher.matches()) {
+            InetAddressValidator inetAddressValidator =
+                    InetAddressValidator.getInstance();
+            return inetAddressValidator.isValid(ipDomainMatcher.group(1));
+        }
+        // Domain is symbolic name
+        DomainValidator domainValidator =
+                DomainValidator.getInstance(allowLocal);
+        return domainValidator.isValid(domain) ||
+                domainValidator.isValidTld(domain);
+    }
+
+    /**
+     * Returns true if the user component of an email address is valid.
+     *
+     * @param user being validated
+     * @return true if the user name is valid.
+     */
+    protected boolean isValidUser(String user) {
+        return USER_PATTERN.matcher(user).matches();
+    }
+
+    // Same as isValidDomain(String), on a region
+    private boolean isValidDomain(String email, int start, int end) {
+        if (end - start >= 2 && email.charAt(start) == '[' && email.charAt(end - 1) == ']') {
+            InetAddressValidator inetAddressValidator =
+                    InetAddressValidator.getInstance();
+            return inetAddressValidator.isValid(email, start + 1, end - 1);
+        }
+        // Domain is symbolic name
+        DomainValidator domainValidator =
+                DomainValidator.getInstance(allowLocal);
+        return domainValidator.isValidDomainOrTld(email, start, end);
+    }
+
+    // Same as USER_PATTERN on a region without leading whitespace: WORD(\.WORD)*
+    private static boolean isValidUser(String email, int start, int end) {
+        int position = start;
+        while (true) {
+            if (position == end) {
+                return false;
+            }
+            if (email.charAt(position) == '"') {
+                position = email.indexOf('"', position + 1);
+                if (position == -1 || position >= end) {
+                    return false;
+                }
+                position++;
+            } else {
+                int wordStart = position;
+                while (position < end && isWordCharacter(email.charAt(position))) {
+                    position++;
+                }
+                if (position == wordStart) {
+                    return false;
+                }
+            }
+
+            if (position == end) {
+                return true;
+            }
+            if (email.charAt(position) != '.') {
+                return false;
+            }
+            position++;
+        }
+    }
+
+    private static boolean isWordCharacter(char c) {
+        if (c <= 0x1F || c == 0x7F || isWhitespace(c)) {
+            return false;
+        }
+        return SPECIAL_SYMBOLS.indexOf(c) == -1;
+    }
+
+    // Characters matched by \s
+    private static boolean isWhitespace(char c) {
+        return c == ' ' || c == '\t' || c == '\n' || c == 0x0B || c == '\f' || c == '\r';
+    }
+
+    // Characters that are not matched by '.' in a regular expression
+    private static boolean isLineTerminator(char c) {
+        return UrlTokenizer.isLineTerminator(c);
+    }
+
+}
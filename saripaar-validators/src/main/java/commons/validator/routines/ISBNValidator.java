@@ -53,7 +53,7 @@ import commons.validator.routines.checkdigit.CheckDigitException;
  * @version $Revision$
  * @since Validator 1.4
  */
-public class ISBNValidator implements Serializable {
+public class ISBNValidator implements Serializable, ResultCache.Validation {
 
     private static final long serialVersionUID = 4319515687976420405L;
 
@@ -147,6 +147,21 @@ public class ISBNValidator implements Serializable {
         return (isValidISBN13(code) || isValidISBN10(code));
     }
 
+    /**
+     * Checks if an ISBN-10 or ISBN-13 code is valid, consulting a cache of earlier results first.
+     * Only inputs that aren't in the cache are validated, and their results are cached.
+     *
+     * @param code the input to validate
+     * @param cache the results of earlier validations by this validator, or <code>null</code>
+     * to validate without caching
+     * @return true if the input is valid
+     * @throws IllegalArgumentException if the cache was used with another validator
+     * @since 2.1.0
+     */
+    public boolean isValid(String code, ResultCache cache) {
+        return ResultCache.isValid(cache, code, this);
+    }
+
     /**
      * Check the code is a valid ISBN-10 code.
      *
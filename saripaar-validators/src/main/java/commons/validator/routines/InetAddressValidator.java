@@ -0,0 +1,278 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package commons.validator.routines;
+
+import java.io.Serializable;
+
+/**
+ * <p><b>InetAddress</b> validation and conversion routines (<code>java.net.InetAddress</code>).</p>
+ *
+ * <p>This class provides methods to validate a candidate IP address.
+ *
+ * <p>
+ * Addresses are checked by scanning their characters once, without allocating. The region
+ * methods check part of a larger string in place, and can write the parsed address into a
+ * caller-supplied array.
+ * </p>
+ *
+ * <p>
+ * This class is a Singleton; you can retrieve the instance via the {@link #getInstance()} method.
+ * </p>
+ *
+ * @version $Revision$
+ * @since Validator 1.4
+ */
+public class InetAddressValidator implements Serializable {
+
+    private static final long serialVersionUID = -919201640201914789L;
+
+    /**
+     * The number of bytes in an IPv4 address.
+     * @since 2.1.0
+     */
+    public static final int INET4_ADDRESS_LENGTH = 4;
+
+    /**
+     * The number of bytes in an IPv6 address.
+     * @since 2.1.0
+     */
+    public static final int INET6_ADDRESS_LENGTH = 16;
+
+    private static final int IPV6_MAX_HEX_GROUPS = 8;
+    private static final int IPV6_MAX_HEX_DIGITS_PER_GROUP = 4;
+    private static final int IPV4_MAX_DIGITS_PER_SEGMENT = 3;
+
+    /**
+     * Singleton instance of this class.
+     */
+    private static final InetAddressValidator VALIDATOR = new InetAddressValidator();
+
+    /**
+     * Returns the singleton instance of this validator.
+     * @return the singleton instance of this validator
+     */
+    public static InetAddressValidator getInstance() {
+        return VALIDATOR;
+    }
+
+    /**
+     * Checks if the specified string is a valid IP address.
+     * @param inetAddress the string to validate
+     * @return true if the string validates as an IP address
+     */
+    public boolean isValid(String inetAddress) {
+        return isValidInet4Address(inetAddress) || isValidInet6Address(inetAddress);
+    }
+
+    /**
+     * Checks if a region of the input is a valid IP address.
+     * @param input the characters containing the address, not null
+     * @param start the offset at which the address starts
+     * @param end the offset at which the address ends
+     * @return true if the region validates as an IP address
+     * @since 2.1.0
+     */
+    public boolean isValid(CharSequence input, int start, int end) {
+        return isValidInet4Address(input, start, end, null)
+                || isValidInet6Address(input, start, end, null);
+    }
+
+    /**
+     * Validates an IPv4 address. Returns true if valid.
+     * @param inet4Address the IPv4 address to validate
+     * @return true if the argument contains a valid IPv4 address
+     */
+    public boolean isValidInet4Address(String inet4Address) {
+        return inet4Address != null
+                && isValidInet4Address(inet4Address, 0, inet4Address.length(), null);
+    }
+
+    /**
+     * Validates an IPv4 address in a region of the input, made up of four decimal
+     * segments from 0 to 255 without leading zeros.
+     * @param input the characters containing the address, not null
+     * @param start the offset at which the address starts
+     * @param end the offset at which the address ends
+     * @param address receives the {@link #INET4_ADDRESS_LENGTH} bytes of the address in
+     * network order if not null, its contents are undefined if the address isn't valid
+     * @return true if the region contains a valid IPv4 address
+     * @since 2.1.0
+     */
+    public boolean isValidInet4Address(CharSequence input, int start, int end, byte[] address) {
+        return scanInet4Address(input, start, end, address, 0);
+    }
+
+    private static boolean scanInet4Address(CharSequence input, int start, int end,
+            byte[] address, int offset) {
+        int position = start;
+        for (int segment = 0; segment < INET4_ADDRESS_LENGTH; segment++) {
+            if (segment > 0) {
+                if (position == end || input.charAt(position) != '.') {
+                    return false;
+                }
+                position++;
+            }
+
+            int segmentStart = position;
+            int value = 0;
+            while (position < end && isDigit(input.charAt(position))) {
+                if (position - segmentStart == IPV4_MAX_DIGITS_PER_SEGMENT) {
+                    return false;
+                }
+                value = value * 10 + (input.charAt(position) - '0');
+                position++;
+            }
+
+            int digits = position - segmentStart;
+            if (digits == 0 || value > 255 || (digits > 1 && input.charAt(segmentStart) == '0')) {
+                return false;
+            }
+            if (address != null) {
+                address[offset + segment] = (byte) value;
+            }
+        }
+        return position == end;
+    }
+
+    /**
+     * Validates an IPv6 address. Returns true if valid.
+     * @param inet6Address the IPv6 address to validate
+     * @return true if the argument contains a valid IPv6 address
+     * 
+     * @since 1.4.1
+     */
+    public boolean isValidInet6Address(String inet6Address) {
+        return inet6Address != null
+                && isValidInet6Address(inet6Address, 0, inet6Address.length(), null);
+    }
+
+    /**
+     * Validates an IPv6 address in a region of the input. The address is made up of groups
+     * of one to four hexadecimal digits separated by colons, and may contain a single "::"
+     * that stands for one or more groups of zeros. The last two groups may be written as an
+     * IPv4 address.
+     * @param input the characters containing the address, not null
+     * @param start the offset at which the address starts
+     * @param end the offset at which the address ends
+     * @param address receives the {@link #INET6_ADDRESS_LENGTH} bytes of the address in
+     * network order if not null, its contents are undefined if the address isn't valid
+     * @return true if the region contains a valid IPv6 address
+     * @since 2.1.0
+     */
+    public boolean isValidInet6Address(CharSequence input, int start, int end, byte[] address) {
+        if (end - start < 2) {
+            return false;
+        }
+
+        int position = start;
+        int groups = 0;
+        int compressedAt = -1;  // Number of groups before the "::"
+        if (input.charAt(position) == ':') {
+            if (input.charAt(position + 1) != ':') {
+                return false;
+            }
+            compressedAt = 0;
+            position += 2;
+        }
+
+        while (position < end) {
+            int groupStart = position;
+            int value = 0;
+            int digit;
+            while (position < end && (digit = hexDigit(input.charAt(position))) != -1) {
+                value = (value << 4) | digit;
+                position++;
+            }
+
+            // IPv4 address in the last two groups
+            if (position < end && input.charAt(position) == '.') {
+                if (groups > IPV6_MAX_HEX_GROUPS - 2
+                        || !scanInet4Address(input, groupStart, end, address, 2 * groups)) {
+                    return false;
+                }
+                groups += 2;
+                break;
+            }
+
+            int digits = position - groupStart;
+            if (digits == 0 || digits > IPV6_MAX_HEX_DIGITS_PER_GROUP
+                    || groups == IPV6_MAX_HEX_GROUPS) {
+                return false;
+            }
+            if (address != null) {
+                address[2 * groups] = (byte) (value >> 8);
+                address[2 * groups + 1] = (byte) value;
+            }
+            groups++;
+
+            if (position == end) {
+                break;
+            }
+            if (input.charAt(position) != ':') {
+                return false;
+            }
+            position++;
+            if (position < end && input.charAt(position) == ':') {
+                if (compressedAt != -1) {
+                    return false;
+                }
+                compressedAt = groups;
+                position++;
+            } else if (position == end) {
+                // Trailing single ':'
+                return false;
+            }
+        }
+
+        if (compressedAt == -1) {
+            return groups == IPV6_MAX_HEX_GROUPS;
+        }
+        if (groups >= IPV6_MAX_HEX_GROUPS) {
+            return false;
+        }
+
+        // Move the groups after the "::" to the end, zeros in between
+        if (address != null) {
+            int tailStart = 2 * compressedAt;
+            int tailLength = 2 * (groups - compressedAt);
+            int newTailStart = INET6_ADDRESS_LENGTH - tailLength;
+            System.arraycopy(address, tailStart, address, newTailStart, tailLength);
+            for (int i = tailStart; i < newTailStart; i++) {
+                address[i] = 0;
+            }
+        }
+        return true;
+    }
+
+    private static boolean isDigit(char c) {
+        return c >= '0' && c <= '9';
+    }
+
+    private static int hexDigit(char c) {
+        if (c >= '0' && c <= '9') {
+            return c - '0';
+        }
+        if (c >= 'a' && c <= 'f') {
+            return c - 'a' + 10;
+        }
+        if (c >= 'A' && c <= 'F') {
+            return c - 'A' + 10;
+        }
+        return -1;
+    }
+}
@@ -0,0 +1,145 @@
+/*
+ * Copyright (C) 2014 Mobs & Geeks
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file
+ * except in compliance with the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the
+ * License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied. See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package commons.validator.routines;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * A map bounded by its number of entries and, optionally, by the total weight of its keys,
+ * that evicts the least recently used entries beyond either limit. Shared by
+ * {@link ResultCache} and {@link PatternCache}.
+ * <p>
+ * Instances aren't thread-safe, callers synchronize on the map.
+ * </p>
+ *
+ * @param <K> The type of keys.
+ * @param <V> The type of values.
+ * @since 2.1.0
+ */
+class LruMap<K, V> {
+
+    /**
+     * Used as the maximum weight when the map is only bounded by its entries.
+     */
+    static final long UNBOUNDED_WEIGHT = Long.MAX_VALUE;
+
+    private final Map<K, V> entries = new LinkedHashMap<K, V>(16, 0.75f, true);
+    private int maxEntries;
+    private long maxWeight;
+    private long weight;
+    private long evictionCount;
+
+    /**
+     * Construct a map that holds up to <code>maxEntries</code> entries whose keys weigh up
+     * to <code>maxWeight</code> in all.
+     *
+     * @param maxEntries The maximum number of entries, must be positive.
+     * @param maxWeight The maximum total weight, must be positive.
+     */
+    LruMap(int maxEntries, long maxWeight) {
+        this.maxEntries = maxEntries;
+        this.maxWeight = maxWeight;
+    }
+
+    /**
+     * Return the weight of a key, which stays the same for as long as it's in the map.
+     * Keys weigh nothing unless overridden.
+     *
+     * @param key The key.
+     * @return The weight of the key.
+     */
+    protected long weigh(K key) {
+        return 0;
+    }
+
+    /**
+     * Look up a value, marking its entry as the most recently used.
+     *
+     * @param key The key.
+     * @return The value, or <code>null</code> if the key isn't in the map.
+     */
+    V get(K key) {
+        return entries.get(key);
+    }
+
+    /**
+     * Add or replace an entry, evicting the least recently used entries beyond the limits.
+     * Entries that weigh more than the maximum weight on their own aren't added.
+     *
+     * @param key The key.
+     * @param value The value.
+     */
+    void put(K key, V value) {
+        long keyWeight = weigh(key);
+        if (keyWeight > maxWeight) {
+            return;
+        }
+        if (entries.put(key, value) == null) {
+            weight += keyWeight;
+        }
+        evictExcess();
+    }
+
+    /**
+     * Change the limits, evicting the least recently used entries beyond them.
+     *
+     * @param maxEntries The maximum number of entries, must be positive.
+     * @param maxWeight The maximum total weight, must be positive.
+     */
+    void setLimits(int maxEntries, long maxWeight) {
+        this.maxEntries = maxEntries;
+        this.maxWeight = maxWeight;
+        evictExcess();
+    }
+
+    int getMaxEntries() {
+        return maxEntries;
+    }
+
+    long getMaxWeight() {
+        return maxWeight;
+    }
+
+    int size() {
+        return entries.size();
+    }
+
+    long getWeight() {
+        return weight;
+    }
+
+    long getEvictionCount() {
+        return evictionCount;
+    }
+
+    /**
+     * Remove all entries and reset the eviction count.
+     */
+    void clear() {
+        entries.clear();
+        weight = 0;
+        evictionCount = 0;
+    }
+
+    private void evictExcess() {
+        Iterator<K> keys = entries.keySet().iterator();
+        while (entries.size() > maxEntries || weight > maxWeight) {
+            weight -= weigh(keys.next());
+            keys.remove();
+            evictionCount++;
+        }
+    }
+}
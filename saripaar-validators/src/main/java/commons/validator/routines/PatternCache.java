@@ -0,0 +1,223 @@
+/*
+ * Copyright (C) 2014 Mobs & Geeks
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file
+ * except in compliance with the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the
+ * License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied. See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package commons.validator.routines;
+
+import java.util.regex.Pattern;
+
+/**
+ * A process-wide, bounded cache of compiled {@link Pattern}s.
+ * <p>
+ * Compiling a regular expression is far more expensive than matching it against the short
+ * inputs found in forms. {@link RegexValidator}, the {@code @Pattern} rule and custom rules
+ * obtain their {@link Pattern}s from here, so a given expression is compiled once and shared.
+ * Entries are keyed by the regular expression and its compilation flags, and the least
+ * recently used entry is evicted once the cache is full.
+ * </p>
+ * <pre>
+ * <code>
+ * Pattern pattern = PatternCache.getInstance().compile("\\d{6}", 0);
+ * boolean valid = pattern.matcher(value).matches();
+ * </code>
+ * </pre>
+ * <p>
+ * {@link Pattern}s are immutable and safe to use across threads, and so is this cache.
+ * </p>
+ *
+ * @since 2.1.0
+ */
+public final class PatternCache {
+
+    /**
+     * The number of {@link Pattern}s retained by default.
+     */
+    public static final int DEFAULT_MAX_SIZE = 64;
+
+    private static final PatternCache PATTERN_CACHE = new PatternCache(DEFAULT_MAX_SIZE);
+
+    private final LruMap<Key, Pattern> patterns;
+    private long hitCount;
+    private long missCount;
+
+    /**
+     * Returns the shared instance of the cache.
+     *
+     * @return The shared {@link PatternCache}.
+     */
+    public static PatternCache getInstance() {
+        return PATTERN_CACHE;
+    }
+
+    /**
+     * Construct a cache that holds up to <code>maxSize</code> {@link Pattern}s. Most callers
+     * should use the shared instance returned by {@link #getInstance()} instead.
+     *
+     * @param maxSize The maximum number of {@link Pattern}s to retain, must be positive.
+     */
+    public PatternCache(int maxSize) {
+        assertValidSize(maxSize);
+        this.patterns = new LruMap<Key, Pattern>(maxSize, LruMap.UNBOUNDED_WEIGHT);
+    }
+
+    /**
+     * Returns the compiled form of a regular expression with no flags.
+     *
+     * @param regex The regular expression to compile.
+     * @return The compiled {@link Pattern}.
+     * @throws java.util.regex.PatternSyntaxException If the expression's syntax is invalid.
+     */
+    public Pattern compile(String regex) {
+        return compile(regex, 0);
+    }
+
+    /**
+     * Returns the compiled form of a regular expression, compiling and caching it if it
+     * isn't cached already.
+     *
+     * @param regex The regular expression to compile.
+     * @param flags Match flags, as accepted by {@link Pattern#compile(String, int)}.
+     * @return The compiled {@link Pattern}.
+     * @throws java.util.regex.PatternSyntaxException If the expression's syntax is invalid.
+     */
+    public Pattern compile(String regex, int flags) {
+        if (regex == null) {
+            throw new IllegalArgumentException("Regular expression is missing");
+        }
+        Key key = new Key(regex, flags);
+        synchronized (patterns) {
+            Pattern pattern = patterns.get(key);
+            if (pattern != null) {
+                hitCount++;
+                return pattern;
+            }
+            missCount++;
+        }
+
+        // Compile outside the lock, a concurrent miss for the same key at worst compiles twice
+        Pattern pattern = Pattern.compile(regex, flags);
+        synchronized (patterns) {
+            patterns.put(key, pattern);
+        }
+        return pattern;
+    }
+
+    /**
+     * Changes the maximum number of {@link Pattern}s retained, evicting the least recently
+     * used entries if the cache holds more than the new limit.
+     *
+     * @param maxSize The maximum number of {@link Pattern}s to retain, must be positive.
+     */
+    public void setMaxSize(int maxSize) {
+        assertValidSize(maxSize);
+        synchronized (patterns) {
+            patterns.setLimits(maxSize, LruMap.UNBOUNDED_WEIGHT);
+        }
+    }
+
+    /**
+     * Return the maximum number of {@link Pattern}s retained by this cache.
+     *
+     * @return The maximum size.
+     */
+    public int getMaxSize() {
+        synchronized (patterns) {
+            return patterns.getMaxEntries();
+        }
+    }
+
+    /**
+     * Return the number of {@link Pattern}s currently cached.
+     *
+     * @return The current size.
+     */
+    public int size() {
+        synchronized (patterns) {
+            return patterns.size();
+        }
+    }
+
+    /**
+     * Return the number of lookups that were served from the cache.
+     *
+     * @return The hit count.
+     */
+    public long getHitCount() {
+        synchronized (patterns) {
+            return hitCount;
+        }
+    }
+
+    /**
+     * Return the number of lookups that required a compilation.
+     *
+     * @return The miss count.
+     */
+    public long getMissCount() {
+        synchronized (patterns) {
+            return missCount;
+        }
+    }
+
+    /**
+     * Removes all cached {@link Pattern}s and resets the hit and miss counters.
+     */
+    public void clear() {
+        synchronized (patterns) {
+            patterns.clear();
+            hitCount = 0;
+            missCount = 0;
+        }
+    }
+
+    /**
+     * Provide a String representation of this cache.
+     * @return A String representation of this cache
+     */
+    public String toString() {
+        synchronized (patterns) {
+            return "PatternCache{size=" + patterns.size() + ", maxSize=" + patterns.getMaxEntries()
+                    + ", hits=" + hitCount + ", misses=" + missCount + "}";
+        }
+    }
+
+    private static void assertValidSize(int maxSize) {
+        if (maxSize <= 0) {
+            throw new IllegalArgumentException("Maximum size must be positive, but was " + maxSize);
+        }
+    }
+
+    private static final class Key {
+        private final String regex;
+        private final int flags;
+
+        Key(String regex, int flags) {
+            this.regex = regex;
+            this.flags = flags;
+        }
+
+        public boolean equals(Object object) {
+            if (this == object) {
+                return true;
+            }
+            if (!(object instanceof Key)) {
+                return false;
+            }
+            Key other = (Key) object;
+            return flags == other.flags && regex.equals(other.regex);
+        }
+
+        public int hashCode() {
+            return 31 * regex.hashCode() + flags;
+        }
+    }
+}
@@ -0,0 +1,419 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package commons.validator.routines;
+
+import java.io.Serializable;
+import java.util.regex.Pattern;
+import java.util.regex.Matcher;
+
+/**
+ * <b>Regular Expression</b> validation (using JDK 1.4+ regex support).
+ * <p>
+ * Construct the validator either for a single regular expression or a set (array) of
+ * regular expressions. By default validation is <i>case sensitive</i> but constructors
+ * are provided to allow  <i>case in-sensitive</i> validation. For example to create
+ * a validator which does <i>case in-sensitive</i> validation for a set of regular
+ * expressions:
+ * </p>
+ * <pre>
+ * <code>
+ * String[] regexs = new String[] {...};
+ * RegexValidator validator = new RegexValidator(regexs, false);
+ * </code>
+ * </pre>
+ *
+ * <ul>
+ *   <li>Validate <code>true</code> or <code>false</code>:</li>
+ *   <li>
+ *     <ul>
+ *       <li><code>boolean valid = validator.isValid(value);</code></li>
+ *     </ul>
+ *   </li>
+ *   <li>Validate returning an aggregated String of the matched groups:</li>
+ *   <li>
+ *     <ul>
+ *       <li><code>String result = validator.validate(value);</code></li>
+ *     </ul>
+ *   </li>
+ *   <li>Validate returning the matched groups:</li>
+ *   <li>
+ *     <ul>
+ *       <li><code>String[] result = validator.match(value);</code></li>
+ *     </ul>
+ *   </li>
+ * </ul>
+ *
+ * <p>
+ * Cached instances pre-compile and re-use {@link Pattern}(s) - which according
+ * to the {@link Pattern} API are safe to use in a multi-threaded environment.
+ * {@link Pattern}s are obtained from the shared {@link PatternCache}, so validators
+ * constructed for the same regular expressions do not compile them again.
+ * </p>
+ *
+ * <p>
+ * {@link Matcher}s are re-used per thread, so validating a value doesn't create one
+ * for each expression tried. The expressions are still tried one at a time, in order.
+ * </p>
+ *
+ * @version $Revision$
+ * @since Validator 1.4
+ */
+public class RegexValidator implements Serializable {
+
+    private static final long serialVersionUID = -8832409930574867162L;
+
+    private final Pattern[] patterns;
+
+    /**
+     * Matchers for each pattern, re-used per thread.
+     */
+    private transient ThreadLocal<Matcher[]> matchers;
+
+    /**
+     * Whether the capturing groups of each pattern are known not to nest.
+     */
+    private final boolean disjointGroups;
+
+    /**
+     * Construct a <i>case sensitive</i> validator for a single
+     * regular expression.
+     *
+     * @param regex The regular expression this validator will
+     * validate against
+     */
+    public RegexValidator(String regex) {
+        this(regex, true);
+    }
+
+    /**
+     * Construct a validator for a single regular expression
+     * with the specified case sensitivity.
+     *
+     * @param regex The regular expression this validator will
+     * validate against
+     * @param caseSensitive when <code>true</code> matching is <i>case
+     * sensitive</i>, otherwise matching is <i>case in-sensitive</i>
+     */
+    public RegexValidator(String regex, boolean caseSensitive) {
+        this(new String[] {regex}, caseSensitive);
+    }
+
+    /**
+     * Construct a <i>case sensitive</i> validator that matches any one
+     * of the set of regular expressions.
+     *
+     * @param regexs The set of regular expressions this validator will
+     * validate against
+     */
+    public RegexValidator(String[] regexs) {
+        this(regexs, true);
+    }
+
+    /**
+     * Construct a validator that matches any one of the set of regular
+     * expressions with the specified case sensitivity.
+     *
+     * @param regexs The set of regular expressions this validator will
+     * validate against
+     * @param caseSensitive when <code>true</code> matching is <i>case
+     * sensitive</i>, otherwise matching is <i>case in-sensitive</i>
+     */
+    public RegexValidator(String[] regexs, boolean caseSensitive) {
+        if (regexs == null || regexs.length == 0) {
+            throw new IllegalArgumentException("Regular expressions are missing");
+        }
+        patterns = new Pattern[regexs.length];
+        int flags =  (caseSensitive ? 0: Pattern.CASE_INSENSITIVE);
+        for (int i = 0; i < regexs.length; i++) {
+            if (regexs[i] == null || regexs[i].length() == 0) {
+                throw new IllegalArgumentException("Regular expression[" + i + "] is missing");
+            }
+            patterns[i] = PatternCache.getInstance().compile(regexs[i], flags);
+        }
+
+        boolean disjoint = true;
+        for (int i = 0; i < regexs.length && disjoint; i++) {
+            disjoint = !mayNestGroups(regexs[i]);
+        }
+        disjointGroups = disjoint;
+    }
+
+    /**
+     * Validate a value against the set of regular expressions.
+     *
+     * @param value The value to validate.
+     * @return <code>true</code> if the value is valid
+     * otherwise <code>false</code>.
+     */
+    public boolean isValid(String value) {
+        if (value == null) {
+            return false;
+        }
+        Matcher[] threadMatchers = getMatchers();
+        for (int i = 0; i < threadMatchers.length; i++) {
+            Matcher matcher = threadMatchers[i].reset(value);
+            boolean matches = matcher.matches();
+            matcher.reset("");
+            if (matches) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Validate a value against the set of regular expressions
+     * returning the array of matched groups.
+     *
+     * @param value The value to validate.
+     * @return String array of the <i>groups</i> matched if
+     * valid or <code>null</code> if invalid
+     */
+    public String[] match(String value) {
+        if (value == null) {
+            return null;
+        }
+        Matcher[] threadMatchers = getMatchers();
+        for (int i = 0; i < threadMatchers.length; i++) {
+            Matcher matcher = threadMatchers[i].reset(value);
+            if (matcher.matches()) {
+                int count = matcher.groupCount();
+                String[] groups = new String[count];
+                for (int j = 0; j < count; j++) {
+                    groups[j] = matcher.group(j + 1);
+                }
+                matcher.reset("");
+                return groups;
+            }
+            matcher.reset("");
+        }
+        return null;
+    }
+
+
+    /**
+     * Validate a value against the set of regular expressions
+     * returning a String value of the aggregated groups.
+     *
+     * @param value The value to validate.
+     * @return Aggregated String value comprised of the
+     * <i>groups</i> matched if valid or <code>null</code> if invalid
+     */
+    public String validate(String value) {
+        if (value == null) {
+            return null;
+        }
+        Matcher[] threadMatchers = getMatchers();
+        for (int i = 0; i < threadMatchers.length; i++) {
+            Matcher matcher = threadMatchers[i].reset(value);
+            if (matcher.matches()) {
+                int count = matcher.groupCount();
+                String result;
+                if (count == 1) {
+                    result = matcher.group(1);
+                } else {
+                    StringBuilder buffer = new StringBuilder(value.length());
+                    for (int j = 1; j <= count; j++) {
+                        int start = matcher.start(j);
+                        if (start != -1) {
+                            buffer.append(value, start, matcher.end(j));
+                        }
+                    }
+                    result = buffer.toString();
+                }
+                matcher.reset("");
+                return result;
+            }
+            matcher.reset("");
+        }
+        return null;
+    }
+
+    /**
+     * Provide a String representation of this validator.
+     * @return A String representation of this validator
+     */
+    public String toString() {
+        StringBuilder buffer = new StringBuilder();
+        buffer.append("RegexValidator{");
+        for (int i = 0; i < patterns.length; i++) {
+            if (i > 0) {
+                buffer.append(",");
+            }
+            buffer.append(patterns[i].pattern());
+        }
+        buffer.append("}");
+        return buffer.toString();
+    }
+
+    /**
+     * Validate a region of a value against the set of regular expressions, copying
+     * the <i>groups</i> matched into a buffer, one after the other. This is what
+     * {@link #validate(String)} returns, without creating a String.
+     *
+     * @param value The characters containing the value to validate
+     * @param start The offset at which the value starts
+     * @param end The offset at which the value ends
+     * @param buffer Receives the groups matched, as many characters as fit
+     * @return The number of characters in the groups matched, which may exceed the
+     * length of the buffer, or <code>-1</code> if the value is invalid
+     */
+    int copyGroups(CharSequence value, int start, int end, char[] buffer) {
+        Matcher[] threadMatchers = getMatchers();
+        for (int i = 0; i < threadMatchers.length; i++) {
+            Matcher matcher = threadMatchers[i].reset(value).region(start, end);
+            if (matcher.matches()) {
+                int count = matcher.groupCount();
+                int length = count == 1 && matcher.start(1) == -1 ? -1 : 0;
+                for (int j = 1; j <= count; j++) {
+                    int groupStart = matcher.start(j);
+                    if (groupStart == -1) {
+                        continue;
+                    }
+                    for (int k = groupStart, groupEnd = matcher.end(j); k < groupEnd; k++) {
+                        if (length < buffer.length) {
+                            buffer[length] = value.charAt(k);
+                        }
+                        length++;
+                    }
+                }
+                matcher.reset("");
+                return length;
+            }
+            matcher.reset("");
+        }
+        return -1;
+    }
+
+    /**
+     * Whether the <i>groups</i> matched are known to add up to no more characters than
+     * the value, which is the case when no capturing group contains another.
+     *
+     * @return <code>true</code> if the groups of each expression don't nest
+     */
+    boolean hasDisjointGroups() {
+        return disjointGroups;
+    }
+
+    /**
+     * Return the {@link Matcher}s for the current thread, creating them on first use.
+     * Matchers are reset to an empty input after each use so that they don't retain
+     * the values validated.
+     *
+     * @return One matcher per pattern
+     */
+    private Matcher[] getMatchers() {
+        // Not created in the constructor since ThreadLocals aren't serializable
+        ThreadLocal<Matcher[]> threadLocal = matchers;
+        if (threadLocal == null) {
+            threadLocal = new ThreadLocal<Matcher[]>() {
+                protected Matcher[] initialValue() {
+                    Matcher[] patternMatchers = new Matcher[patterns.length];
+                    for (int i = 0; i < patterns.length; i++) {
+                        patternMatchers[i] = patterns[i].matcher("");
+                    }
+                    return patternMatchers;
+                }
+            };
+            matchers = threadLocal;
+        }
+        return threadLocal.get();
+    }
+
+    /**
+     * Check whether a capturing group of a regular expression may contain another.
+     * Constructs that are hard to follow, such as quoting and comments, are assumed
+     * to nest.
+     *
+     * @param regex The regular expression to check
+     * @return <code>false</code> if no capturing group contains another
+     */
+    private static boolean mayNestGroups(String regex) {
+        int length = regex.length();
+        boolean[] capturing = new boolean[length];
+        int depth = 0;
+        int capturingDepth = 0;
+        int classDepth = 0;
+        for (int i = 0; i < length; i++) {
+            char c = regex.charAt(i);
+            char next = i + 1 < length ? regex.charAt(i + 1) : 0;
+            if (c == '\\') {
+                if (next == 'Q') {
+                    return true;
+                }
+                i++;
+            } else if (classDepth > 0) {
+                if (c == '[') {
+                    classDepth++;
+                } else if (c == ']') {
+                    classDepth--;
+                }
+            } else if (c == '[') {
+                classDepth = 1;
+                // A leading ']' is a literal
+                if (next == '^') {
+                    i++;
+                    next = i + 1 < length ? regex.charAt(i + 1) : 0;
+                }
+                if (next == ']') {
+                    i++;
+                }
+            } else if (c == '(') {
+                boolean group = next != '?';
+                if (next == '?' && i + 2 < length) {
+                    char type = regex.charAt(i + 2);
+                    if (type == '<' && i + 3 < length) {
+                        group = regex.charAt(i + 3) != '=' && regex.charAt(i + 3) != '!';
+                    } else if (hasCommentsFlag(regex, i + 2)) {
+                        return true;
+                    }
+                }
+                if (group && capturingDepth > 0) {
+                    return true;
+                }
+                capturing[depth++] = group;
+                if (group) {
+                    capturingDepth++;
+                }
+            } else if (c == ')' && depth > 0 && capturing[--depth]) {
+                capturingDepth--;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Check whether embedded flags turn on comments, which may contain parentheses.
+     *
+     * @param regex The regular expression to check
+     * @param start The offset following <code>(?</code>
+     * @return <code>true</code> if the flags at the offset include <code>x</code>
+     */
+    private static boolean hasCommentsFlag(String regex, int start) {
+        for (int i = start; i < regex.length(); i++) {
+            char c = regex.charAt(i);
+            if (c == 'x') {
+                return true;
+            }
+            if (!Character.isLetter(c) && c != '-') {
+                return false;
+            }
+        }
+        return false;
+    }
+
+}
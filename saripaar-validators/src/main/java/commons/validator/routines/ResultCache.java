@@ -0,0 +1,271 @@
+/*
+ * Copyright (C) 2014 Mobs & Geeks
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file
+ * except in compliance with the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the
+ * License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied. See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package commons.validator.routines;
+
+/**
+ * A bounded cache of validation results, for validators that are called repeatedly with the
+ * same input.
+ * <p>
+ * Forms tend to validate the same text over and over, when a user fixes one field and submits
+ * again or when a list re-validates the addresses it shows. {@link EmailValidator},
+ * {@link UrlValidator}, {@link DomainValidator} and {@link ISBNValidator} accept a cache in
+ * their <code>isValid(String, ResultCache)</code> methods and only validate inputs that aren't
+ * cached yet.
+ * </p>
+ * <pre>
+ * <code>
+ * ResultCache cache = new ResultCache(100);
+ * boolean valid = EmailValidator.getInstance().isValid(email, cache);
+ * </code>
+ * </pre>
+ * <p>
+ * The cache holds up to a maximum number of entries and, optionally, up to an approximate
+ * number of bytes, evicting the least recently used entries beyond either limit. A cache
+ * remembers the first validator it's used with and can't be shared with another, since
+ * validators configured differently give different results for the same input. Caches retain
+ * the inputs they have seen, so don't use one for sensitive values. Instances are thread-safe.
+ * </p>
+ *
+ * @since 2.1.0
+ */
+public final class ResultCache {
+
+    /**
+     * Approximate number of bytes used by an entry in addition to the characters of its input.
+     */
+    public static final int ENTRY_OVERHEAD_BYTES = 64;
+
+    /**
+     * Used as the maximum number of bytes when the cache is only bounded by its entries.
+     */
+    public static final long UNBOUNDED_BYTES = Long.MAX_VALUE;
+
+    private final LruMap<String, Boolean> results;
+    private Object validator;
+    private long hitCount;
+    private long missCount;
+
+    /**
+     * Construct a cache that holds up to <code>maxEntries</code> results.
+     *
+     * @param maxEntries The maximum number of results to retain, must be positive.
+     */
+    public ResultCache(int maxEntries) {
+        this(maxEntries, UNBOUNDED_BYTES);
+    }
+
+    /**
+     * Construct a cache that holds up to <code>maxEntries</code> results whose inputs take up
+     * about <code>maxBytes</code> bytes.
+     *
+     * @param maxEntries The maximum number of results to retain, must be positive.
+     * @param maxBytes The approximate maximum number of bytes to retain, must be positive.
+     */
+    public ResultCache(int maxEntries, long maxBytes) {
+        assertValidLimits(maxEntries, maxBytes);
+        this.results = new LruMap<String, Boolean>(maxEntries, maxBytes) {
+            @Override
+            protected long weigh(String input) {
+                return 2L * input.length() + ENTRY_OVERHEAD_BYTES;
+            }
+        };
+    }
+
+    /**
+     * Changes the limits of the cache, evicting the least recently used entries if the cache
+     * holds more than the new limits.
+     *
+     * @param maxEntries The maximum number of results to retain, must be positive.
+     * @param maxBytes The approximate maximum number of bytes to retain, must be positive.
+     */
+    public void setLimits(int maxEntries, long maxBytes) {
+        assertValidLimits(maxEntries, maxBytes);
+        synchronized (results) {
+            results.setLimits(maxEntries, maxBytes);
+        }
+    }
+
+    /**
+     * Return the maximum number of results retained by this cache.
+     *
+     * @return The maximum number of entries.
+     */
+    public int getMaxEntries() {
+        synchronized (results) {
+            return results.getMaxEntries();
+        }
+    }
+
+    /**
+     * Return the approximate maximum number of bytes retained by this cache.
+     *
+     * @return The maximum number of bytes, {@link #UNBOUNDED_BYTES} if the cache is
+     * only bounded by its entries.
+     */
+    public long getMaxBytes() {
+        synchronized (results) {
+            return results.getMaxWeight();
+        }
+    }
+
+    /**
+     * Return the number of results currently cached.
+     *
+     * @return The current number of entries.
+     */
+    public int size() {
+        synchronized (results) {
+            return results.size();
+        }
+    }
+
+    /**
+     * Return the approximate number of bytes currently retained.
+     *
+     * @return The current number of bytes.
+     */
+    public long getBytes() {
+        synchronized (results) {
+            return results.getWeight();
+        }
+    }
+
+    /**
+     * Return the number of lookups that were served from the cache.
+     *
+     * @return The hit count.
+     */
+    public long getHitCount() {
+        synchronized (results) {
+            return hitCount;
+        }
+    }
+
+    /**
+     * Return the number of lookups that required a validation.
+     *
+     * @return The miss count.
+     */
+    public long getMissCount() {
+        synchronized (results) {
+            return missCount;
+        }
+    }
+
+    /**
+     * Return the number of results evicted to stay within the limits.
+     *
+     * @return The eviction count.
+     */
+    public long getEvictionCount() {
+        synchronized (results) {
+            return results.getEvictionCount();
+        }
+    }
+
+    /**
+     * Removes all cached results and resets the counters. The cache may then be used with
+     * another validator.
+     */
+    public void clear() {
+        synchronized (results) {
+            results.clear();
+            validator = null;
+            hitCount = 0;
+            missCount = 0;
+        }
+    }
+
+    /**
+     * Provide a String representation of this cache.
+     * @return A String representation of this cache
+     */
+    public String toString() {
+        synchronized (results) {
+            return "ResultCache{size=" + results.size() + ", maxEntries="
+                    + results.getMaxEntries() + ", bytes=" + results.getWeight() + ", maxBytes="
+                    + results.getMaxWeight() + ", hits=" + hitCount + ", misses=" + missCount
+                    + ", evictions=" + results.getEvictionCount() + "}";
+        }
+    }
+
+    /**
+     * Validate an input, or return its cached result. This is what the
+     * <code>isValid(String, ResultCache)</code> methods of the validators delegate to.
+     *
+     * @param cache The cache, may be null to validate without caching.
+     * @param input The input to validate, may be null.
+     * @param validation The validator, which also owns the cache.
+     * @return The result of the validation.
+     * @throws IllegalArgumentException If the cache was used with another validator.
+     */
+    static boolean isValid(ResultCache cache, String input, Validation validation) {
+        if (input == null || cache == null) {
+            return validation.isValid(input);
+        }
+        Boolean cached = cache.get(validation, input);
+        if (cached != null) {
+            return cached.booleanValue();
+        }
+        boolean valid = validation.isValid(input);
+        synchronized (cache.results) {
+            cache.results.put(input, Boolean.valueOf(valid));
+        }
+        return valid;
+    }
+
+    private Boolean get(Object owner, String input) {
+        synchronized (results) {
+            if (validator == null) {
+                validator = owner;
+            } else if (validator != owner) {
+                throw new IllegalArgumentException(
+                        "ResultCache is already used by another validator");
+            }
+
+            Boolean result = results.get(input);
+            if (result != null) {
+                hitCount++;
+            } else {
+                missCount++;
+            }
+            return result;
+        }
+    }
+
+    private static void assertValidLimits(int maxEntries, long maxBytes) {
+        if (maxEntries <= 0) {
+            throw new IllegalArgumentException(
+                    "Maximum entries must be positive, but was " + maxEntries);
+        }
+        if (maxBytes <= 0) {
+            throw new IllegalArgumentException(
+                    "Maximum bytes must be positive, but was " + maxBytes);
+        }
+    }
+
+    /**
+     * A validator whose results can be cached.
+     */
+    interface Validation {
+
+        /**
+         * Validate an input.
+         *
+         * @param input The input to validate, may be null.
+         * @return <code>true</code> if the input is valid.
+         */
+        boolean isValid(String input);
+    }
+}
@@ -0,0 +1,177 @@
+/*
+ * Copyright (C) 2014 Mobs & Geeks
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file
+ * except in compliance with the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the
+ * License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied. See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package commons.validator.routines;
+
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.RandomAccessFile;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+
+/**
+ * A read-only, case-insensitive trie over the top-level domains known to
+ * {@link DomainValidator}. Each TLD is tagged with the categories it belongs to, so a single
+ * lookup both validates a TLD and reports its categories.
+ * <p>
+ * The trie is generated at build time from the bundled IANA list (see <code>tlds.gradle</code>)
+ * and packed into the <code>tlds.bin</code> resource, which is searched in place. Nodes are
+ * numbered breadth first, so the children of a node are contiguous and sorted by character.
+ * The resource is laid out as follows, big-endian:
+ * </p>
+ * <pre>
+ *   int    magic, "TLDS"
+ *   int    format version, 1
+ *   int    node count, n
+ *   byte   character leading into each node, n times
+ *   byte   category mask of the TLD ending at each node, 0 if none, n times
+ *   ushort index of the first child of each node, n + 1 times
+ * </pre>
+ * <p>
+ * Lookups work on a region of a <code>CharSequence</code> and don't allocate. Instances are
+ * immutable and thread-safe.
+ * </p>
+ *
+ * @since 2.1.0
+ */
+final class TldTrie {
+
+    // Absolute, so that the lookup still works if the class is repackaged or obfuscated
+    static final String RESOURCE = "/commons/validator/routines/tlds.bin";
+
+    private static final int MAGIC = 0x544C4453;
+    private static final int VERSION = 1;
+    private static final int HEADER_SIZE = 12;
+
+    private final ByteBuffer buffer;
+    private final int charsOffset;
+    private final int masksOffset;
+    private final int firstChildOffset;
+
+    /**
+     * Wraps a packed trie.
+     *
+     * @param buffer The packed trie, as written by <code>tlds.gradle</code>.
+     * @throws IllegalArgumentException If the buffer doesn't hold a packed trie.
+     */
+    TldTrie(ByteBuffer buffer) {
+        int base = buffer.position();
+        if (buffer.remaining() < HEADER_SIZE
+                || buffer.getInt(base) != MAGIC || buffer.getInt(base + 4) != VERSION) {
+            throw new IllegalArgumentException("Not a TLD trie");
+        }
+        int nodeCount = buffer.getInt(base + 8);
+        if (nodeCount < 1 || buffer.remaining() < HEADER_SIZE + 4 * nodeCount + 2) {
+            throw new IllegalArgumentException("Truncated TLD trie, " + nodeCount + " nodes");
+        }
+
+        this.buffer = buffer;
+        this.charsOffset = base + HEADER_SIZE;
+        this.masksOffset = charsOffset + nodeCount;
+        this.firstChildOffset = masksOffset + nodeCount;
+    }
+
+    /**
+     * Loads the bundled trie, memory-mapping it when the resource is a plain file. Reading
+     * the resource takes a moment, so load it off the main thread of an app where possible.
+     *
+     * @return The bundled trie.
+     * @throws IllegalStateException If the resource is missing or can't be read.
+     */
+    static TldTrie load() {
+        URL url = TldTrie.class.getResource(RESOURCE);
+        if (url == null) {
+            throw new IllegalStateException("Missing resource " + RESOURCE);
+        }
+
+        try {
+            File file = "file".equals(url.getProtocol()) ? new File(url.toURI()) : null;
+            return new TldTrie(file != null ? map(file) : read(url));
+        } catch (URISyntaxException e) {
+            throw new IllegalStateException("Cannot locate resource " + url, e);
+        } catch (IOException e) {
+            throw new IllegalStateException("Cannot read resource " + url, e);
+        }
+    }
+
+    /**
+     * Looks up a TLD without a leading dot. ASCII letters are matched case-insensitively.
+     *
+     * @param input The characters containing the TLD, not null.
+     * @param start The offset at which the TLD starts.
+     * @param end The offset at which the TLD ends.
+     * @return The category mask of the TLD, <code>0</code> if it isn't a TLD.
+     */
+    int lookup(CharSequence input, int start, int end) {
+        int node = 0;
+        for (int i = start; i < end; i++) {
+            char c = input.charAt(i);
+            if (c >= 'A' && c <= 'Z') {
+                c = (char) (c + ('a' - 'A'));
+            }
+
+            int low = firstChild(node);
+            int high = firstChild(node + 1) - 1;
+            node = -1;
+            while (low <= high) {
+                int middle = (low + high) >>> 1;
+                char middleChar = (char) (buffer.get(charsOffset + middle) & 0xFF);
+                if (middleChar < c) {
+                    low = middle + 1;
+                } else if (middleChar > c) {
+                    high = middle - 1;
+                } else {
+                    node = middle;
+                    break;
+                }
+            }
+            if (node == -1) {
+                return 0;
+            }
+        }
+        return buffer.get(masksOffset + node) & 0xFF;
+    }
+
+    private int firstChild(int node) {
+        return buffer.getChar(firstChildOffset + 2 * node);
+    }
+
+    private static ByteBuffer map(File file) throws IOException {
+        RandomAccessFile randomAccessFile = new RandomAccessFile(file, "r");
+        try {
+            FileChannel channel = randomAccessFile.getChannel();
+            return channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+        } finally {
+            randomAccessFile.close();
+        }
+    }
+
+    private static ByteBuffer read(URL url) throws IOException {
+        InputStream in = url.openStream();
+        try {
+            ByteArrayOutputStream out = new ByteArrayOutputStream(16 * 1024);
+            byte[] chunk = new byte[4096];
+            int count;
+            while ((count = in.read(chunk)) != -1) {
+                out.write(chunk, 0, count);
+            }
+            return ByteBuffer.wrap(out.toByteArray());
+        } finally {
+            in.close();
+        }
+    }
+}
@@ -0,0 +1,194 @@
+/*
+ * Copyright (C) 2014 Mobs & Geeks
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file
+ * except in compliance with the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the
+ * License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied. See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package commons.validator.routines;
+
+/**
+ * Splits a URL into its components in a single forward pass, recording each component as a
+ * pair of offsets instead of creating substrings.
+ * <p>
+ * {@link #tokenize(CharSequence)} follows the RFC 2396 expression used by {@link UrlValidator},
+ * </p>
+ * <pre>
+ *   ^(([^:/?#]+):)?(//([^/?#]*))?([^?#]*)(\?([^#]*))?(#(.*))?
+ * </pre>
+ * <p>
+ * and {@link #tokenizeAuthority(CharSequence, int, int)} splits an authority into the host,
+ * port and trailing characters the way <code>UrlValidator</code>'s authority expression does.
+ * Absent components have a start offset of <code>-1</code>. Instances are not thread-safe.
+ * </p>
+ *
+ * @since 2.1.0
+ */
+final class UrlTokenizer {
+
+    private static final char NEXT_LINE = (char) 0x0085;
+    private static final char LINE_SEPARATOR = (char) 0x2028;
+    private static final char PARAGRAPH_SEPARATOR = (char) 0x2029;
+
+    int schemeStart;
+    int schemeEnd;
+    int authorityStart;
+    int authorityEnd;
+    int pathStart;
+    int pathEnd;
+    int queryStart;
+    int queryEnd;
+    int fragmentStart;
+    int fragmentEnd;
+
+    int hostStart;
+    int hostEnd;
+    int portStart;      // Includes the leading ':'
+    int portEnd;
+    int extraStart;
+    int extraEnd;
+
+    /**
+     * Splits a URL into scheme, authority, path, query and fragment offsets.
+     *
+     * @param url The URL to split, not null.
+     * @return <code>false</code> if the URL doesn't match the RFC 2396 expression, which
+     * only happens when its fragment contains a line terminator.
+     */
+    boolean tokenize(CharSequence url) {
+        final int length = url.length();
+        int position = 0;
+
+        // Scheme, everything up to the first ':' if no '/', '?' or '#' precedes it
+        schemeStart = -1;
+        schemeEnd = -1;
+        for (int i = 0; i < length; i++) {
+            char c = url.charAt(i);
+            if (c == ':') {
+                if (i > 0) {
+                    schemeStart = 0;
+                    schemeEnd = i;
+                    position = i + 1;
+                }
+                break;
+            }
+            if (c == '/' || c == '?' || c == '#') {
+                break;
+            }
+        }
+
+        // Authority, follows a "//"
+        authorityStart = -1;
+        authorityEnd = -1;
+        if (position + 1 < length && url.charAt(position) == '/'
+                && url.charAt(position + 1) == '/') {
+            position += 2;
+            authorityStart = position;
+            while (position < length && !isDelimiter(url.charAt(position), true)) {
+                position++;
+            }
+            authorityEnd = position;
+        }
+
+        // Path, always present but may be empty
+        pathStart = position;
+        while (position < length && !isDelimiter(url.charAt(position), false)) {
+            position++;
+        }
+        pathEnd = position;
+
+        // Query
+        queryStart = -1;
+        queryEnd = -1;
+        if (position < length && url.charAt(position) == '?') {
+            queryStart = ++position;
+            while (position < length && url.charAt(position) != '#') {
+                position++;
+            }
+            queryEnd = position;
+        }
+
+        // Fragment, the rest of the URL
+        fragmentStart = -1;
+        fragmentEnd = -1;
+        if (position < length) {
+            fragmentStart = position + 1;
+            fragmentEnd = length;
+            if (containsLineTerminator(url, fragmentStart, fragmentEnd)) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    /**
+     * Splits an authority into a host made up of letters, digits, '-' and '.', an optional
+     * port that starts with a ':' followed by digits, and any remaining characters.
+     *
+     * @param authority The characters containing the authority, not null.
+     * @param start The offset at which the authority starts.
+     * @param end The offset at which the authority ends.
+     * @return <code>false</code> if the remaining characters contain a line terminator.
+     */
+    boolean tokenizeAuthority(CharSequence authority, int start, int end) {
+        int position = start;
+
+        hostStart = position;
+        while (position < end && isHostCharacter(authority.charAt(position))) {
+            position++;
+        }
+        hostEnd = position;
+
+        portStart = -1;
+        portEnd = -1;
+        if (position < end && authority.charAt(position) == ':') {
+            portStart = position++;
+            while (position < end && isDigit(authority.charAt(position))) {
+                position++;
+            }
+            portEnd = position;
+        }
+
+        extraStart = position;
+        extraEnd = end;
+        return !containsLineTerminator(authority, extraStart, extraEnd);
+    }
+
+    static boolean isDigit(char c) {
+        return c >= '0' && c <= '9';
+    }
+
+    static boolean isAlpha(char c) {
+        return (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z');
+    }
+
+    // Characters that are not matched by '.' in a regular expression
+    static boolean isLineTerminator(char c) {
+        return c == '\n' || c == '\r' || c == NEXT_LINE
+                || c == LINE_SEPARATOR || c == PARAGRAPH_SEPARATOR;
+    }
+
+    static boolean containsLineTerminator(CharSequence chars, int start, int end) {
+        for (int i = start; i < end; i++) {
+            if (isLineTerminator(chars.charAt(i))) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static boolean isHostCharacter(char c) {
+        return isAlpha(c) || isDigit(c) || c == '-' || c == '.';
+    }
+
+    private static boolean isDelimiter(char c, boolean authority) {
+        return c == '?' || c == '#' || (authority && c == '/');
+    }
+}
@@ -72,7 +72,7 @@ import java.util.regex.Pattern;
  * @version $Revision$
  * @since Validator 1.4
  */
-public class UrlValidator implements Serializable {
+public class UrlValidator implements Serializable, ResultCache.Validation {
 
     private static final long serialVersionUID = 7557161713937335013L;
 
@@ -150,6 +150,7 @@ public class UrlValidator implements Serializable {
     private static final int PARSE_AUTHORITY_EXTRA = 3;
 
     private static final String PATH_REGEX = "^(/[-\\w:@&?=+,.!/~*'%$_;\\(\\)]*)?$";
+    private static final String PATH_SYMBOLS = "-_:@&?=+,.!/~*'%$;()";
     private static final Pattern PATH_PATTERN = Pattern.compile(PATH_REGEX);
 
     private static final String QUERY_REGEX = "^(.*)$";
@@ -166,7 +167,12 @@ public class UrlValidator implements Serializable {
     /**
      * The set of schemes that are allowed to be in a URL.
      */
-    private final Set allowedSchemes; // Must be lower-case
+    private final Set<String> allowedSchemes; // Must be lower-case
+
+    /**
+     * The allowed schemes, for comparison without creating substrings.
+     */
+    private final String[] schemes; // Must be lower-case
 
     /**
      * Regular expressions used to manually validate authorities if IANA
@@ -258,16 +264,17 @@ public class UrlValidator implements Serializable {
         this.options = options;
 
         if (isOn(ALLOW_ALL_SCHEMES)) {
-            allowedSchemes = Collections.EMPTY_SET;
+            allowedSchemes = Collections.emptySet();
         } else {
             if (schemes == null) {
                 schemes = DEFAULT_SCHEMES;
             }
-            allowedSchemes = new HashSet(schemes.length);
+            allowedSchemes = new HashSet<String>(schemes.length);
             for(int i=0; i < schemes.length; i++) {
                 allowedSchemes.add(schemes[i].toLowerCase(Locale.ENGLISH));
             }
         }
+        this.schemes = allowedSchemes.toArray(new String[allowedSchemes.size()]);
 
         this.authorityValidator = authorityValidator;
     }
@@ -287,6 +294,75 @@ public class UrlValidator implements Serializable {
             return false;
         }
 
+        // Subclasses may override the protected checks, which work on String components
+        if (getClass() != UrlValidator.class) {
+            return isValidUsingRegex(value);
+        }
+
+        UrlTokenizer tokens = new UrlTokenizer();
+        if (!tokens.tokenize(value)) {
+            return false;
+        }
+
+        if (!isValidScheme(value, tokens.schemeStart, tokens.schemeEnd)) {
+            return false;
+        }
+
+        boolean emptyAuthority = tokens.authorityStart == tokens.authorityEnd;
+        if (emptyAuthority && tokens.authorityStart != -1
+                && value.startsWith("file", tokens.schemeStart)
+                && tokens.schemeEnd - tokens.schemeStart == 4) {
+            // Special case - file: allows an empty authority
+        } else {
+            // Validate the authority
+            if (!isValidAuthority(value, tokens)) {
+                return false;
+            }
+        }
+
+        if (!isValidPath(value, tokens.pathStart, tokens.pathEnd)) {
+            return false;
+        }
+
+        if (tokens.queryStart != -1
+                && UrlTokenizer.containsLineTerminator(value, tokens.queryStart, tokens.queryEnd)) {
+            return false;
+        }
+
+        if (tokens.fragmentStart != -1 && isOn(NO_FRAGMENTS)) {
+            return false;
+        }
+
+        return true;
+    }
+
+    /**
+     * Checks if a URL is valid, consulting a cache of earlier results first.
+     * Only inputs that aren't in the cache are validated, and their results are cached.
+     *
+     * @param value the input to validate
+     * @param cache the results of earlier validations by this validator, or <code>null</code>
+     * to validate without caching
+     * @return true if the input is valid
+     * @throws IllegalArgumentException if the cache was used with another validator
+     * @since 2.1.0
+     */
+    public boolean isValid(String value, ResultCache cache) {
+        return ResultCache.isValid(cache, value, this);
+    }
+
+    /**
+     * <p>Checks if a field has a valid url address using the RFC 2396 regular expression and
+     * the protected component checks.</p>
+     *
+     * This is the reference implementation for {@link #isValid(String)}, which splits the
+     * url in a single pass instead, UrlValidatorTest checks that both agree. It is also used
+     * for subclasses, since they may override the component checks.
+     *
+     * @param value The value validation is being performed on, not null.
+     * @return true if the url is valid.
+     */
+    boolean isValidUsingRegex(String value) {
         // Check the whole url address structure
         Matcher urlMatcher = URL_PATTERN.matcher(value);
         if (!urlMatcher.matches()) {
@@ -457,6 +533,150 @@ public class UrlValidator implements Serializable {
         return isOff(NO_FRAGMENTS);
     }
 
+    private boolean isValidScheme(String url, int start, int end) {
+        if (start == -1 || !UrlTokenizer.isAlpha(url.charAt(start))) {
+            return false;
+        }
+        for (int i = start + 1; i < end; i++) {
+            char c = url.charAt(i);
+            if (!UrlTokenizer.isAlpha(c) && !UrlTokenizer.isDigit(c)
+                    && c != '+' && c != '-' && c != '.') {
+                return false;
+            }
+        }
+
+        if (isOn(ALLOW_ALL_SCHEMES)) {
+            return true;
+        }
+        for (int i = 0; i < schemes.length; i++) {
+            if (equalsLowerCase(url, start, end, schemes[i])) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private boolean isValidAuthority(String url, UrlTokenizer tokens) {
+        int start = tokens.authorityStart;
+        int end = tokens.authorityEnd;
+        if (start == -1) {
+            return false;
+        }
+
+        // check manual authority validation if specified
+        if (authorityValidator != null && authorityValidator.isValid(url.substring(start, end))) {
+            return true;
+        }
+
+        // convert to ASCII if required
+        CharSequence authority = url;
+        if (!isOnlyASCII(url, start, end)) {
+            String authorityASCII = DomainValidator.unicodeToASCII(url.substring(start, end));
+            authority = authorityASCII;
+            start = 0;
+            end = authorityASCII.length();
+        }
+
+        if (!tokens.tokenizeAuthority(authority, start, end)) {
+            return false;
+        }
+
+        // check if authority is hostname or IP address:
+        // try a hostname first since that's much more likely
+        DomainValidator domainValidator = DomainValidator.getInstance(isOn(ALLOW_LOCAL_URLS));
+        if (!domainValidator.isValid(authority, tokens.hostStart, tokens.hostEnd)
+                && !InetAddressValidator.getInstance().isValid(
+                        authority, tokens.hostStart, tokens.hostEnd)) {
+            return false;
+        }
+
+        // ':' followed by 1 to 5 digits
+        int portDigits = tokens.portEnd - tokens.portStart - 1;
+        if (tokens.portStart != -1 && (portDigits < 1 || portDigits > 5)) {
+            return false;
+        }
+
+        // Trailing characters are only tolerated if they would be trimmed
+        for (int i = tokens.extraStart; i < tokens.extraEnd; i++) {
+            if (authority.charAt(i) > ' ') {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    private boolean isValidPath(String url, int start, int end) {
+        if (start == end) {
+            return true;
+        }
+        if (url.charAt(start) != '/') {
+            return false;
+        }
+
+        int slashCount = 0;
+        int slash2Count = 0;
+        int dot2Count = 0;
+        char previous = 0;
+        for (int i = start; i < end; i++) {
+            char c = url.charAt(i);
+            if (!isPathCharacter(c)) {
+                return false;
+            }
+            if (c == '/') {
+                slashCount++;
+                if (previous == '/') {
+                    slash2Count++;
+                }
+            } else if (c == '.' && previous == '.') {
+                dot2Count++;
+            }
+            previous = c;
+        }
+
+        if (isOff(ALLOW_2_SLASHES) && (slash2Count > 0)) {
+            return false;
+        }
+        if (dot2Count > 0 && (slashCount - slash2Count - 1) <= dot2Count) {
+            return false;
+        }
+
+        return true;
+    }
+
+    // Characters allowed by PATH_REGEX
+    private static boolean isPathCharacter(char c) {
+        if (UrlTokenizer.isAlpha(c) || UrlTokenizer.isDigit(c)) {
+            return true;
+        }
+        return PATH_SYMBOLS.indexOf(c) != -1;
+    }
+
+    private static boolean equalsLowerCase(String url, int start, int end, String lowerCase) {
+        if (end - start != lowerCase.length()) {
+            return false;
+        }
+        for (int i = start; i < end; i++) {
+            char c = url.charAt(i);
+            if (c >= 'A' && c <= 'Z') {
+                c = (char) (c + ('a' - 'A'));
+            }
+            if (c != lowerCase.charAt(i - start)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean isOnlyASCII(String input, int start, int end) {
+        for (int i = start; i < end; i++) {
+            if (input.charAt(i) > 0x7F) {
+                return false;
+            }
+        }
+        return true;
+    }
+
     /**
      * Returns the number of times the token appears in the target.
      * @param token Token value to be counted.
@@ -0,0 +1,216 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package commons.validator.routines.checkdigit;
+
+/**
+ * Modulus 10 <b>EAN-13</b> / <b>UPC</b> / <b>ISBN-13</b> Check Digit
+ * calculation/validation.
+ * <p>
+ * Check digit calculation is based on <i>modulus 10</i> with digits in
+ * an <i>odd</i> position (from right to left) being weighted 1 and <i>even</i>
+ * position digits being weighted 3.
+ * <p>
+ * For further information see:
+ * <ul>
+ *   <li>EAN-13 - see
+ *       <a href="http://en.wikipedia.org/wiki/European_Article_Number">Wikipedia -
+ *       European Article Number</a>.</li>
+ *   <li>UPC - see
+ *       <a href="http://en.wikipedia.org/wiki/Universal_Product_Code">Wikipedia -
+ *       Universal Product Code</a>.</li>
+ *   <li>ISBN-13 - see
+ *       <a href="http://en.wikipedia.org/wiki/ISBN">Wikipedia - International
+ *       Standard Book Number (ISBN)</a>.</li>
+ * </ul>
+ *
+ * @version $Revision$
+ * @since Validator 1.4
+ */
+public final class EAN13CheckDigit extends ModulusCheckDigit {
+
+    private static final long serialVersionUID = 1726347093230424107L;
+
+    /** Singleton EAN-13 Check Digit instance */
+    public static final CheckDigit EAN13_CHECK_DIGIT = new EAN13CheckDigit();
+
+    /** weighting given to digits depending on their right position */
+    private static final int[] POSITION_WEIGHT = new int[] {3, 1};
+
+    /** weighting given to digits by their right position, starting from the check digit */
+    private static final int[] WEIGHTS = new int[] {1, 3};
+
+    /**
+     * Construct a modulus 10 Check Digit routine for EAN/UPC.
+     */
+    public EAN13CheckDigit() {
+        super(10);
+    }
+
+    /**
+     * <p>Calculates the <i>weighted</i> value of a character in the
+     * code at a specified position.</p>
+     *
+     * <p>For EAN-13 (from right to left) <b>odd</b> digits are weighted
+     * with a factor of <b>one</b> and <b>even</b> digits with a factor
+     * of <b>three</b>.</p>
+     *
+     * @param charValue The numeric value of the character.
+     * @param leftPos The position of the character in the code, counting from left to right
+     * @param rightPos The positionof the character in the code, counting from right to left
+     * @return The weighted value of the character.
+     */
+    protected int weightedValue(int charValue, int leftPos, int rightPos) {
+        int weight = POSITION_WEIGHT[rightPos % 2];
+        return charValue * weight;
+    }
+
+    /**
+     * Validate a code, using the EAN-13 kernel for ASCII codes.
+     *
+     * @param code The code to validate
+     * @return <code>true</code> if the check digit is valid, otherwise
+     * <code>false</code>
+     */
+    public boolean isValid(String code) {
+        if (code == null) {
+            return false;
+        }
+        int remainder = remainder(code, 0, code.length(), false);
+        return remainder == NOT_ASCII ? super.isValid(code) : remainder == 0;
+    }
+
+    /**
+     * Validate a code in a region of the input, using the kernel for ASCII codes.
+     *
+     * @param code The characters containing the code
+     * @param start The offset at which the code starts
+     * @param end The offset at which the code ends
+     * @return <code>true</code> if the check digit is valid, otherwise
+     * <code>false</code>
+     * @since 2.1.0
+     */
+    public boolean isValid(CharSequence code, int start, int end) {
+        int remainder = remainder(code, start, end, false);
+        return remainder == NOT_ASCII ? super.isValid(code, start, end) : remainder == 0;
+    }
+
+    /**
+     * Validate the EAN-13 check digit of a code in a region of the input, without
+     * allocating or throwing exceptions. ' ' and '-' separators are skipped and
+     * only ASCII digits are accepted.
+     *
+     * @param code The characters containing the code
+     * @param start The offset at which the code starts
+     * @param end The offset at which the code ends
+     * @return <code>true</code> if the check digit is valid, otherwise
+     * <code>false</code>, also for offsets outside the input
+     * @since 2.1.0
+     */
+    public static boolean isValidCode(CharSequence code, int start, int end) {
+        return code != null && isRegion(code.length(), start, end)
+                && remainder(code, start, end, true) == 0;
+    }
+
+    /**
+     * Validate the EAN-13 check digit of a code in a region of a character array,
+     * without allocating or throwing exceptions. ' ' and '-' separators are skipped and
+     * only ASCII digits are accepted.
+     *
+     * @param code The characters containing the code
+     * @param start The offset at which the code starts
+     * @param end The offset at which the code ends
+     * @return <code>true</code> if the check digit is valid, otherwise
+     * <code>false</code>, also for offsets outside the input
+     * @since 2.1.0
+     */
+    public static boolean isValidCode(char[] code, int start, int end) {
+        return code != null && isRegion(code.length, start, end)
+                && remainder(code, start, end) == 0;
+    }
+
+    /**
+     * Validate the EAN-13 check digits of a batch of codes packed into one array
+     * of digit values, one code after the other.
+     *
+     * @param digits The digit values of the codes from 0 to 9
+     * @param ends The offset at which each code ends, the first code starts at 0 and
+     * each of the others where the previous one ends
+     * @param results Receives whether each code is valid
+     * @return The number of valid codes
+     * @throws IllegalArgumentException if the offsets are out of order or
+     * <code>results</code> is shorter than <code>ends</code>
+     * @since 2.1.0
+     */
+    public static int validateCodes(byte[] digits, int[] ends, boolean[] results) {
+        checkBatch(digits, ends, results);
+        int validCount = 0;
+        int start = 0;
+        for (int i = 0; i < ends.length; i++) {
+            int end = ends[i];
+            boolean valid = end > start;
+            int total = 0;
+            for (int j = end - 1; valid && j >= start; j--) {
+                int value = digits[j];
+                if (value < 0 || value > 9) {
+                    valid = false;
+                } else {
+                    total += value * WEIGHTS[(end - 1 - j) & 1];
+                }
+            }
+            results[i] = valid && total != 0 && total % 10 == 0;
+            if (results[i]) {
+                validCount++;
+            }
+            start = end;
+        }
+        return validCount;
+    }
+
+    private static int remainder(CharSequence code, int start, int end,
+            boolean skipSeparators) {
+        int total = 0;
+        int digits = 0;
+        for (int i = end - 1; i >= start; i--) {
+            char character = code.charAt(i);
+            int value = asciiValue(character, skipSeparators);
+            if (value == SEPARATOR) {
+                continue;
+            }
+            if (value < 0) {
+                return value;
+            }
+            total += value * WEIGHTS[digits++ & 1];
+        }
+        return total == 0 ? INVALID : total % 10;
+    }
+
+    private static int remainder(char[] code, int start, int end) {
+        int total = 0;
+        int digits = 0;
+        for (int i = end - 1; i >= start; i--) {
+            int value = asciiValue(code[i], true);
+            if (value == SEPARATOR) {
+                continue;
+            }
+            if (value < 0) {
+                return value;
+            }
+            total += value * WEIGHTS[digits++ & 1];
+        }
+        return total == 0 ? INVALID : total % 10;
+    }
+}
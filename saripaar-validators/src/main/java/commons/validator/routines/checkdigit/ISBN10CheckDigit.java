@@ -0,0 +1,272 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package commons.validator.routines.checkdigit;
+
+/**
+ * Modulus 11 <b>ISBN-10</b> Check Digit calculation/validation.
+ * <p>
+ * ISBN-10 Numbers are a numeric code except for the last (check) digit
+ * which can have a value of "X".
+ * <p>
+ * Check digit calculation is based on <i>modulus 11</i> with digits being weighted
+ * based by their position, from right to left  with the first digit being weighted
+ * 1, the second 2 and so on. If the check digit is calculated as "10" it is converted
+ * to "X".
+ * <p>
+ * <b>N.B.</b> From 1st January 2007 the book industry will start to use a new 13 digit
+ * ISBN number (rather than this 10 digit ISBN number) which uses the EAN-13 / UPC
+ * (see {@link EAN13CheckDigit}) standard.
+ * <p>
+ * For further information see:
+ * <ul>
+ *   <li><a href="http://en.wikipedia.org/wiki/ISBN">Wikipedia - International
+ *       Standard Book Number (ISBN)</a>.</li>
+ *   <li><a href="http://www.isbn.org/standards/home/isbn/transition.asp">ISBN-13
+ *       Transition details</a>.</li>
+ * </ul>
+ *
+ * @version $Revision$
+ * @since Validator 1.4
+ */
+public final class ISBN10CheckDigit extends ModulusCheckDigit {
+
+    private static final long serialVersionUID = 8000855044504864964L;
+
+    /** Singleton ISBN-10 Check Digit instance */
+    public static final CheckDigit ISBN10_CHECK_DIGIT = new ISBN10CheckDigit();
+
+    /**
+     * Construct a modulus 11 Check Digit routine for ISBN-10.
+     */
+    public ISBN10CheckDigit() {
+        super(11);
+    }
+
+    /**
+     * Calculates the <i>weighted</i> value of a charcter in the
+     * code at a specified position.
+     *
+     * <p>For ISBN-10 (from right to left) digits are weighted
+     * by their position.</p>
+     *
+     * @param charValue The numeric value of the character.
+     * @param leftPos The position of the character in the code, counting from left to right
+     * @param rightPos The positionof the character in the code, counting from right to left
+     * @return The weighted value of the character.
+     */
+    protected int weightedValue(int charValue, int leftPos, int rightPos) {
+        return charValue * rightPos;
+    }
+
+    /**
+     * <p>Convert a character at a specified position to an
+     * integer value.</p>
+     *
+     * <p>Character 'X' check digit converted to 10.</p>
+     *
+     * @param character The character to convert.
+     * @param leftPos The position of the character in the code, counting from left to right
+     * @param rightPos The position of the character in the code, counting from right to left
+     * @return The integer value of the character.
+     * @throws CheckDigitException if an error occurs.
+     */
+    protected int toInt(char character, int leftPos, int rightPos)
+            throws CheckDigitException {
+        if (rightPos == 1 && character == 'X') {
+            return 10;
+        }
+        return super.toInt(character, leftPos, rightPos);
+    }
+
+    /**
+     * <p>Convert an integer value to a character at a specified position.</p>
+     *
+     * <p>Value '10' for position 1 (check digit) converted to 'X'.</p>
+     *
+     * @param charValue The integer value of the character.
+     * @return The converted character.
+     * @throws CheckDigitException if an error occurs.
+     */
+    protected String toCheckDigit(int charValue)
+            throws CheckDigitException {
+        if (charValue == 10) {
+            return "X";
+        }
+        return super.toCheckDigit(charValue);
+    }
+
+    /**
+     * Validate a code, using the ISBN-10 kernel for ASCII codes.
+     *
+     * @param code The code to validate
+     * @return <code>true</code> if the check digit is valid, otherwise
+     * <code>false</code>
+     */
+    public boolean isValid(String code) {
+        if (code == null) {
+            return false;
+        }
+        int remainder = remainder(code, 0, code.length(), false);
+        return remainder == NOT_ASCII ? super.isValid(code) : remainder == 0;
+    }
+
+    /**
+     * Validate a code in a region of the input, using the kernel for ASCII codes.
+     *
+     * @param code The characters containing the code
+     * @param start The offset at which the code starts
+     * @param end The offset at which the code ends
+     * @return <code>true</code> if the check digit is valid, otherwise
+     * <code>false</code>
+     * @since 2.1.0
+     */
+    public boolean isValid(CharSequence code, int start, int end) {
+        int remainder = remainder(code, start, end, false);
+        return remainder == NOT_ASCII ? super.isValid(code, start, end) : remainder == 0;
+    }
+
+    /**
+     * Validate the ISBN-10 check digit of a code in a region of the input, without
+     * allocating or throwing exceptions. ' ' and '-' separators are skipped and
+     * only ASCII digits are accepted, along with an 'X' check digit.
+     *
+     * @param code The characters containing the code
+     * @param start The offset at which the code starts
+     * @param end The offset at which the code ends
+     * @return <code>true</code> if the check digit is valid, otherwise
+     * <code>false</code>, also for offsets outside the input
+     * @since 2.1.0
+     */
+    public static boolean isValidCode(CharSequence code, int start, int end) {
+        return code != null && isRegion(code.length(), start, end)
+                && remainder(code, start, end, true) == 0;
+    }
+
+    /**
+     * Validate the ISBN-10 check digit of a code in a region of a character array,
+     * without allocating or throwing exceptions. ' ' and '-' separators are skipped and
+     * only ASCII digits are accepted, along with an 'X' check digit.
+     *
+     * @param code The characters containing the code
+     * @param start The offset at which the code starts
+     * @param end The offset at which the code ends
+     * @return <code>true</code> if the check digit is valid, otherwise
+     * <code>false</code>, also for offsets outside the input
+     * @since 2.1.0
+     */
+    public static boolean isValidCode(char[] code, int start, int end) {
+        return code != null && isRegion(code.length, start, end)
+                && remainder(code, start, end) == 0;
+    }
+
+    /**
+     * Validate the ISBN-10 check digits of a batch of codes packed into one array
+     * of digit values, one code after the other.
+     *
+     * @param digits The digit values of the codes from 0 to 9, and 10 for an 'X' check digit
+     * @param ends The offset at which each code ends, the first code starts at 0 and
+     * each of the others where the previous one ends
+     * @param results Receives whether each code is valid
+     * @return The number of valid codes
+     * @throws IllegalArgumentException if the offsets are out of order or
+     * <code>results</code> is shorter than <code>ends</code>
+     * @since 2.1.0
+     */
+    public static int validateCodes(byte[] digits, int[] ends, boolean[] results) {
+        checkBatch(digits, ends, results);
+        int validCount = 0;
+        int start = 0;
+        for (int i = 0; i < ends.length; i++) {
+            int end = ends[i];
+            boolean valid = end > start;
+            int total = 0;
+            boolean nonZero = false;
+            for (int j = end - 1; valid && j >= start; j--) {
+                int value = digits[j];
+                if (value < 0 || value > (j == end - 1 ? 10 : 9)) {
+                    valid = false;
+                } else if (value != 0) {
+                    nonZero = true;
+                    total = (total + value * ((end - j) % 11)) % 11;
+                }
+            }
+            results[i] = valid && nonZero && total == 0;
+            if (results[i]) {
+                validCount++;
+            }
+            start = end;
+        }
+        return validCount;
+    }
+
+    private static int remainder(CharSequence code, int start, int end,
+            boolean skipSeparators) {
+        int total = 0;
+        boolean nonZero = false;
+        int digits = 0;
+        for (int i = end - 1; i >= start; i--) {
+            char character = code.charAt(i);
+            if (character == 'X' && digits == 0) {
+                nonZero = true;
+                total = 10;
+                digits++;
+                continue;
+            }
+            int value = asciiValue(character, skipSeparators);
+            if (value == SEPARATOR) {
+                continue;
+            }
+            if (value < 0) {
+                return value;
+            }
+            digits++;
+            if (value != 0) {
+                nonZero = true;
+                total = (total + value * (digits % 11)) % 11;
+            }
+        }
+        return nonZero ? total : INVALID;
+    }
+
+    private static int remainder(char[] code, int start, int end) {
+        int total = 0;
+        boolean nonZero = false;
+        int digits = 0;
+        for (int i = end - 1; i >= start; i--) {
+            char character = code[i];
+            if (character == 'X' && digits == 0) {
+                nonZero = true;
+                total = 10;
+                digits++;
+                continue;
+            }
+            int value = asciiValue(character, true);
+            if (value == SEPARATOR) {
+                continue;
+            }
+            if (value < 0) {
+                return value;
+            }
+            digits++;
+            if (value != 0) {
+                nonZero = true;
+                total = (total + value * (digits % 11)) % 11;
+            }
+        }
+        return nonZero ? total : INVALID;
+    }
+}
@@ -41,6 +41,29 @@ public abstract class ModulusCheckDigit implements CheckDigit, Serializable {
     // (for example as in ISBN10CheckDigit)
     private final int modulus;
 
+    /** Value of a separator character in {@link #ASCII_VALUES} */
+    static final byte SEPARATOR = -1;
+
+    /** Value of an invalid character in {@link #ASCII_VALUES} */
+    static final byte INVALID = -2;
+
+    /** Returned by the check digit kernels for characters outside the ASCII range */
+    static final int NOT_ASCII = -3;
+
+    /** Numeric values of ASCII characters, digits are 0 to 9 and ' ' and '-' are separators */
+    private static final byte[] ASCII_VALUES = new byte[128];
+
+    static {
+        for (int i = 0; i < ASCII_VALUES.length; i++) {
+            ASCII_VALUES[i] = INVALID;
+        }
+        for (int i = 0; i <= 9; i++) {
+            ASCII_VALUES['0' + i] = (byte) i;
+        }
+        ASCII_VALUES[' '] = SEPARATOR;
+        ASCII_VALUES['-'] = SEPARATOR;
+    }
+
     /**
      * Construct a {@link CheckDigit} routine for a specified modulus.
      *
@@ -78,6 +101,23 @@ public abstract class ModulusCheckDigit implements CheckDigit, Serializable {
         }
     }
 
+    /**
+     * Validate a modulus check digit for a code in a region of the input.
+     * <p>
+     * This implementation validates a String copy of the region, subclasses
+     * may override it to avoid the copy.
+     *
+     * @param code The characters containing the code
+     * @param start The offset at which the code starts
+     * @param end The offset at which the code ends
+     * @return <code>true</code> if the check digit is valid, otherwise
+     * <code>false</code>
+     * @since 2.1.0
+     */
+    public boolean isValid(CharSequence code, int start, int end) {
+        return isValid(code.subSequence(start, end).toString());
+    }
+
     /**
      * Calculate a modulus <i>Check Digit</i> for a code.
      *
@@ -106,8 +146,8 @@ public abstract class ModulusCheckDigit implements CheckDigit, Serializable {
      */
     protected int calculateModulus(String code, boolean includesCheckDigit) throws CheckDigitException {
         int total = 0;
+        int lth = code.length() + (includesCheckDigit ? 0 : 1);
         for (int i = 0; i < code.length(); i++) {
-            int lth = code.length() + (includesCheckDigit ? 0 : 1);
             int leftPos  = i + 1;
             int rightPos = lth - i;
             int charValue = toInt(code.charAt(i), leftPos, rightPos);
@@ -155,6 +195,9 @@ public abstract class ModulusCheckDigit implements CheckDigit, Serializable {
      */
     protected int toInt(char character, int leftPos, int rightPos)
             throws CheckDigitException {
+        if (character >= '0' && character <= '9') {
+            return character - '0';
+        }
         if (Character.isDigit(character)) {
             return Character.getNumericValue(character);
         }
@@ -199,4 +242,53 @@ public abstract class ModulusCheckDigit implements CheckDigit, Serializable {
         return total;
     }
 
+    /**
+     * Look up the value of a character for the check digit kernels.
+     *
+     * @param character The character to look up
+     * @param skipSeparators Whether ' ' and '-' are separators or invalid
+     * @return The numeric value of a digit, {@link #SEPARATOR}, {@link #INVALID}
+     * or {@link #NOT_ASCII}
+     */
+    static int asciiValue(char character, boolean skipSeparators) {
+        if (character >= ASCII_VALUES.length) {
+            return NOT_ASCII;
+        }
+        int value = ASCII_VALUES[character];
+        return value == SEPARATOR && !skipSeparators ? INVALID : value;
+    }
+
+    /**
+     * Check whether a region lies within an input.
+     *
+     * @param length The length of the input
+     * @param start The offset at which the region starts
+     * @param end The offset at which the region ends
+     * @return <code>true</code> if the offsets are in order and within the input
+     */
+    static boolean isRegion(int length, int start, int end) {
+        return start >= 0 && start <= end && end <= length;
+    }
+
+    /**
+     * Check the arguments of a batch validation.
+     *
+     * @param digits The packed digit values
+     * @param ends The end offset of each code
+     * @param results The array receiving the results
+     */
+    static void checkBatch(byte[] digits, int[] ends, boolean[] results) {
+        if (results.length < ends.length) {
+            throw new IllegalArgumentException("Results array is too short, "
+                    + results.length + " < " + ends.length);
+        }
+        int start = 0;
+        for (int i = 0; i < ends.length; i++) {
+            if (ends[i] < start || ends[i] > digits.length) {
+                throw new IllegalArgumentException("Invalid end offset[" + i + "] = " + ends[i]);
+            }
+            start = ends[i];
+        }
+    }
+
 }
@@ -0,0 +1,171 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package commons.validator.routines;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.Test;
+
+import commons.validator.routines.checkdigit.CheckDigit;
+import commons.validator.routines.checkdigit.CheckDigitException;
+import commons.validator.routines.checkdigit.EAN13CheckDigit;
+import commons.validator.routines.checkdigit.LuhnCheckDigit;
+
+/**
+ * Tests the parsing in {@link CodeValidator} against the commons-validator algorithm, which
+ * trims the input, reformats it with {@link RegexValidator#validate(String)}, checks the
+ * length and then the check digit.
+ */
+public class CodeValidatorTest {
+
+    private static final String DIGITS_40 = "1234567890123456789012345678901234567890";
+
+    private static final String[] INPUTS = {
+        "", " ", "1", "12", " 12 ", "1234", "4111111111111111", "4111-1111-1111-1111",
+        "4111 1111 1111 1111", " 4111111111111111\t", "9780306406157", "978-0-306-40615-7",
+        "abc", "12a", "1234567890123456789012345678901", "12345678901234567890123456789012",
+        "123456789012345678901234567890123", DIGITS_40, DIGITS_40 + DIGITS_40, "\u00001234"
+    };
+
+    // Accepts codes whose last digit is their length modulo 10, and remembers the codes
+    private static final class LengthCheckDigit implements CheckDigit {
+        final List<String> codes = new ArrayList<String>();
+
+        public String calculate(final String code) throws CheckDigitException {
+            return Integer.toString((code.length() + 1) % 10);
+        }
+
+        public boolean isValid(final String code) {
+            codes.add(code);
+            return code.length() > 0
+                    && code.charAt(code.length() - 1) - '0' == code.length() % 10;
+        }
+    }
+
+    @Test
+    public void testAgainstCommons() {
+        CheckDigit[] checkDigits = {
+            null, LuhnCheckDigit.LUHN_CHECK_DIGIT, EAN13CheckDigit.EAN13_CHECK_DIGIT,
+            new LengthCheckDigit()
+        };
+        String[] regexs = {
+            null, "^(\\d+)$", "^(\\d{4})[- ]?(\\d{4})[- ]?(\\d{4})[- ]?(\\d{4})$",
+            "^(\\d{3})-?(\\d)-?(\\d{3})-?(\\d{5})-?(\\d)$", "^((\\d)(\\d+))$", "^(?:(\\d+)-?)+$"
+        };
+        int[][] lengths = {{-1, -1}, {4, 4}, {13, 16}, {33, -1}, {-1, 32}, {60, 80}};
+
+        for (int c = 0; c < checkDigits.length; c++) {
+            for (int r = 0; r < regexs.length; r++) {
+                for (int l = 0; l < lengths.length; l++) {
+                    CodeValidator validator = new CodeValidator(regexs[r], lengths[l][0],
+                            lengths[l][1], checkDigits[c]);
+                    for (int i = 0; i < INPUTS.length; i++) {
+                        assertSameResult(validator, INPUTS[i]);
+                    }
+                }
+            }
+        }
+    }
+
+    @Test
+    public void testNestedGroups() {
+        // "12" becomes "1212", longer than the input, so the raw length can't rule it out
+        CodeValidator validator = new CodeValidator("^((\\d)(\\d))$", 4, 4, null);
+        assertFalse(validator.getRegexValidator().hasDisjointGroups());
+        assertEquals("1212", validator.validate("12"));
+        assertEquals("1212", validator.validate(" 12 "));
+        assertNull(validator.validate("123"));
+
+        // With disjoint groups, the raw length bounds the parsed length
+        CodeValidator disjoint = new CodeValidator("^(\\d)-?(\\d)$", 3, 3, null);
+        assertTrue(disjoint.getRegexValidator().hasDisjointGroups());
+        assertNull(disjoint.validate("12"));
+        assertNull(disjoint.validate("1-2"));
+    }
+
+    @Test
+    public void testLongCodes() {
+        // Longer than the initial buffer of 32 characters, before and after parsing
+        CodeValidator validator = new CodeValidator("^(\\d+)$", (CheckDigit) null);
+        assertEquals(DIGITS_40, validator.validate(DIGITS_40));
+        assertEquals("12", validator.validate("12"));
+        assertEquals(DIGITS_40 + DIGITS_40, validator.validate(DIGITS_40 + DIGITS_40));
+        assertEquals(DIGITS_40, validator.validate(DIGITS_40));
+
+        CodeValidator nested = new CodeValidator("^((\\d+))$", (CheckDigit) null);
+        String code = DIGITS_40.substring(0, 20);
+        assertEquals(code + code, nested.validate(code));
+        assertEquals(DIGITS_40 + DIGITS_40, nested.validate(DIGITS_40));
+        assertEquals("11", nested.validate("1"));
+
+        CodeValidator unformatted = new CodeValidator((String) null, null);
+        assertEquals(DIGITS_40 + DIGITS_40, unformatted.validate(DIGITS_40 + DIGITS_40));
+        assertEquals("1", unformatted.validate("1"));
+    }
+
+    @Test
+    public void testOtherCheckDigit() {
+        // Check digits that aren't ModulusCheckDigits are given the parsed code as a String
+        LengthCheckDigit checkDigit = new LengthCheckDigit();
+        CodeValidator validator = new CodeValidator("^(\\d+)-(\\d+)$", checkDigit);
+        assertTrue(validator.isValid("12-3"));
+        assertFalse(validator.isValid("12-4"));
+        assertEquals("1234", validator.validate(" 123-4 "));
+        String longCode = DIGITS_40.substring(0, 39) + "0";
+        assertEquals(longCode, validator.validate(DIGITS_40.substring(0, 39) + "-0"));
+        assertEquals(Arrays.asList("123", "124", "1234", longCode), checkDigit.codes);
+    }
+
+    private static void assertSameResult(final CodeValidator validator, final String input) {
+        String expected = validate(validator, input);
+        String message = validator.getRegexValidator() + " " + validator.getMinLength() + "-"
+                + validator.getMaxLength() + " " + validator.getCheckDigit() + " '" + input + "'";
+        assertEquals(message, expected, validator.validate(input));
+        assertEquals(message, expected != null, validator.isValid(input));
+    }
+
+    // CodeValidator.validate() from commons-validator 1.4
+    private static String validate(final CodeValidator validator, final String input) {
+        String code = input.trim();
+        if (code.length() == 0) {
+            return null;
+        }
+        if (validator.getRegexValidator() != null) {
+            code = validator.getRegexValidator().validate(code);
+            if (code == null) {
+                return null;
+            }
+        }
+        int minLength = validator.getMinLength();
+        int maxLength = validator.getMaxLength();
+        if ((minLength >= 0 && code.length() < minLength)
+                || (maxLength >= 0 && code.length() > maxLength)) {
+            return null;
+        }
+        if (validator.getCheckDigit() != null && !validator.getCheckDigit().isValid(code)) {
+            return null;
+        }
+        return code;
+    }
+}
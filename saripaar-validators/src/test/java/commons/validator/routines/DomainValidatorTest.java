@@ -0,0 +1,211 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package commons.validator.routines;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Arrays;
+
+import org.junit.Test;
+
+/**
+ * Tests the domain name scanner in {@link DomainValidator}, also against the regular
+ * expressions it replaced.
+ */
+public class DomainValidatorTest {
+
+    // The expressions used before the scanner, see isValidUsingRegex()
+    private static final String DOMAIN_LABEL_REGEX =
+            "\\p{Alnum}(?>[\\p{Alnum}-]{0,61}\\p{Alnum})?";
+    private static final String TOP_LABEL_REGEX =
+            "\\p{Alpha}(?>[\\p{Alnum}-]{0,61}\\p{Alnum})?";
+    private static final String DOMAIN_NAME_REGEX =
+            "^(?:" + DOMAIN_LABEL_REGEX + "\\.)+" + "(" + TOP_LABEL_REGEX + ")\\.?$";
+    private static final RegexValidator DOMAIN_REGEX = new RegexValidator(DOMAIN_NAME_REGEX);
+    private static final RegexValidator HOSTNAME_REGEX = new RegexValidator(DOMAIN_LABEL_REGEX);
+
+    private static final String[] LABELS = {
+        "a", "z9", "9", "ab-c", "a--b", "-a", "a-", "-", "xn--bcher-kva", "a_b", "",
+        label(62), label(63), label(64), "A1"
+    };
+    private static final String[] TLDS = {
+        "com", "COM", "uk", "museum", "c", "123", "1com", "com-", "invalidtld", "localhost",
+        "localdomain", "xn--p1ai", "xn--fiqs8s", "test"
+    };
+
+    private final DomainValidator validator = DomainValidator.getInstance();
+    private final DomainValidator localValidator = DomainValidator.getInstance(true);
+
+    @Test
+    public void testLabelLength() {
+        assertTrue(validator.isValid(label(63) + ".com"));
+        assertFalse(validator.isValid(label(64) + ".com"));
+        assertTrue(validator.isValid("www." + label(63) + ".com"));
+        assertFalse(validator.isValid("www." + label(64) + ".com"));
+        assertTrue(localValidator.isValid(label(63)));
+        assertFalse(localValidator.isValid(label(64)));
+    }
+
+    @Test
+    public void testDomainLength() {
+        // Labels of 63 characters and dots, up to 253 characters in all
+        String name = label(63) + "." + label(63) + "." + label(63) + "." + label(57) + ".com";
+        assertEquals(253, name.length());
+        assertTrue(validator.isValid(name));
+        assertFalse(validator.isValid("a" + name));
+    }
+
+    @Test
+    public void testHyphens() {
+        assertTrue(validator.isValid("a-b.com"));
+        assertTrue(validator.isValid("a--b.com"));
+        assertFalse(validator.isValid("-ab.com"));
+        assertFalse(validator.isValid("ab-.com"));
+        assertFalse(validator.isValid("www.-ab.com"));
+        assertFalse(validator.isValid("ab.-com"));
+        assertFalse(validator.isValid("ab.com-"));
+        assertFalse(validator.isValid("-.com"));
+        assertFalse(localValidator.isValid("-localhost"));
+        assertFalse(localValidator.isValid("localhost-"));
+    }
+
+    @Test
+    public void testDots() {
+        assertTrue(validator.isValid("example.com."));
+        assertFalse(validator.isValid("example.com.."));
+        assertFalse(validator.isValid(".example.com"));
+        assertFalse(validator.isValid("example..com"));
+        assertFalse(validator.isValid("."));
+        assertFalse(validator.isValid(""));
+        assertFalse(validator.isValid(null));
+        assertFalse(validator.isValid("com."));
+        assertFalse(localValidator.isValid("localhost."));
+        assertTrue(localValidator.isValid("localhost"));
+        assertTrue(localValidator.isValid("machine.localdomain."));
+    }
+
+    @Test
+    public void testTopLabel() {
+        assertTrue(validator.isValid("123.com"));
+        assertFalse(validator.isValid("example.123"));
+        assertFalse(validator.isValid("example.1com"));
+        assertFalse(validator.isValid("example.invalidtld"));
+        assertTrue(validator.isValid("EXAMPLE.COM"));
+        assertFalse(validator.isValid("example.localhost"));
+        assertTrue(localValidator.isValid("example.localhost"));
+    }
+
+    @Test
+    public void testIdn() {
+        assertTrue(validator.isValid("www.b\u00fccher.ch"));
+        assertTrue(validator.isValid("www.xn--bcher-kva.ch"));
+        assertTrue(validator.isValid("\u4f8b\u5b50.\u4e2d\u56fd"));
+        assertTrue(validator.isValid("\u043f\u0440\u0438\u043c\u0435\u0440.\u0440\u0444"));
+        assertFalse(validator.isValid("www.b\u00fccher.invalidtld"));
+        assertTrue(validator.isValidDomainSyntax("www.b\u00fccher.invalidtld"));
+    }
+
+    @Test
+    public void testRegions() {
+        // As called by UrlValidator and EmailValidator
+        assertRegion("http://www.example.com:80/", 7, 22);
+        assertRegion("someone@example.com", 8, 19);
+        assertRegion("someone@example.com.", 8, 20);
+        assertRegion("someone@example", 8, 15);
+        assertRegion("someone@-example.com", 8, 20);
+        assertRegion("http://www.b\u00fccher.ch/", 7, 20);
+        assertRegion("x" + label(63) + ".com" + "x", 1, 68);
+        assertRegion("x" + label(64) + ".com" + "x", 1, 69);
+        assertRegion("example.com", 0, 11);
+        assertRegion("example.com", 0, 0);
+        assertRegion("example.com", 7, 11);
+        assertRegion("example.com", 8, 11);
+    }
+
+    @Test
+    public void testAgainstRegex() {
+        StringBuilder domain = new StringBuilder();
+        for (int i = 0; i < LABELS.length; i++) {
+            for (int j = 0; j < LABELS.length; j++) {
+                for (int t = 0; t < TLDS.length; t++) {
+                    for (int dot = 0; dot < 2; dot++) {
+                        domain.setLength(0);
+                        domain.append(LABELS[i]).append('.').append(LABELS[j]).append('.')
+                                .append(TLDS[t]);
+                        if (dot == 1) {
+                            domain.append('.');
+                        }
+                        assertSameResult(domain.toString());
+                    }
+                }
+            }
+            assertSameResult(LABELS[i]);
+            for (int t = 0; t < TLDS.length; t++) {
+                assertSameResult(LABELS[i] + "." + TLDS[t]);
+            }
+        }
+        for (int t = 0; t < TLDS.length; t++) {
+            assertSameResult(TLDS[t]);
+            assertSameResult(TLDS[t] + ".");
+        }
+    }
+
+    private void assertSameResult(final String domain) {
+        assertEquals(domain, isValidUsingRegex(domain, false), validator.isValid(domain));
+        assertEquals(domain, isValidUsingRegex(domain, true), localValidator.isValid(domain));
+        assertEquals(domain, isValidSyntaxUsingRegex(domain),
+                validator.isValidDomainSyntax(domain));
+    }
+
+    private void assertRegion(final String input, final int start, final int end) {
+        String domain = input.substring(start, end);
+        assertEquals(input + " [" + start + ", " + end + ")",
+                validator.isValid(domain), validator.isValid(input, start, end));
+        assertEquals(input + " [" + start + ", " + end + ")",
+                localValidator.isValid(domain), localValidator.isValid(input, start, end));
+    }
+
+    private static boolean isValidUsingRegex(final String input, final boolean allowLocal) {
+        DomainValidator validator = DomainValidator.getInstance(allowLocal);
+        String domain = DomainValidator.unicodeToASCII(input);
+        if (domain.length() > 253) {
+            return false;
+        }
+        String[] groups = DOMAIN_REGEX.match(domain);
+        if (groups != null && groups.length > 0) {
+            return validator.isValidTld(groups[0]);
+        }
+        return allowLocal && HOSTNAME_REGEX.isValid(domain);
+    }
+
+    private static boolean isValidSyntaxUsingRegex(final String input) {
+        String domain = DomainValidator.unicodeToASCII(input);
+        if (domain.length() > 253) {
+            return false;
+        }
+        String[] groups = DOMAIN_REGEX.match(domain);
+        return (groups != null && groups.length > 0) || HOSTNAME_REGEX.isValid(domain);
+    }
+
+    private static String label(final int length) {
+        char[] label = new char[length];
+        Arrays.fill(label, 'a');
+        return new String(label);
+    }
+}
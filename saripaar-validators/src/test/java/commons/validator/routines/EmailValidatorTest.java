@@ -0,0 +1,234 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package commons.validator.routines;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Arrays;
+
+import org.junit.Test;
+
+/**
+ * Tests the single pass {@link EmailValidator#isValid(String)}, with vectors from the
+ * commons-validator EmailValidatorTest and against
+ * {@link EmailValidator#isValidUsingRegex(String)}.
+ */
+public class EmailValidatorTest {
+
+    private static final String[] VALID = {
+        "jsmith@apache.org",
+        "jsmith@apache.com",
+        "jsmith@apache.net",
+        "jsmith@apache.info",
+        "someone@yahoo.museum",
+        "andy.noble@data-workshop.com",
+        "andy.o'reilly@data-workshop.com",
+        "foo+bar@i.am.not.in.us.example.com",
+        "someone@xn--d1abbgf6aiiy.xn--p1ai",
+        "someone@\u043f\u0440\u0435\u0437\u0438\u0434\u0435\u043d\u0442.\u0440\u0444",
+        "someone@www.b\u00fccher.ch",
+        "someone@[216.109.118.76]",
+        "someone@yahoo.com",
+        "joe1blow@apache.org",
+        "joe$blow@apache.org",
+        "joe-@apache.org",
+        "joe_@apache.org",
+        "joe+@apache.org",
+        "joe!@apache.org",
+        "joe*@apache.org",
+        "joe'@apache.org",
+        "joe%45@apache.org",
+        "joe?@apache.org",
+        "joe&@apache.org",
+        "joe=@apache.org",
+        "+joe@apache.org",
+        "!joe@apache.org",
+        "*joe@apache.org",
+        "'joe@apache.org",
+        "%joe45@apache.org",
+        "?joe@apache.org",
+        "&joe@apache.org",
+        "=joe@apache.org",
+        "+@apache.org",
+        "!@apache.org",
+        "*@apache.org",
+        "'@apache.org",
+        "%@apache.org",
+        "?@apache.org",
+        "&@apache.org",
+        "=@apache.org",
+        "joe.ok@apache.org",
+        "\"joe.\"@apache.org",
+        "\".joe\"@apache.org",
+        "\"joe+\"@apache.org",
+        "\"joe@\"@apache.org",
+        "\"joe!\"@apache.org",
+        "\"joe*\"@apache.org",
+        "\"joe'\"@apache.org",
+        "\"joe(\"@apache.org",
+        "\"joe)\"@apache.org",
+        "\"joe,\"@apache.org",
+        "\"joe%45\"@apache.org",
+        "\"joe;\"@apache.org",
+        "\"joe?\"@apache.org",
+        "\"joe&\"@apache.org",
+        "\"joe=\"@apache.org",
+        "\"..\"@apache.org",
+        "someone@com",
+        // Surrounding whitespace is trimmed
+        " joeblow@apache.org",
+        "joeblow@apache.org ",
+        "\t joeblow@apache.org \r\n"
+    };
+
+    private static final String[] INVALID = {
+        "jsmith@apache.",
+        "jsmith@apache.c",
+        "someone@yahoo.mu-seum",
+        "andy-noble@data-workshop.-com",
+        "andy-noble@data-workshop.c-om",
+        "andy-noble@data-workshop.co-m",
+        "andy.noble@data-workshop.com.",
+        "andy.noble@\u008fdata-workshop.com",
+        "andy@o'reilly.data-workshop.com",
+        "foo+bar@example+3.com",
+        "someone@-test.com",
+        "someone@test-.com",
+        "someone@www.\ufffd.ch",
+        "joeblow@apa,che.org",
+        "joeblow@apache.o,rg",
+        "joeblow@apache,org",
+        "joeblow @apache.org",
+        "joeblow@ apache.org",
+        "joe blow@apache.org",
+        "joeblow@apa che.org",
+        "joe.@apache.org",
+        ".joe@apache.org",
+        ".@apache.org",
+        "joe..ok@apache.org",
+        "..@apache.org",
+        "joe(@apache.org",
+        "joe)@apache.org",
+        "joe,@apache.org",
+        "joe;@apache.org",
+        "someone@[216.109.118.776]",
+        "someone@localhost",
+        "",
+        "@",
+        "@apache.org",
+        "joe@",
+        "joe@ ",
+        "   ",
+        // The last '@' splits the address, like the greedy (.+)@ in the expression
+        "joe@blow@apache.org",
+        "joe@apache.org@",
+        // Line terminators are only allowed in the surrounding whitespace
+        "joe\n@apache.org",
+        "joe@\napache.org",
+        "joe@apache\n.org",
+        "jo\u2028e@apache.org",
+        "joe@apache.org\u0085"
+    };
+
+    // Pieces that are combined into every possible input, see testAgainstRegex()
+    private static final String[] PIECES = {
+        "a", "@", " ", "\n", ".", "\"", "b.com", "[1.2.3.4]", "\u2028", "x y"
+    };
+
+    private final EmailValidator validator = EmailValidator.getInstance();
+    private final EmailValidator localValidator = EmailValidator.getInstance(true);
+
+    @Test
+    public void testValid() {
+        for (int i = 0; i < VALID.length; i++) {
+            assertTrue(VALID[i], validator.isValid(VALID[i]));
+            assertSameResult(VALID[i]);
+        }
+    }
+
+    @Test
+    public void testInvalid() {
+        assertFalse(validator.isValid(null));
+        for (int i = 0; i < INVALID.length; i++) {
+            assertFalse(INVALID[i], validator.isValid(INVALID[i]));
+            assertSameResult(INVALID[i]);
+        }
+    }
+
+    @Test
+    public void testControlCharacters() {
+        for (char c = 0; c < 32; c++) {
+            assertFalse("Control " + (int) c, validator.isValid("foo" + c + "bar@domain.com"));
+        }
+        assertFalse("Control 127", validator.isValid("foo" + (char) 127 + "bar@domain.com"));
+    }
+
+    @Test
+    public void testLocal() {
+        assertTrue(localValidator.isValid("joe@localhost"));
+        assertTrue(localValidator.isValid("joe@localhost.localdomain"));
+        assertFalse(validator.isValid("joe@localhost"));
+        assertFalse(validator.isValid("joe@localhost.localdomain"));
+    }
+
+    @Test
+    public void testMaxLength() {
+        // 66 + 1 + 253 characters, the domain is as long as a domain name can be
+        String user = repeat('u', 66);
+        String domain = repeat('a', 63) + "." + repeat('b', 63) + "." + repeat('c', 63) + "."
+                + repeat('d', 57) + ".com";
+        String email = user + "@" + domain;
+        assertEquals(EmailValidator.MAX_LENGTH, email.length());
+        assertTrue(validator.isValid(email));
+
+        // Surrounding whitespace counts towards the limit
+        assertFalse(validator.isValid(email + " "));
+        assertFalse(validator.isValid(" " + email));
+        assertFalse(validator.isValid("u" + email));
+        assertTrue(validator.isValid(" " + email.substring(1)));
+    }
+
+    @Test
+    public void testAgainstRegex() {
+        StringBuilder email = new StringBuilder();
+        int n = PIECES.length;
+        for (int combination = 0; combination < n * n * n * n * n; combination++) {
+            email.setLength(0);
+            for (int remaining = combination, i = 0; i < 5; i++, remaining /= n) {
+                email.append(PIECES[remaining % n]);
+            }
+            assertSameResult(email.toString());
+        }
+    }
+
+    private void assertSameResult(final String email) {
+        // The regular expression path has no length limit
+        if (email.length() <= EmailValidator.MAX_LENGTH) {
+            assertEquals(email, validator.isValidUsingRegex(email), validator.isValid(email));
+            assertEquals(email, localValidator.isValidUsingRegex(email),
+                    localValidator.isValid(email));
+        }
+    }
+
+    private static String repeat(final char c, final int count) {
+        char[] chars = new char[count];
+        Arrays.fill(chars, c);
+        return new String(chars);
+    }
+}
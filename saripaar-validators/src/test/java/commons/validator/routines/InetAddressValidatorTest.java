@@ -0,0 +1,150 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package commons.validator.routines;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.net.InetAddress;
+import java.net.UnknownHostException;
+
+import org.junit.Test;
+
+/**
+ * Tests the IPv4 and IPv6 scanners in {@link InetAddressValidator}, with vectors from the
+ * commons-validator InetAddressValidatorTest.
+ */
+public class InetAddressValidatorTest {
+
+    private static final String[] VALID_INET4 = {
+        "0.0.0.0", "255.255.255.255", "192.168.0.1", "10.0.0.255", "1.2.3.4", "127.0.0.1"
+    };
+
+    private static final String[] INVALID_INET4 = {
+        "", "1", "1.2", "1.2.3", "1.2.3.4.", ".1.2.3.4", "1.2.3.4.5", "1..2.3", "256.0.0.0",
+        "0.0.0.256", "1.2.3.1000", "01.2.3.4", "1.2.3.04", "1.2.3.00", "a.b.c.d", "1.2.3.4a",
+        " 1.2.3.4", "1.2.3.4 ", "1.2.3.-4", "1.2.3.+4", "\uff11.2.3.4"
+    };
+
+    private static final String[] VALID_INET6 = {
+        "::", "::1", "1::", "::ffff:0:0", "1:2:3:4:5:6:7:8", "1:2:3:4:5:6::8", "1::8",
+        "1::7:8", "1:2:3:4:5::7:8", "1:2:3:4::6:7:8", "1::4:5:6:7:8", "::2:3:4:5:6:7:8",
+        "1:2:3:4:5:6:7::", "fe80::", "FE80::217:F2FF:FE07:ED62",
+        "2001:0db8:0000:0000:0000:0000:1428:57ab", "2001:db8::1428:57ab", "0:0:0:0:0:0:0:1",
+        "::ffff:1.2.3.4",
+        "::1.2.3.4", "1:2:3:4:5:6:1.2.3.4", "1:2:3:4::1.2.3.4", "1::1.2.3.4",
+        "fe80::204:61ff:254.157.241.86", "::ffff:255.255.255.255", "0:0:0:0:0:0:13.1.68.3"
+    };
+
+    private static final String[] INVALID_INET6 = {
+        "", ":", ":::", "1:", ":1", "1:::", ":::1", "1::2::3", "::1::", "1:2:3:4:5:6:7",
+        "1:2:3:4:5:6:7:8:9", "1:2:3:4:5:6:7:8::", "::1:2:3:4:5:6:7:8", "1:2:3:4::5:6:7:8",
+        "12345::", "::12345", "1:2:3:4:5:6:7:g", "1 ::", ":: ", "1.2.3.4", "::1.2.3",
+        "::1.2.3.4.5", "::256.2.3.4", "::01.2.3.4", "::1.2.3.4:1", "1.2.3.4::",
+        "1:2:3:4:5:6:7:1.2.3.4", "1:2:3:4:5:6:7:8:1.2.3.4", "::ffff:1.2.3.4:5",
+        // Compressed zeros stand for at least one group, so there's no room for them here
+        "1:2:3:4:5:6::1.2.3.4", "1:2:3:4:5:6:7::8"
+    };
+
+    private final InetAddressValidator validator = InetAddressValidator.getInstance();
+
+    @Test
+    public void testInet4Address() {
+        for (int i = 0; i < VALID_INET4.length; i++) {
+            assertTrue(VALID_INET4[i], validator.isValidInet4Address(VALID_INET4[i]));
+            assertTrue(VALID_INET4[i], validator.isValid(VALID_INET4[i]));
+        }
+        for (int i = 0; i < INVALID_INET4.length; i++) {
+            assertFalse(INVALID_INET4[i], validator.isValidInet4Address(INVALID_INET4[i]));
+        }
+        assertFalse(validator.isValidInet4Address(null));
+    }
+
+    @Test
+    public void testInet6Address() {
+        for (int i = 0; i < VALID_INET6.length; i++) {
+            assertTrue(VALID_INET6[i], validator.isValidInet6Address(VALID_INET6[i]));
+            assertTrue(VALID_INET6[i], validator.isValid(VALID_INET6[i]));
+            assertFalse(VALID_INET6[i], validator.isValidInet4Address(VALID_INET6[i]));
+        }
+        for (int i = 0; i < INVALID_INET6.length; i++) {
+            assertFalse(INVALID_INET6[i], validator.isValidInet6Address(INVALID_INET6[i]));
+        }
+        assertFalse(validator.isValidInet6Address(null));
+    }
+
+    @Test
+    public void testInet4AddressBytes() {
+        byte[] address = new byte[InetAddressValidator.INET4_ADDRESS_LENGTH];
+        assertTrue(validator.isValidInet4Address("192.168.0.255", 0, 13, address));
+        assertArrayEquals(new byte[] {(byte) 192, (byte) 168, 0, (byte) 255}, address);
+        assertTrue(validator.isValidInet4Address("0.0.0.0", 0, 7, address));
+        assertArrayEquals(new byte[] {0, 0, 0, 0}, address);
+    }
+
+    @Test
+    public void testInet6AddressBytes() throws UnknownHostException {
+        byte[] address = new byte[InetAddressValidator.INET6_ADDRESS_LENGTH];
+        for (int i = 0; i < VALID_INET6.length; i++) {
+            String input = VALID_INET6[i];
+            assertTrue(input, validator.isValidInet6Address(input, 0, input.length(), address));
+
+            // A literal is parsed without a lookup, IPv4-mapped addresses come back as IPv4
+            byte[] expected = InetAddress.getByName(input).getAddress();
+            if (expected.length == InetAddressValidator.INET6_ADDRESS_LENGTH) {
+                assertArrayEquals(input, expected, address);
+            }
+        }
+
+        assertTrue(validator.isValidInet6Address("::ffff:1.2.3.4", 0, 14, address));
+        assertArrayEquals(new byte[] {0, 0, 0, 0, 0, 0, 0, 0, 0, 0, (byte) 0xff, (byte) 0xff,
+                1, 2, 3, 4}, address);
+        assertTrue(validator.isValidInet6Address("1:2::fffe", 0, 9, address));
+        assertArrayEquals(new byte[] {0, 1, 0, 2, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, (byte) 0xff,
+                (byte) 0xfe}, address);
+    }
+
+    @Test
+    public void testRegions() {
+        assertRegion("[2001:db8::1]:80", 1, 12);
+        assertRegion("http://1.2.3.4:80/", 7, 14);
+        assertRegion("someone@[216.109.118.76]", 9, 23);
+        assertRegion("x::1x", 1, 4);
+        assertRegion("1.2.3.45", 0, 7);
+        assertRegion("1::2", 0, 3);
+        assertRegion("1::2", 1, 4);
+        assertRegion("::", 0, 1);
+        assertRegion("::", 1, 1);
+
+        // The parsed bytes start at the offset of the address, wherever it is in the input
+        byte[] address = new byte[InetAddressValidator.INET4_ADDRESS_LENGTH];
+        assertTrue(validator.isValidInet4Address("ip=10.1.2.3;", 3, 11, address));
+        assertArrayEquals(new byte[] {10, 1, 2, 3}, address);
+    }
+
+    private void assertRegion(final String input, final int start, final int end) {
+        String address = input.substring(start, end);
+        String message = input + " [" + start + ", " + end + ")";
+        assertEquals(message, validator.isValidInet4Address(address),
+                validator.isValidInet4Address(input, start, end, null));
+        assertEquals(message, validator.isValidInet6Address(address),
+                validator.isValidInet6Address(input, start, end, null));
+        assertEquals(message, validator.isValid(address), validator.isValid(input, start, end));
+    }
+}
@@ -0,0 +1,120 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package commons.validator.routines;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+import org.junit.Test;
+
+/**
+ * Tests the eviction of the least recently used entries of {@link LruMap}.
+ */
+public class LruMapTest {
+
+    // Weighs a key by its length
+    private static LruMap<String, Integer> newWeighedMap(int maxEntries, long maxWeight) {
+        return new LruMap<String, Integer>(maxEntries, maxWeight) {
+            @Override
+            protected long weigh(String key) {
+                return key.length();
+            }
+        };
+    }
+
+    @Test
+    public void testEvictionByEntries() {
+        LruMap<String, Integer> map = new LruMap<String, Integer>(2, LruMap.UNBOUNDED_WEIGHT);
+        map.put("a", 1);
+        map.put("b", 2);
+        assertEquals(1, map.get("a").intValue());
+        map.put("c", 3);
+
+        // "b" is the least recently used entry
+        assertEquals(2, map.size());
+        assertNull(map.get("b"));
+        assertEquals(1, map.get("a").intValue());
+        assertEquals(3, map.get("c").intValue());
+        assertEquals(1, map.getEvictionCount());
+        assertEquals(0, map.getWeight());
+    }
+
+    @Test
+    public void testEvictionByWeight() {
+        LruMap<String, Integer> map = newWeighedMap(10, 6);
+        map.put("aa", 1);
+        map.put("bb", 2);
+        map.put("ccc", 3);
+
+        assertEquals(2, map.size());
+        assertEquals(5, map.getWeight());
+        assertNull(map.get("aa"));
+        assertEquals(1, map.getEvictionCount());
+    }
+
+    @Test
+    public void testReplacingKeepsTheWeight() {
+        LruMap<String, Integer> map = newWeighedMap(10, 6);
+        map.put("aa", 1);
+        map.put("aa", 2);
+
+        assertEquals(1, map.size());
+        assertEquals(2, map.getWeight());
+        assertEquals(2, map.get("aa").intValue());
+    }
+
+    @Test
+    public void testHeavyEntriesAreNotAdded() {
+        LruMap<String, Integer> map = newWeighedMap(10, 6);
+        map.put("aa", 1);
+        map.put("heavier", 2);
+
+        assertEquals(1, map.size());
+        assertNull(map.get("heavier"));
+        assertEquals(0, map.getEvictionCount());
+    }
+
+    @Test
+    public void testSetLimits() {
+        LruMap<String, Integer> map = newWeighedMap(10, 100);
+        map.put("a", 1);
+        map.put("bb", 2);
+        map.put("ccc", 3);
+
+        map.setLimits(2, 100);
+        assertEquals(2, map.size());
+        assertNull(map.get("a"));
+
+        map.setLimits(2, 3);
+        assertEquals(1, map.size());
+        assertEquals(3, map.getWeight());
+        assertEquals(3, map.get("ccc").intValue());
+        assertEquals(2, map.getEvictionCount());
+    }
+
+    @Test
+    public void testClear() {
+        LruMap<String, Integer> map = newWeighedMap(1, 100);
+        map.put("a", 1);
+        map.put("b", 2);
+        map.clear();
+
+        assertEquals(0, map.size());
+        assertEquals(0, map.getWeight());
+        assertEquals(0, map.getEvictionCount());
+    }
+}
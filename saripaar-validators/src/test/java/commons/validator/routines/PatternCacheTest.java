@@ -0,0 +1,106 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package commons.validator.routines;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.util.regex.Pattern;
+
+import org.junit.Test;
+
+/**
+ * Tests the sharing and the eviction of compiled patterns in {@link PatternCache}.
+ */
+public class PatternCacheTest {
+
+    @Test
+    public void testPatternsAreShared() {
+        PatternCache cache = new PatternCache(4);
+        Pattern pattern = cache.compile("\\d{6}");
+
+        assertSame(pattern, cache.compile("\\d{6}", 0));
+        assertTrue(pattern.matcher("635001").matches());
+        assertEquals(1, cache.getHitCount());
+        assertEquals(1, cache.getMissCount());
+        assertEquals(1, cache.size());
+    }
+
+    @Test
+    public void testFlagsArePartOfTheKey() {
+        PatternCache cache = new PatternCache(4);
+        Pattern pattern = cache.compile("[a-z]+", 0);
+        Pattern caseInsensitive = cache.compile("[a-z]+", Pattern.CASE_INSENSITIVE);
+
+        assertNotSame(pattern, caseInsensitive);
+        assertTrue(caseInsensitive.matcher("ABC").matches());
+        assertEquals(2, cache.getMissCount());
+        assertEquals(2, cache.size());
+    }
+
+    @Test
+    public void testEvictionByEntries() {
+        PatternCache cache = new PatternCache(2);
+        Pattern a = cache.compile("a");
+        cache.compile("b");
+        cache.compile("a");
+        cache.compile("c");
+
+        // "b" was evicted, "a" was used more recently
+        assertEquals(2, cache.size());
+        assertSame(a, cache.compile("a"));
+        assertEquals(2, cache.getHitCount());
+        cache.compile("b");
+        assertEquals(4, cache.getMissCount());
+    }
+
+    @Test
+    public void testSetMaxSize() {
+        PatternCache cache = new PatternCache(4);
+        cache.compile("a");
+        cache.compile("b");
+        cache.compile("c");
+
+        cache.setMaxSize(1);
+        assertEquals(1, cache.getMaxSize());
+        assertEquals(1, cache.size());
+    }
+
+    @Test
+    public void testClear() {
+        PatternCache cache = new PatternCache(4);
+        cache.compile("a");
+        cache.compile("a");
+        cache.clear();
+
+        assertEquals(0, cache.size());
+        assertEquals(0, cache.getHitCount());
+        assertEquals(0, cache.getMissCount());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testInvalidSize() {
+        new PatternCache(0);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testMissingRegex() {
+        new PatternCache(4).compile(null);
+    }
+}
@@ -0,0 +1,172 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package commons.validator.routines;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import org.junit.Test;
+
+/**
+ * Tests {@link RegexValidator}, in particular {@link RegexValidator#copyGroups} and
+ * {@link RegexValidator#hasDisjointGroups()} that {@link CodeValidator} parses codes with.
+ */
+public class RegexValidatorTest {
+
+    private static final String[][] REGEXS = {
+        {"^(\\d{3})[- ]?(\\d{3})[- ]?(\\d{4})$"},
+        {"^(\\d+)$"},
+        {"^\\d+$"},
+        {"^((\\d)(\\d))$"},
+        {"^(a(b(c)))?d$"},
+        {"^(?:(\\d{3})-)?(\\d+)$"},
+        {"^(\\d)(?=\\d)(\\d+)$"},
+        {"^(x)|(y)$", "^(\\d+)$"},
+        {"^(\\d{2})(\\d{2})$", "^(\\d+)$"},
+        {"^([a-z]+)\\.(\\d+)$", "^((\\d)+)$", "^[(](\\d+)[)]$"}
+    };
+
+    private static final String[] VALUES = {
+        "", "1", "12", "123", "1234", "123-456-7890", "123 4567890", "1234567890", "123-4",
+        "abcd", "d", "bcd", "x", "y", "xy", "abc.42", "(7)", "(", "12345678901234567890123456789"
+            + "01234567890", "a"
+    };
+
+    @Test
+    public void testMatchAndValidate() {
+        for (int i = 0; i < REGEXS.length; i++) {
+            RegexValidator validator = new RegexValidator(REGEXS[i]);
+            for (int j = 0; j < VALUES.length; j++) {
+                String message = validator + " " + VALUES[j];
+                String[] groups = match(REGEXS[i], VALUES[j]);
+                assertArrayEquals(message, groups, validator.match(VALUES[j]));
+                assertEquals(message, groups != null, validator.isValid(VALUES[j]));
+                assertEquals(message, concat(groups), validator.validate(VALUES[j]));
+            }
+        }
+    }
+
+    @Test
+    public void testFirstPatternWins() {
+        RegexValidator validator = new RegexValidator(new String[] {"^(\\d)(\\d)$", "^(\\d+)$"});
+        assertArrayEquals(new String[] {"1", "2"}, validator.match("12"));
+        assertArrayEquals(new String[] {"123"}, validator.match("123"));
+        assertEquals("12", validator.validate("12"));
+        assertNull(validator.match(null));
+        assertNull(validator.validate(null));
+        assertFalse(validator.isValid(null));
+    }
+
+    @Test
+    public void testCopyGroups() {
+        for (int i = 0; i < REGEXS.length; i++) {
+            RegexValidator validator = new RegexValidator(REGEXS[i]);
+            for (int j = 0; j < VALUES.length; j++) {
+                assertCopyGroups(validator, VALUES[j]);
+            }
+        }
+    }
+
+    @Test
+    public void testCopyGroupsOverflow() {
+        RegexValidator validator = new RegexValidator("^((\\d)(\\d))$");
+        char[] buffer = new char[3];
+        assertEquals(4, validator.copyGroups("12", 0, 2, buffer));
+        assertArrayEquals(new char[] {'1', '2', '1'}, buffer);
+
+        // The length is reported even when nothing fits
+        assertEquals(4, validator.copyGroups("12", 0, 2, new char[0]));
+        assertEquals(-1, validator.copyGroups("1", 0, 1, new char[0]));
+    }
+
+    @Test
+    public void testDisjointGroups() {
+        assertTrue(new RegexValidator("^(\\d{3})-(\\d{4})$").hasDisjointGroups());
+        assertTrue(new RegexValidator("^\\d+$").hasDisjointGroups());
+        assertTrue(new RegexValidator("^(?:(\\d)-)?(\\d)$").hasDisjointGroups());
+        assertTrue(new RegexValidator("^(\\d)(?=\\d)(?<=\\d)(\\d)$").hasDisjointGroups());
+        assertTrue(new RegexValidator("^([(])(\\d)[)]$").hasDisjointGroups());
+        assertTrue(new RegexValidator("^[^]()](\\d)$").hasDisjointGroups());
+        assertTrue(new RegexValidator("^\\((\\d)\\)$").hasDisjointGroups());
+        assertTrue(new RegexValidator(new String[] {"^(a)$", "^(b)$"}).hasDisjointGroups());
+
+        assertFalse(new RegexValidator("^((\\d)(\\d))$").hasDisjointGroups());
+        assertFalse(new RegexValidator("^(?:a(\\d(\\d)))$").hasDisjointGroups());
+        assertFalse(new RegexValidator("^(?<all>(\\d))$").hasDisjointGroups());
+        assertFalse(new RegexValidator("^\\Q(\\E(\\d)$").hasDisjointGroups());
+        assertFalse(new RegexValidator("^(?x)(\\d) # (comment)$").hasDisjointGroups());
+        assertFalse(new RegexValidator(new String[] {"^(a)$", "^((b))$"}).hasDisjointGroups());
+    }
+
+    private static void assertCopyGroups(final RegexValidator validator, final String value) {
+        String expected = validator.validate(value);
+        String message = validator + " " + value;
+
+        // The value in a region of a larger input, copied into buffers of several sizes
+        String input = "<<" + value + ">>";
+        int[] sizes = {0, 1, 3, 64};
+        for (int k = 0; k < sizes.length; k++) {
+            char[] buffer = new char[sizes[k]];
+            int length = validator.copyGroups(input, 2, 2 + value.length(), buffer);
+            if (expected == null) {
+                assertEquals(message, -1, length);
+            } else {
+                assertEquals(message, expected.length(), length);
+                int copied = Math.min(length, buffer.length);
+                assertEquals(message, expected.substring(0, copied),
+                        new String(buffer, 0, copied));
+            }
+        }
+    }
+
+    // Matches the expressions one at a time with a new Matcher, as commons-validator does
+    private static String[] match(final String[] regexs, final String value) {
+        for (int i = 0; i < regexs.length; i++) {
+            Matcher matcher = Pattern.compile(regexs[i]).matcher(value);
+            if (matcher.matches()) {
+                String[] groups = new String[matcher.groupCount()];
+                for (int j = 0; j < groups.length; j++) {
+                    groups[j] = matcher.group(j + 1);
+                }
+                return groups;
+            }
+        }
+        return null;
+    }
+
+    private static String concat(final String[] groups) {
+        if (groups == null) {
+            return null;
+        }
+        if (groups.length == 1) {
+            return groups[0];
+        }
+        StringBuilder buffer = new StringBuilder();
+        for (int i = 0; i < groups.length; i++) {
+            if (groups[i] != null) {
+                buffer.append(groups[i]);
+            }
+        }
+        return buffer.toString();
+    }
+}
@@ -0,0 +1,154 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package commons.validator.routines;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Test;
+
+/**
+ * Tests the limits, the counters and the single owner of a {@link ResultCache}.
+ */
+public class ResultCacheTest {
+
+    // Accepts inputs of even length, and counts the validations
+    private static final class CountingValidation implements ResultCache.Validation {
+        int validationCount;
+
+        public boolean isValid(String input) {
+            validationCount++;
+            return input != null && input.length() % 2 == 0;
+        }
+    }
+
+    @Test
+    public void testHitsAndMisses() {
+        ResultCache cache = new ResultCache(10);
+        CountingValidation validation = new CountingValidation();
+
+        assertTrue(ResultCache.isValid(cache, "ab", validation));
+        assertFalse(ResultCache.isValid(cache, "abc", validation));
+        assertTrue(ResultCache.isValid(cache, "ab", validation));
+        assertFalse(ResultCache.isValid(cache, "abc", validation));
+
+        assertEquals(2, validation.validationCount);
+        assertEquals(2, cache.getHitCount());
+        assertEquals(2, cache.getMissCount());
+        assertEquals(2, cache.size());
+    }
+
+    @Test
+    public void testNullIsNotCached() {
+        ResultCache cache = new ResultCache(10);
+        CountingValidation validation = new CountingValidation();
+
+        assertFalse(ResultCache.isValid(cache, null, validation));
+        assertFalse(ResultCache.isValid(cache, null, validation));
+        assertTrue(ResultCache.isValid(null, "ab", validation));
+
+        assertEquals(3, validation.validationCount);
+        assertEquals(0, cache.size());
+        assertEquals(0, cache.getMissCount());
+    }
+
+    @Test
+    public void testEvictionByEntries() {
+        ResultCache cache = new ResultCache(2);
+        CountingValidation validation = new CountingValidation();
+        ResultCache.isValid(cache, "a", validation);
+        ResultCache.isValid(cache, "b", validation);
+        ResultCache.isValid(cache, "a", validation);
+        ResultCache.isValid(cache, "c", validation);
+
+        // "b" was evicted, "a" was used more recently
+        assertEquals(2, cache.size());
+        assertEquals(1, cache.getEvictionCount());
+        ResultCache.isValid(cache, "a", validation);
+        assertEquals(2, cache.getHitCount());
+        ResultCache.isValid(cache, "b", validation);
+        assertEquals(4, cache.getMissCount());
+    }
+
+    @Test
+    public void testEvictionByBytes() {
+        long entryBytes = 2 * 4 + ResultCache.ENTRY_OVERHEAD_BYTES;
+        ResultCache cache = new ResultCache(100, 2 * entryBytes);
+        CountingValidation validation = new CountingValidation();
+        ResultCache.isValid(cache, "abcd", validation);
+        ResultCache.isValid(cache, "efgh", validation);
+        assertEquals(2 * entryBytes, cache.getBytes());
+
+        ResultCache.isValid(cache, "ijkl", validation);
+        assertEquals(2, cache.size());
+        assertEquals(2 * entryBytes, cache.getBytes());
+        assertEquals(1, cache.getEvictionCount());
+
+        // Longer than the whole budget, validated but not cached
+        assertTrue(ResultCache.isValid(cache, new String(new char[200]), validation));
+        assertEquals(2, cache.size());
+    }
+
+    @Test
+    public void testSetLimits() {
+        ResultCache cache = new ResultCache(10);
+        CountingValidation validation = new CountingValidation();
+        ResultCache.isValid(cache, "a", validation);
+        ResultCache.isValid(cache, "b", validation);
+        ResultCache.isValid(cache, "c", validation);
+
+        cache.setLimits(1, ResultCache.UNBOUNDED_BYTES);
+        assertEquals(1, cache.size());
+        assertEquals(1, cache.getMaxEntries());
+        assertEquals(ResultCache.UNBOUNDED_BYTES, cache.getMaxBytes());
+        assertEquals(2, cache.getEvictionCount());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testInvalidEntries() {
+        new ResultCache(0);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testInvalidBytes() {
+        new ResultCache(10, 0);
+    }
+
+    @Test
+    public void testSingleOwner() {
+        ResultCache cache = new ResultCache(10);
+        EmailValidator emailValidator = EmailValidator.getInstance();
+        assertTrue(emailValidator.isValid("droid@android.com", cache));
+        assertTrue(emailValidator.isValid("droid@android.com", cache));
+        assertEquals(1, cache.getHitCount());
+
+        try {
+            DomainValidator.getInstance().isValid("android.com", cache);
+            throw new AssertionError("Expected an IllegalArgumentException");
+        } catch (IllegalArgumentException e) {
+            assertEquals(1, cache.size());
+        }
+
+        // A cleared cache may be used with another validator
+        cache.clear();
+        assertEquals(0, cache.getHitCount());
+        assertEquals(0, cache.getMissCount());
+        assertTrue(DomainValidator.getInstance().isValid("android.com", cache));
+        assertEquals(1, cache.size());
+    }
+}
@@ -0,0 +1,54 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package commons.validator.routines;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertTrue;
+
+import java.nio.ByteBuffer;
+
+import org.junit.Test;
+
+/**
+ * Tests loading and searching the bundled {@link TldTrie}.
+ */
+public class TldTrieTest {
+
+    @Test
+    public void testResourceIsAbsolute() {
+        assertTrue(TldTrie.RESOURCE.startsWith("/"));
+        // Found through any class, not only through classes in this package
+        assertNotNull(Test.class.getResource(TldTrie.RESOURCE));
+    }
+
+    @Test
+    public void testLookup() {
+        TldTrie trie = TldTrie.load();
+        assertTrue(trie.lookup("com", 0, 3) != 0);
+        assertTrue(trie.lookup("www.example.COM", 12, 15) != 0);
+        assertTrue(trie.lookup("xn--p1ai", 0, 8) != 0);
+        assertEquals(0, trie.lookup("zz", 0, 2));
+        assertEquals(0, trie.lookup("comx", 0, 4));
+        assertEquals(0, trie.lookup("", 0, 0));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testNotATrie() {
+        new TldTrie(ByteBuffer.wrap(new byte[] {1, 2, 3, 4, 5, 6, 7, 8, 9, 10, 11, 12}));
+    }
+}
@@ -0,0 +1,183 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package commons.validator.routines;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertTrue;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.Test;
+
+/**
+ * Differential tests of the single pass {@link UrlValidator#isValid(String)} against the
+ * RFC 2396 regular expression in {@link UrlValidator#isValidUsingRegex(String)}.
+ */
+public class UrlValidatorTest {
+
+    private static final String CORPUS = "/com/mobsandgeeks/saripaar/benchmark/urls.txt";
+
+    private static final long ALL_OPTIONS = UrlValidator.ALLOW_ALL_SCHEMES
+            + UrlValidator.ALLOW_2_SLASHES + UrlValidator.NO_FRAGMENTS
+            + UrlValidator.ALLOW_LOCAL_URLS;
+
+    private static final long[] OPTIONS = {
+        0L,
+        UrlValidator.ALLOW_ALL_SCHEMES,
+        UrlValidator.ALLOW_2_SLASHES,
+        UrlValidator.NO_FRAGMENTS,
+        UrlValidator.ALLOW_LOCAL_URLS,
+        ALL_OPTIONS
+    };
+
+    // Parts are combined into every possible URL, see testUrlParts()
+    private static final String[] SCHEMES = {
+        "http://", "HTTPS://", "ftp://", "file://", "h3t://", "3ht://", "http:/", "http:",
+        "http/", "://", ""
+    };
+    private static final String[] AUTHORITIES = {
+        "www.google.com", "go.com", "go.au", "0.0.0.0", "255.255.255.255", "256.256.256.256",
+        "255.com", "1.2.3.4.5", "1.2.3.4.", "1.2.3", ".1.2.3.4", "go.a", "go.a1a", "go.cc",
+        "go.1aa", "aaa.", ".aaa", "aaa", "", "localhost", "machine", "[2001:db8::1]",
+        "[::1", "user:pass@go.com", "@go.com", "www.go.com.", "-go.com", "go-.com",
+        "xn--d1abbgf6aiiy.xn--p1ai", "WWW.GOOGLE.COM", "go .com"
+    };
+    private static final String[] PORTS = {
+        "", ":80", ":65535", ":0", ":-1", ":65636", ":65a", ":"
+    };
+    private static final String[] PATHS = {
+        "", "/", "/test1", "/t123", "/$23", "/..", "/../", "/test1/", "/test1/file",
+        "/..//file", "/test1//file", "/a%20b", "/a%2", "/a b", "/#/route", "/~user"
+    };
+    private static final String[] QUERIES = {
+        "", "?action=view", "?action=edit&mode=up", "?", "?a=b\nc"
+    };
+    private static final String[] FRAGMENTS = {
+        "", "#", "#fragment", "#a#b"
+    };
+
+    @Test
+    public void testCorpus() throws IOException {
+        List<String> urls = readCorpus();
+        assertFalse(urls.isEmpty());
+
+        for (int i = 0; i < OPTIONS.length; i++) {
+            UrlValidator validator = new UrlValidator(OPTIONS[i]);
+            for (int j = 0; j < urls.size(); j++) {
+                assertSameResult(validator, urls.get(j));
+            }
+        }
+    }
+
+    @Test
+    public void testUrlParts() {
+        UrlValidator[] validators = {
+            new UrlValidator(),
+            new UrlValidator(new String[] {"http", "https", "file"}, ALL_OPTIONS)
+        };
+
+        StringBuilder url = new StringBuilder();
+        for (int s = 0; s < SCHEMES.length; s++) {
+            for (int a = 0; a < AUTHORITIES.length; a++) {
+                for (int p = 0; p < PORTS.length; p++) {
+                    for (int q = 0; q < PATHS.length; q++) {
+                        for (int r = 0; r < QUERIES.length; r++) {
+                            for (int f = 0; f < FRAGMENTS.length; f++) {
+                                url.setLength(0);
+                                url.append(SCHEMES[s]).append(AUTHORITIES[a]).append(PORTS[p])
+                                        .append(PATHS[q]).append(QUERIES[r])
+                                        .append(FRAGMENTS[f]);
+                                for (int v = 0; v < validators.length; v++) {
+                                    assertSameResult(validators[v], url.toString());
+                                }
+                            }
+                        }
+                    }
+                }
+            }
+        }
+    }
+
+    @Test
+    public void testSchemes() {
+        UrlValidator validator = new UrlValidator(new String[] {"HTTP", "mailto", "file"});
+        String[] urls = {
+            "http://go.com", "Http://go.com", "https://go.com", "mailto:someone@go.com",
+            "file:///etc/hosts", "file://go.com/etc/hosts", "file:", "file:/", "mail:x",
+            "mailto", "h-t+t.p://go.com", "1http://go.com", "http ://go.com"
+        };
+        for (int i = 0; i < urls.length; i++) {
+            assertSameResult(validator, urls[i]);
+        }
+    }
+
+    @Test
+    public void testAuthorityValidator() {
+        RegexValidator authorityValidator = new RegexValidator(".*\\.example\\.local(:\\d+)?");
+        UrlValidator validator = new UrlValidator(authorityValidator, 0L);
+        String[] urls = {
+            "http://www.example.local/", "http://www.example.local:8080/a",
+            "http://www.go.com/", "http://example.local/", "http://www.example.local:x/"
+        };
+        for (int i = 0; i < urls.length; i++) {
+            assertSameResult(validator, urls[i]);
+        }
+    }
+
+    @Test
+    public void testKnownResults() {
+        UrlValidator validator = UrlValidator.getInstance();
+        assertTrue(validator.isValid("http://www.google.com"));
+        assertTrue(validator.isValid("https://example.com:8443/path?query=value#fragment"));
+        assertFalse(validator.isValid(null));
+        assertFalse(validator.isValid(""));
+        assertFalse(validator.isValid("http://example.com:80a"));
+        assertFalse(validator.isValid("http://exa mple.com"));
+        assertFalse(validator.isValid("mailto:someone@example.com"));
+        assertFalse(new UrlValidator(UrlValidator.NO_FRAGMENTS).isValid("http://go.com/#f"));
+    }
+
+    private static void assertSameResult(final UrlValidator validator, final String url) {
+        assertEquals("'" + url + "'", validator.isValidUsingRegex(url), validator.isValid(url));
+    }
+
+    private static List<String> readCorpus() throws IOException {
+        InputStream in = UrlValidatorTest.class.getResourceAsStream(CORPUS);
+        assertNotNull(CORPUS, in);
+
+        List<String> lines = new ArrayList<String>();
+        BufferedReader reader = new BufferedReader(new InputStreamReader(in, "UTF-8"));
+        try {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                if (line.length() != 0 && !line.startsWith("#")) {
+                    lines.add(line);
+                }
+            }
+        } finally {
+            reader.close();
+        }
+        return lines;
+    }
+}
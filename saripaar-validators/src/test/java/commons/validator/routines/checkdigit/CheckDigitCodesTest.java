@@ -0,0 +1,201 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package commons.validator.routines.checkdigit;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Test;
+
+/**
+ * Tests the <code>isValidCode</code> and <code>validateCodes</code> kernels of
+ * {@link EAN13CheckDigit}, {@link ISBN10CheckDigit} and {@link LuhnCheckDigit}.
+ */
+public class CheckDigitCodesTest {
+
+    private static final String[] EAN13_CODES = {
+        "9780306406157", "978-0-306-40615-7", "978 0 306 40615 7", "9780306406158",
+        "0000000000000", "", "-", "97803064o6157", "9780306406157é"
+    };
+
+    private static final String[] ISBN10_CODES = {
+        "0306406152", "0-306-40615-2", "080442957X", "0-8044-2957-X", "080442957x",
+        "08044295X7", "0306406153", "0000000000", "", " ", "03064o6152"
+    };
+
+    private static final String[] LUHN_CODES = {
+        "4111111111111111", "4111-1111-1111-1111", "4111 1111 1111 1111", "4111111111111112",
+        "0000", "", "--", "4111a11111111111"
+    };
+
+    @Test
+    public void testEAN13IsValidCode() {
+        assertTrue(EAN13CheckDigit.isValidCode("9780306406157", 0, 13));
+        assertTrue(EAN13CheckDigit.isValidCode("978-0-306-40615-7", 0, 17));
+        assertFalse(EAN13CheckDigit.isValidCode("9780306406158", 0, 13));
+        assertFalse(EAN13CheckDigit.isValidCode("0000000000000", 0, 13));
+        assertFalse(EAN13CheckDigit.isValidCode("", 0, 0));
+        assertFalse(EAN13CheckDigit.isValidCode("- -", 0, 3));
+        for (String code : EAN13_CODES) {
+            assertSameResults(code, EAN13CheckDigit.isValidCode(code, 0, code.length()),
+                    EAN13CheckDigit.isValidCode(code.toCharArray(), 0, code.length()));
+        }
+    }
+
+    @Test
+    public void testISBN10IsValidCode() {
+        assertTrue(ISBN10CheckDigit.isValidCode("0306406152", 0, 10));
+        assertTrue(ISBN10CheckDigit.isValidCode("0-8044-2957-X", 0, 13));
+        assertTrue(ISBN10CheckDigit.isValidCode("080442957X".toCharArray(), 0, 10));
+        assertFalse(ISBN10CheckDigit.isValidCode("080442957x", 0, 10));
+        assertFalse(ISBN10CheckDigit.isValidCode("08044295X7", 0, 10));
+        assertFalse(ISBN10CheckDigit.isValidCode("0000000000".toCharArray(), 0, 10));
+        assertFalse(ISBN10CheckDigit.isValidCode(new char[0], 0, 0));
+        for (String code : ISBN10_CODES) {
+            assertSameResults(code, ISBN10CheckDigit.isValidCode(code, 0, code.length()),
+                    ISBN10CheckDigit.isValidCode(code.toCharArray(), 0, code.length()));
+        }
+    }
+
+    @Test
+    public void testLuhnIsValidCode() {
+        assertTrue(LuhnCheckDigit.isValidCode("4111111111111111", 0, 16));
+        assertTrue(LuhnCheckDigit.isValidCode("4111 1111 1111 1111".toCharArray(), 0, 19));
+        assertFalse(LuhnCheckDigit.isValidCode("4111111111111112", 0, 16));
+        assertFalse(LuhnCheckDigit.isValidCode("0000".toCharArray(), 0, 4));
+        assertFalse(LuhnCheckDigit.isValidCode("", 0, 0));
+        for (String code : LUHN_CODES) {
+            assertSameResults(code, LuhnCheckDigit.isValidCode(code, 0, code.length()),
+                    LuhnCheckDigit.isValidCode(code.toCharArray(), 0, code.length()));
+        }
+    }
+
+    @Test
+    public void testIsValidCodeInRegion() {
+        String input = "ean 9780306406157, isbn 080442957X, card 4111111111111111.";
+        char[] chars = input.toCharArray();
+        assertTrue(EAN13CheckDigit.isValidCode(input, 4, 17));
+        assertTrue(EAN13CheckDigit.isValidCode(chars, 4, 17));
+        assertTrue(ISBN10CheckDigit.isValidCode(input, 24, 34));
+        assertTrue(ISBN10CheckDigit.isValidCode(chars, 24, 34));
+        assertTrue(LuhnCheckDigit.isValidCode(input, 41, 57));
+        assertTrue(LuhnCheckDigit.isValidCode(chars, 41, 57));
+        // The neighbouring characters aren't part of the code
+        assertFalse(EAN13CheckDigit.isValidCode(chars, 2, 17));
+        assertFalse(LuhnCheckDigit.isValidCode(input, 41, 58));
+    }
+
+    @Test
+    public void testIsValidCodeBadOffsets() {
+        String code = "4111111111111111";
+        char[] chars = code.toCharArray();
+        int[][] offsets = {{-1, 16}, {0, 17}, {8, 4}, {17, 17}};
+        for (int[] offset : offsets) {
+            assertFalse(EAN13CheckDigit.isValidCode(code, offset[0], offset[1]));
+            assertFalse(EAN13CheckDigit.isValidCode(chars, offset[0], offset[1]));
+            assertFalse(ISBN10CheckDigit.isValidCode(code, offset[0], offset[1]));
+            assertFalse(ISBN10CheckDigit.isValidCode(chars, offset[0], offset[1]));
+            assertFalse(LuhnCheckDigit.isValidCode(code, offset[0], offset[1]));
+            assertFalse(LuhnCheckDigit.isValidCode(chars, offset[0], offset[1]));
+        }
+        assertFalse(EAN13CheckDigit.isValidCode((char[]) null, 0, 0));
+        assertFalse(ISBN10CheckDigit.isValidCode((CharSequence) null, 0, 0));
+        assertFalse(LuhnCheckDigit.isValidCode((char[]) null, 0, 0));
+    }
+
+    @Test
+    public void testEAN13ValidateCodes() {
+        byte[] digits = concat(toDigits("9780306406157"), toDigits("9780306406158"),
+                toDigits("0000000000000"), toDigits("4006381333931"));
+        int[] ends = {13, 26, 26, 39, 52};
+        boolean[] results = new boolean[ends.length];
+        assertEquals(2, EAN13CheckDigit.validateCodes(digits, ends, results));
+        assertArrayEquals(new boolean[] {true, false, false, false, true}, results);
+    }
+
+    @Test
+    public void testISBN10ValidateCodes() {
+        byte[] digits = concat(toDigits("0306406152"), toDigits("080442957X"),
+                toDigits("08044295X7"), toDigits("0000000000"));
+        int[] ends = {10, 20, 30, 30, 40};
+        boolean[] results = new boolean[ends.length];
+        assertEquals(2, ISBN10CheckDigit.validateCodes(digits, ends, results));
+        assertArrayEquals(new boolean[] {true, true, false, false, false}, results);
+    }
+
+    @Test
+    public void testLuhnValidateCodes() {
+        byte[] digits = concat(toDigits("4111111111111111"), toDigits("0000"),
+                toDigits("79927398713"), new byte[] {4, 1, 1, 11});
+        int[] ends = {16, 16, 20, 31, 35};
+        boolean[] results = new boolean[ends.length];
+        assertEquals(2, LuhnCheckDigit.validateCodes(digits, ends, results));
+        assertArrayEquals(new boolean[] {true, false, false, true, false}, results);
+    }
+
+    @Test
+    public void testValidateCodesWithoutCodes() {
+        assertEquals(0, LuhnCheckDigit.validateCodes(new byte[0], new int[0], new boolean[0]));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testValidateCodesOutOfOrder() {
+        EAN13CheckDigit.validateCodes(toDigits("9780306406157"), new int[] {8, 4},
+                new boolean[2]);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testValidateCodesPastTheDigits() {
+        ISBN10CheckDigit.validateCodes(toDigits("0306406152"), new int[] {11}, new boolean[1]);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testValidateCodesShortResults() {
+        LuhnCheckDigit.validateCodes(toDigits("4111111111111111"), new int[] {8, 16},
+                new boolean[1]);
+    }
+
+    private static void assertSameResults(String code, boolean charSequenceResult,
+            boolean charArrayResult) {
+        assertEquals(code, Boolean.valueOf(charSequenceResult), Boolean.valueOf(charArrayResult));
+    }
+
+    private static byte[] toDigits(String code) {
+        byte[] digits = new byte[code.length()];
+        for (int i = 0; i < digits.length; i++) {
+            char character = code.charAt(i);
+            digits[i] = (byte) (character == 'X' ? 10 : character - '0');
+        }
+        return digits;
+    }
+
+    private static byte[] concat(byte[]... arrays) {
+        int length = 0;
+        for (byte[] array : arrays) {
+            length += array.length;
+        }
+        byte[] result = new byte[length];
+        int offset = 0;
+        for (byte[] array : arrays) {
+            System.arraycopy(array, 0, result, offset, array.length);
+            offset += array.length;
+        }
+        return result;
+    }
+}
@@ -0,0 +1,7 @@
+# ProGuard rules applied to apps that use Saripaar.
+
+# The top-level domain table is read from /commons/validator/routines/tlds.bin, see TldTrie.
+# Keep the package name, so that -adaptresourcefilenames or -repackageclasses in an app
+# don't move the resource away from that path.
+-keeppackagenames commons.validator.routines
+-keepdirectories commons/validator/routines
@@ -0,0 +1,390 @@
+/*
+ * Copyright (C) 2014 Mobs & Geeks
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file
+ * except in compliance with the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the
+ * License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied. See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.mobsandgeeks.saripaar;
+
+import android.util.Log;
+import android.view.View;
+import android.widget.CheckBox;
+import android.widget.RadioButton;
+import android.widget.RadioGroup;
+import android.widget.Spinner;
+import android.widget.TextView;
+
+import com.mobsandgeeks.saripaar.adapter.CheckBoxBooleanAdapter;
+import com.mobsandgeeks.saripaar.adapter.RadioButtonBooleanAdapter;
+import com.mobsandgeeks.saripaar.adapter.RadioGroupBooleanAdapter;
+import com.mobsandgeeks.saripaar.adapter.SpinnerIndexAdapter;
+import com.mobsandgeeks.saripaar.adapter.TextViewDoubleAdapter;
+import com.mobsandgeeks.saripaar.adapter.TextViewFloatAdapter;
+import com.mobsandgeeks.saripaar.adapter.TextViewIntegerAdapter;
+import com.mobsandgeeks.saripaar.adapter.TextViewLongAdapter;
+import com.mobsandgeeks.saripaar.adapter.TextViewStringAdapter;
+import com.mobsandgeeks.saripaar.adapter.ViewDataAdapter;
+import com.mobsandgeeks.saripaar.annotation.AssertFalse;
+import com.mobsandgeeks.saripaar.annotation.AssertTrue;
+import com.mobsandgeeks.saripaar.annotation.Checked;
+import com.mobsandgeeks.saripaar.annotation.ConfirmEmail;
+import com.mobsandgeeks.saripaar.annotation.ConfirmPassword;
+import com.mobsandgeeks.saripaar.annotation.CreditCard;
+import com.mobsandgeeks.saripaar.annotation.DecimalMax;
+import com.mobsandgeeks.saripaar.annotation.DecimalMin;
+import com.mobsandgeeks.saripaar.annotation.Digits;
+import com.mobsandgeeks.saripaar.annotation.Domain;
+import com.mobsandgeeks.saripaar.annotation.Email;
+import com.mobsandgeeks.saripaar.annotation.Future;
+import com.mobsandgeeks.saripaar.annotation.IpAddress;
+import com.mobsandgeeks.saripaar.annotation.Isbn;
+import com.mobsandgeeks.saripaar.annotation.Length;
+import com.mobsandgeeks.saripaar.annotation.Max;
+import com.mobsandgeeks.saripaar.annotation.Min;
+import com.mobsandgeeks.saripaar.annotation.NotEmpty;
+import com.mobsandgeeks.saripaar.annotation.Password;
+import com.mobsandgeeks.saripaar.annotation.Past;
+import com.mobsandgeeks.saripaar.annotation.Pattern;
+import com.mobsandgeeks.saripaar.annotation.Select;
+import com.mobsandgeeks.saripaar.annotation.Url;
+import com.mobsandgeeks.saripaar.annotation.ValidateUsing;
+import com.mobsandgeeks.saripaar.exception.SaripaarViolationException;
+
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Method;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Maintains a registry of all {@link android.view.View}s and
+ * {@link com.mobsandgeeks.saripaar.adapter.ViewDataAdapter}s that are registered to rule
+ * {@link java.lang.annotation.Annotation}s. The annotations themselves are registered with the
+ * {@link Registry} of the core library.
+ * <p>
+ * Stock adapters are created and mapped the first time an annotation is looked up.
+ *
+ * @since 2.1.0
+ */
+final class AdapterRegistry {
+    // Constants
+    private static final String TAG = "AdapterRegistry";
+
+    // Stock adapters that come with Saripaar, indices into STOCK_ADAPTERS
+    private static final int CHECK_BOX_BOOLEAN = 0;
+    private static final int RADIO_BUTTON_BOOLEAN = 1;
+    private static final int RADIO_GROUP_BOOLEAN = 2;
+    private static final int SPINNER_INDEX = 3;
+    private static final int TEXT_VIEW_STRING = 4;
+    private static final int TEXT_VIEW_INTEGER = 5;
+    private static final int TEXT_VIEW_LONG = 6;
+    private static final int TEXT_VIEW_FLOAT = 7;
+    private static final int TEXT_VIEW_DOUBLE = 8;
+
+    // Created on first use, guarded by the class
+    private static final ViewDataAdapter[] STOCK_ADAPTERS = new ViewDataAdapter[9];
+
+    // Stock annotations and the stock adapters they are used with
+    private static final Map<Class<? extends Annotation>, int[]> STOCK_ANNOTATIONS =
+            new HashMap<Class<? extends Annotation>, int[]>();
+
+    // Attributes
+    private Map<Class<? extends Annotation>,
+            HashMap<Class<? extends View>, ViewDataAdapter>> mMappings;
+
+    /**
+     * Good Ol' constructor.
+     */
+    AdapterRegistry() {
+        mMappings = new HashMap<Class<? extends Annotation>,
+                HashMap<Class<? extends View>, ViewDataAdapter>>();
+    }
+
+    /**
+     * This is a convenience method for Annotations that operate on {@link android.widget.TextView}
+     * and it's subclasses such as {@link android.widget.EditText}. Use this to register your custom
+     * annotation if your {@link AnnotationRule} performs validations on
+     * {@link java.lang.String}s, {@link java.lang.Integer}s, {@link java.lang.Long}s,
+     * {@link java.lang.Float}s and {@link java.lang.Double} values. The stock adapters for
+     * {@link java.lang.Integer}s, {@link java.lang.Long}s and {@link java.lang.Double}s also
+     * return primitives to rules that implement {@link IntRule}, {@link LongRule} and
+     * {@link DoubleRule}.
+     *
+     * @param ruleAnnotations  Varargs of rule {@link java.lang.annotation.Annotation}s that operate
+     *      on {@link android.widget.TextView}s.
+     */
+    @SuppressWarnings("unchecked")
+    synchronized void register(final Class<? extends Annotation>... ruleAnnotations) {
+        for (Class<? extends Annotation> ruleAnnotation : ruleAnnotations) {
+            Registry.assertIsValidRuleAnnotation(ruleAnnotation);
+
+            final ValidateUsing validateUsing = ruleAnnotation.getAnnotation(ValidateUsing.class);
+            final Class<?> ruleDataType = Reflector.getRuleDataType(validateUsing);
+
+            ViewDataAdapter dataAdapter = getStockTextViewAdapter(ruleDataType);
+            if (dataAdapter != null) {
+                register(TextView.class, ruleDataType, dataAdapter, ruleAnnotation);
+            } else {
+                String message = String.format(
+                        "Unable to find a matching adapter for `%s`, that returns a `%s`.",
+                        ruleAnnotation.getName(), ruleDataType.getName());
+                throw new SaripaarViolationException(message);
+            }
+        }
+    }
+
+    /**
+     * Registers {@link com.mobsandgeeks.saripaar.adapter.ViewDataAdapter}s for the associated
+     * {@link AnnotationRule}s and their {@link android.view.View}s.
+     *
+     * @param viewType  The {@link android.view.View} type on which the {@link AnnotationRule}
+     *      can be used.
+     * @param ruleDataType  Data type expected by the {@link AnnotationRule}.
+     * @param viewDataAdapter  The {@link com.mobsandgeeks.saripaar.adapter.ViewDataAdapter}
+     *      that can get the data for the {@link AnnotationRule} from the
+     *      {@link android.view.View}.
+     * @param ruleAnnotations  Varargs of rule {@link java.lang.annotation.Annotation}s that
+     *      can be used with the {@link android.view.View} and the
+     *      {@link com.mobsandgeeks.saripaar.adapter.ViewDataAdapter}.
+     *
+     * @param <VIEW>  Type parameter that is a subclass of {@link android.view.View} class.
+     * @param <DATA_TYPE>  Data type expected by the {@link AnnotationRule} and
+     *      is returned by the {@link com.mobsandgeeks.saripaar.adapter.ViewDataAdapter}.
+     */
+    synchronized <VIEW extends View, DATA_TYPE> void register(
+            final Class<VIEW> viewType,
+            final Class<DATA_TYPE> ruleDataType,
+            final ViewDataAdapter<VIEW, DATA_TYPE> viewDataAdapter,
+            final Class<? extends Annotation>... ruleAnnotations) {
+
+        if (ruleAnnotations != null && ruleAnnotations.length > 0) {
+            for (Class<? extends Annotation> ruleAnnotation : ruleAnnotations) {
+                register(ruleAnnotation, ruleDataType, viewType, viewDataAdapter);
+            }
+        }
+    }
+
+    /**
+     * Retrieves the registered {@link com.mobsandgeeks.saripaar.adapter.ViewDataAdapter} associated
+     * with the rule {@link java.lang.annotation.Annotation} and
+     * {@link android.view.View}. If no registered adapter is not found, the method looks for a
+     * compatible adapter instead.
+     *
+     * @param annotationType  The rule annotation type that requires a data adapter.
+     * @param viewType  The {@link android.view.View} whose adapter we are looking for.
+     *
+     * @param <VIEW>  Type parameter that ensures type safety for the {@link View} and
+     *      the {@link com.mobsandgeeks.saripaar.adapter.ViewDataAdapter}.
+     *
+     * @return Registered or compatible
+     *      {@link com.mobsandgeeks.saripaar.adapter.ViewDataAdapter} or null if none is
+     *      found.
+     */
+    @SuppressWarnings("unchecked")
+    synchronized <VIEW extends View> ViewDataAdapter<VIEW, ?> getDataAdapter(
+            final Class< ? extends Annotation> annotationType,
+            final Class<VIEW> viewType) {
+
+        HashMap<Class<? extends View>, ViewDataAdapter> viewDataAdapterHashMap =
+            getViewAdapterPairs(annotationType);
+
+        // Check for a direct match
+        ViewDataAdapter matchingViewAdapter = null;
+        if (viewDataAdapterHashMap != null) {
+            matchingViewAdapter = viewDataAdapterHashMap.get(viewType);
+
+            // If no 'ViewDataAdapter' is registered, check for a compatible one
+            if (matchingViewAdapter == null) {
+                matchingViewAdapter = getCompatibleViewDataAdapter(viewDataAdapterHashMap,
+                        viewType);
+            }
+        }
+
+        return matchingViewAdapter;
+    }
+
+    /* ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+     *  Private Methods
+     * ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+     */
+    private <VIEW extends View, DATA_TYPE> void register(
+            final Class<? extends Annotation> ruleAnnotation,
+            final Class<DATA_TYPE> ruleDataType,
+            final Class<VIEW> view,
+            final ViewDataAdapter<VIEW, DATA_TYPE> viewDataAdapter) {
+        Registry.assertIsValidRuleAnnotation(ruleAnnotation);
+        assertCompatibleReturnType(ruleDataType, viewDataAdapter);
+
+        // Get the view-adapter pairs registered to a rule annotation.
+        HashMap<Class<? extends View>, ViewDataAdapter> viewAdapterPairs =
+                getViewAdapterPairs(ruleAnnotation);
+        if (viewAdapterPairs == null) {
+            viewAdapterPairs = new HashMap<Class<? extends View>, ViewDataAdapter>();
+            mMappings.put(ruleAnnotation, viewAdapterPairs);
+        }
+
+        if (viewAdapterPairs.containsKey(view)) {
+            String message = String.format("A '%s' for '%s' has already been registered.",
+                    ruleAnnotation.getName(), view.getName());
+            Log.w(TAG, message);
+        } else {
+            viewAdapterPairs.put(view, viewDataAdapter);
+        }
+    }
+
+    // Maps stock annotations on first use, so they come before the ones registered later
+    private HashMap<Class<? extends View>, ViewDataAdapter> getViewAdapterPairs(
+            final Class<? extends Annotation> ruleAnnotation) {
+        HashMap<Class<? extends View>, ViewDataAdapter> viewAdapterPairs =
+                mMappings.get(ruleAnnotation);
+        if (viewAdapterPairs == null) {
+            int[] stockAdapters = STOCK_ANNOTATIONS.get(ruleAnnotation);
+            if (stockAdapters != null) {
+                viewAdapterPairs = new HashMap<Class<? extends View>, ViewDataAdapter>();
+                for (int i = 0, n = stockAdapters.length; i < n; i++) {
+                    viewAdapterPairs.put(getStockViewType(stockAdapters[i]),
+                            getStockAdapter(stockAdapters[i]));
+                }
+                mMappings.put(ruleAnnotation, viewAdapterPairs);
+            }
+        }
+        return viewAdapterPairs;
+    }
+
+    private static ViewDataAdapter getStockTextViewAdapter(final Class<?> dataType) {
+        if (String.class.equals(dataType)) {
+            return getStockAdapter(TEXT_VIEW_STRING);
+        } else if (Integer.class.equals(dataType)) {
+            return getStockAdapter(TEXT_VIEW_INTEGER);
+        } else if (Long.class.equals(dataType)) {
+            return getStockAdapter(TEXT_VIEW_LONG);
+        } else if (Float.class.equals(dataType)) {
+            return getStockAdapter(TEXT_VIEW_FLOAT);
+        } else if (Double.class.equals(dataType)) {
+            return getStockAdapter(TEXT_VIEW_DOUBLE);
+        }
+        return null;
+    }
+
+    private static Class<? extends View> getStockViewType(final int stockAdapter) {
+        switch (stockAdapter) {
+            case CHECK_BOX_BOOLEAN:
+                return CheckBox.class;
+            case RADIO_BUTTON_BOOLEAN:
+                return RadioButton.class;
+            case RADIO_GROUP_BOOLEAN:
+                return RadioGroup.class;
+            case SPINNER_INDEX:
+                return Spinner.class;
+            default:
+                return TextView.class;
+        }
+    }
+
+    private static synchronized ViewDataAdapter getStockAdapter(final int stockAdapter) {
+        ViewDataAdapter dataAdapter = STOCK_ADAPTERS[stockAdapter];
+        if (dataAdapter == null) {
+            switch (stockAdapter) {
+                case CHECK_BOX_BOOLEAN:
+                    dataAdapter = new CheckBoxBooleanAdapter();
+                    break;
+                case RADIO_BUTTON_BOOLEAN:
+                    dataAdapter = new RadioButtonBooleanAdapter();
+                    break;
+                case RADIO_GROUP_BOOLEAN:
+                    dataAdapter = new RadioGroupBooleanAdapter();
+                    break;
+                case SPINNER_INDEX:
+                    dataAdapter = new SpinnerIndexAdapter();
+                    break;
+                case TEXT_VIEW_STRING:
+                    dataAdapter = new TextViewStringAdapter();
+                    break;
+                case TEXT_VIEW_INTEGER:
+                    dataAdapter = new TextViewIntegerAdapter();
+                    break;
+                case TEXT_VIEW_LONG:
+                    dataAdapter = new TextViewLongAdapter();
+                    break;
+                case TEXT_VIEW_FLOAT:
+                    dataAdapter = new TextViewFloatAdapter();
+                    break;
+                default:
+                    dataAdapter = new TextViewDoubleAdapter();
+                    break;
+            }
+            STOCK_ADAPTERS[stockAdapter] = dataAdapter;
+        }
+        return dataAdapter;
+    }
+
+    private static void registerStock(final int[] stockAdapters,
+            final Class<? extends Annotation>... ruleAnnotations) {
+        for (Class<? extends Annotation> ruleAnnotation : ruleAnnotations) {
+            STOCK_ANNOTATIONS.put(ruleAnnotation, stockAdapters);
+        }
+    }
+
+    private <DATA_TYPE, VIEW extends View> void assertCompatibleReturnType(
+            final Class<DATA_TYPE> ruleDataType,
+            final ViewDataAdapter<VIEW, DATA_TYPE> viewDataAdapter) {
+        Method getDataMethod = ViewReflector.findGetDataMethod(viewDataAdapter.getClass());
+
+        Class<?> adapterReturnType = getDataMethod.getReturnType();
+        if (!ruleDataType.equals(adapterReturnType)) {
+            String message = String.format("'%s' returns '%s', but expecting '%s'.",
+                    viewDataAdapter.getClass().getName(),
+                    adapterReturnType.getName(),
+                    ruleDataType.getName());
+            throw new IllegalArgumentException(message);
+        }
+    }
+
+    private <VIEW extends View> ViewDataAdapter getCompatibleViewDataAdapter(
+            final HashMap<Class<? extends View>, ViewDataAdapter> viewDataAdapterHashMap,
+            final Class<VIEW> viewType) {
+
+        ViewDataAdapter compatibleViewAdapter = null;
+        Set<Class<? extends View>> registeredViews = viewDataAdapterHashMap.keySet();
+        for (Class<? extends View> registeredView : registeredViews) {
+            if (registeredView.isAssignableFrom(viewType)) {
+                compatibleViewAdapter = viewDataAdapterHashMap.get(registeredView);
+            }
+        }
+        return compatibleViewAdapter;
+    }
+
+    // Stock annotations, their data types match the adapters
+    static {
+        // Boolean
+        registerStock(new int[] {CHECK_BOX_BOOLEAN, RADIO_BUTTON_BOOLEAN},
+                AssertFalse.class, AssertTrue.class);
+        registerStock(new int[] {CHECK_BOX_BOOLEAN, RADIO_BUTTON_BOOLEAN, RADIO_GROUP_BOOLEAN},
+                Checked.class);
+
+        // Integer
+        registerStock(new int[] {SPINNER_INDEX},
+                Select.class);
+        registerStock(new int[] {TEXT_VIEW_INTEGER},
+                Max.class, Min.class);
+
+        // Double
+        registerStock(new int[] {TEXT_VIEW_DOUBLE},
+                DecimalMax.class, DecimalMin.class);
+
+        // String
+        registerStock(new int[] {TEXT_VIEW_STRING},
+                ConfirmEmail.class, ConfirmPassword.class, CreditCard.class,
+                Digits.class, Domain.class, Email.class, Future.class,
+                IpAddress.class, Isbn.class, Length.class, NotEmpty.class,
+                Password.class, Past.class, Pattern.class, Url.class);
+    }
+}
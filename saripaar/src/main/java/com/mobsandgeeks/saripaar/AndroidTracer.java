@@ -0,0 +1,95 @@
+/*
+ * Copyright (C) 2014 Mobs & Geeks
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file
+ * except in compliance with the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the
+ * License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied. See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.mobsandgeeks.saripaar;
+
+import android.os.Build;
+import android.os.Trace;
+
+import java.lang.reflect.Method;
+
+/**
+ * A {@link Tracer} that writes sections to {@link Trace}, so that they show up in systrace and
+ * Perfetto captures. Does nothing on devices older than
+ * {@link Build.VERSION_CODES#JELLY_BEAN_MR2}.
+ * <p>
+ * {@link #isEnabled()} asks the platform whether app sections are being captured, so section
+ * names are only built while a trace is recorded. The check is reflective, since
+ * {@code Trace.isTagEnabled(long)} is hidden and {@code Trace.isEnabled()} needs API 29. If the
+ * method can't be found, tracing is assumed to be on.
+ *
+ * @since 2.1.0
+ */
+public final class AndroidTracer implements Tracer {
+
+    // Longer section names are rejected by android.os.Trace
+    private static final int MAX_SECTION_NAME_LENGTH = 127;
+
+    // Build.VERSION_CODES.Q, Trace.isEnabled() was added in this version
+    private static final int VERSION_CODE_Q = 29;
+
+    // Trace.TRACE_TAG_APP, the tag that Trace.beginSection() writes with
+    private static final Object[] TRACE_TAG_APP_ARGS = new Object[] {Long.valueOf(1L << 12)};
+
+    private static volatile Method sIsEnabledMethod;
+    private static volatile boolean sIsEnabledMethodResolved;
+
+    @Override
+    public boolean isEnabled() {
+        if (Build.VERSION.SDK_INT < Build.VERSION_CODES.JELLY_BEAN_MR2) {
+            return false;
+        }
+
+        Method isEnabledMethod = getIsEnabledMethod();
+        if (isEnabledMethod == null) {
+            return true;
+        }
+        try {
+            Object[] args = Build.VERSION.SDK_INT >= VERSION_CODE_Q ? null : TRACE_TAG_APP_ARGS;
+            return Boolean.TRUE.equals(isEnabledMethod.invoke(null, args));
+        } catch (Exception e) {
+            return true;
+        }
+    }
+
+    @Override
+    public void beginSection(final String sectionName) {
+        if (Build.VERSION.SDK_INT >= Build.VERSION_CODES.JELLY_BEAN_MR2) {
+            Trace.beginSection(sectionName.length() > MAX_SECTION_NAME_LENGTH
+                    ? sectionName.substring(0, MAX_SECTION_NAME_LENGTH) : sectionName);
+        }
+    }
+
+    @Override
+    public void endSection() {
+        if (Build.VERSION.SDK_INT >= Build.VERSION_CODES.JELLY_BEAN_MR2) {
+            Trace.endSection();
+        }
+    }
+
+    private static Method getIsEnabledMethod() {
+        if (!sIsEnabledMethodResolved) {
+            Method method;
+            try {
+                method = Build.VERSION.SDK_INT >= VERSION_CODE_Q
+                        ? Trace.class.getMethod("isEnabled")
+                        : Trace.class.getMethod("isTagEnabled", long.class);
+            } catch (Exception e) {
+                method = null;
+            }
+            sIsEnabledMethod = method;
+            sIsEnabledMethodResolved = true;
+        }
+        return sIsEnabledMethod;
+    }
+}
@@ -0,0 +1,56 @@
+/*
+ * Copyright (C) 2014 Mobs & Geeks
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file
+ * except in compliance with the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the
+ * License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied. See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.mobsandgeeks.saripaar;
+
+import android.content.Context;
+
+/**
+ * A {@link MessageResolver} that reads the message resources from a {@link Context}. The
+ * {@link Validator} creates one for the {@link Context} it is given. Use it to get the messages
+ * of a {@link ValidationError}, for instance
+ * {@code error.getCollatedErrorMessage(new ContextMessageResolver(activity))}.
+ *
+ * @since 2.1.0
+ */
+public class ContextMessageResolver implements MessageResolver {
+    private final Context mContext;
+
+    /**
+     * Constructor.
+     *
+     * @param context  The {@link Context} that holds the resources, null throws an
+     *      {@link IllegalArgumentException}.
+     */
+    public ContextMessageResolver(final Context context) {
+        if (context == null) {
+            throw new IllegalArgumentException("'context' cannot be null.");
+        }
+        this.mContext = context;
+    }
+
+    @Override
+    public String getString(final int resId) {
+        return mContext.getString(resId);
+    }
+
+    /**
+     * Get the {@link Context} that holds the resources.
+     *
+     * @return The {@link Context}.
+     */
+    public Context getContext() {
+        return mContext;
+    }
+}
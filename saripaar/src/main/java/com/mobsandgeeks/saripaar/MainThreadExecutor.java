@@ -0,0 +1,47 @@
+/*
+ * Copyright (C) 2014 Mobs & Geeks
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file
+ * except in compliance with the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the
+ * License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied. See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.mobsandgeeks.saripaar;
+
+import android.os.Handler;
+import android.os.Looper;
+
+import java.util.concurrent.Executor;
+
+/**
+ * Runs the callbacks of the {@link Validator} on the main thread. Callbacks that are executed
+ * on the main thread run right away, others are posted to it.
+ *
+ * @since 2.1.0
+ */
+final class MainThreadExecutor implements Executor {
+    private Handler mHandler;
+
+    @Override
+    public void execute(final Runnable runnable) {
+        boolean isOnMainThread = Looper.myLooper() == Looper.getMainLooper();
+        if (isOnMainThread) {
+            runnable.run();
+        } else {
+            getHandler().post(runnable);
+        }
+    }
+
+    private synchronized Handler getHandler() {
+        if (mHandler == null) {
+            mHandler = new Handler(Looper.getMainLooper());
+        }
+        return mHandler;
+    }
+}
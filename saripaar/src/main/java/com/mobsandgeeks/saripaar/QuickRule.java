@@ -14,6 +14,7 @@
 
 package com.mobsandgeeks.saripaar;
 
+import android.content.Context;
 import android.view.View;
 
 /**
@@ -22,6 +23,8 @@ import android.view.View;
  * directly applied to {@link android.view.View}s. They are added to the
  * {@link com.mobsandgeeks.saripaar.Validator} using the
  * {@link com.mobsandgeeks.saripaar.Validator#put(android.view.View, QuickRule[])} method.
+ * Their messages are read from a {@link android.content.Context}, so they need the
+ * {@link ContextMessageResolver} that the {@link com.mobsandgeeks.saripaar.Validator} creates.
  *
  * @param <VIEW>  The {@link android.view.View} on which this rule is to be applied.
  *
@@ -58,4 +61,25 @@ public abstract class QuickRule<VIEW extends View> extends Rule<VIEW> {
      * @return true if valid, false otherwise.
      */
     public abstract boolean isValid(VIEW view);
+
+    /**
+     * Returns a failure message associated with the rule.
+     *
+     * @param context  Any {@link android.content.Context} instance, usually an
+     *      {@link android.app.Activity}.
+     *
+     * @return A failure message.
+     */
+    public abstract String getMessage(Context context);
+
+    @Override
+    public String getMessage(final MessageResolver messageResolver) {
+        if (!(messageResolver instanceof ContextMessageResolver)) {
+            String message = String.format("%s needs a %s to get its message.",
+                    QuickRule.class.getSimpleName(),
+                    ContextMessageResolver.class.getSimpleName());
+            throw new IllegalArgumentException(message);
+        }
+        return getMessage(((ContextMessageResolver) messageResolver).getContext());
+    }
 }
@@ -17,60 +17,24 @@ package com.mobsandgeeks.saripaar;
 import android.app.Activity;
 import android.app.Fragment;
 import android.content.Context;
-import android.os.AsyncTask;
 import android.os.Build;
-import android.os.Handler;
-import android.os.Looper;
-import android.util.Pair;
 import android.view.View;
-import android.widget.CheckBox;
-import android.widget.RadioButton;
-import android.widget.RadioGroup;
-import android.widget.Spinner;
-
-import com.mobsandgeeks.saripaar.adapter.CheckBoxBooleanAdapter;
-import com.mobsandgeeks.saripaar.adapter.RadioButtonBooleanAdapter;
-import com.mobsandgeeks.saripaar.adapter.RadioGroupBooleanAdapter;
-import com.mobsandgeeks.saripaar.adapter.SpinnerIndexAdapter;
+
+import com.mobsandgeeks.saripaar.adapter.DataAdapter;
 import com.mobsandgeeks.saripaar.adapter.ViewDataAdapter;
-import com.mobsandgeeks.saripaar.annotation.AssertFalse;
-import com.mobsandgeeks.saripaar.annotation.AssertTrue;
-import com.mobsandgeeks.saripaar.annotation.Checked;
-import com.mobsandgeeks.saripaar.annotation.ConfirmEmail;
-import com.mobsandgeeks.saripaar.annotation.ConfirmPassword;
-import com.mobsandgeeks.saripaar.annotation.CreditCard;
-import com.mobsandgeeks.saripaar.annotation.DecimalMax;
-import com.mobsandgeeks.saripaar.annotation.DecimalMin;
-import com.mobsandgeeks.saripaar.annotation.Digits;
 import com.mobsandgeeks.saripaar.annotation.Domain;
 import com.mobsandgeeks.saripaar.annotation.Email;
-import com.mobsandgeeks.saripaar.annotation.Future;
-import com.mobsandgeeks.saripaar.annotation.IpAddress;
-import com.mobsandgeeks.saripaar.annotation.Isbn;
-import com.mobsandgeeks.saripaar.annotation.Length;
-import com.mobsandgeeks.saripaar.annotation.Max;
-import com.mobsandgeeks.saripaar.annotation.Min;
-import com.mobsandgeeks.saripaar.annotation.NotEmpty;
-import com.mobsandgeeks.saripaar.annotation.Optional;
 import com.mobsandgeeks.saripaar.annotation.Order;
-import com.mobsandgeeks.saripaar.annotation.Password;
-import com.mobsandgeeks.saripaar.annotation.Past;
 import com.mobsandgeeks.saripaar.annotation.Pattern;
-import com.mobsandgeeks.saripaar.annotation.Select;
 import com.mobsandgeeks.saripaar.annotation.Url;
 import com.mobsandgeeks.saripaar.annotation.ValidateUsing;
-import com.mobsandgeeks.saripaar.exception.ConversionException;
 
 import java.lang.annotation.Annotation;
 import java.lang.reflect.Field;
 import java.lang.reflect.Method;
-import java.util.ArrayList;
-import java.util.Collections;
 import java.util.HashMap;
-import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.Set;
 
 /**
  * The {@link Validator} takes care of validating the
@@ -78,6 +42,11 @@ import java.util.Set;
  * {@link Activity} or a {@link Fragment}. However, it can also be used
  * with other controller classes that contain references to {@link View} objects.
  * <p>
+ * The rules are evaluated by the {@link ModelValidator}. The {@link Validator} adds the
+ * {@link ViewDataAdapter}s that read the data of the {@link View}s, resolves messages using a
+ * {@link Context}, and calls the {@link ValidatedAction} and the listener of asynchronous
+ * validations on the main thread.
+ * <p>
  * The {@link Validator} is capable of performing validations in two
  * modes,
  * <ol>
@@ -118,10 +87,10 @@ import java.util.Set;
  * @since 1.0
  */
 @SuppressWarnings({"unchecked", "ForLoopReplaceableByForEach"})
-public class Validator {
+public class Validator extends ModelValidator {
 
-    // Entries are registered inside a static block (Placed at the end of source)
-    private static final Registry SARIPAAR_REGISTRY = new Registry();
+    // Stock adapters are mapped by the registry on first use
+    private static final AdapterRegistry ADAPTER_REGISTRY = new AdapterRegistry();
 
     // Holds adapter entries that are mapped to corresponding views.
     private final
@@ -129,34 +98,21 @@ public class Validator {
             new HashMap<Class<? extends View>, HashMap<Class<?>, ViewDataAdapter>>();
 
     // Attributes
-    private Object mController;
-    private Mode mValidationMode;
-    private ValidationContext mValidationContext;
-    private Map<Field, ArrayList<Pair<Rule, ViewDataAdapter>>> mRulesMap;
-    private Map<Field, ArrayList<Pair<Annotation, ViewDataAdapter>>> mOptionalViewsMap;
-    private boolean mOrderedFields;
     private boolean mValidateInvisibleViews;
-    private SequenceComparator mSequenceComparator;
-    private ValidatedAction mValidatedAction;
-    private Handler mViewValidatedActionHandler;
-    private ValidationListener mValidationListener;
-    private AsyncValidationTask mAsyncValidationTask;
 
     /**
      * Constructor.
      *
+     * @param context    A {@link Context} that resolves the messages of the rules, null if it
+     *                   is set later using {@link #setContext(Context)}.
      * @param controller The class containing {@link View}s to be validated. Usually,
      *                   an {@link Activity} or a {@link Fragment}.
      */
     public Validator(final Context context, final Object controller) {
-        assertNotNull(controller, "controller");
-        mController = controller;
-        mValidationMode = Mode.BURST;
-        mSequenceComparator = new SequenceComparator();
-        mValidatedAction = new DefaultValidatedAction();
-        if (context != null) {
-            mValidationContext = new ValidationContext(context, mController);
-        }
+        super(controller);
+        setViewValidatedAction(new DefaultValidatedAction());
+        setCallbackExecutor(new MainThreadExecutor());
+        setContext(context);
     }
 
     public Validator(final Object controller) {
@@ -176,8 +132,8 @@ public class Validator {
     }
 
     public void setContext(Context context) {
-        if (mValidationContext == null && context != null) {
-            mValidationContext = new ValidationContext(context, mController);
+        if (context != null) {
+            setMessageResolver(new ContextMessageResolver(context));
         }
     }
 
@@ -194,7 +150,8 @@ public class Validator {
      * @param ruleAnnotation A rule {@link Annotation}.
      */
     public static void registerAnnotation(final Class<? extends Annotation> ruleAnnotation) {
-        SARIPAAR_REGISTRY.register(ruleAnnotation);
+        ADAPTER_REGISTRY.register(ruleAnnotation);
+        ModelValidator.registerAnnotation(ruleAnnotation);
     }
 
     /**
@@ -215,7 +172,42 @@ public class Validator {
 
         ValidateUsing validateUsing = annotation.getAnnotation(ValidateUsing.class);
         Class ruleDataType = Reflector.getRuleDataType(validateUsing);
-        SARIPAAR_REGISTRY.register(viewType, ruleDataType, viewDataAdapter, annotation);
+        ADAPTER_REGISTRY.register(viewType, ruleDataType, viewDataAdapter, annotation);
+        ModelValidator.registerAnnotation(annotation);
+    }
+
+    /**
+     * Prepares the given controller classes on a background thread, so that the first
+     * validation of a form doesn't stall the main thread. The classes are scanned for annotated
+     * fields, rule constructors and data adapters are looked up, and rules that don't need a
+     * {@link ValidationContext} are instantiated once. This initializes the validators used by
+     * the stock rules, compiles the regular expressions of {@link Pattern} annotations and
+     * loads the top-level domain table used by {@link Email}, {@link Url} and {@link Domain}.
+     * {@link Validator}s that are created for these classes later reuse the scan.
+     * <p>
+     * Register custom annotations before calling this method, registering an annotation
+     * discards the prepared scans.
+     *
+     * @param controllerClasses Classes of the controllers that will be validated, usually
+     *                          {@link Activity} or {@link Fragment} classes.
+     * @return A {@link java.util.concurrent.Future} that completes when all the classes have
+     * been prepared, {@link java.util.concurrent.Future#get()} rethrows errors in rule
+     * annotations.
+     * @since 2.1.0
+     */
+    public static java.util.concurrent.Future<?> prewarm(final Class<?>... controllerClasses) {
+        assertNotNull(controllerClasses, "controllerClasses");
+        final Class<?>[] classes = controllerClasses.clone();
+
+        return submitPrewarm(new Runnable() {
+            @Override
+            public void run() {
+                for (Class<?> controllerClass : classes) {
+                    prewarm(controllerClass);
+                    prewarmAdapters(controllerClass);
+                }
+            }
+        });
     }
 
     /**
@@ -240,56 +232,12 @@ public class Validator {
         }
 
         // Find adapter's data type
-        Method getDataMethod = Reflector.findGetDataMethod(viewDataAdapter.getClass());
+        Method getDataMethod = ViewReflector.findGetDataMethod(viewDataAdapter.getClass());
         Class<?> adapterDataType = getDataMethod.getReturnType();
 
         dataTypeAdapterMap.put(adapterDataType, viewDataAdapter);
     }
 
-    /**
-     * Set a {@link Validator.ValidationListener} to the
-     * {@link Validator}.
-     *
-     * @param validationListener A {@link Validator.ValidationListener}
-     *                           instance. null throws an {@link IllegalArgumentException}.
-     */
-    public void setValidationListener(final ValidationListener validationListener) {
-        assertNotNull(validationListener, "validationListener");
-        this.mValidationListener = validationListener;
-    }
-
-    /**
-     * Set a {@link ValidatedAction} to the
-     * {@link Validator}.
-     *
-     * @param validatedAction A {@link ValidatedAction}
-     *                            instance.
-     */
-    public void setViewValidatedAction(final ValidatedAction validatedAction) {
-        this.mValidatedAction = validatedAction;
-    }
-
-    /**
-     * Set the validation {@link Validator.Mode} for the current
-     * {@link Validator} instance.
-     *
-     * @param validationMode {@link Mode#BURST} or {@link Mode#IMMEDIATE}, null throws an
-     *                       {@link IllegalArgumentException}.
-     */
-    public void setValidationMode(final Mode validationMode) {
-        assertNotNull(validationMode, "validationMode");
-        this.mValidationMode = validationMode;
-    }
-
-    /**
-     * Gets the current {@link Validator.Mode}.
-     *
-     * @return The current validation mode of the {@link Validator}.
-     */
-    public Mode getValidationMode() {
-        return mValidationMode;
-    }
-
     /**
      * Configures the validator to validate invisible views.
      *
@@ -300,62 +248,37 @@ public class Validator {
     }
 
     /**
-     * Validates all {@link View}s with {@link Rule}s.
-     * When validating in {@link Validator.Mode#IMMEDIATE}, all
-     * {@link View} fields must be ordered using the
-     * {@link Order} annotation.
+     * Validates a {@link View} along with the views whose {@link ContextualAnnotationRule}s
+     * read its value, see {@link ContextualAnnotationRule#getSourceAnnotations()}. For instance,
+     * validating a {@link com.mobsandgeeks.saripaar.annotation.Password} view also validates the
+     * {@link com.mobsandgeeks.saripaar.annotation.ConfirmPassword} view. Views are validated
+     * after the views they depend on, and only their errors are reported.
+     *
+     * @param view The {@link View} to validate.
+     * @since 2.1.0
      */
-    public void validate() {
-        validate(false);
+    public void validateWithDependents(final View view) {
+        validateWithDependents(view, false);
     }
 
     /**
-     * Validates all {@link View}s with {@link Rule}s.
-     * When validating in {@link Validator.Mode#IMMEDIATE}, all
-     * {@link View} fields must be ordered using the
-     * {@link Order} annotation. Asynchronous calls will cancel
+     * Validates a {@link View} along with the views whose {@link ContextualAnnotationRule}s
+     * read its value, see {@link #validateWithDependents(View)}. Asynchronous calls will cancel
      * any pending or ongoing asynchronous validation and start a new one.
      *
+     * @param view  The {@link View} to validate.
      * @param async true if asynchronous, false otherwise.
+     * @since 2.1.0
      */
-    public void validate(final boolean async) {
-        createRulesSafelyAndLazily(false);
-
-        Field lastView = getLastField();
-        if (Mode.BURST.equals(mValidationMode)) {
-            validateUnorderedFieldsWithCallbackTill(lastView, async);
-        } else if (Mode.IMMEDIATE.equals(mValidationMode)) {
-            String reasonSuffix = String.format("in %s mode.", Mode.IMMEDIATE.toString());
-            validateOrderedFieldsWithCallbackTill(lastView, reasonSuffix, async);
-        } else {
-            throw new RuntimeException("This should never happen!");
-        }
-    }
-
-    /**
-     * Used to find if an asynchronous validation task is running. Useful only when you run the
-     * {@link Validator} in asynchronous mode.
-     *
-     * @return true if the asynchronous task is running, false otherwise.
-     */
-    public boolean isValidating() {
-        return mAsyncValidationTask != null
-                && mAsyncValidationTask.getStatus() != AsyncTask.Status.FINISHED;
-    }
+    public void validateWithDependents(final View view, final boolean async) {
+        assertNotNull(view, "view");
 
-    /**
-     * Cancels a running asynchronous validation task.
-     *
-     * @return true if a running asynchronous task was cancelled, false otherwise.
-     */
-    public boolean cancelAsync() {
-        boolean cancelled = false;
-        if (mAsyncValidationTask != null) {
-            cancelled = mAsyncValidationTask.cancel(true);
-            mAsyncValidationTask = null;
+        Field field = getFieldByValue(view);
+        if (field == null) {
+            String message = String.format("No rules found for '%s'.", view);
+            throw new IllegalArgumentException(message);
         }
-
-        return cancelled;
+        validateFieldWithDependents(field, async);
     }
 
     /**
@@ -409,505 +332,62 @@ public class Validator {
      */
     public void removeRules(final View view) {
         assertNotNull(view, "view");
-        if (mRulesMap == null) {
-            createRulesSafelyAndLazily(false);
-        }
-        mRulesMap.remove(view);
+        removeRules((Object) view);
     }
 
-    static boolean isSaripaarAnnotation(final Class<? extends Annotation> annotation) {
-        return SARIPAAR_REGISTRY.getRegisteredAnnotations().contains(annotation);
-    }
-
-    /* ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
-     *  Private Methods
-     * ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
-     */
-    private static void assertNotNull(final Object object, final String argumentName) {
-        if (object == null) {
-            String message = String.format("'%s' cannot be null.", argumentName);
-            throw new IllegalArgumentException(message);
-        }
-    }
-
-    private void createRulesSafelyAndLazily(final boolean addingQuickRules) {
-        // Create rules lazily, because we don't have to worry about the order of
-        // instantiating the Validator.
-        if (mRulesMap == null) {
-            final List<Field> annotatedFields = getSaripaarAnnotatedFields(mController.getClass());
-            mRulesMap = createRules(annotatedFields);
-            mValidationContext.setViewRulesMap(mRulesMap);
-        }
-
-        if (!addingQuickRules && mRulesMap.size() == 0) {
-            String message = "No rules found. You must have at least one rule to validate. "
-                    + "If you are using custom annotations, make sure that you have registered "
-                    + "them using the 'Validator.register()' method.";
-            throw new IllegalStateException(message);
-        }
-    }
-
-    private List<Field> getSaripaarAnnotatedFields(final Class<?> controllerClass) {
-        Set<Class<? extends Annotation>> saripaarAnnotations =
-                SARIPAAR_REGISTRY.getRegisteredAnnotations();
-
-        List<Field> annotatedFields = new ArrayList<Field>();
-        Class cls = controllerClass;
-        while (cls != null && !"java.lang.Object".equals(cls.getCanonicalName())) {
-            Field[] fields = cls.getDeclaredFields();
-            for (Field field : fields) {
-                if (isSaripaarAnnotatedField(field, saripaarAnnotations)) {
-                    annotatedFields.add(field);
-                }
-            }
-            cls = cls.getSuperclass();
-        }
-
-        // Sort
-        SaripaarFieldsComparator comparator = new SaripaarFieldsComparator();
-        Collections.sort(annotatedFields, comparator);
-        mOrderedFields = annotatedFields.size() == 1
-                ? annotatedFields.get(0).getAnnotation(Order.class) != null
-                : annotatedFields.size() != 0 && comparator.areOrderedFields();
-
-        return annotatedFields;
-    }
-
-
-    private boolean isSaripaarAnnotatedField(final Field field,
-                                             final Set<Class<? extends Annotation>> registeredAnnotations) {
-        boolean hasOrderAnnotation = field.getAnnotation(Order.class) != null;
-        boolean hasSaripaarAnnotation = false;
-
-        if (!hasOrderAnnotation) {
-            Annotation[] annotations = field.getAnnotations();
-            for (int i = 0, n = annotations.length; i < n; i++) {
-                Annotation annotation = annotations[i];
-                hasSaripaarAnnotation = registeredAnnotations.contains(annotation.annotationType());
-                if (hasSaripaarAnnotation) {
-                    break;
-                }
-            }
-        }
-
-        return hasOrderAnnotation || hasSaripaarAnnotation;
-    }
-
-    private Map<Field, ArrayList<Pair<Rule, ViewDataAdapter>>> createRules(
-            final List<Field> annotatedFields) {
-
-        final Map<Field, ArrayList<Pair<Rule, ViewDataAdapter>>> viewRulesMap =
-                new LinkedHashMap<Field, ArrayList<Pair<Rule, ViewDataAdapter>>>();
-
-        for (int i = 0, n = annotatedFields.size(); i < n; i++) {
-            Field field = annotatedFields.get(i);
-            final ArrayList<Pair<Rule, ViewDataAdapter>> ruleAdapterPairs =
-                    new ArrayList<Pair<Rule, ViewDataAdapter>>();
-            final Annotation[] fieldAnnotations = field.getAnnotations();
-
-            // @Optional
-            final boolean hasOptionalAnnotation = hasOptionalAnnotation(fieldAnnotations);
-            if (hasOptionalAnnotation && mOptionalViewsMap == null) {
-                mOptionalViewsMap = new HashMap<Field,
-                        ArrayList<Pair<Annotation, ViewDataAdapter>>>();
-            }
-
-            for (int j = 0, nAnnotations = fieldAnnotations.length; j < nAnnotations; j++) {
-                Annotation annotation = fieldAnnotations[j];
-                if (isSaripaarAnnotation(annotation.annotationType())) {
-                    Pair<Rule, ViewDataAdapter> ruleAdapterPair =
-                            getRuleAdapterPair(annotation, field);
-                    ruleAdapterPairs.add(ruleAdapterPair);
-
-                    // @Optional
-                    if (hasOptionalAnnotation) {
-                        ArrayList<Pair<Annotation, ViewDataAdapter>> pairs =
-                                mOptionalViewsMap.get(field);
-                        if (pairs == null) {
-                            pairs = new ArrayList<Pair<Annotation, ViewDataAdapter>>();
-                        }
-                        pairs.add(new Pair(annotation, ruleAdapterPair.second));
-                        mOptionalViewsMap.put(field, pairs);
-                    }
-                }
-            }
-
-            Collections.sort(ruleAdapterPairs, mSequenceComparator);
-            viewRulesMap.put(field, ruleAdapterPairs);
-        }
-
-        return viewRulesMap;
-    }
-
-    private boolean hasOptionalAnnotation(final Annotation[] annotations) {
-        if (annotations != null && annotations.length > 0) {
-            for (int i = 0, n = annotations.length; i < n; i++) {
-                if (Optional.class.equals(annotations[i].annotationType())) {
-                    return true;
-                }
-            }
+    // View fields get their data from the stock or the registered adapters
+    @Override
+    DataAdapter getDataAdapter(final Annotation ruleAnnotation, final Field field) {
+        if (!ViewReflector.isViewField(field)) {
+            return null;
         }
-        return false;
-    }
-
-    private Pair<Rule, ViewDataAdapter> getRuleAdapterPair(final Annotation saripaarAnnotation,
-                                                           final Field field) {
-        final Class<? extends Annotation> annotationType = saripaarAnnotation.annotationType();
         final Class<?> viewFieldType = field.getType();
-        final Class<?> ruleDataType = Reflector.getRuleDataType(saripaarAnnotation);
-
-        final ViewDataAdapter dataAdapter = Reflector.isViewField(field) ? getDataAdapter(annotationType, viewFieldType,
-                ruleDataType) : null;
-
-        final Class<? extends AnnotationRule> ruleType = getRuleType(saripaarAnnotation);
-        final AnnotationRule rule = Reflector.instantiateRule(ruleType,
-                saripaarAnnotation, mValidationContext);
-
-        return new Pair<Rule, ViewDataAdapter>(rule, dataAdapter);
-    }
-
-    private ViewDataAdapter getDataAdapter(final Class<? extends Annotation> annotationType,
-                                           final Class<?> viewFieldType, final Class<?> adapterDataType) {
 
         // Get an adapter from the stock registry
-        ViewDataAdapter dataAdapter = SARIPAAR_REGISTRY.getDataAdapter(
-                annotationType, (Class) viewFieldType);
+        ViewDataAdapter dataAdapter = ADAPTER_REGISTRY.getDataAdapter(
+                ruleAnnotation.annotationType(), (Class) viewFieldType);
 
         // If we are unable to find a Saripaar stock adapter, check the registered adapters
         if (dataAdapter == null) {
             HashMap<Class<?>, ViewDataAdapter> dataTypeAdapterMap =
                     mRegisteredAdaptersMap.get(viewFieldType);
             dataAdapter = dataTypeAdapterMap != null
-                    ? dataTypeAdapterMap.get(adapterDataType)
+                    ? dataTypeAdapterMap.get(Reflector.getRuleDataType(ruleAnnotation))
                     : null;
         }
 
         return dataAdapter;
     }
 
-    private Class<? extends AnnotationRule> getRuleType(final Annotation ruleAnnotation) {
-        ValidateUsing validateUsing = ruleAnnotation.annotationType()
-                .getAnnotation(ValidateUsing.class);
-        return validateUsing != null ? validateUsing.value() : null;
-    }
-
-
-    private void validateUnorderedFieldsWithCallbackTill(final Field field, final boolean async) {
-        validateFieldsWithCallbackTill(field, false, null, async);
-    }
-
-    private void validateOrderedFieldsWithCallbackTill(final Field field, final String reasonSuffix,
-                                                       final boolean async) {
-        validateFieldsWithCallbackTill(field, true, reasonSuffix, async);
-    }
-
-    private void validateFieldsWithCallbackTill(final Field field, final boolean orderedFields,
-                                                final String reasonSuffix, final boolean async) {
-        createRulesSafelyAndLazily(false);
-        if (async) {
-            if (mAsyncValidationTask != null) {
-                mAsyncValidationTask.cancel(true);
-            }
-            mAsyncValidationTask = new AsyncValidationTask(field, orderedFields, reasonSuffix);
-            mAsyncValidationTask.execute((Void[]) null);
-        } else {
-            triggerValidationListenerCallback(validateTill(field, orderedFields, reasonSuffix));
-        }
-    }
-
-    private synchronized ValidationReport validateTill(final Field field,
-                                                       final boolean requiresOrderedRules, final String reasonSuffix) {
-        // Do we need ordered rules?
-        if (requiresOrderedRules) {
-            assertOrderedFields(mOrderedFields, reasonSuffix);
-        }
-
-        // Have we registered a validation listener?
-        assertNotNull(mValidationListener, "validationListener");
-
-        // Everything good. Bingo! validate ;)
-        return getValidationReport(field, mRulesMap, mValidationMode);
-    }
-
-    private void triggerValidationListenerCallback(final ValidationReport validationReport) {
-        final List<ValidationError> validationErrors = validationReport.errors;
-
-        if (validationErrors.size() == 0 && !validationReport.hasMoreErrors) {
-            mValidationListener.onValidationSucceeded();
-        } else {
-            mValidationListener.onValidationFailed(validationErrors);
-        }
-    }
-
-    private void assertOrderedFields(final boolean orderedRules, final String reasonSuffix) {
-        if (!orderedRules) {
-            String message = "Rules are unordered, all view fields should be ordered "
-                    + "using the '@Order' annotation " + reasonSuffix;
-            throw new IllegalStateException(message);
+    /* ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+     *  Private Methods
+     * ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+     */
+    private static void assertNotNull(final Object object, final String argumentName) {
+        if (object == null) {
+            String message = String.format("'%s' cannot be null.", argumentName);
+            throw new IllegalArgumentException(message);
         }
     }
 
-    private ValidationReport getValidationReport(final Field targetField,
-                                                 final Map<Field, ArrayList<Pair<Rule, ViewDataAdapter>>> viewRulesMap,
-                                                 final Mode validationMode) {
-
-        final List<ValidationError> validationErrors = new ArrayList<ValidationError>();
-        final Set<Field> fields = viewRulesMap.keySet();
-
-        // Don't add errors for fields that are placed after the specified view in validateTill()
-        boolean addErrorToReport = targetField != null;
+    // The ModelValidator prepares the rules, the adapters of view fields are looked up here
+    private static void prewarmAdapters(final Class<?> controllerClass) {
+        final ControllerPlan plan = ControllerPlan.get(controllerClass);
 
-        // Does the form have more errors? Used in validateTill()
-        boolean hasMoreErrors = false;
-
-        validation:
-        for (Field field : fields) {
-            List<Pair<Rule, ViewDataAdapter>> ruleAdapterPairs = viewRulesMap.get(field);
-
-            // @Optional
-            boolean isOptional = mOptionalViewsMap != null && mOptionalViewsMap.containsKey(field);
-            if (isOptional && containsOptionalValue(field)) {
+        final List<Field> fields = plan.getFields();
+        for (int i = 0, n = fields.size(); i < n; i++) {
+            Field field = fields.get(i);
+            if (!ViewReflector.isViewField(field)) {
                 continue;
             }
 
-            // Validate all the rules for the given view.
-            List<Rule> failedRules = null;
-            for (int i = 0, nRules = ruleAdapterPairs.size(); i < nRules; i++) {
-                Pair<Rule, ViewDataAdapter> ruleAdapterPair = ruleAdapterPairs.get(i);
-                Rule failedRule = validateFieldWithRule(
-                        field, ruleAdapterPair.first, ruleAdapterPair.second);
-                boolean isLastRuleForView = i + 1 == nRules;
-
-                if (failedRule != null) {
-                    if (addErrorToReport) {
-                        if (failedRules == null) {
-                            failedRules = new ArrayList<Rule>();
-                            validationErrors.add(new ValidationError(field, failedRules));
-                        }
-                        failedRules.add(failedRule);
-                    } else {
-                        hasMoreErrors = true;
-                    }
-
-                    if (Mode.IMMEDIATE.equals(validationMode) && isLastRuleForView) {
-                        break validation;
-                    }
-                }
-
-                // Don't add reports for subsequent fields
-                if (field.equals(targetField) && isLastRuleForView) {
-                    addErrorToReport = false;
-                }
-            }
-
-            // Callback if a view passes all rules
-            boolean viewPassedAllRules = (failedRules == null || failedRules.size() == 0)
-                    && !hasMoreErrors;
-            if (viewPassedAllRules && mValidatedAction != null) {
-                triggerViewValidatedCallback(mValidatedAction, Reflector.getFieldValue(mController, field));
-            }
-        }
-
-        return new ValidationReport(validationErrors, hasMoreErrors);
-    }
-
-    private boolean containsOptionalValue(final Field field) {
-        ArrayList<Pair<Annotation, ViewDataAdapter>> annotationAdapterPairs
-                = mOptionalViewsMap.get(field);
-
-        for (int i = 0, n = annotationAdapterPairs.size(); i < n; i++) {
-            Pair<Annotation, ViewDataAdapter> pair = annotationAdapterPairs.get(i);
-            ViewDataAdapter adapter = pair.second;
-            Annotation ruleAnnotation = pair.first;
-            View view = Reflector.getViewByField(mController, field);
-            if (view != null && adapter != null && adapter.containsOptionalValue(view, ruleAnnotation)) {
-                return true;
-            }
-        }
-
-        return false;
-    }
-
-    private Rule validateFieldWithRule(final Field field, final Rule rule,
-                                       final ViewDataAdapter dataAdapter) {
-
-        boolean valid = false;
-        boolean isView = Reflector.isViewField(field);
-        Object fieldValue = Reflector.getFieldValue(mController, field);
-        if (rule instanceof AnnotationRule) {
-            Object data;
-            if (isView) {
-                View view = (View) fieldValue;
-                try {
-                    data = dataAdapter.getData(view);
-                    valid = rule.isValid(data);
-                } catch (ConversionException e) {
-                    valid = false;
-                    e.printStackTrace();
+            Annotation[] annotations = plan.getAnnotations(i);
+            for (int j = 0, nAnnotations = annotations.length; j < nAnnotations; j++) {
+                Class<? extends Annotation> annotationType = annotations[j].annotationType();
+                if (isSaripaarAnnotation(annotationType)) {
+                    ADAPTER_REGISTRY.getDataAdapter(annotationType, (Class) field.getType());
                 }
-            } else {
-                valid = rule.isValid(fieldValue);
             }
-
-        } else if (rule instanceof QuickRule && isView) {
-            valid = rule.isValid(fieldValue);
-        }
-
-        return valid ? null : rule;
-    }
-
-    private void triggerViewValidatedCallback(final ValidatedAction validatedAction, final Object obj) {
-        boolean isOnMainThread = Looper.myLooper() == Looper.getMainLooper();
-        if (isOnMainThread) {
-            validatedAction.onAllRulesPassed(obj);
-        } else {
-            runOnMainThread(new Runnable() {
-                @Override
-                public void run() {
-                    validatedAction.onAllRulesPassed(obj);
-                }
-            });
-        }
-    }
-
-    private void runOnMainThread(final Runnable runnable) {
-        if (mViewValidatedActionHandler == null) {
-            mViewValidatedActionHandler = new Handler(Looper.getMainLooper());
-        }
-        mViewValidatedActionHandler.post(runnable);
-    }
-
-    private Field getLastField() {
-        final Set<Field> fields = mRulesMap.keySet();
-
-        Field lastField = null;
-        for (Field field : fields) {
-            lastField = field;
-        }
-
-        return lastField;
-    }
-
-    /**
-     * Listener with callback methods that notifies the outcome of validation.
-     *
-     * @author Ragunath Jawahar {@literal <rj@mobsandgeeks.com>}
-     * @since 1.0
-     */
-    public interface ValidationListener {
-
-        /**
-         * Called when all {@link Rule}s pass.
-         */
-        void onValidationSucceeded();
-
-        /**
-         * Called when one or several {@link Rule}s fail.
-         *
-         * @param errors List containing references to the {@link View}s and
-         *               {@link Rule}s that failed.
-         */
-        void onValidationFailed(List<ValidationError> errors);
-    }
-
-    /**
-     * Interface that provides a callback when all {@link Rule}s
-     * associated with a {@link View} passes.
-     *
-     * @author Ragunath Jawahar {@literal <rj@mobsandgeeks.com>}
-     * @since 2.0
-     */
-    public interface ValidatedAction {
-        void onAllRulesPassed(Object object);
-    }
-
-    /**
-     * Validation mode.
-     *
-     * @author Ragunath Jawahar {@literal <rj@mobsandgeeks.com>}
-     * @since 2.0
-     */
-    public enum Mode {
-
-        /**
-         * BURST mode will validate all rules in all views before calling the
-         * {@link Validator.ValidationListener#onValidationFailed(List)}
-         * callback. Ordering and sequencing is optional.
-         */
-        BURST,
-
-        /**
-         * IMMEDIATE mode will stop the validation after validating all the rules
-         * of the first failing view. Requires ordered rules, sequencing is optional.
-         */
-        IMMEDIATE
-    }
-
-    static class ValidationReport {
-        List<ValidationError> errors;
-        boolean hasMoreErrors;
-
-        ValidationReport(final List<ValidationError> errors, final boolean hasMoreErrors) {
-            this.errors = errors;
-            this.hasMoreErrors = hasMoreErrors;
-        }
-    }
-
-    private class AsyncValidationTask extends AsyncTask<Void, Void, ValidationReport> {
-        private Field mField;
-        private boolean mOrderedRules;
-        private String mReasonSuffix;
-
-        AsyncValidationTask(final Field field, final boolean orderedRules,
-                            final String reasonSuffix) {
-            this.mField = field;
-            this.mOrderedRules = orderedRules;
-            this.mReasonSuffix = reasonSuffix;
         }
-
-        @Override
-        protected ValidationReport doInBackground(final Void... params) {
-            return validateTill(mField, mOrderedRules, mReasonSuffix);
-        }
-
-        @Override
-        protected void onPostExecute(final ValidationReport validationReport) {
-            triggerValidationListenerCallback(validationReport);
-        }
-    }
-
-    static {
-        // CheckBoxBooleanAdapter
-        SARIPAAR_REGISTRY.register(CheckBox.class, Boolean.class,
-                new CheckBoxBooleanAdapter(),
-                AssertFalse.class, AssertTrue.class, Checked.class);
-
-        // RadioGroupBooleanAdapter
-        SARIPAAR_REGISTRY.register(RadioGroup.class, Boolean.class,
-                new RadioGroupBooleanAdapter(),
-                Checked.class);
-
-        // RadioButtonBooleanAdapter
-        SARIPAAR_REGISTRY.register(RadioButton.class, Boolean.class,
-                new RadioButtonBooleanAdapter(),
-                AssertFalse.class, AssertTrue.class, Checked.class);
-
-        // SpinnerIndexAdapter
-        SARIPAAR_REGISTRY.register(Spinner.class, Integer.class,
-                new SpinnerIndexAdapter(),
-                Select.class);
-
-        // TextViewDoubleAdapter
-        SARIPAAR_REGISTRY.register(DecimalMax.class, DecimalMin.class);
-
-        // TextViewIntegerAdapter
-        SARIPAAR_REGISTRY.register(Max.class, Min.class);
-
-        // TextViewStringAdapter
-        SARIPAAR_REGISTRY.register(
-                ConfirmEmail.class, ConfirmPassword.class, CreditCard.class,
-                Digits.class, Domain.class, Email.class, Future.class,
-                IpAddress.class, Isbn.class, Length.class, NotEmpty.class,
-                Password.class, Past.class, Pattern.class, Url.class);
     }
 }
@@ -0,0 +1,90 @@
+/*
+ * Copyright (C) 2014 Mobs & Geeks
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file
+ * except in compliance with the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the
+ * License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied. See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.mobsandgeeks.saripaar;
+
+import android.view.View;
+
+import com.mobsandgeeks.saripaar.adapter.ViewDataAdapter;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+
+/**
+ * Reflection methods that deal with {@link android.view.View} fields and
+ * {@link com.mobsandgeeks.saripaar.adapter.ViewDataAdapter}s, the others are in
+ * {@link Reflector}.
+ *
+ * @since 2.1.0
+ */
+final class ViewReflector {
+
+    /**
+     * Finds and returns the correct
+     * {@link com.mobsandgeeks.saripaar.adapter.ViewDataAdapter#getData(android.view.View)}
+     * {@link java.lang.reflect.Method}.
+     *
+     * @param dataAdapterType The {@link com.mobsandgeeks.saripaar.adapter.ViewDataAdapter}
+     *                        class whose {@code getData(View)} method is required.
+     * @return The correct {@code getData(View)} method.
+     */
+    static Method findGetDataMethod(final Class<? extends ViewDataAdapter> dataAdapterType) {
+        Method getDataMethod = null;
+        Method[] declaredMethods = dataAdapterType.getDeclaredMethods();
+
+        for (Method method : declaredMethods) {
+            boolean methodNameIsGetData = "getData".equals(method.getName());
+
+            if (methodNameIsGetData) {
+                // If we don't declare a throws clause in the method signature, the compiler
+                // creates an auto-generated volatile method with the java.lang.Object return type.
+                int modifiers = method.getModifiers();
+                boolean nonVolatile = !Modifier.isVolatile(modifiers);
+
+                // Single 'View' parameter
+                Class<?>[] parameterTypes = method.getParameterTypes();
+                boolean hasSingleViewParameter = parameterTypes.length == 1
+                        && View.class.isAssignableFrom(parameterTypes[0]);
+
+                if (nonVolatile && hasSingleViewParameter) {
+                    getDataMethod = method;
+                    break;
+                }
+            }
+        }
+        return getDataMethod;
+    }
+
+    /**
+     * Checks if a field holds a {@link android.view.View}.
+     *
+     * @param field  The field to check.
+     * @return true if the field type is a {@link android.view.View}, false otherwise.
+     */
+    static boolean isViewField(final Field field) {
+        Class<?> cls = field.getType();
+        while (cls != null && !"java.lang.Object".equals(cls.getCanonicalName())) {
+            if (View.class.getCanonicalName().equals(cls.getCanonicalName())) {
+                return true;
+            }
+            cls = cls.getSuperclass();
+        }
+
+        return false;
+    }
+
+    private ViewReflector() {
+    }
+}
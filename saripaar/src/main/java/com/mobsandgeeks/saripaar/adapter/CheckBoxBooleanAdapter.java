@@ -24,13 +24,18 @@ import java.lang.annotation.Annotation;
  * @author Ragunath Jawahar {@literal <rj@mobsandgeeks.com>}
  * @since 2.0
  */
-public class CheckBoxBooleanAdapter implements ViewDataAdapter<CheckBox, Boolean> {
+public class CheckBoxBooleanAdapter implements BooleanViewDataAdapter<CheckBox> {
 
     @Override
     public Boolean getData(final CheckBox checkBox) {
         return checkBox.isChecked();
     }
 
+    @Override
+    public boolean getBoolean(final CheckBox checkBox) {
+        return checkBox.isChecked();
+    }
+
     @Override
     public <T extends Annotation> boolean containsOptionalValue(final CheckBox checkBox,
             final T ruleAnnotation) {
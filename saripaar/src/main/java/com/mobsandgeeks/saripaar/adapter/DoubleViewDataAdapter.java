@@ -0,0 +1,46 @@
+/*
+ * Copyright (C) 2014 Mobs & Geeks
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file
+ * except in compliance with the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the
+ * License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied. See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.mobsandgeeks.saripaar.adapter;
+
+import android.view.View;
+
+import com.mobsandgeeks.saripaar.exception.ConversionException;
+
+/**
+ * A {@link ViewDataAdapter} that can also return its data as a {@code double}. The
+ * {@link com.mobsandgeeks.saripaar.ModelValidator} uses {@link #getDouble(View)} instead of
+ * {@link #getData(View)} for rules that implement {@link com.mobsandgeeks.saripaar.DoubleRule},
+ * so the value is never boxed.
+ *
+ * @param <VIEW>  The {@link android.view.View} from which the data is extracted.
+ *
+ * @since 2.1.0
+ */
+public interface DoubleViewDataAdapter<VIEW extends View>
+        extends ViewDataAdapter<VIEW, Double>, DoubleDataAdapter<VIEW> {
+
+    /**
+     * Extract and return the data from a given {@link android.view.View}, the same value that
+     * {@link #getData(View)} returns.
+     *
+     * @param view  The {@link android.view.View} that contains the data.
+     *
+     * @return The data.
+     *
+     * @throws ConversionException If the adapter is unable to convert the data to
+     *      a {@code double}.
+     */
+    double getDouble(VIEW view) throws ConversionException;
+}
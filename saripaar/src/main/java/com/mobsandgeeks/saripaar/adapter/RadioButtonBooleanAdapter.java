@@ -24,13 +24,18 @@ import java.lang.annotation.Annotation;
  * @author Ragunath Jawahar {@literal <rj@mobsandgeeks.com>}
  * @since 2.0
  */
-public class RadioButtonBooleanAdapter implements ViewDataAdapter<RadioButton, Boolean> {
+public class RadioButtonBooleanAdapter implements BooleanViewDataAdapter<RadioButton> {
 
     @Override
     public Boolean getData(final RadioButton radioButton) {
         return radioButton.isChecked();
     }
 
+    @Override
+    public boolean getBoolean(final RadioButton radioButton) {
+        return radioButton.isChecked();
+    }
+
     @Override
     public <T extends Annotation> boolean containsOptionalValue(final RadioButton radioButton,
             final T ruleAnnotation) {
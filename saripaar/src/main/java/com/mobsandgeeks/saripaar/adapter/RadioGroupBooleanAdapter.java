@@ -28,13 +28,18 @@ import java.lang.annotation.Annotation;
  * @author Ragunath Jawahar {@literal <rj@mobsandgeeks.com>}
  * @since 2.0
  */
-public class RadioGroupBooleanAdapter implements ViewDataAdapter<RadioGroup, Boolean> {
+public class RadioGroupBooleanAdapter implements BooleanViewDataAdapter<RadioGroup> {
 
     @Override
     public Boolean getData(RadioGroup radioGroup) throws ConversionException {
         return radioGroup.getCheckedRadioButtonId() != View.NO_ID;
     }
 
+    @Override
+    public boolean getBoolean(final RadioGroup radioGroup) {
+        return radioGroup.getCheckedRadioButtonId() != View.NO_ID;
+    }
+
     @Override
     public <T extends Annotation> boolean containsOptionalValue(final RadioGroup radioGroup,
             final T ruleAnnotation) {
@@ -27,13 +27,18 @@ import java.lang.annotation.Annotation;
  * @author Ragunath Jawahar {@literal <rj@mobsandgeeks.com>}
  * @since 2.0
  */
-public class SpinnerIndexAdapter implements ViewDataAdapter<Spinner, Integer> {
+public class SpinnerIndexAdapter implements IntViewDataAdapter<Spinner> {
 
     @Override
     public Integer getData(final Spinner spinner) {
         return spinner.getSelectedItemPosition();
     }
 
+    @Override
+    public int getInt(final Spinner spinner) {
+        return spinner.getSelectedItemPosition();
+    }
+
     @Override
     public <T extends Annotation> boolean containsOptionalValue(final Spinner spinner,
             final T ruleAnnotation) {
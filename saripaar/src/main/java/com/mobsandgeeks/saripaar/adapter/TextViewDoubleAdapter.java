@@ -25,11 +25,17 @@ import com.mobsandgeeks.saripaar.exception.ConversionException;
  * @author Ragunath Jawahar {@literal <rj@mobsandgeeks.com>}
  * @since 2.0
  */
-public class TextViewDoubleAdapter extends TextViewBaseAdapter<Double> {
+public class TextViewDoubleAdapter extends TextViewBaseAdapter<Double>
+        implements DoubleViewDataAdapter<TextView> {
     private static final String REGEX_DECIMAL = "[-+]?[0-9]*\\.?[0-9]+([eE][-+]?[0-9]+)?";
 
     @Override
     public Double getData(final TextView textView) throws ConversionException {
+        return getDouble(textView);
+    }
+
+    @Override
+    public double getDouble(final TextView textView) throws ConversionException {
         String doubleString = textView.getText().toString().trim();
         if (!doubleString.matches(REGEX_DECIMAL)) {
             String message = String.format("Expected a floating point number, but was %s",
@@ -25,11 +25,17 @@ import com.mobsandgeeks.saripaar.exception.ConversionException;
  * @author Ragunath Jawahar {@literal <rj@mobsandgeeks.com>}
  * @since 2.0
  */
-public class TextViewIntegerAdapter extends TextViewBaseAdapter<Integer> {
+public class TextViewIntegerAdapter extends TextViewBaseAdapter<Integer>
+        implements IntViewDataAdapter<TextView> {
     private static final String REGEX_INTEGER = "\\d+";
 
     @Override
     public Integer getData(final TextView textView) throws ConversionException {
+        return getInt(textView);
+    }
+
+    @Override
+    public int getInt(final TextView textView) throws ConversionException {
         String integerString = textView.getText().toString().trim();
         if (!integerString.matches(REGEX_INTEGER)) {
             String message = String.format("Expected an integer, but was %s", integerString);
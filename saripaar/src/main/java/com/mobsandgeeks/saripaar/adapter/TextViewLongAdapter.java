@@ -0,0 +1,46 @@
+/*
+ * Copyright (C) 2014 Mobs & Geeks
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file
+ * except in compliance with the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the
+ * License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied. See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.mobsandgeeks.saripaar.adapter;
+
+import android.widget.TextView;
+
+import com.mobsandgeeks.saripaar.exception.ConversionException;
+
+/**
+ * Adapter parses and returns a {@link java.lang.Long} from {@link android.widget.TextView}s or
+ * its subclasses like {@link android.widget.EditText}s.
+ *
+ * @since 2.1.0
+ */
+public class TextViewLongAdapter extends TextViewBaseAdapter<Long>
+        implements LongViewDataAdapter<TextView> {
+    private static final String REGEX_LONG = "\\d+";
+
+    @Override
+    public Long getData(final TextView textView) throws ConversionException {
+        return getLong(textView);
+    }
+
+    @Override
+    public long getLong(final TextView textView) throws ConversionException {
+        String longString = textView.getText().toString().trim();
+        if (!longString.matches(REGEX_LONG)) {
+            String message = String.format("Expected an integer, but was %s", longString);
+            throw new ConversionException(message);
+        }
+
+        return Long.parseLong(longString);
+    }
+}
@@ -24,12 +24,12 @@ import java.lang.annotation.Annotation;
  * {@link com.mobsandgeeks.saripaar.adapter.ViewDataAdapter}s are used to extract data from
  * {@link android.view.View}s. Saripaar provides a set of default adapters for stock Android
  * widgets. Developers can implement their own adapters for custom views or data types they are
- * interested in.
+ * interested in. They are the {@link DataAdapter}s for {@link android.view.View} fields.
  *
  * @author Ragunath Jawahar {@literal <rj@mobsandgeeks.com>}
  * @since 2.0
  */
-public interface ViewDataAdapter<VIEW extends View, DATA> {
+public interface ViewDataAdapter<VIEW extends View, DATA> extends DataAdapter<VIEW, DATA> {
 
     /**
      * Extract and return the appropriate data from a given {@link android.view.View}.